@@ -0,0 +1,9 @@
+-- Flyway Migration V67: Composite index for batch content status resolution
+-- Status filters resolve (entity_type, entity_id IN (...)) -> status in one query.
+-- Including status in the index allows an index-only scan for these lookups.
+-- It supersedes idx_content_status_entity, which duplicated uk_content_status_entity.
+
+CREATE INDEX IF NOT EXISTS idx_content_status_entity_status
+    ON content.content_status(entity_type, entity_id, status);
+
+DROP INDEX IF EXISTS content.idx_content_status_entity;
@@ -0,0 +1,14 @@
+-- Flyway Migration V68: Indexes for keyset-paginated content listings
+-- Books are paged per category on id, paragraphs per section on (paragraph_number, id).
+-- The composite indexes serve both the filter and the sort, so each page is a bounded index range scan.
+-- They supersede the single-column parent indexes. Version history pages use the existing
+-- unique (parent_id, version_number) constraints, categories use the primary key.
+
+CREATE INDEX IF NOT EXISTS idx_books_category_id_id
+    ON content.books(category_id, id);
+
+CREATE INDEX IF NOT EXISTS idx_paragraphs_section_id_number_id
+    ON content.paragraphs(section_id, paragraph_number, id);
+
+DROP INDEX IF EXISTS content.idx_books_category_id;
+DROP INDEX IF EXISTS content.idx_paragraphs_section_id;
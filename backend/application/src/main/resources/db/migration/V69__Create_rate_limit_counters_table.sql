@@ -0,0 +1,22 @@
+-- =====================================================
+-- Flyway Migration V69: Create Rate Limit Counters
+-- =====================================================
+-- Shared attempt counters for the PostgreSQL rate limiter (rate-limit.store=jdbc),
+-- so login and registration limits hold across backend replicas.
+-- One row per bucket (e.g. login), key (client IP) and fixed window; the limiter
+-- combines the current and previous window into a sliding-window estimate.
+-- Schema: users
+-- =====================================================
+
+CREATE TABLE IF NOT EXISTS users.rate_limit_counters (
+    bucket VARCHAR(50) NOT NULL,
+    rate_key VARCHAR(255) NOT NULL,
+    window_number BIGINT NOT NULL, -- epoch millis / window length
+    attempts INTEGER NOT NULL DEFAULT 0,
+    expires_at TIMESTAMP NOT NULL, -- End of the next window; row is no longer needed after this
+    CONSTRAINT pk_rate_limit_counters PRIMARY KEY (bucket, rate_key, window_number)
+);
+
+-- Cleanup of expired counters
+CREATE INDEX IF NOT EXISTS idx_rate_limit_counters_expires_at
+    ON users.rate_limit_counters(expires_at);
@@ -0,0 +1,47 @@
+-- =====================================================
+-- Flyway Migration V70: Add Rank to Kanban Items
+-- =====================================================
+-- Adds a fractional (lexicographic) rank for the order of items within a kanban column
+-- Schema: goals_okr
+-- Purpose: Moving a card only rewrites the moved card: it gets a rank between its new
+--          neighbours. Ranks are base-36 strings (0-9, a-z) without trailing '0', compared
+--          byte-wise (COLLATE "C"). Existing items are ranked by their current position.
+-- =====================================================
+
+ALTER TABLE goals_okr.kanban_items ADD COLUMN IF NOT EXISTS rank VARCHAR(64) COLLATE "C";
+
+-- Temporary helper: encode a value as a 6-digit base-36 rank (trailing '0' trimmed)
+CREATE OR REPLACE FUNCTION goals_okr.tmp_kanban_rank(rank_value BIGINT) RETURNS VARCHAR AS $$
+DECLARE
+    digits CONSTANT TEXT := '0123456789abcdefghijklmnopqrstuvwxyz';
+    result TEXT := '';
+    remaining BIGINT := rank_value;
+BEGIN
+    FOR i IN 1..6 LOOP
+        result := substr(digits, (remaining % 36)::INT + 1, 1) || result;
+        remaining := remaining / 36;
+    END LOOP;
+    RETURN rtrim(result, '0');
+END;
+$$ LANGUAGE plpgsql IMMUTABLE;
+
+-- Spread the existing items of each column evenly over the rank space, in their current order
+UPDATE goals_okr.kanban_items k
+SET rank = goals_okr.tmp_kanban_rank(ordered.row_number * (2176782336 / (ordered.column_size + 1)))
+FROM (
+    SELECT id,
+           row_number() OVER (PARTITION BY user_id, column_name ORDER BY position, id) AS row_number,
+           count(*) OVER (PARTITION BY user_id, column_name) AS column_size
+    FROM goals_okr.kanban_items
+) ordered
+WHERE k.id = ordered.id;
+
+DROP FUNCTION goals_okr.tmp_kanban_rank(BIGINT);
+
+ALTER TABLE goals_okr.kanban_items ALTER COLUMN rank SET NOT NULL;
+
+-- Board and column reads are ordered by rank
+CREATE INDEX IF NOT EXISTS idx_kanban_column_rank ON goals_okr.kanban_items(user_id, column_name, rank);
+
+COMMENT ON COLUMN goals_okr.kanban_items.rank IS 'Order within the column: base-36 fractional rank, compared byte-wise';
+COMMENT ON COLUMN goals_okr.kanban_items.position IS 'Index within the column at the time of the last move (informational, order by rank)';
@@ -0,0 +1,49 @@
+-- =====================================================
+-- Flyway Migration V71: Pooled ID Sequences
+-- =====================================================
+-- JPA entities take their IDs from the tables' own (BIGSERIAL) sequences with a pooled
+-- optimizer (allocationSize = 50) instead of IDENTITY, so Hibernate can batch inserts.
+-- Schemas: content, goals_okr, learning, users
+-- Purpose: One nextval reserves 50 IDs: Hibernate uses (value - 50, value].
+--          The column defaults keep using the same sequences, so plain SQL inserts
+--          (migrations, JDBC repositories) never collide with Hibernate's blocks.
+-- Note: The increment must equal allocationSize of the @SequenceGenerator (Hibernate checks it at startup)
+-- =====================================================
+
+-- The initiatives table was renamed from initiative_suggestions; give its sequence the matching name
+ALTER SEQUENCE IF EXISTS goals_okr.initiative_suggestions_id_seq RENAME TO initiatives_id_seq;
+
+DO $$
+DECLARE
+    table_name TEXT;
+    sequence_name TEXT;
+    max_id BIGINT;
+    last_value BIGINT;
+    is_called BOOLEAN;
+BEGIN
+    FOREACH table_name IN ARRAY ARRAY[
+        'content.categories', 'content.books', 'content.book_versions', 'content.chapters',
+        'content.chapter_versions', 'content.sections', 'content.section_versions', 'content.paragraphs',
+        'content.paragraph_versions', 'content.content_status', 'content.reviewable_items',
+        'content.reviews', 'content.review_comments', 'content.wheels',
+        'goals_okr.life_domains', 'goals_okr.wheels', 'goals_okr.objectives', 'goals_okr.key_results',
+        'goals_okr.initiatives', 'goals_okr.user_objective_instances', 'goals_okr.user_key_result_instances',
+        'goals_okr.user_initiative_instances', 'goals_okr.key_result_progress', 'goals_okr.kanban_items',
+        'learning.learning_flow_templates', 'learning.learning_flow_steps', 'learning.learning_flow_enrollments',
+        'learning.learning_flow_step_progress', 'learning.learning_flow_answers',
+        'users.users', 'users.credentials', 'users.user_role_assignments', 'users.user_preferences',
+        'users.refresh_tokens', 'users.password_reset_tokens', 'users.account_lockout', 'users.audit_log',
+        'users.teams', 'users.team_members', 'users.team_invitations', 'users.team_kanban_shares'
+    ] LOOP
+        sequence_name := pg_get_serial_sequence(table_name, 'id');
+
+        -- A pooled block must start above every existing ID: the sequence must be at least at MAX(id)
+        EXECUTE format('SELECT MAX(id) FROM %s', table_name) INTO max_id;
+        EXECUTE format('SELECT last_value, is_called FROM %s', sequence_name) INTO last_value, is_called;
+        IF max_id IS NOT NULL AND (max_id > last_value OR NOT is_called) THEN
+            PERFORM setval(sequence_name, max_id);
+        END IF;
+
+        EXECUTE format('ALTER SEQUENCE %s INCREMENT BY 50', sequence_name);
+    END LOOP;
+END $$;
@@ -0,0 +1,81 @@
+-- =====================================================
+-- Flyway Migration V72: Key Result Progress Events
+-- =====================================================
+-- Keeps the history of key result progress as an append-only time series
+-- Schema: goals_okr
+-- Purpose: key_result_progress holds the current value (one row per user key result instance,
+--          written with an upsert); every update also appends a row to key_result_progress_events.
+--          The events table is range-partitioned by month on recorded_at, so a chart query over
+--          a quarter only touches the partitions of that quarter, however many years of history exist.
+-- Note: Monthly partitions are created on demand by the application
+--       (goals_okr.create_key_result_progress_event_partition)
+-- =====================================================
+
+-- =====================================================
+-- 1. One current progress row per user key result instance
+-- =====================================================
+-- Keep the most recent row of each instance
+DELETE FROM goals_okr.key_result_progress p
+USING goals_okr.key_result_progress newer
+WHERE newer.user_key_result_instance_id = p.user_key_result_instance_id
+  AND (newer.updated_at, newer.id) > (p.updated_at, p.id);
+
+ALTER TABLE goals_okr.key_result_progress
+    ADD CONSTRAINT uk_key_result_progress_instance UNIQUE (user_key_result_instance_id);
+
+-- =====================================================
+-- 2. Table: key_result_progress_events (append-only, partitioned by month)
+-- =====================================================
+CREATE TABLE IF NOT EXISTS goals_okr.key_result_progress_events (
+    user_key_result_instance_id BIGINT NOT NULL, -- FK to goals_okr.user_key_result_instances
+    key_result_id BIGINT NOT NULL, -- Reference to goals_okr.key_results (template)
+    current_value DECIMAL(10,2), -- Progress value after the update (can be null)
+    recorded_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_progress_event_key_result_instance FOREIGN KEY (user_key_result_instance_id)
+        REFERENCES goals_okr.user_key_result_instances(id) ON DELETE CASCADE,
+    CONSTRAINT chk_progress_event_current_value CHECK (current_value IS NULL OR current_value >= 0)
+) PARTITION BY RANGE (recorded_at);
+
+-- Created on every partition: history of one instance in a time range
+CREATE INDEX IF NOT EXISTS idx_progress_events_instance_recorded
+    ON goals_okr.key_result_progress_events(user_key_result_instance_id, recorded_at);
+
+COMMENT ON TABLE goals_okr.key_result_progress_events IS 'Append-only history of key result progress, one row per update. Partitioned by month on recorded_at.';
+
+-- =====================================================
+-- 3. Partition maintenance
+-- =====================================================
+-- Create the partition of the month containing partition_month (no-op if it exists).
+-- Serialized by an advisory lock, so concurrent callers cannot race on the same partition.
+CREATE OR REPLACE FUNCTION goals_okr.create_key_result_progress_event_partition(partition_month DATE) RETURNS VOID AS $$
+DECLARE
+    month_start DATE := date_trunc('month', partition_month)::DATE;
+    partition_name TEXT := 'key_result_progress_events_' || to_char(partition_month, 'YYYY_MM');
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('goals_okr.key_result_progress_events'));
+    EXECUTE format(
+        'CREATE TABLE IF NOT EXISTS goals_okr.%I PARTITION OF goals_okr.key_result_progress_events FOR VALUES FROM (%L) TO (%L)',
+        partition_name, month_start, (month_start + INTERVAL '1 month')::DATE
+    );
+END;
+$$ LANGUAGE plpgsql;
+
+-- =====================================================
+-- 4. Start the history with the current values
+-- =====================================================
+DO $$
+DECLARE
+    partition_month DATE;
+BEGIN
+    FOR partition_month IN
+        SELECT DISTINCT date_trunc('month', updated_at)::DATE FROM goals_okr.key_result_progress
+        UNION
+        SELECT date_trunc('month', CURRENT_TIMESTAMP)::DATE
+    LOOP
+        PERFORM goals_okr.create_key_result_progress_event_partition(partition_month);
+    END LOOP;
+END $$;
+
+INSERT INTO goals_okr.key_result_progress_events (user_key_result_instance_id, key_result_id, current_value, recorded_at)
+SELECT user_key_result_instance_id, key_result_id, current_value, updated_at
+FROM goals_okr.key_result_progress;
@@ -0,0 +1,24 @@
+-- =====================================================
+-- Flyway Migration V73: Credential Cleanup Indexes
+-- =====================================================
+-- Indexes for the background cleanup of the authentication tables (CredentialTableCleaner)
+-- Schema: users
+-- Purpose: Every cleanup batch finds its rows through an index, so a batch costs the same
+--          however large the table has grown:
+--          - refresh_tokens: expired (idx_refresh_tokens_expires_at) or revoked (new partial index)
+--          - password_reset_tokens: expired (idx_password_reset_tokens_expires_at)
+--          - account_lockout: not updated recently (new index)
+-- Note: refresh_tokens.token_hash, password_reset_tokens.token_hash and account_lockout.user_id are UNIQUE,
+--       so their constraint indexes already serve the lookups; the duplicate indexes from V1 only slowed
+--       down every insert and delete
+-- =====================================================
+
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_revoked_at
+    ON users.refresh_tokens(revoked_at) WHERE revoked_at IS NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_account_lockout_updated_at
+    ON users.account_lockout(updated_at);
+
+DROP INDEX IF EXISTS users.idx_refresh_tokens_token_hash;
+DROP INDEX IF EXISTS users.idx_password_reset_tokens_token_hash;
+DROP INDEX IF EXISTS users.idx_account_lockout_user_id;
@@ -0,0 +1,18 @@
+-- =====================================================
+-- Flyway Migration V74: Refresh Token Families
+-- =====================================================
+-- Refresh tokens are rotated on every refresh; all tokens descending from one login form a family
+-- Schema: users
+-- Purpose: A refresh revokes the presented token and inserts its replacement with the same family_id.
+--          When a revoked token is presented again, it was copied: the whole family is revoked
+--          (idx_refresh_tokens_family_id).
+-- Note: Existing tokens each start their own family
+-- =====================================================
+
+ALTER TABLE users.refresh_tokens ADD COLUMN IF NOT EXISTS family_id UUID;
+
+UPDATE users.refresh_tokens SET family_id = md5('refresh-token-' || id)::UUID WHERE family_id IS NULL;
+
+ALTER TABLE users.refresh_tokens ALTER COLUMN family_id SET NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_family_id ON users.refresh_tokens(family_id);
@@ -0,0 +1,12 @@
+-- =====================================================
+-- Flyway Migration V75: Drop Refresh Token revoked_at Index
+-- =====================================================
+-- Revoked refresh tokens are no longer cleaned up separately
+-- Schema: users
+-- Purpose: Revoked tokens are kept until they expire, so a rotated token that is presented again is
+--          still recognised and its family revoked (reuse detection). They are deleted with the
+--          expired tokens (idx_refresh_tokens_expires_at); the partial revoked_at index from V73
+--          has no more readers and only slowed down every rotation.
+-- =====================================================
+
+DROP INDEX IF EXISTS users.idx_refresh_tokens_revoked_at;
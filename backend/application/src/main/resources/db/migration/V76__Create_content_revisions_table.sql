@@ -0,0 +1,15 @@
+-- =====================================================
+-- Flyway Migration V76: Content Revisions Table
+-- =====================================================
+-- Persisted revision counters of content aggregates, used for the ETags of content read endpoints
+-- Schema: content
+-- Purpose: A content command increments the counters of the aggregates it changed in its own
+--          transaction (ContentRevisionTracker), so every backend instance builds the same ETag
+--          from the same data, also after a restart.
+-- Note: aggregate_key is e.g. 'generation' (all content), 'book:17' (chapters of book 17)
+-- =====================================================
+
+CREATE TABLE IF NOT EXISTS content.content_revisions (
+    aggregate_key VARCHAR(100) PRIMARY KEY,
+    revision BIGINT NOT NULL
+);
@@ -0,0 +1,28 @@
+-- =====================================================
+-- Flyway Migration V77: Increment Entity Number Sequences by the Block Size
+-- =====================================================
+-- Goals/OKR entity numbers (e.g. OBJ-123) are handed out from pre-allocated blocks
+-- (EntityNumberGenerator): one nextval reserves [value, value + 50).
+-- Schema: goals_okr
+-- Purpose: The increment of each number sequence equals the block size, so blocks of different
+--          instances never overlap. Values between the last number and the next block are skipped.
+-- Note: The increment must equal goals-okr.numbering.block-size (EntityNumberGenerator checks it
+--       at startup); a different block size needs a migration that changes the increment.
+--       seq_user_goal_number was dropped in V49.
+-- =====================================================
+
+ALTER SEQUENCE goals_okr.seq_goal_number INCREMENT BY 50;
+ALTER SEQUENCE goals_okr.seq_objective_number INCREMENT BY 50;
+ALTER SEQUENCE goals_okr.seq_key_result_number INCREMENT BY 50;
+ALTER SEQUENCE goals_okr.seq_initiative_number INCREMENT BY 50;
+
+ALTER SEQUENCE goals_okr.seq_user_goal_instance_number INCREMENT BY 50;
+ALTER SEQUENCE goals_okr.seq_user_objective_instance_number INCREMENT BY 50;
+ALTER SEQUENCE goals_okr.seq_user_key_result_instance_number INCREMENT BY 50;
+ALTER SEQUENCE goals_okr.seq_user_initiative_instance_number INCREMENT BY 50;
+
+ALTER SEQUENCE goals_okr.seq_user_objective_number INCREMENT BY 50;
+ALTER SEQUENCE goals_okr.seq_user_key_result_number INCREMENT BY 50;
+ALTER SEQUENCE goals_okr.seq_user_initiative_number INCREMENT BY 50;
+
+ALTER SEQUENCE goals_okr.seq_kanban_item_number INCREMENT BY 50;
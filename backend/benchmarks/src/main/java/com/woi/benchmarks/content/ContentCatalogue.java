@@ -0,0 +1,115 @@
+package com.woi.benchmarks.content;
+
+import com.woi.benchmarks.content.fakes.*;
+import com.woi.content.domain.entities.*;
+import com.woi.content.domain.enums.ContentStatusType;
+
+/**
+ * Generated content catalogue in in-memory repositories
+ *
+ * Shape: categories × books × chapters × sections × paragraphs, every section with one working version.
+ * Every DRAFT_EVERY-th entity on each level stays DRAFT, the rest is PUBLISHED, so the public
+ * read path has something to filter. Generation is deterministic for a given shape.
+ */
+public final class ContentCatalogue {
+    public static final int DRAFT_EVERY = 5;
+    private static final long AUTHOR_ID = 1L;
+
+    /**
+     * @param categories Number of categories
+     * @param booksPerCategory Books per category
+     * @param chaptersPerBook Chapters per book
+     * @param sectionsPerChapter Sections per chapter
+     * @param paragraphsPerSection Paragraphs per section
+     */
+    public record Shape(int categories, int booksPerCategory, int chaptersPerBook,
+                        int sectionsPerChapter, int paragraphsPerSection) {
+        public long sections() {
+            return (long) categories * booksPerCategory * chaptersPerBook * sectionsPerChapter;
+        }
+    }
+
+    private final InMemoryWheelRepository wheelRepository = new InMemoryWheelRepository();
+    private final InMemoryCategoryRepository categoryRepository = new InMemoryCategoryRepository();
+    private final InMemoryBookRepository bookRepository = new InMemoryBookRepository();
+    private final InMemoryChapterRepository chapterRepository = new InMemoryChapterRepository();
+    private final InMemorySectionRepository sectionRepository = new InMemorySectionRepository();
+    private final InMemoryParagraphRepository paragraphRepository = new InMemoryParagraphRepository();
+    private final InMemorySectionVersionRepository sectionVersionRepository = new InMemorySectionVersionRepository();
+    private final InMemoryContentStatusRepository contentStatusRepository = new InMemoryContentStatusRepository();
+    private long statusCounter;
+
+    private ContentCatalogue() {
+    }
+
+    public static ContentCatalogue generate(Shape shape) {
+        ContentCatalogue catalogue = new ContentCatalogue();
+        catalogue.populate(shape);
+        return catalogue;
+    }
+
+    private void populate(Shape shape) {
+        Wheel wheel = new Wheel();
+        wheel.setId(1L);
+        wheel.setWheelKey("WHEEL_OF_ISLAM");
+        wheel.setNameNl("Wheel of Islam");
+        wheel.setNameEn("Wheel of Islam");
+        wheel.setDisplayOrder(1);
+        wheelRepository.save(wheel);
+
+        for (int c = 1; c <= shape.categories(); c++) {
+            Category category = Category.create("Categorie " + c, "Category " + c,
+                "Beschrijving " + c, "Description " + c);
+            category.setCategoryNumber(c);
+            category.setWheelId(wheel.getId());
+            categoryRepository.save(category);
+            publish("category", category.getId());
+
+            for (int b = 1; b <= shape.booksPerCategory(); b++) {
+                Book book = Book.create(category.getId());
+                book.setBookNumber(b);
+                bookRepository.save(book);
+                publish("book", book.getId());
+
+                for (int ch = 1; ch <= shape.chaptersPerBook(); ch++) {
+                    Chapter chapter = Chapter.create(book.getId(), (ch - 1) % Chapter.MAX_CIRCULAR_POSITION + 1);
+                    chapter.setChapterNumber(ch);
+                    chapterRepository.save(chapter);
+                    publish("chapter", chapter.getId());
+
+                    for (int s = 1; s <= shape.sectionsPerChapter(); s++) {
+                        Section section = sectionRepository.save(Section.create(chapter.getId(), s));
+                        SectionVersion version = sectionVersionRepository.save(SectionVersion.create(
+                            section.getId(), 1,
+                            "Section " + section.getId(), "Sectie " + section.getId(),
+                            "Intro " + section.getId(), "Inleiding " + section.getId(),
+                            AUTHOR_ID));
+                        section.setWorkingStatusSectionVersionId(version.getId());
+                        publish("section", section.getId());
+
+                        for (int p = 1; p <= shape.paragraphsPerSection(); p++) {
+                            Paragraph paragraph = paragraphRepository.save(Paragraph.create(section.getId(), p));
+                            publish("paragraph", paragraph.getId());
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private void publish(String entityType, Long entityId) {
+        ContentStatusType status = ++statusCounter % DRAFT_EVERY == 0
+            ? ContentStatusType.DRAFT
+            : ContentStatusType.PUBLISHED;
+        contentStatusRepository.save(ContentStatus.create(entityType, entityId, status, AUTHOR_ID));
+    }
+
+    public InMemoryWheelRepository wheels() { return wheelRepository; }
+    public InMemoryCategoryRepository categories() { return categoryRepository; }
+    public InMemoryBookRepository books() { return bookRepository; }
+    public InMemoryChapterRepository chapters() { return chapterRepository; }
+    public InMemorySectionRepository sections() { return sectionRepository; }
+    public InMemoryParagraphRepository paragraphs() { return paragraphRepository; }
+    public InMemorySectionVersionRepository sectionVersions() { return sectionVersionRepository; }
+    public InMemoryContentStatusRepository contentStatuses() { return contentStatusRepository; }
+}
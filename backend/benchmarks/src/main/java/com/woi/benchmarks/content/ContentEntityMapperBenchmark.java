@@ -0,0 +1,116 @@
+package com.woi.benchmarks.content;
+
+import com.woi.content.domain.entities.*;
+import com.woi.content.infrastructure.persistence.entities.*;
+import com.woi.content.infrastructure.persistence.mappers.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Persistence mappers (JPA entity ↔ domain entity) on batches of rows
+ *
+ * One invocation maps `rows` entities, the size of a typical result set of a list query.
+ * Run with -prof gc for allocation per mapped row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContentEntityMapperBenchmark {
+
+    @Param({"1000"})
+    public int rows;
+
+    private List<CategoryJpaEntity> categoryEntities;
+    private List<SectionJpaEntity> sectionEntities;
+    private List<ParagraphJpaEntity> paragraphEntities;
+    private List<SectionVersionJpaEntity> sectionVersionEntities;
+    private List<ContentStatusJpaEntity> contentStatusEntities;
+    private List<Section> sections;
+    private List<Paragraph> paragraphs;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Enough catalogue for `rows` sections and paragraphs
+        int categoryCount = Math.max(1, rows / 40);
+        ContentCatalogue catalogue = ContentCatalogue.generate(new ContentCatalogue.Shape(categoryCount, 2, 4, 5, 1));
+
+        sections = catalogue.sections().findByChapterIdIn(
+            catalogue.chapters().findByBookIdIn(
+                catalogue.books().findByCategoryIdIn(
+                    catalogue.categories().findAll().stream().map(Category::getId).toList())
+                    .stream().map(Book::getId).toList())
+                .stream().map(Chapter::getId).toList())
+            .stream().limit(rows).toList();
+        paragraphs = catalogue.paragraphs().findBySectionIdIn(sections.stream().map(Section::getId).toList());
+
+        List<Category> categories = catalogue.categories().findAll();
+        categoryEntities = IntStream.range(0, rows)
+            .mapToObj(i -> CategoryEntityMapper.toJpa(categories.get(i % categories.size())))
+            .toList();
+        sectionEntities = sections.stream().map(SectionEntityMapper::toJpa).toList();
+        paragraphEntities = paragraphs.stream().map(ParagraphEntityMapper::toJpa).toList();
+        sectionVersionEntities = catalogue.sectionVersions()
+            .findByIdIn(sections.stream().map(Section::getWorkingStatusSectionVersionId).toList())
+            .stream().map(SectionVersionEntityMapper::toJpa).toList();
+        contentStatusEntities = sections.stream()
+            .map(section -> catalogue.contentStatuses().findByEntityTypeAndEntityId("section", section.getId()).orElseThrow())
+            .map(ContentStatusEntityMapper::toJpa)
+            .toList();
+    }
+
+    @Benchmark
+    public void categoryToDomain(Blackhole blackhole) {
+        for (CategoryJpaEntity entity : categoryEntities) {
+            blackhole.consume(CategoryEntityMapper.toDomain(entity));
+        }
+    }
+
+    @Benchmark
+    public void sectionToDomain(Blackhole blackhole) {
+        for (SectionJpaEntity entity : sectionEntities) {
+            blackhole.consume(SectionEntityMapper.toDomain(entity));
+        }
+    }
+
+    @Benchmark
+    public void sectionToJpa(Blackhole blackhole) {
+        for (Section section : sections) {
+            blackhole.consume(SectionEntityMapper.toJpa(section));
+        }
+    }
+
+    @Benchmark
+    public void paragraphToDomain(Blackhole blackhole) {
+        for (ParagraphJpaEntity entity : paragraphEntities) {
+            blackhole.consume(ParagraphEntityMapper.toDomain(entity));
+        }
+    }
+
+    @Benchmark
+    public void paragraphToJpa(Blackhole blackhole) {
+        for (Paragraph paragraph : paragraphs) {
+            blackhole.consume(ParagraphEntityMapper.toJpa(paragraph));
+        }
+    }
+
+    @Benchmark
+    public void sectionVersionToDomain(Blackhole blackhole) {
+        for (SectionVersionJpaEntity entity : sectionVersionEntities) {
+            blackhole.consume(SectionVersionEntityMapper.toDomain(entity));
+        }
+    }
+
+    @Benchmark
+    public void contentStatusToDomain(Blackhole blackhole) {
+        for (ContentStatusJpaEntity entity : contentStatusEntities) {
+            blackhole.consume(ContentStatusEntityMapper.toDomain(entity));
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.woi.benchmarks.content;
+
+import com.woi.benchmarks.content.fakes.InMemoryContentRevisionRepository;
+import com.woi.content.api.CategorySummary;
+import com.woi.content.application.events.ContentChangedEvent;
+import com.woi.content.application.handlers.queries.GetCategoryWithHierarchyQueryHandler;
+import com.woi.content.application.handlers.queries.GetPublicCategoriesQueryHandler;
+import com.woi.content.application.queries.GetCategoryWithHierarchyQuery;
+import com.woi.content.application.queries.GetPublicCategoriesQuery;
+import com.woi.content.application.services.ContentHierarchyLoader;
+import com.woi.content.application.services.ContentRevisionTracker;
+import com.woi.content.application.services.PublishedContentSnapshot;
+import com.woi.content.application.services.PublishedContentSnapshotStore;
+import com.woi.content.domain.entities.Book;
+import com.woi.content.domain.entities.Category;
+import com.woi.content.domain.entities.Chapter;
+import com.woi.content.domain.entities.Section;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Content query handlers against in-memory repositories
+ *
+ * Measures the handler and assembly cost only (no database). Catalogue size is configurable:
+ *   java -jar target/benchmarks.jar ContentQueryHandlerBenchmark -p categories=200 -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContentQueryHandlerBenchmark {
+
+    @Param({"10", "50"})
+    public int categories;
+
+    @Param({"4"})
+    public int booksPerCategory;
+
+    @Param({"5"})
+    public int chaptersPerBook;
+
+    @Param({"8"})
+    public int sectionsPerChapter;
+
+    @Param({"5"})
+    public int paragraphsPerSection;
+
+    private PublishedContentSnapshotStore snapshotStore;
+    private GetPublicCategoriesQueryHandler getPublicCategoriesHandler;
+    private GetCategoryWithHierarchyQueryHandler getCategoryWithHierarchyHandler;
+    private GetCategoryWithHierarchyQuery categoryWithHierarchyQuery;
+    private ContentChangedEvent sectionChangedEvent;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ContentCatalogue catalogue = ContentCatalogue.generate(new ContentCatalogue.Shape(
+            categories, booksPerCategory, chaptersPerBook, sectionsPerChapter, paragraphsPerSection));
+
+        ContentHierarchyLoader hierarchyLoader = new ContentHierarchyLoader(
+            catalogue.books(), catalogue.chapters(), catalogue.sections(), catalogue.paragraphs(),
+            catalogue.sectionVersions(), catalogue.contentStatuses());
+        snapshotStore = new PublishedContentSnapshotStore(
+            catalogue.wheels(), catalogue.categories(), catalogue.books(), catalogue.chapters(),
+            catalogue.sections(), catalogue.paragraphs(), catalogue.contentStatuses(), hierarchyLoader,
+            new ContentRevisionTracker(new InMemoryContentRevisionRepository()), 0);
+        snapshotStore.loadOnStartup();
+
+        getPublicCategoriesHandler = new GetPublicCategoriesQueryHandler(snapshotStore);
+        getCategoryWithHierarchyHandler = new GetCategoryWithHierarchyQueryHandler(catalogue.categories(), hierarchyLoader);
+
+        // Middle of the catalogue, so lookups are not biased towards the first rows
+        List<Category> allCategories = catalogue.categories().findAll();
+        Category category = allCategories.get(allCategories.size() / 2);
+        Book book = catalogue.books().findByCategoryId(category.getId()).get(0);
+        Chapter chapter = catalogue.chapters().findByBookId(book.getId()).get(0);
+        Section section = catalogue.sections().findByChapterId(chapter.getId()).get(0);
+        categoryWithHierarchyQuery = new GetCategoryWithHierarchyQuery(category.getId());
+        sectionChangedEvent = new ContentChangedEvent(category.getId(), "section", section.getId(), section.getChapterId());
+    }
+
+    /**
+     * Public category list (read from the published snapshot)
+     */
+    @Benchmark
+    public List<CategorySummary> getPublicCategories() {
+        return getPublicCategoriesHandler.handle(new GetPublicCategoriesQuery());
+    }
+
+    /**
+     * One category with its complete hierarchy (set-based load + assembly)
+     */
+    @Benchmark
+    public Optional<CategorySummary> getCategoryWithHierarchy() {
+        return getCategoryWithHierarchyHandler.handle(categoryWithHierarchyQuery);
+    }
+
+    /**
+     * Full rebuild of the published snapshot (startup cost)
+     */
+    @Benchmark
+    public PublishedContentSnapshot rebuildPublishedSnapshot() {
+        snapshotStore.loadOnStartup();
+        return snapshotStore.current();
+    }
+
+    /**
+     * Incremental rebuild of one category partition after a content change
+     */
+    @Benchmark
+    public PublishedContentSnapshot rebuildCategoryPartition() {
+        snapshotStore.onContentChanged(sectionChangedEvent);
+        return snapshotStore.current();
+    }
+}
@@ -0,0 +1,49 @@
+package com.woi.benchmarks.content.fakes;
+
+import com.woi.content.domain.entities.Book;
+import com.woi.content.domain.repositories.BookRepository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory BookRepository for benchmarks
+ */
+public class InMemoryBookRepository implements BookRepository {
+    private final InMemoryTable<Book> table =
+        new InMemoryTable<>(Book::getId, Book::setId, Book::getCategoryId);
+
+    @Override
+    public Optional<Book> findById(Long id) {
+        return table.findById(id);
+    }
+
+    @Override
+    public List<Book> findByCategoryId(Long categoryId) {
+        return table.findByParentId(categoryId);
+    }
+
+    @Override
+    public List<Book> findPageByCategoryId(Long categoryId, Long afterId, int limit) {
+        return table.findByParentId(categoryId).stream()
+            .filter(book -> afterId == null || book.getId() > afterId)
+            .limit(limit)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Book> findByCategoryIdIn(List<Long> categoryIds) {
+        return table.findByParentIds(categoryIds);
+    }
+
+    @Override
+    public Book save(Book book) {
+        return table.save(book);
+    }
+
+    @Override
+    public void delete(Book book) {
+        table.delete(book);
+    }
+}
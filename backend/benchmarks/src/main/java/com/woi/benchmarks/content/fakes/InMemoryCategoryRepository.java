@@ -0,0 +1,57 @@
+package com.woi.benchmarks.content.fakes;
+
+import com.woi.content.domain.entities.Category;
+import com.woi.content.domain.repositories.CategoryRepository;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory CategoryRepository for benchmarks
+ */
+public class InMemoryCategoryRepository implements CategoryRepository {
+    private final InMemoryTable<Category> table =
+        new InMemoryTable<>(Category::getId, Category::setId, Category::getWheelId);
+
+    @Override
+    public Optional<Category> findById(Long id) {
+        return table.findById(id);
+    }
+
+    @Override
+    public Optional<Category> findByCategoryNumber(Integer categoryNumber) {
+        return table.findAll().stream()
+            .filter(category -> Objects.equals(category.getCategoryNumber(), categoryNumber))
+            .findFirst();
+    }
+
+    @Override
+    public List<Category> findAll() {
+        return table.findAll();
+    }
+
+    @Override
+    public List<Category> findPage(Long afterId, int limit) {
+        return table.findAll().stream()
+            .filter(category -> afterId == null || category.getId() > afterId)
+            .limit(limit)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Category> findByWheelId(Long wheelId) {
+        return table.findByParentId(wheelId);
+    }
+
+    @Override
+    public Category save(Category category) {
+        return table.save(category);
+    }
+
+    @Override
+    public void delete(Category category) {
+        table.delete(category);
+    }
+}
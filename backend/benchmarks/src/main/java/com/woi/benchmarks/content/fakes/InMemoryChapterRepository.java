@@ -0,0 +1,40 @@
+package com.woi.benchmarks.content.fakes;
+
+import com.woi.content.domain.entities.Chapter;
+import com.woi.content.domain.repositories.ChapterRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * In-memory ChapterRepository for benchmarks
+ */
+public class InMemoryChapterRepository implements ChapterRepository {
+    private final InMemoryTable<Chapter> table =
+        new InMemoryTable<>(Chapter::getId, Chapter::setId, Chapter::getBookId);
+
+    @Override
+    public Optional<Chapter> findById(Long id) {
+        return table.findById(id);
+    }
+
+    @Override
+    public List<Chapter> findByBookId(Long bookId) {
+        return table.findByParentId(bookId);
+    }
+
+    @Override
+    public List<Chapter> findByBookIdIn(List<Long> bookIds) {
+        return table.findByParentIds(bookIds);
+    }
+
+    @Override
+    public Chapter save(Chapter chapter) {
+        return table.save(chapter);
+    }
+
+    @Override
+    public void delete(Chapter chapter) {
+        table.delete(chapter);
+    }
+}
@@ -0,0 +1,33 @@
+package com.woi.benchmarks.content.fakes;
+
+import com.woi.content.domain.repositories.ContentRevisionRepository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory ContentRevisionRepository for benchmarks
+ */
+public class InMemoryContentRevisionRepository implements ContentRevisionRepository {
+    private final Map<String, Long> revisions = new HashMap<>();
+
+    @Override
+    public Map<String, Long> findRevisions(List<String> aggregateKeys) {
+        Map<String, Long> result = new HashMap<>();
+        for (String aggregateKey : aggregateKeys) {
+            Long revision = revisions.get(aggregateKey);
+            if (revision != null) {
+                result.put(aggregateKey, revision);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void increment(List<String> aggregateKeys) {
+        for (String aggregateKey : aggregateKeys) {
+            revisions.merge(aggregateKey, 1L, Long::sum);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.woi.benchmarks.content.fakes;
+
+import com.woi.content.domain.entities.ContentStatus;
+import com.woi.content.domain.enums.ContentStatusType;
+import com.woi.content.domain.repositories.ContentStatusRepository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * In-memory ContentStatusRepository for benchmarks (unique on entity type + entity ID, like the real table)
+ */
+public class InMemoryContentStatusRepository implements ContentStatusRepository {
+    private final Map<String, Map<Long, ContentStatus>> statusesByType = new HashMap<>();
+    private long nextId = 1;
+
+    @Override
+    public Optional<ContentStatus> findByEntityTypeAndEntityId(String entityType, Long entityId) {
+        return Optional.ofNullable(statusesByType.getOrDefault(entityType, Map.of()).get(entityId));
+    }
+
+    @Override
+    public Map<Long, ContentStatusType> findStatusesByEntityTypeAndEntityIds(String entityType, Collection<Long> entityIds) {
+        Map<Long, ContentStatus> statuses = statusesByType.getOrDefault(entityType, Map.of());
+        Map<Long, ContentStatusType> result = new HashMap<>();
+        for (Long entityId : entityIds) {
+            ContentStatus status = statuses.get(entityId);
+            if (status != null) {
+                result.put(entityId, status.getStatus());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public ContentStatus save(ContentStatus contentStatus) {
+        if (contentStatus.getId() == null) {
+            contentStatus.setId(nextId++);
+        }
+        statusesByType.computeIfAbsent(contentStatus.getEntityType(), key -> new HashMap<>())
+            .put(contentStatus.getEntityId(), contentStatus);
+        return contentStatus;
+    }
+
+    @Override
+    public void delete(ContentStatus contentStatus) {
+        statusesByType.getOrDefault(contentStatus.getEntityType(), new HashMap<>()).remove(contentStatus.getEntityId());
+    }
+}
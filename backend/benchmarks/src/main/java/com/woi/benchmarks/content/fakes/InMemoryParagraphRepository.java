@@ -0,0 +1,53 @@
+package com.woi.benchmarks.content.fakes;
+
+import com.woi.content.domain.entities.Paragraph;
+import com.woi.content.domain.repositories.ParagraphRepository;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory ParagraphRepository for benchmarks
+ */
+public class InMemoryParagraphRepository implements ParagraphRepository {
+    private final InMemoryTable<Paragraph> table =
+        new InMemoryTable<>(Paragraph::getId, Paragraph::setId, Paragraph::getSectionId);
+
+    @Override
+    public Optional<Paragraph> findById(Long id) {
+        return table.findById(id);
+    }
+
+    @Override
+    public List<Paragraph> findBySectionId(Long sectionId) {
+        return table.findByParentId(sectionId);
+    }
+
+    @Override
+    public List<Paragraph> findPageBySectionId(Long sectionId, Integer afterParagraphNumber, Long afterId, int limit) {
+        return table.findByParentId(sectionId).stream()
+            .sorted(Comparator.comparing(Paragraph::getParagraphNumber).thenComparing(Paragraph::getId))
+            .filter(paragraph -> afterParagraphNumber == null || afterId == null
+                || paragraph.getParagraphNumber() > afterParagraphNumber
+                || (paragraph.getParagraphNumber().equals(afterParagraphNumber) && paragraph.getId() > afterId))
+            .limit(limit)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Paragraph> findBySectionIdIn(List<Long> sectionIds) {
+        return table.findByParentIds(sectionIds);
+    }
+
+    @Override
+    public Paragraph save(Paragraph paragraph) {
+        return table.save(paragraph);
+    }
+
+    @Override
+    public void delete(Paragraph paragraph) {
+        table.delete(paragraph);
+    }
+}
@@ -0,0 +1,40 @@
+package com.woi.benchmarks.content.fakes;
+
+import com.woi.content.domain.entities.Section;
+import com.woi.content.domain.repositories.SectionRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * In-memory SectionRepository for benchmarks
+ */
+public class InMemorySectionRepository implements SectionRepository {
+    private final InMemoryTable<Section> table =
+        new InMemoryTable<>(Section::getId, Section::setId, Section::getChapterId);
+
+    @Override
+    public Optional<Section> findById(Long id) {
+        return table.findById(id);
+    }
+
+    @Override
+    public List<Section> findByChapterId(Long chapterId) {
+        return table.findByParentId(chapterId);
+    }
+
+    @Override
+    public List<Section> findByChapterIdIn(List<Long> chapterIds) {
+        return table.findByParentIds(chapterIds);
+    }
+
+    @Override
+    public Section save(Section section) {
+        return table.save(section);
+    }
+
+    @Override
+    public void delete(Section section) {
+        table.delete(section);
+    }
+}
@@ -0,0 +1,65 @@
+package com.woi.benchmarks.content.fakes;
+
+import com.woi.content.domain.entities.SectionVersion;
+import com.woi.content.domain.repositories.SectionVersionRepository;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory SectionVersionRepository for benchmarks
+ */
+public class InMemorySectionVersionRepository implements SectionVersionRepository {
+    private final InMemoryTable<SectionVersion> table =
+        new InMemoryTable<>(SectionVersion::getId, SectionVersion::setId, SectionVersion::getSectionId);
+
+    @Override
+    public Optional<SectionVersion> findById(Long id) {
+        return table.findById(id);
+    }
+
+    @Override
+    public List<SectionVersion> findByIdIn(List<Long> ids) {
+        return table.findByIds(ids);
+    }
+
+    @Override
+    public Optional<SectionVersion> findBySectionIdAndVersionNumber(Long sectionId, Integer versionNumber) {
+        return table.findByParentId(sectionId).stream()
+            .filter(version -> Objects.equals(version.getVersionNumber(), versionNumber))
+            .findFirst();
+    }
+
+    @Override
+    public List<SectionVersion> findBySectionIdOrderByVersionNumberDesc(Long sectionId) {
+        return table.findByParentId(sectionId).stream()
+            .sorted(Comparator.comparing(SectionVersion::getVersionNumber).reversed())
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<SectionVersion> findPageBySectionId(Long sectionId, Integer beforeVersionNumber, int limit) {
+        return findBySectionIdOrderByVersionNumberDesc(sectionId).stream()
+            .filter(version -> beforeVersionNumber == null || version.getVersionNumber() < beforeVersionNumber)
+            .limit(limit)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<SectionVersion> findLatestBySectionId(Long sectionId) {
+        return findBySectionIdOrderByVersionNumberDesc(sectionId).stream().findFirst();
+    }
+
+    @Override
+    public SectionVersion save(SectionVersion sectionVersion) {
+        return table.save(sectionVersion);
+    }
+
+    @Override
+    public void delete(SectionVersion sectionVersion) {
+        table.delete(sectionVersion);
+    }
+}
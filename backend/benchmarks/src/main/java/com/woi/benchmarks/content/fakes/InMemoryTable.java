@@ -0,0 +1,85 @@
+package com.woi.benchmarks.content.fakes;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * In-memory table with a primary key and an optional parent index
+ * Lookups by ID and by parent ID are O(1), like the indexed queries of the real repositories,
+ * so benchmarks measure the handlers and not the fake.
+ */
+final class InMemoryTable<T> {
+    private final Function<T, Long> idOf;
+    private final BiConsumer<T, Long> idSetter;
+    private final Function<T, Long> parentIdOf;  // null = no parent index
+    private final Map<Long, T> rows = new TreeMap<>();  // Ordered by ID
+    private final Map<Long, List<T>> rowsByParent = new HashMap<>();
+    private long nextId = 1;
+
+    InMemoryTable(Function<T, Long> idOf, BiConsumer<T, Long> idSetter, Function<T, Long> parentIdOf) {
+        this.idOf = idOf;
+        this.idSetter = idSetter;
+        this.parentIdOf = parentIdOf;
+    }
+
+    T save(T row) {
+        if (idOf.apply(row) == null) {
+            idSetter.accept(row, nextId++);
+        } else {
+            nextId = Math.max(nextId, idOf.apply(row) + 1);
+        }
+        T previous = rows.put(idOf.apply(row), row);
+        if (parentIdOf != null) {
+            if (previous != null) {
+                rowsByParent.getOrDefault(parentIdOf.apply(previous), new ArrayList<>()).remove(previous);
+            }
+            rowsByParent.computeIfAbsent(parentIdOf.apply(row), key -> new ArrayList<>()).add(row);
+        }
+        return row;
+    }
+
+    void delete(T row) {
+        T removed = rows.remove(idOf.apply(row));
+        if (removed != null && parentIdOf != null) {
+            rowsByParent.getOrDefault(parentIdOf.apply(removed), new ArrayList<>()).remove(removed);
+        }
+    }
+
+    Optional<T> findById(Long id) {
+        return Optional.ofNullable(rows.get(id));
+    }
+
+    List<T> findByIds(Collection<Long> ids) {
+        List<T> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            T row = rows.get(id);
+            if (row != null) {
+                result.add(row);
+            }
+        }
+        return result;
+    }
+
+    List<T> findAll() {
+        return new ArrayList<>(rows.values());
+    }
+
+    List<T> findByParentId(Long parentId) {
+        return new ArrayList<>(rowsByParent.getOrDefault(parentId, List.of()));
+    }
+
+    List<T> findByParentIds(Collection<Long> parentIds) {
+        List<T> result = new ArrayList<>();
+        for (Long parentId : parentIds) {
+            result.addAll(rowsByParent.getOrDefault(parentId, List.of()));
+        }
+        return result;
+    }
+}
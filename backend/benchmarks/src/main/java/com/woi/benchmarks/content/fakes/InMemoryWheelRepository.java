@@ -0,0 +1,39 @@
+package com.woi.benchmarks.content.fakes;
+
+import com.woi.content.domain.entities.Wheel;
+import com.woi.content.domain.repositories.WheelRepository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * In-memory WheelRepository for benchmarks
+ */
+public class InMemoryWheelRepository implements WheelRepository {
+    private final List<Wheel> wheels = new ArrayList<>();
+
+    public Wheel save(Wheel wheel) {
+        wheels.add(wheel);
+        return wheel;
+    }
+
+    @Override
+    public List<Wheel> findAllOrderedByDisplayOrder() {
+        return wheels.stream()
+            .sorted(Comparator.comparing(Wheel::getDisplayOrder))
+            .toList();
+    }
+
+    @Override
+    public Optional<Wheel> findById(Long id) {
+        return wheels.stream().filter(wheel -> Objects.equals(wheel.getId(), id)).findFirst();
+    }
+
+    @Override
+    public Optional<Wheel> findByWheelKey(String wheelKey) {
+        return wheels.stream().filter(wheel -> Objects.equals(wheel.getWheelKey(), wheelKey)).findFirst();
+    }
+}
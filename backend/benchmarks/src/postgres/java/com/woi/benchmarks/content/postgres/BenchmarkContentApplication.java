@@ -0,0 +1,19 @@
+package com.woi.benchmarks.content.postgres;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * Minimal Spring Boot context for the PostgreSQL benchmarks:
+ * the content application layer, domain services and JPA persistence, without web or security
+ */
+@SpringBootApplication(scanBasePackages = {
+    "com.woi.content.application",
+    "com.woi.content.domain.services",
+    "com.woi.content.infrastructure.persistence"
+})
+@EnableJpaRepositories(basePackages = "com.woi.content.infrastructure.persistence.repositories")
+@EntityScan(basePackages = "com.woi.content.infrastructure.persistence.entities")
+public class BenchmarkContentApplication {
+}
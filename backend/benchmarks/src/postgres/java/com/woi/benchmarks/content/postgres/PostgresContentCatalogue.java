@@ -0,0 +1,82 @@
+package com.woi.benchmarks.content.postgres;
+
+import com.woi.benchmarks.content.ContentCatalogue;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Seeds a generated catalogue into the content schema with set-based SQL
+ * Same shape and DRAFT/PUBLISHED distribution as the in-memory ContentCatalogue.
+ * Seeded categories are numbered from FIRST_CATEGORY_NUMBER, away from the migration seed data.
+ */
+final class PostgresContentCatalogue {
+    static final int FIRST_CATEGORY_NUMBER = 1000;
+
+    private PostgresContentCatalogue() {
+    }
+
+    static void seed(JdbcTemplate jdbcTemplate, ContentCatalogue.Shape shape) {
+        int draftEvery = ContentCatalogue.DRAFT_EVERY;
+
+        jdbcTemplate.update("""
+            INSERT INTO content.categories (category_number, title_nl, title_en, description_nl, description_en)
+            SELECT ? + g, 'Categorie ' || g, 'Category ' || g, 'Beschrijving ' || g, 'Description ' || g
+            FROM generate_series(1, ?) g
+            """, FIRST_CATEGORY_NUMBER - 1, shape.categories());
+        jdbcTemplate.update("""
+            INSERT INTO content.books (category_id, book_number)
+            SELECT c.id, g FROM content.categories c CROSS JOIN generate_series(1, ?) g
+            WHERE c.category_number >= ?
+            """, shape.booksPerCategory(), FIRST_CATEGORY_NUMBER);
+        jdbcTemplate.update("""
+            INSERT INTO content.chapters (book_id, chapter_number, position)
+            SELECT b.id, g, (g - 1) % 10 + 1
+            FROM content.books b
+            JOIN content.categories c ON c.id = b.category_id
+            CROSS JOIN generate_series(1, ?) g
+            WHERE c.category_number >= ?
+            """, shape.chaptersPerBook(), FIRST_CATEGORY_NUMBER);
+        jdbcTemplate.update("""
+            INSERT INTO content.sections (chapter_id, section_number)
+            SELECT ch.id, g
+            FROM content.chapters ch
+            JOIN content.books b ON b.id = ch.book_id
+            JOIN content.categories c ON c.id = b.category_id
+            CROSS JOIN generate_series(1, ?) g
+            WHERE c.category_number >= ?
+            """, shape.sectionsPerChapter(), FIRST_CATEGORY_NUMBER);
+        jdbcTemplate.update("""
+            INSERT INTO content.section_versions (section_id, version_number, title_en, title_nl, intro_en, intro_nl, created_by)
+            SELECT s.id, 1, 'Section ' || s.id, 'Sectie ' || s.id, 'Intro ' || s.id, 'Inleiding ' || s.id, 1
+            FROM content.sections s
+            WHERE NOT EXISTS (SELECT 1 FROM content.section_versions sv WHERE sv.section_id = s.id)
+            """);
+        jdbcTemplate.update("""
+            UPDATE content.sections s SET working_status_sectionversion_id = sv.id
+            FROM content.section_versions sv
+            WHERE sv.section_id = s.id AND s.working_status_sectionversion_id IS NULL
+            """);
+        jdbcTemplate.update("""
+            INSERT INTO content.paragraphs (section_id, paragraph_number)
+            SELECT s.id, g
+            FROM content.sections s
+            JOIN content.chapters ch ON ch.id = s.chapter_id
+            JOIN content.books b ON b.id = ch.book_id
+            JOIN content.categories c ON c.id = b.category_id
+            CROSS JOIN generate_series(1, ?) g
+            WHERE c.category_number >= ?
+            """, shape.paragraphsPerSection(), FIRST_CATEGORY_NUMBER);
+
+        // Every draftEvery-th entity per level stays DRAFT
+        for (String[] level : new String[][] {
+                {"category", "content.categories"}, {"book", "content.books"}, {"chapter", "content.chapters"},
+                {"section", "content.sections"}, {"paragraph", "content.paragraphs"}}) {
+            jdbcTemplate.update("""
+                INSERT INTO content.content_status (entity_type, entity_id, status)
+                SELECT ?, t.id, CASE WHEN mod(t.id, ?) = 0 THEN 'DRAFT' ELSE 'PUBLISHED' END
+                FROM %s t
+                ON CONFLICT (entity_type, entity_id) DO NOTHING
+                """.formatted(level[1]), level[0], draftEvery);
+        }
+        jdbcTemplate.execute("ANALYZE");
+    }
+}
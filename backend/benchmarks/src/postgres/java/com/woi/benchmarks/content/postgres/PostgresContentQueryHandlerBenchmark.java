@@ -0,0 +1,143 @@
+package com.woi.benchmarks.content.postgres;
+
+import com.woi.benchmarks.content.ContentCatalogue;
+import com.woi.content.api.CategorySummary;
+import com.woi.content.application.events.ContentChangedEvent;
+import com.woi.content.application.handlers.queries.GetAllCategoriesQueryHandler;
+import com.woi.content.application.handlers.queries.GetCategoryWithHierarchyQueryHandler;
+import com.woi.content.application.queries.GetAllCategoriesQuery;
+import com.woi.content.application.queries.GetCategoryWithHierarchyQuery;
+import com.woi.content.application.queries.KeysetPageRequest;
+import com.woi.content.application.results.CategoryResult;
+import com.woi.content.application.results.KeysetPage;
+import com.woi.content.application.services.PublishedContentSnapshot;
+import com.woi.content.application.services.PublishedContentSnapshotStore;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Content query handlers against an embedded PostgreSQL with the real Flyway schema and JPA repositories
+ *
+ * Build with the embedded-postgres profile:
+ *   mvn -P embedded-postgres -pl benchmarks -am package -DskipTests
+ *   java -jar benchmarks/target/benchmarks.jar PostgresContentQueryHandlerBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PostgresContentQueryHandlerBenchmark {
+
+    @Param({"10"})
+    public int categories;
+
+    @Param({"4"})
+    public int booksPerCategory;
+
+    @Param({"5"})
+    public int chaptersPerBook;
+
+    @Param({"8"})
+    public int sectionsPerChapter;
+
+    @Param({"5"})
+    public int paragraphsPerSection;
+
+    private EmbeddedPostgres postgres;
+    private ConfigurableApplicationContext context;
+    private PublishedContentSnapshotStore snapshotStore;
+    private GetAllCategoriesQueryHandler getAllCategoriesHandler;
+    private GetCategoryWithHierarchyQueryHandler getCategoryWithHierarchyHandler;
+    private GetCategoryWithHierarchyQuery categoryWithHierarchyQuery;
+    private ContentChangedEvent sectionChangedEvent;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        context = new SpringApplicationBuilder(BenchmarkContentApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                "spring.jpa.hibernate.ddl-auto=none",
+                "spring.jpa.open-in-view=false",
+                "spring.flyway.locations=classpath:db/migration",
+                "spring.flyway.schemas=content,learning,assessment,users")
+            .run();
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        PostgresContentCatalogue.seed(jdbcTemplate, new ContentCatalogue.Shape(
+            categories, booksPerCategory, chaptersPerBook, sectionsPerChapter, paragraphsPerSection));
+
+        snapshotStore = context.getBean(PublishedContentSnapshotStore.class);
+        snapshotStore.loadOnStartup();
+        getAllCategoriesHandler = context.getBean(GetAllCategoriesQueryHandler.class);
+        getCategoryWithHierarchyHandler = context.getBean(GetCategoryWithHierarchyQueryHandler.class);
+
+        // Middle of the seeded catalogue
+        Long categoryId = jdbcTemplate.queryForObject(
+            "SELECT id FROM content.categories WHERE category_number = ?", Long.class,
+            PostgresContentCatalogue.FIRST_CATEGORY_NUMBER + categories / 2);
+        Long[] section = jdbcTemplate.queryForObject("""
+            SELECT s.id, s.chapter_id FROM content.sections s
+            JOIN content.chapters ch ON ch.id = s.chapter_id
+            JOIN content.books b ON b.id = ch.book_id
+            WHERE b.category_id = ? ORDER BY s.id LIMIT 1
+            """, (rs, rowNum) -> new Long[] { rs.getLong(1), rs.getLong(2) }, categoryId);
+        categoryWithHierarchyQuery = new GetCategoryWithHierarchyQuery(categoryId);
+        sectionChangedEvent = new ContentChangedEvent(categoryId, "section", section[0], section[1]);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (context != null) {
+            context.close();
+        }
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+
+    /**
+     * First page of the admin category list (keyset pagination)
+     */
+    @Benchmark
+    public KeysetPage<CategoryResult> getAllCategoriesFirstPage() {
+        return getAllCategoriesHandler.handle(new GetAllCategoriesQuery(KeysetPageRequest.firstPage()));
+    }
+
+    /**
+     * One category with its complete hierarchy (one query per level)
+     */
+    @Benchmark
+    public Optional<CategorySummary> getCategoryWithHierarchy() {
+        return getCategoryWithHierarchyHandler.handle(categoryWithHierarchyQuery);
+    }
+
+    /**
+     * Full rebuild of the published snapshot (startup cost)
+     */
+    @Benchmark
+    public PublishedContentSnapshot rebuildPublishedSnapshot() {
+        snapshotStore.loadOnStartup();
+        return snapshotStore.current();
+    }
+
+    /**
+     * Incremental rebuild of one category partition after a content change
+     */
+    @Benchmark
+    public PublishedContentSnapshot rebuildCategoryPartition() {
+        snapshotStore.onContentChanged(sectionChangedEvent);
+        return snapshotStore.current();
+    }
+}
@@ -0,0 +1,26 @@
+package com.woi.content.application.events;
+
+/**
+ * In-process event: a content entity was created, changed, (un)published or deleted by a command
+ * Published by content command handlers (via ContentChangeNotifier) and handled after commit.
+ * 
+ * @param categoryId Category that owns the changed entity, or null if it could not be resolved
+ *                   (listeners should then treat the whole catalogue as changed)
+ * @param entityType Changed entity type ('category', 'book', 'chapter', 'section', 'paragraph')
+ * @param entityId Changed entity ID
+ * @param parentId ID of the parent entity (null for categories)
+ */
+public record ContentChangedEvent(
+    Long categoryId,
+    String entityType,
+    Long entityId,
+    Long parentId
+) {
+    public static ContentChangedEvent unresolved(String entityType, Long entityId) {
+        return new ContentChangedEvent(null, entityType, entityId, null);
+    }
+    
+    public boolean affectsAllCategories() {
+        return categoryId == null;
+    }
+}
@@ -2,11 +2,13 @@ package com.woi.content.application.handlers.commands;
 
 import com.woi.content.application.commands.CreateBookCommand;
 import com.woi.content.application.results.BookResult;
+import com.woi.content.application.services.ContentChangeNotifier;
 import com.woi.content.domain.entities.Book;
 import com.woi.content.domain.repositories.BookRepository;
 import com.woi.content.domain.repositories.CategoryRepository;
 import com.woi.content.domain.repositories.ContentStatusRepository;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Command handler for creating a new book
@@ -21,16 +23,20 @@ public class CreateBookCommandHandler {
     private final BookRepository bookRepository;
     private final CategoryRepository categoryRepository;
     private final ContentStatusRepository contentStatusRepository;
+    private final ContentChangeNotifier contentChangeNotifier;
     
     public CreateBookCommandHandler(
             BookRepository bookRepository,
             CategoryRepository categoryRepository,
-            ContentStatusRepository contentStatusRepository) {
+            ContentStatusRepository contentStatusRepository,
+            ContentChangeNotifier contentChangeNotifier) {
         this.bookRepository = bookRepository;
         this.categoryRepository = categoryRepository;
         this.contentStatusRepository = contentStatusRepository;
+        this.contentChangeNotifier = contentChangeNotifier;
     }
     
+    @Transactional
     public BookResult handle(CreateBookCommand command) {
         // 1. Validate category exists
         categoryRepository.findById(command.categoryId())
@@ -51,6 +57,7 @@ public class CreateBookCommandHandler {
                 null  // userId can be null for initial creation
             );
         contentStatusRepository.save(contentStatus);
+        contentChangeNotifier.bookChanged(savedBook);
         
         // 5. Return result
         return BookResult.from(savedBook);
@@ -2,12 +2,14 @@ package com.woi.content.application.handlers.commands;
 
 import com.woi.content.application.commands.CreateBookVersionCommand;
 import com.woi.content.application.results.BookVersionResult;
+import com.woi.content.application.services.ContentChangeNotifier;
 import com.woi.content.domain.entities.Book;
 import com.woi.content.domain.entities.BookVersion;
 import com.woi.content.domain.repositories.BookRepository;
 import com.woi.content.domain.repositories.BookVersionRepository;
 import com.woi.content.domain.services.VersionNumberGenerator;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Command handler for creating a new book version
@@ -22,16 +24,20 @@ public class CreateBookVersionCommandHandler {
     private final BookRepository bookRepository;
     private final BookVersionRepository bookVersionRepository;
     private final VersionNumberGenerator versionNumberGenerator;
+    private final ContentChangeNotifier contentChangeNotifier;
     
     public CreateBookVersionCommandHandler(
             BookRepository bookRepository,
             BookVersionRepository bookVersionRepository,
-            VersionNumberGenerator versionNumberGenerator) {
+            VersionNumberGenerator versionNumberGenerator,
+            ContentChangeNotifier contentChangeNotifier) {
         this.bookRepository = bookRepository;
         this.bookVersionRepository = bookVersionRepository;
         this.versionNumberGenerator = versionNumberGenerator;
+        this.contentChangeNotifier = contentChangeNotifier;
     }
     
+    @Transactional
     public BookVersionResult handle(CreateBookVersionCommand command) {
         // 1. Find book
         Book book = bookRepository.findById(command.bookId())
@@ -57,6 +63,7 @@ public class CreateBookVersionCommandHandler {
         // 5. Update book's workingStatusBookVersionId pointer
         book.setWorkingStatusBookVersionId(savedVersion.getId());
         bookRepository.save(book);
+        contentChangeNotifier.bookChanged(book);
         
         // 6. Return result
         return BookVersionResult.from(savedVersion);
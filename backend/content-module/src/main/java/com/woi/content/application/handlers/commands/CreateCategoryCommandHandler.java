@@ -2,10 +2,12 @@ package com.woi.content.application.handlers.commands;
 
 import com.woi.content.application.commands.CreateCategoryCommand;
 import com.woi.content.application.results.CategoryResult;
+import com.woi.content.application.services.ContentChangeNotifier;
 import com.woi.content.domain.entities.Category;
 import com.woi.content.domain.repositories.CategoryRepository;
 import com.woi.content.domain.repositories.ContentStatusRepository;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Command handler for creating a new category
@@ -18,14 +20,18 @@ import org.springframework.stereotype.Component;
 public class CreateCategoryCommandHandler {
     private final CategoryRepository categoryRepository;
     private final ContentStatusRepository contentStatusRepository;
+    private final ContentChangeNotifier contentChangeNotifier;
     
     public CreateCategoryCommandHandler(
             CategoryRepository categoryRepository,
-            ContentStatusRepository contentStatusRepository) {
+            ContentStatusRepository contentStatusRepository,
+            ContentChangeNotifier contentChangeNotifier) {
         this.categoryRepository = categoryRepository;
         this.contentStatusRepository = contentStatusRepository;
+        this.contentChangeNotifier = contentChangeNotifier;
     }
     
+    @Transactional
     public CategoryResult handle(CreateCategoryCommand command) {
         // 1. Create category (domain factory method - validates and applies title fallback)
         Category category = Category.create(
@@ -47,6 +53,7 @@ public class CreateCategoryCommandHandler {
                 null  // userId can be null for initial creation
             );
         contentStatusRepository.save(contentStatus);
+        contentChangeNotifier.categoryChanged(savedCategory);
         
         // 4. Return result
         return CategoryResult.from(savedCategory);
@@ -2,11 +2,13 @@ package com.woi.content.application.handlers.commands;
 
 import com.woi.content.application.commands.CreateChapterCommand;
 import com.woi.content.application.results.ChapterResult;
+import com.woi.content.application.services.ContentChangeNotifier;
 import com.woi.content.domain.entities.Chapter;
 import com.woi.content.domain.repositories.BookRepository;
 import com.woi.content.domain.repositories.ChapterRepository;
 import com.woi.content.domain.repositories.ContentStatusRepository;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Command handler for creating a new chapter
@@ -21,16 +23,20 @@ public class CreateChapterCommandHandler {
     private final ChapterRepository chapterRepository;
     private final BookRepository bookRepository;
     private final ContentStatusRepository contentStatusRepository;
+    private final ContentChangeNotifier contentChangeNotifier;
     
     public CreateChapterCommandHandler(
             ChapterRepository chapterRepository,
             BookRepository bookRepository,
-            ContentStatusRepository contentStatusRepository) {
+            ContentStatusRepository contentStatusRepository,
+            ContentChangeNotifier contentChangeNotifier) {
         this.chapterRepository = chapterRepository;
         this.bookRepository = bookRepository;
         this.contentStatusRepository = contentStatusRepository;
+        this.contentChangeNotifier = contentChangeNotifier;
     }
     
+    @Transactional
     public ChapterResult handle(CreateChapterCommand command) {
         // 1. Validate book exists
         bookRepository.findById(command.bookId())
@@ -51,6 +57,7 @@ public class CreateChapterCommandHandler {
                 null  // userId can be null for initial creation
             );
         contentStatusRepository.save(contentStatus);
+        contentChangeNotifier.chapterChanged(savedChapter);
         
         // 5. Return result
         return ChapterResult.from(savedChapter);
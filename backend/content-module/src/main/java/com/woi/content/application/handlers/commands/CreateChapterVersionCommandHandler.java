@@ -2,12 +2,14 @@ package com.woi.content.application.handlers.commands;
 
 import com.woi.content.application.commands.CreateChapterVersionCommand;
 import com.woi.content.application.results.ChapterVersionResult;
+import com.woi.content.application.services.ContentChangeNotifier;
 import com.woi.content.domain.entities.Chapter;
 import com.woi.content.domain.entities.ChapterVersion;
 import com.woi.content.domain.repositories.ChapterRepository;
 import com.woi.content.domain.repositories.ChapterVersionRepository;
 import com.woi.content.domain.services.VersionNumberGenerator;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Command handler for creating a new chapter version
@@ -22,16 +24,20 @@ public class CreateChapterVersionCommandHandler {
     private final ChapterRepository chapterRepository;
     private final ChapterVersionRepository chapterVersionRepository;
     private final VersionNumberGenerator versionNumberGenerator;
+    private final ContentChangeNotifier contentChangeNotifier;
     
     public CreateChapterVersionCommandHandler(
             ChapterRepository chapterRepository,
             ChapterVersionRepository chapterVersionRepository,
-            VersionNumberGenerator versionNumberGenerator) {
+            VersionNumberGenerator versionNumberGenerator,
+            ContentChangeNotifier contentChangeNotifier) {
         this.chapterRepository = chapterRepository;
         this.chapterVersionRepository = chapterVersionRepository;
         this.versionNumberGenerator = versionNumberGenerator;
+        this.contentChangeNotifier = contentChangeNotifier;
     }
     
+    @Transactional
     public ChapterVersionResult handle(CreateChapterVersionCommand command) {
         // 1. Find chapter
         Chapter chapter = chapterRepository.findById(command.chapterId())
@@ -57,6 +63,7 @@ public class CreateChapterVersionCommandHandler {
         // 5. Update chapter's workingStatusChapterVersionId pointer
         chapter.setWorkingStatusChapterVersionId(savedVersion.getId());
         chapterRepository.save(chapter);
+        contentChangeNotifier.chapterChanged(chapter);
         
         // 6. Return result
         return ChapterVersionResult.from(savedVersion);
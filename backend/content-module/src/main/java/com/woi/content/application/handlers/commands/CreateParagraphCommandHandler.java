@@ -2,11 +2,13 @@ package com.woi.content.application.handlers.commands;
 
 import com.woi.content.application.commands.CreateParagraphCommand;
 import com.woi.content.application.results.ParagraphResult;
+import com.woi.content.application.services.ContentChangeNotifier;
 import com.woi.content.domain.entities.Paragraph;
 import com.woi.content.domain.repositories.ParagraphRepository;
 import com.woi.content.domain.repositories.SectionRepository;
 import com.woi.content.domain.repositories.ContentStatusRepository;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Command handler for creating a new paragraph
@@ -21,16 +23,20 @@ public class CreateParagraphCommandHandler {
     private final ParagraphRepository paragraphRepository;
     private final SectionRepository sectionRepository;
     private final ContentStatusRepository contentStatusRepository;
+    private final ContentChangeNotifier contentChangeNotifier;
     
     public CreateParagraphCommandHandler(
             ParagraphRepository paragraphRepository,
             SectionRepository sectionRepository,
-            ContentStatusRepository contentStatusRepository) {
+            ContentStatusRepository contentStatusRepository,
+            ContentChangeNotifier contentChangeNotifier) {
         this.paragraphRepository = paragraphRepository;
         this.sectionRepository = sectionRepository;
         this.contentStatusRepository = contentStatusRepository;
+        this.contentChangeNotifier = contentChangeNotifier;
     }
     
+    @Transactional
     public ParagraphResult handle(CreateParagraphCommand command) {
         // 1. Validate section exists
         sectionRepository.findById(command.sectionId())
@@ -51,6 +57,7 @@ public class CreateParagraphCommandHandler {
                 null  // userId can be null for initial creation
             );
         contentStatusRepository.save(contentStatus);
+        contentChangeNotifier.paragraphChanged(savedParagraph);
         
         // 5. Return result
         return ParagraphResult.from(savedParagraph);
@@ -2,9 +2,11 @@ package com.woi.content.application.handlers.commands;
 
 import com.woi.content.application.commands.CreateSectionCommand;
 import com.woi.content.application.results.SectionResult;
+import com.woi.content.application.services.ContentChangeNotifier;
 import com.woi.content.domain.entities.Section;
 import com.woi.content.domain.repositories.SectionRepository;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Command handler for creating a new section
@@ -17,14 +19,18 @@ import org.springframework.stereotype.Component;
 public class CreateSectionCommandHandler {
     private final SectionRepository sectionRepository;
     private final com.woi.content.domain.repositories.ContentStatusRepository contentStatusRepository;
+    private final ContentChangeNotifier contentChangeNotifier;
     
     public CreateSectionCommandHandler(
             SectionRepository sectionRepository,
-            com.woi.content.domain.repositories.ContentStatusRepository contentStatusRepository) {
+            com.woi.content.domain.repositories.ContentStatusRepository contentStatusRepository,
+            ContentChangeNotifier contentChangeNotifier) {
         this.sectionRepository = sectionRepository;
         this.contentStatusRepository = contentStatusRepository;
+        this.contentChangeNotifier = contentChangeNotifier;
     }
     
+    @Transactional
     public SectionResult handle(CreateSectionCommand command) {
         // 1. Create section (domain factory method - validates orderIndex)
         Section section = Section.create(command.chapterId(), command.orderIndex());
@@ -41,6 +47,7 @@ public class CreateSectionCommandHandler {
                 null  // userId can be null for initial creation
             );
         contentStatusRepository.save(contentStatus);
+        contentChangeNotifier.sectionChanged(savedSection);
         
         // 4. Return result
         return SectionResult.from(savedSection);
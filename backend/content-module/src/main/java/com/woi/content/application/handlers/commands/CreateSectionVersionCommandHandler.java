@@ -2,12 +2,14 @@ package com.woi.content.application.handlers.commands;
 
 import com.woi.content.application.commands.CreateSectionVersionCommand;
 import com.woi.content.application.results.SectionVersionResult;
+import com.woi.content.application.services.ContentChangeNotifier;
 import com.woi.content.domain.entities.Section;
 import com.woi.content.domain.entities.SectionVersion;
 import com.woi.content.domain.repositories.SectionRepository;
 import com.woi.content.domain.repositories.SectionVersionRepository;
 import com.woi.content.domain.services.VersionNumberGenerator;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Command handler for creating a new section version
@@ -22,16 +24,20 @@ public class CreateSectionVersionCommandHandler {
     private final SectionRepository sectionRepository;
     private final SectionVersionRepository sectionVersionRepository;
     private final VersionNumberGenerator versionNumberGenerator;
+    private final ContentChangeNotifier contentChangeNotifier;
     
     public CreateSectionVersionCommandHandler(
             SectionRepository sectionRepository,
             SectionVersionRepository sectionVersionRepository,
-            VersionNumberGenerator versionNumberGenerator) {
+            VersionNumberGenerator versionNumberGenerator,
+            ContentChangeNotifier contentChangeNotifier) {
         this.sectionRepository = sectionRepository;
         this.sectionVersionRepository = sectionVersionRepository;
         this.versionNumberGenerator = versionNumberGenerator;
+        this.contentChangeNotifier = contentChangeNotifier;
     }
     
+    @Transactional
     public SectionVersionResult handle(CreateSectionVersionCommand command) {
         // 1. Find section
         Section section = sectionRepository.findById(command.sectionId())
@@ -57,6 +63,7 @@ public class CreateSectionVersionCommandHandler {
         // 5. Update section's workingStatusSectionVersionId pointer
         section.setWorkingStatusSectionVersionId(savedVersion.getId());
         sectionRepository.save(section);
+        contentChangeNotifier.sectionChanged(section);
         
         // 6. Return result
         return SectionVersionResult.from(savedVersion);
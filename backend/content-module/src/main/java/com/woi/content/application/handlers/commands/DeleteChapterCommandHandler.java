@@ -1,59 +1,47 @@
 package com.woi.content.application.handlers.commands;
 
 import com.woi.content.application.commands.DeleteChapterCommand;
+import com.woi.content.application.services.ContentChangeNotifier;
 import com.woi.content.domain.entities.Chapter;
-import com.woi.content.domain.entities.Paragraph;
-import com.woi.content.domain.entities.Section;
 import com.woi.content.domain.repositories.ChapterRepository;
-import com.woi.content.domain.repositories.ParagraphRepository;
-import com.woi.content.domain.repositories.SectionRepository;
+import com.woi.content.domain.repositories.ContentTreeRepository;
 import org.springframework.stereotype.Component;
-
-import java.util.List;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Command handler for deleting a chapter
  * 
  * Responsibilities:
  * - Validate that chapter exists
- * - Cascade delete: Delete all sections (and their paragraphs) in this chapter
+ * - Cascade delete: Delete all sections (and their paragraphs) in this chapter,
+ *   with their versions, status and reviews (set-based, see ContentTreeRepository)
  * - Delete chapter
  */
 @Component
 public class DeleteChapterCommandHandler {
     private final ChapterRepository chapterRepository;
-    private final SectionRepository sectionRepository;
-    private final ParagraphRepository paragraphRepository;
+    private final ContentTreeRepository contentTreeRepository;
+    private final ContentChangeNotifier contentChangeNotifier;
     
     public DeleteChapterCommandHandler(
             ChapterRepository chapterRepository,
-            SectionRepository sectionRepository,
-            ParagraphRepository paragraphRepository) {
+            ContentTreeRepository contentTreeRepository,
+            ContentChangeNotifier contentChangeNotifier) {
         this.chapterRepository = chapterRepository;
-        this.sectionRepository = sectionRepository;
-        this.paragraphRepository = paragraphRepository;
+        this.contentTreeRepository = contentTreeRepository;
+        this.contentChangeNotifier = contentChangeNotifier;
     }
     
+    @Transactional
     public void handle(DeleteChapterCommand command) {
         // 1. Find chapter
         Chapter chapter = chapterRepository.findById(command.chapterId())
             .orElseThrow(() -> new IllegalArgumentException("Chapter not found: " + command.chapterId()));
         
-        // 2. Cascade delete: Delete all sections (and their paragraphs) in this chapter
-        List<Section> sections = sectionRepository.findByChapterId(command.chapterId());
-        for (Section section : sections) {
-            // Delete all paragraphs in this section
-            List<Paragraph> paragraphs = paragraphRepository.findBySectionId(section.getId());
-            for (Paragraph paragraph : paragraphs) {
-                // TODO: Check if paragraph is used in Learning module before deleting
-                paragraphRepository.delete(paragraph);
-            }
-            // Delete section
-            sectionRepository.delete(section);
-        }
+        // Refresh published content after commit (resolved before the chapter is deleted)
+        contentChangeNotifier.chapterChanged(chapter);
         
-        // 3. Delete chapter
-        chapterRepository.delete(chapter);
+        // 2. Cascade delete: chapter, sections, paragraphs (one statement per table)
+        contentTreeRepository.deleteChapterTree(chapter.getId());
     }
 }
-
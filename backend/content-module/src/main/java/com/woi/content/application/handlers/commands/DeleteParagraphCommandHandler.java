@@ -1,12 +1,14 @@
 package com.woi.content.application.handlers.commands;
 
 import com.woi.content.application.commands.DeleteParagraphCommand;
+import com.woi.content.application.services.ContentChangeNotifier;
 import com.woi.content.domain.entities.Paragraph;
 import com.woi.content.domain.repositories.ParagraphRepository;
 import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Command handler for deleting a paragraph
@@ -19,10 +21,14 @@ import org.springframework.stereotype.Component;
 @Component
 public class DeleteParagraphCommandHandler implements ApplicationContextAware {
     private final ParagraphRepository paragraphRepository;
+    private final ContentChangeNotifier contentChangeNotifier;
     private ApplicationContext applicationContext;
     
-    public DeleteParagraphCommandHandler(ParagraphRepository paragraphRepository) {
+    public DeleteParagraphCommandHandler(
+            ParagraphRepository paragraphRepository,
+            ContentChangeNotifier contentChangeNotifier) {
         this.paragraphRepository = paragraphRepository;
+        this.contentChangeNotifier = contentChangeNotifier;
     }
     
     @Override
@@ -30,6 +36,7 @@ public class DeleteParagraphCommandHandler implements ApplicationContextAware {
         this.applicationContext = applicationContext;
     }
     
+    @Transactional
     public void handle(DeleteParagraphCommand command) {
         // 1. Find paragraph
         Paragraph paragraph = paragraphRepository.findById(command.paragraphId())
@@ -51,6 +58,9 @@ public class DeleteParagraphCommandHandler implements ApplicationContextAware {
             // This is expected if learning module is not loaded
         }
         
+        // Refresh published content after commit (resolved before the paragraph is deleted)
+        contentChangeNotifier.paragraphChanged(paragraph);
+        
         // 3. Delete paragraph
         paragraphRepository.delete(paragraph);
     }
@@ -1,11 +1,13 @@
 package com.woi.content.application.handlers.commands;
 
 import com.woi.content.application.commands.DeleteSectionCommand;
+import com.woi.content.application.services.ContentChangeNotifier;
 import com.woi.content.domain.entities.Paragraph;
 import com.woi.content.domain.entities.Section;
 import com.woi.content.domain.repositories.ParagraphRepository;
 import com.woi.content.domain.repositories.SectionRepository;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -21,19 +23,26 @@ import java.util.List;
 public class DeleteSectionCommandHandler {
     private final SectionRepository sectionRepository;
     private final ParagraphRepository paragraphRepository;
+    private final ContentChangeNotifier contentChangeNotifier;
     
     public DeleteSectionCommandHandler(
             SectionRepository sectionRepository,
-            ParagraphRepository paragraphRepository) {
+            ParagraphRepository paragraphRepository,
+            ContentChangeNotifier contentChangeNotifier) {
         this.sectionRepository = sectionRepository;
         this.paragraphRepository = paragraphRepository;
+        this.contentChangeNotifier = contentChangeNotifier;
     }
     
+    @Transactional
     public void handle(DeleteSectionCommand command) {
         // 1. Find section
         Section section = sectionRepository.findById(command.sectionId())
             .orElseThrow(() -> new IllegalArgumentException("Section not found: " + command.sectionId()));
         
+        // Refresh published content after commit (resolved before the section is deleted)
+        contentChangeNotifier.sectionChanged(section);
+        
         // 2. Cascade delete: Delete all paragraphs in this section
         List<Paragraph> paragraphs = paragraphRepository.findBySectionId(command.sectionId());
         for (Paragraph paragraph : paragraphs) {
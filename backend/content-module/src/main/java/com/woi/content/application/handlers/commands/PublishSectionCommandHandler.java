@@ -1,12 +1,14 @@
 package com.woi.content.application.handlers.commands;
 
 import com.woi.content.application.commands.PublishSectionCommand;
+import com.woi.content.application.services.ContentChangeNotifier;
 import com.woi.content.domain.entities.ContentStatus;
 import com.woi.content.domain.entities.Section;
 import com.woi.content.domain.enums.ContentStatusType;
 import com.woi.content.domain.repositories.ContentStatusRepository;
 import com.woi.content.domain.repositories.SectionRepository;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Command handler for publishing a section (DRAFT → PUBLISHED)
@@ -18,14 +20,18 @@ import org.springframework.stereotype.Component;
 public class PublishSectionCommandHandler {
     private final SectionRepository sectionRepository;
     private final ContentStatusRepository contentStatusRepository;
+    private final ContentChangeNotifier contentChangeNotifier;
     
     public PublishSectionCommandHandler(
             SectionRepository sectionRepository,
-            ContentStatusRepository contentStatusRepository) {
+            ContentStatusRepository contentStatusRepository,
+            ContentChangeNotifier contentChangeNotifier) {
         this.sectionRepository = sectionRepository;
         this.contentStatusRepository = contentStatusRepository;
+        this.contentChangeNotifier = contentChangeNotifier;
     }
     
+    @Transactional
     public void handle(PublishSectionCommand command) {
         // 1. Find section
         Section section = sectionRepository.findById(command.sectionId())
@@ -49,6 +55,9 @@ public class PublishSectionCommandHandler {
         
         // 4. Save ContentStatus
         contentStatusRepository.save(contentStatus);
+
+        // 5. Refresh published content
+        contentChangeNotifier.sectionChanged(section);
     }
 }
 
@@ -2,6 +2,7 @@ package com.woi.content.application.handlers.commands;
 
 import com.woi.content.application.commands.RejectReviewCommand;
 import com.woi.content.application.results.ReviewResult;
+import com.woi.content.application.services.ContentChangeNotifier;
 import com.woi.content.domain.entities.ContentStatus;
 import com.woi.content.domain.entities.Review;
 import com.woi.content.domain.entities.ReviewableItem;
@@ -24,14 +25,17 @@ public class RejectReviewCommandHandler {
     private final ReviewRepository reviewRepository;
     private final ReviewableItemRepository reviewableItemRepository;
     private final ContentStatusRepository contentStatusRepository;
+    private final ContentChangeNotifier contentChangeNotifier;
     
     public RejectReviewCommandHandler(
             ReviewRepository reviewRepository,
             ReviewableItemRepository reviewableItemRepository,
-            ContentStatusRepository contentStatusRepository) {
+            ContentStatusRepository contentStatusRepository,
+            ContentChangeNotifier contentChangeNotifier) {
         this.reviewRepository = reviewRepository;
         this.reviewableItemRepository = reviewableItemRepository;
         this.contentStatusRepository = contentStatusRepository;
+        this.contentChangeNotifier = contentChangeNotifier;
     }
     
     @Transactional
@@ -63,6 +67,7 @@ public class RejectReviewCommandHandler {
         
         contentStatus.updateStatus(ContentStatusType.NEEDS_REVISION, command.reviewedBy());
         contentStatusRepository.save(contentStatus);
+        contentChangeNotifier.entityChanged(entityType, reviewableItem.getReferenceId());
         
         // 4. Return result
         return ReviewResult.from(savedReview);
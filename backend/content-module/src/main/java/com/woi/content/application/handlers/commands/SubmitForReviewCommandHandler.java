@@ -2,6 +2,7 @@ package com.woi.content.application.handlers.commands;
 
 import com.woi.content.application.commands.SubmitForReviewCommand;
 import com.woi.content.application.results.ReviewResult;
+import com.woi.content.application.services.ContentChangeNotifier;
 import com.woi.content.domain.entities.ContentStatus;
 import com.woi.content.domain.entities.Review;
 import com.woi.content.domain.entities.ReviewableItem;
@@ -25,14 +26,17 @@ public class SubmitForReviewCommandHandler {
     private final ReviewableItemRepository reviewableItemRepository;
     private final ReviewRepository reviewRepository;
     private final ContentStatusRepository contentStatusRepository;
+    private final ContentChangeNotifier contentChangeNotifier;
     
     public SubmitForReviewCommandHandler(
             ReviewableItemRepository reviewableItemRepository,
             ReviewRepository reviewRepository,
-            ContentStatusRepository contentStatusRepository) {
+            ContentStatusRepository contentStatusRepository,
+            ContentChangeNotifier contentChangeNotifier) {
         this.reviewableItemRepository = reviewableItemRepository;
         this.reviewRepository = reviewRepository;
         this.contentStatusRepository = contentStatusRepository;
+        this.contentChangeNotifier = contentChangeNotifier;
     }
     
     @Transactional
@@ -70,6 +74,7 @@ public class SubmitForReviewCommandHandler {
         
         contentStatus.updateStatus(ContentStatusType.IN_REVIEW, command.submittedBy());
         contentStatusRepository.save(contentStatus);
+        contentChangeNotifier.entityChanged(entityType, command.referenceId());
         
         // 4. Return result
         return ReviewResult.from(savedReview);
@@ -2,9 +2,11 @@ package com.woi.content.application.handlers.commands;
 
 import com.woi.content.application.commands.UpdateBookCommand;
 import com.woi.content.application.results.BookResult;
+import com.woi.content.application.services.ContentChangeNotifier;
 import com.woi.content.domain.entities.Book;
 import com.woi.content.domain.repositories.BookRepository;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Command handler for updating book metadata
@@ -15,11 +17,16 @@ import org.springframework.stereotype.Component;
 @Component
 public class UpdateBookCommandHandler {
     private final BookRepository bookRepository;
+    private final ContentChangeNotifier contentChangeNotifier;
     
-    public UpdateBookCommandHandler(BookRepository bookRepository) {
+    public UpdateBookCommandHandler(
+            BookRepository bookRepository,
+            ContentChangeNotifier contentChangeNotifier) {
         this.bookRepository = bookRepository;
+        this.contentChangeNotifier = contentChangeNotifier;
     }
     
+    @Transactional
     public BookResult handle(UpdateBookCommand command) {
         // 1. Find book
         Book book = bookRepository.findById(command.bookId())
@@ -32,6 +39,7 @@ public class UpdateBookCommandHandler {
         
         // 3. Save book
         Book savedBook = bookRepository.save(book);
+        contentChangeNotifier.bookChanged(savedBook);
         
         // 4. Return result
         return BookResult.from(savedBook);
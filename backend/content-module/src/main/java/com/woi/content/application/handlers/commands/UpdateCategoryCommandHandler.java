@@ -2,9 +2,11 @@ package com.woi.content.application.handlers.commands;
 
 import com.woi.content.application.commands.UpdateCategoryCommand;
 import com.woi.content.application.results.CategoryResult;
+import com.woi.content.application.services.ContentChangeNotifier;
 import com.woi.content.domain.entities.Category;
 import com.woi.content.domain.repositories.CategoryRepository;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Command handler for updating category content
@@ -15,11 +17,16 @@ import org.springframework.stereotype.Component;
 @Component
 public class UpdateCategoryCommandHandler {
     private final CategoryRepository categoryRepository;
+    private final ContentChangeNotifier contentChangeNotifier;
     
-    public UpdateCategoryCommandHandler(CategoryRepository categoryRepository) {
+    public UpdateCategoryCommandHandler(
+            CategoryRepository categoryRepository,
+            ContentChangeNotifier contentChangeNotifier) {
         this.categoryRepository = categoryRepository;
+        this.contentChangeNotifier = contentChangeNotifier;
     }
     
+    @Transactional
     public CategoryResult handle(UpdateCategoryCommand command) {
         // 1. Find category
         Category category = categoryRepository.findById(command.categoryId())
@@ -35,6 +42,7 @@ public class UpdateCategoryCommandHandler {
         
         // 3. Save category
         Category savedCategory = categoryRepository.save(category);
+        contentChangeNotifier.categoryChanged(savedCategory);
         
         // 4. Return result
         return CategoryResult.from(savedCategory);
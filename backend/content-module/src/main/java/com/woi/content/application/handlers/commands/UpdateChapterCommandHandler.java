@@ -2,9 +2,11 @@ package com.woi.content.application.handlers.commands;
 
 import com.woi.content.application.commands.UpdateChapterCommand;
 import com.woi.content.application.results.ChapterResult;
+import com.woi.content.application.services.ContentChangeNotifier;
 import com.woi.content.domain.entities.Chapter;
 import com.woi.content.domain.repositories.ChapterRepository;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Command handler for updating chapter metadata
@@ -15,11 +17,16 @@ import org.springframework.stereotype.Component;
 @Component
 public class UpdateChapterCommandHandler {
     private final ChapterRepository chapterRepository;
+    private final ContentChangeNotifier contentChangeNotifier;
     
-    public UpdateChapterCommandHandler(ChapterRepository chapterRepository) {
+    public UpdateChapterCommandHandler(
+            ChapterRepository chapterRepository,
+            ContentChangeNotifier contentChangeNotifier) {
         this.chapterRepository = chapterRepository;
+        this.contentChangeNotifier = contentChangeNotifier;
     }
     
+    @Transactional
     public ChapterResult handle(UpdateChapterCommand command) {
         // 1. Find chapter
         Chapter chapter = chapterRepository.findById(command.chapterId())
@@ -37,6 +44,7 @@ public class UpdateChapterCommandHandler {
         
         // 4. Save chapter
         Chapter savedChapter = chapterRepository.save(chapter);
+        contentChangeNotifier.chapterChanged(savedChapter);
         
         // 5. Return result
         return ChapterResult.from(savedChapter);
@@ -2,9 +2,11 @@ package com.woi.content.application.handlers.commands;
 
 import com.woi.content.application.commands.UpdateParagraphCommand;
 import com.woi.content.application.results.ParagraphResult;
+import com.woi.content.application.services.ContentChangeNotifier;
 import com.woi.content.domain.entities.Paragraph;
 import com.woi.content.domain.repositories.ParagraphRepository;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Command handler for updating paragraph metadata
@@ -15,11 +17,16 @@ import org.springframework.stereotype.Component;
 @Component
 public class UpdateParagraphCommandHandler {
     private final ParagraphRepository paragraphRepository;
+    private final ContentChangeNotifier contentChangeNotifier;
     
-    public UpdateParagraphCommandHandler(ParagraphRepository paragraphRepository) {
+    public UpdateParagraphCommandHandler(
+            ParagraphRepository paragraphRepository,
+            ContentChangeNotifier contentChangeNotifier) {
         this.paragraphRepository = paragraphRepository;
+        this.contentChangeNotifier = contentChangeNotifier;
     }
     
+    @Transactional
     public ParagraphResult handle(UpdateParagraphCommand command) {
         // 1. Find paragraph
         Paragraph paragraph = paragraphRepository.findById(command.paragraphId())
@@ -30,6 +37,7 @@ public class UpdateParagraphCommandHandler {
         
         // 3. Save paragraph
         Paragraph savedParagraph = paragraphRepository.save(paragraph);
+        contentChangeNotifier.paragraphChanged(savedParagraph);
         
         // 4. Return result
         return ParagraphResult.from(savedParagraph);
@@ -2,9 +2,11 @@ package com.woi.content.application.handlers.commands;
 
 import com.woi.content.application.commands.UpdateSectionCommand;
 import com.woi.content.application.results.SectionResult;
+import com.woi.content.application.services.ContentChangeNotifier;
 import com.woi.content.domain.entities.Section;
 import com.woi.content.domain.repositories.SectionRepository;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Command handler for updating section metadata
@@ -15,11 +17,16 @@ import org.springframework.stereotype.Component;
 @Component
 public class UpdateSectionCommandHandler {
     private final SectionRepository sectionRepository;
+    private final ContentChangeNotifier contentChangeNotifier;
     
-    public UpdateSectionCommandHandler(SectionRepository sectionRepository) {
+    public UpdateSectionCommandHandler(
+            SectionRepository sectionRepository,
+            ContentChangeNotifier contentChangeNotifier) {
         this.sectionRepository = sectionRepository;
+        this.contentChangeNotifier = contentChangeNotifier;
     }
     
+    @Transactional
     public SectionResult handle(UpdateSectionCommand command) {
         // 1. Find section
         Section section = sectionRepository.findById(command.sectionId())
@@ -30,6 +37,7 @@ public class UpdateSectionCommandHandler {
         
         // 3. Save section
         Section savedSection = sectionRepository.save(section);
+        contentChangeNotifier.sectionChanged(savedSection);
         
         // 4. Return result
         return SectionResult.from(savedSection);
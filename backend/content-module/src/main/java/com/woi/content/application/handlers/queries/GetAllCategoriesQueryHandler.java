@@ -1,7 +1,9 @@
 package com.woi.content.application.handlers.queries;
 
 import com.woi.content.application.queries.GetAllCategoriesQuery;
+import com.woi.content.application.queries.KeysetPageRequest;
 import com.woi.content.application.results.CategoryResult;
+import com.woi.content.application.results.KeysetPage;
 import com.woi.content.domain.repositories.CategoryRepository;
 
 import java.util.List;
@@ -9,7 +11,7 @@ import java.util.stream.Collectors;
 import org.springframework.stereotype.Component;
 
 /**
- * Query handler for getting all categories
+ * Query handler for getting all categories (keyset-paginated on ID)
  */
 @Component
 public class GetAllCategoriesQueryHandler {
@@ -19,10 +21,12 @@ public class GetAllCategoriesQueryHandler {
         this.categoryRepository = categoryRepository;
     }
     
-    public List<CategoryResult> handle(GetAllCategoriesQuery query) {
-        return categoryRepository.findAll().stream()
+    public KeysetPage<CategoryResult> handle(GetAllCategoriesQuery query) {
+        KeysetPageRequest page = query.page();
+        // Fetch one extra row to detect whether there is a next page
+        List<CategoryResult> results = categoryRepository.findPage(page.afterId(), page.limit() + 1).stream()
             .map(CategoryResult::from)
             .collect(Collectors.toList());
+        return KeysetPage.of(results, page.limit(), category -> KeysetPageRequest.cursor(category.id()));
     }
 }
-
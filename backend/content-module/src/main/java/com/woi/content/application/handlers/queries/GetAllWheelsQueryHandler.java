@@ -2,26 +2,24 @@ package com.woi.content.application.handlers.queries;
 
 import com.woi.content.application.queries.GetAllWheelsQuery;
 import com.woi.content.application.results.WheelResult;
-import com.woi.content.domain.repositories.WheelRepository;
+import com.woi.content.application.services.PublishedContentSnapshotStore;
 
 import java.util.List;
-import java.util.stream.Collectors;
 import org.springframework.stereotype.Component;
 
 /**
  * Query handler for getting all wheels
+ * Wheels only change through migrations, so they are served from the PublishedContentSnapshot.
  */
 @Component
 public class GetAllWheelsQueryHandler {
-    private final WheelRepository wheelRepository;
+    private final PublishedContentSnapshotStore snapshotStore;
     
-    public GetAllWheelsQueryHandler(WheelRepository wheelRepository) {
-        this.wheelRepository = wheelRepository;
+    public GetAllWheelsQueryHandler(PublishedContentSnapshotStore snapshotStore) {
+        this.snapshotStore = snapshotStore;
     }
     
     public List<WheelResult> handle(GetAllWheelsQuery query) {
-        return wheelRepository.findAllOrderedByDisplayOrder().stream()
-            .map(WheelResult::from)
-            .collect(Collectors.toList());
+        return snapshotStore.current().getWheels();
     }
 }
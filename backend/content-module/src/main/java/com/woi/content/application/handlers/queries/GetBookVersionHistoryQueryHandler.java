@@ -1,7 +1,9 @@
 package com.woi.content.application.handlers.queries;
 
 import com.woi.content.application.queries.GetBookVersionHistoryQuery;
+import com.woi.content.application.queries.KeysetPageRequest;
 import com.woi.content.application.results.BookVersionResult;
+import com.woi.content.application.results.KeysetPage;
 import com.woi.content.domain.repositories.BookVersionRepository;
 import org.springframework.stereotype.Component;
 
@@ -10,6 +12,7 @@ import java.util.stream.Collectors;
 
 /**
  * Query handler for getting version history of a book
+ * Keyset-paginated on version number (newest first), so cost per page is independent of history length.
  */
 @Component
 public class GetBookVersionHistoryQueryHandler {
@@ -19,10 +22,13 @@ public class GetBookVersionHistoryQueryHandler {
         this.bookVersionRepository = bookVersionRepository;
     }
     
-    public List<BookVersionResult> handle(GetBookVersionHistoryQuery query) {
-        return bookVersionRepository.findByBookIdOrderByVersionNumberDesc(query.bookId()).stream()
+    public KeysetPage<BookVersionResult> handle(GetBookVersionHistoryQuery query) {
+        KeysetPageRequest page = query.page();
+        // Fetch one extra row to detect whether there is a next page
+        List<BookVersionResult> results = bookVersionRepository
+            .findPageByBookId(query.bookId(), page.afterPosition(), page.limit() + 1).stream()
             .map(BookVersionResult::from)
             .collect(Collectors.toList());
+        return KeysetPage.of(results, page.limit(), version -> KeysetPageRequest.cursor(version.versionNumber()));
     }
 }
-
@@ -1,7 +1,9 @@
 package com.woi.content.application.handlers.queries;
 
 import com.woi.content.application.queries.GetBooksByCategoryQuery;
+import com.woi.content.application.queries.KeysetPageRequest;
 import com.woi.content.application.results.BookResult;
+import com.woi.content.application.results.KeysetPage;
 import com.woi.content.domain.repositories.BookRepository;
 
 import java.util.List;
@@ -9,7 +11,7 @@ import java.util.stream.Collectors;
 import org.springframework.stereotype.Component;
 
 /**
- * Query handler for getting all books in a category
+ * Query handler for getting all books in a category (keyset-paginated on ID)
  */
 @Component
 public class GetBooksByCategoryQueryHandler {
@@ -19,10 +21,13 @@ public class GetBooksByCategoryQueryHandler {
         this.bookRepository = bookRepository;
     }
     
-    public List<BookResult> handle(GetBooksByCategoryQuery query) {
-        return bookRepository.findByCategoryId(query.categoryId()).stream()
+    public KeysetPage<BookResult> handle(GetBooksByCategoryQuery query) {
+        KeysetPageRequest page = query.page();
+        // Fetch one extra row to detect whether there is a next page
+        List<BookResult> results = bookRepository
+            .findPageByCategoryId(query.categoryId(), page.afterId(), page.limit() + 1).stream()
             .map(BookResult::from)
             .collect(Collectors.toList());
+        return KeysetPage.of(results, page.limit(), book -> KeysetPageRequest.cursor(book.id()));
     }
 }
-
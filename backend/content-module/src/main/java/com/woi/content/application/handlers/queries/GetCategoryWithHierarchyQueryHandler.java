@@ -1,14 +1,13 @@
 package com.woi.content.application.handlers.queries;
 
 import com.woi.content.application.queries.GetCategoryWithHierarchyQuery;
+import com.woi.content.application.services.ContentHierarchyLoader;
 import com.woi.content.api.CategorySummary;
-import com.woi.content.domain.entities.*;
-import com.woi.content.domain.enums.ContentStatusType;
-import com.woi.content.domain.repositories.*;
+import com.woi.content.domain.entities.Category;
+import com.woi.content.domain.repositories.CategoryRepository;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 import org.springframework.stereotype.Component;
 
 /**
@@ -16,34 +15,21 @@ import org.springframework.stereotype.Component;
  * 
  * Responsibilities:
  * - Load category with all children (books, chapters, sections, paragraphs)
- * - Load published versions for sections (or current if no published)
+ * - Load working versions for sections
  * - Build complete hierarchy
+ * 
+ * The hierarchy is loaded set-based (one query per level) by ContentHierarchyLoader.
  */
 @Component
 public class GetCategoryWithHierarchyQueryHandler {
     private final CategoryRepository categoryRepository;
-    private final BookRepository bookRepository;
-    private final ChapterRepository chapterRepository;
-    private final SectionRepository sectionRepository;
-    private final ParagraphRepository paragraphRepository;
-    private final SectionVersionRepository sectionVersionRepository;
-    private final ContentStatusRepository contentStatusRepository;
+    private final ContentHierarchyLoader contentHierarchyLoader;
     
     public GetCategoryWithHierarchyQueryHandler(
             CategoryRepository categoryRepository,
-            BookRepository bookRepository,
-            ChapterRepository chapterRepository,
-            SectionRepository sectionRepository,
-            ParagraphRepository paragraphRepository,
-            SectionVersionRepository sectionVersionRepository,
-            ContentStatusRepository contentStatusRepository) {
+            ContentHierarchyLoader contentHierarchyLoader) {
         this.categoryRepository = categoryRepository;
-        this.bookRepository = bookRepository;
-        this.chapterRepository = chapterRepository;
-        this.sectionRepository = sectionRepository;
-        this.paragraphRepository = paragraphRepository;
-        this.sectionVersionRepository = sectionVersionRepository;
-        this.contentStatusRepository = contentStatusRepository;
+        this.contentHierarchyLoader = contentHierarchyLoader;
     }
     
     public Optional<CategorySummary> handle(GetCategoryWithHierarchyQuery query) {
@@ -52,131 +38,9 @@ public class GetCategoryWithHierarchyQueryHandler {
         if (categoryOpt.isEmpty()) {
             return Optional.empty();
         }
-        Category category = categoryOpt.get();
-        
-        // 2. Load all books in category
-        List<Book> books = bookRepository.findByCategoryId(category.getId());
-        
-        // 3. Build book summaries with hierarchy
-        List<com.woi.content.api.BookSummary> bookSummaries = books.stream()
-            .map(book -> buildBookSummary(book))
-            .collect(Collectors.toList());
         
-        // 4. Build category summary
-        CategorySummary categorySummary = new CategorySummary(
-            category.getId(),
-            category.getTitleNl(),
-            category.getTitleEn(),
-            category.getSubtitleNl(),
-            category.getSubtitleEn(),
-            category.getDescriptionNl(),
-            category.getDescriptionEn(),
-            bookSummaries
-        );
-        
-        return Optional.of(categorySummary);
-    }
-    
-    private com.woi.content.api.BookSummary buildBookSummary(Book book) {
-        // Load chapters
-        List<Chapter> chapters = chapterRepository.findByBookId(book.getId());
-        
-        // Build chapter summaries
-        List<com.woi.content.api.ChapterSummary> chapterSummaries = chapters.stream()
-            .map(chapter -> buildChapterSummary(chapter))
-            .collect(Collectors.toList());
-        
-        return new com.woi.content.api.BookSummary(
-            book.getId(),
-            book.getCategoryId(),
-            book.getBookNumber(),
-            chapterSummaries
-        );
-    }
-    
-    private com.woi.content.api.ChapterSummary buildChapterSummary(Chapter chapter) {
-        // Load sections
-        List<Section> sections = sectionRepository.findByChapterId(chapter.getId());
-        
-        // Build section summaries
-        List<com.woi.content.api.SectionSummary> sectionSummaries = sections.stream()
-            .map(section -> buildSectionSummary(section))
-            .collect(Collectors.toList());
-        
-        return new com.woi.content.api.ChapterSummary(
-            chapter.getId(),
-            chapter.getBookId(),
-            chapter.getChapterNumber(),
-            chapter.getPosition(),
-            sectionSummaries
-        );
-    }
-    
-    private com.woi.content.api.SectionSummary buildSectionSummary(Section section) {
-        // Load paragraphs
-        List<Paragraph> paragraphs = paragraphRepository.findBySectionId(section.getId());
-        
-        // Build paragraph summaries
-        List<com.woi.content.api.ParagraphSummary> paragraphSummaries = paragraphs.stream()
-            .map(p -> new com.woi.content.api.ParagraphSummary(
-                p.getId(),
-                p.getSectionId(),
-                p.getParagraphNumber()
-            ))
-            .collect(Collectors.toList());
-        
-        // Try to load published version first, then current version
-        String titleEn = null;
-        String titleNl = null;
-        String introEn = null;
-        String introNl = null;
-        
-        // Check if section has published status
-        Optional<ContentStatus> statusOpt = contentStatusRepository.findByEntityTypeAndEntityId(
-            section.getEntityTypeForStatus(),
-            section.getId()
-        );
-        
-        if (statusOpt.isPresent() && statusOpt.get().getStatus() == ContentStatusType.PUBLISHED) {
-            // Load published version
-            if (section.getWorkingStatusSectionVersionId() != null) {
-                Optional<SectionVersion> versionOpt = sectionVersionRepository.findById(
-                    section.getWorkingStatusSectionVersionId()
-                );
-                if (versionOpt.isPresent()) {
-                    SectionVersion version = versionOpt.get();
-                    titleEn = version.getTitleEn();
-                    titleNl = version.getTitleNl();
-                    introEn = version.getIntroEn();
-                    introNl = version.getIntroNl();
-                }
-            }
-        } else {
-            // Load current version (fallback)
-            if (section.getWorkingStatusSectionVersionId() != null) {
-                Optional<SectionVersion> versionOpt = sectionVersionRepository.findById(
-                    section.getWorkingStatusSectionVersionId()
-                );
-                if (versionOpt.isPresent()) {
-                    SectionVersion version = versionOpt.get();
-                    titleEn = version.getTitleEn();
-                    titleNl = version.getTitleNl();
-                    introEn = version.getIntroEn();
-                    introNl = version.getIntroNl();
-                }
-            }
-        }
-        
-        return new com.woi.content.api.SectionSummary(
-            section.getId(),
-            section.getChapterId(),
-            section.getOrderIndex(),
-            titleEn,
-            titleNl,
-            introEn,
-            introNl,
-            paragraphSummaries
-        );
+        // 2. Load complete hierarchy and build category summary
+        return contentHierarchyLoader.loadHierarchy(List.of(categoryOpt.get())).stream()
+            .findFirst();
     }
 }
-
@@ -1,7 +1,9 @@
 package com.woi.content.application.handlers.queries;
 
 import com.woi.content.application.queries.GetChapterVersionHistoryQuery;
+import com.woi.content.application.queries.KeysetPageRequest;
 import com.woi.content.application.results.ChapterVersionResult;
+import com.woi.content.application.results.KeysetPage;
 import com.woi.content.domain.repositories.ChapterVersionRepository;
 import org.springframework.stereotype.Component;
 
@@ -10,6 +12,7 @@ import java.util.stream.Collectors;
 
 /**
  * Query handler for getting version history of a chapter
+ * Keyset-paginated on version number (newest first), so cost per page is independent of history length.
  */
 @Component
 public class GetChapterVersionHistoryQueryHandler {
@@ -19,10 +22,13 @@ public class GetChapterVersionHistoryQueryHandler {
         this.chapterVersionRepository = chapterVersionRepository;
     }
     
-    public List<ChapterVersionResult> handle(GetChapterVersionHistoryQuery query) {
-        return chapterVersionRepository.findByChapterIdOrderByVersionNumberDesc(query.chapterId()).stream()
+    public KeysetPage<ChapterVersionResult> handle(GetChapterVersionHistoryQuery query) {
+        KeysetPageRequest page = query.page();
+        // Fetch one extra row to detect whether there is a next page
+        List<ChapterVersionResult> results = chapterVersionRepository
+            .findPageByChapterId(query.chapterId(), page.afterPosition(), page.limit() + 1).stream()
             .map(ChapterVersionResult::from)
             .collect(Collectors.toList());
+        return KeysetPage.of(results, page.limit(), version -> KeysetPageRequest.cursor(version.versionNumber()));
     }
 }
-
@@ -1,7 +1,9 @@
 package com.woi.content.application.handlers.queries;
 
 import com.woi.content.application.queries.GetParagraphVersionHistoryQuery;
+import com.woi.content.application.queries.KeysetPageRequest;
 import com.woi.content.application.results.ParagraphVersionResult;
+import com.woi.content.application.results.KeysetPage;
 import com.woi.content.domain.repositories.ParagraphVersionRepository;
 import org.springframework.stereotype.Component;
 
@@ -10,6 +12,7 @@ import java.util.stream.Collectors;
 
 /**
  * Query handler for getting version history of a paragraph
+ * Keyset-paginated on version number (newest first), so cost per page is independent of history length.
  */
 @Component
 public class GetParagraphVersionHistoryQueryHandler {
@@ -19,10 +22,13 @@ public class GetParagraphVersionHistoryQueryHandler {
         this.paragraphVersionRepository = paragraphVersionRepository;
     }
     
-    public List<ParagraphVersionResult> handle(GetParagraphVersionHistoryQuery query) {
-        return paragraphVersionRepository.findByParagraphIdOrderByVersionNumberDesc(query.paragraphId()).stream()
+    public KeysetPage<ParagraphVersionResult> handle(GetParagraphVersionHistoryQuery query) {
+        KeysetPageRequest page = query.page();
+        // Fetch one extra row to detect whether there is a next page
+        List<ParagraphVersionResult> results = paragraphVersionRepository
+            .findPageByParagraphId(query.paragraphId(), page.afterPosition(), page.limit() + 1).stream()
             .map(ParagraphVersionResult::from)
             .collect(Collectors.toList());
+        return KeysetPage.of(results, page.limit(), version -> KeysetPageRequest.cursor(version.versionNumber()));
     }
 }
-
@@ -1,6 +1,8 @@
 package com.woi.content.application.handlers.queries;
 
 import com.woi.content.application.queries.GetParagraphsBySectionQuery;
+import com.woi.content.application.queries.KeysetPageRequest;
+import com.woi.content.application.results.KeysetPage;
 import com.woi.content.application.results.ParagraphResult;
 import com.woi.content.domain.repositories.ParagraphRepository;
 
@@ -9,7 +11,7 @@ import java.util.stream.Collectors;
 import org.springframework.stereotype.Component;
 
 /**
- * Query handler for getting all paragraphs in a section
+ * Query handler for getting all paragraphs in a section (keyset-paginated on paragraph number, ID)
  */
 @Component
 public class GetParagraphsBySectionQueryHandler {
@@ -19,10 +21,14 @@ public class GetParagraphsBySectionQueryHandler {
         this.paragraphRepository = paragraphRepository;
     }
     
-    public List<ParagraphResult> handle(GetParagraphsBySectionQuery query) {
-        return paragraphRepository.findBySectionId(query.sectionId()).stream()
+    public KeysetPage<ParagraphResult> handle(GetParagraphsBySectionQuery query) {
+        KeysetPageRequest page = query.page();
+        // Fetch one extra row to detect whether there is a next page
+        List<ParagraphResult> results = paragraphRepository
+            .findPageBySectionId(query.sectionId(), page.afterPosition(), page.afterId(), page.limit() + 1).stream()
             .map(ParagraphResult::from)
             .collect(Collectors.toList());
+        return KeysetPage.of(results, page.limit(),
+            paragraph -> KeysetPageRequest.cursor(paragraph.paragraphNumber(), paragraph.id()));
     }
 }
-
@@ -2,46 +2,26 @@ package com.woi.content.application.handlers.queries;
 
 import com.woi.content.application.queries.GetPublicBooksByCategoryQuery;
 import com.woi.content.application.results.BookResult;
-import com.woi.content.domain.entities.Book;
-import com.woi.content.domain.entities.ContentStatus;
-import com.woi.content.domain.enums.ContentStatusType;
-import com.woi.content.domain.repositories.BookRepository;
-import com.woi.content.domain.repositories.ContentStatusRepository;
+import com.woi.content.application.services.PublishedContentSnapshotStore;
 
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
 import org.springframework.stereotype.Component;
 
 /**
  * Query handler for getting all published books in a category
  * Only returns books with PUBLISHED status
+ * 
+ * Reads from the in-memory PublishedContentSnapshot (no database access).
  */
 @Component
 public class GetPublicBooksByCategoryQueryHandler {
-    private final BookRepository bookRepository;
-    private final ContentStatusRepository contentStatusRepository;
+    private final PublishedContentSnapshotStore snapshotStore;
     
-    public GetPublicBooksByCategoryQueryHandler(
-            BookRepository bookRepository,
-            ContentStatusRepository contentStatusRepository) {
-        this.bookRepository = bookRepository;
-        this.contentStatusRepository = contentStatusRepository;
+    public GetPublicBooksByCategoryQueryHandler(PublishedContentSnapshotStore snapshotStore) {
+        this.snapshotStore = snapshotStore;
     }
     
     public List<BookResult> handle(GetPublicBooksByCategoryQuery query) {
-        // Load all books in category
-        List<Book> books = bookRepository.findByCategoryId(query.categoryId());
-        
-        // Filter to only include books with PUBLISHED status
-        return books.stream()
-            .filter(book -> {
-                Optional<ContentStatus> statusOpt = contentStatusRepository
-                    .findByEntityTypeAndEntityId(book.getEntityTypeForStatus(), book.getId());
-                return statusOpt.isPresent() && statusOpt.get().getStatus() == ContentStatusType.PUBLISHED;
-            })
-            .map(BookResult::from)
-            .collect(Collectors.toList());
+        return snapshotStore.current().getPublishedBooks(query.categoryId());
     }
 }
-
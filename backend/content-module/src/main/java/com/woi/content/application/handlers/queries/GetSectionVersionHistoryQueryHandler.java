@@ -1,7 +1,9 @@
 package com.woi.content.application.handlers.queries;
 
 import com.woi.content.application.queries.GetSectionVersionHistoryQuery;
+import com.woi.content.application.queries.KeysetPageRequest;
 import com.woi.content.application.results.SectionVersionResult;
+import com.woi.content.application.results.KeysetPage;
 import com.woi.content.domain.repositories.SectionVersionRepository;
 import org.springframework.stereotype.Component;
 
@@ -10,6 +12,7 @@ import java.util.stream.Collectors;
 
 /**
  * Query handler for getting version history of a section
+ * Keyset-paginated on version number (newest first), so cost per page is independent of history length.
  */
 @Component
 public class GetSectionVersionHistoryQueryHandler {
@@ -19,10 +22,13 @@ public class GetSectionVersionHistoryQueryHandler {
         this.sectionVersionRepository = sectionVersionRepository;
     }
     
-    public List<SectionVersionResult> handle(GetSectionVersionHistoryQuery query) {
-        return sectionVersionRepository.findBySectionIdOrderByVersionNumberDesc(query.sectionId()).stream()
+    public KeysetPage<SectionVersionResult> handle(GetSectionVersionHistoryQuery query) {
+        KeysetPageRequest page = query.page();
+        // Fetch one extra row to detect whether there is a next page
+        List<SectionVersionResult> results = sectionVersionRepository
+            .findPageBySectionId(query.sectionId(), page.afterPosition(), page.limit() + 1).stream()
             .map(SectionVersionResult::from)
             .collect(Collectors.toList());
+        return KeysetPage.of(results, page.limit(), version -> KeysetPageRequest.cursor(version.versionNumber()));
     }
 }
-
@@ -1,8 +1,14 @@
 package com.woi.content.application.queries;
 
 /**
- * Query for getting all categories
+ * Query for getting one page of all categories (ordered by ID)
  */
-public record GetAllCategoriesQuery() {
+public record GetAllCategoriesQuery(
+    KeysetPageRequest page
+) {
+    public GetAllCategoriesQuery {
+        if (page == null) {
+            page = KeysetPageRequest.firstPage();
+        }
+    }
 }
-
@@ -1,8 +1,12 @@
 package com.woi.content.application.queries;
 
 /**
- * Query to get version history for a book
+ * Query to get one page of the version history for a book (newest version first)
  */
-public record GetBookVersionHistoryQuery(Long bookId) {
+public record GetBookVersionHistoryQuery(Long bookId, KeysetPageRequest page) {
+    public GetBookVersionHistoryQuery {
+        if (page == null) {
+            page = KeysetPageRequest.firstPage();
+        }
+    }
 }
-
@@ -1,15 +1,18 @@
 package com.woi.content.application.queries;
 
 /**
- * Query for getting all books in a category
+ * Query for getting one page of the books in a category (ordered by ID)
  */
 public record GetBooksByCategoryQuery(
-    Long categoryId
+    Long categoryId,
+    KeysetPageRequest page
 ) {
     public GetBooksByCategoryQuery {
         if (categoryId == null) {
             throw new IllegalArgumentException("Category ID cannot be null");
         }
+        if (page == null) {
+            page = KeysetPageRequest.firstPage();
+        }
     }
 }
-
@@ -1,8 +1,12 @@
 package com.woi.content.application.queries;
 
 /**
- * Query to get version history for a chapter
+ * Query to get one page of the version history for a chapter (newest version first)
  */
-public record GetChapterVersionHistoryQuery(Long chapterId) {
+public record GetChapterVersionHistoryQuery(Long chapterId, KeysetPageRequest page) {
+    public GetChapterVersionHistoryQuery {
+        if (page == null) {
+            page = KeysetPageRequest.firstPage();
+        }
+    }
 }
-
@@ -1,8 +1,12 @@
 package com.woi.content.application.queries;
 
 /**
- * Query to get version history for a paragraph
+ * Query to get one page of the version history for a paragraph (newest version first)
  */
-public record GetParagraphVersionHistoryQuery(Long paragraphId) {
+public record GetParagraphVersionHistoryQuery(Long paragraphId, KeysetPageRequest page) {
+    public GetParagraphVersionHistoryQuery {
+        if (page == null) {
+            page = KeysetPageRequest.firstPage();
+        }
+    }
 }
-
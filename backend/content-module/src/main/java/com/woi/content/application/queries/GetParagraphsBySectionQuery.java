@@ -1,15 +1,18 @@
 package com.woi.content.application.queries;
 
 /**
- * Query for getting all paragraphs in a section
+ * Query for getting one page of the paragraphs in a section (ordered by paragraph number)
  */
 public record GetParagraphsBySectionQuery(
-    Long sectionId
+    Long sectionId,
+    KeysetPageRequest page
 ) {
     public GetParagraphsBySectionQuery {
         if (sectionId == null) {
             throw new IllegalArgumentException("Section ID cannot be null");
         }
+        if (page == null) {
+            page = KeysetPageRequest.firstPage();
+        }
     }
 }
-
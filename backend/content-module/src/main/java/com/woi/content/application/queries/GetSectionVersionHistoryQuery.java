@@ -1,8 +1,12 @@
 package com.woi.content.application.queries;
 
 /**
- * Query to get version history for a section
+ * Query to get one page of the version history for a section (newest version first)
  */
-public record GetSectionVersionHistoryQuery(Long sectionId) {
+public record GetSectionVersionHistoryQuery(Long sectionId, KeysetPageRequest page) {
+    public GetSectionVersionHistoryQuery {
+        if (page == null) {
+            page = KeysetPageRequest.firstPage();
+        }
+    }
 }
-
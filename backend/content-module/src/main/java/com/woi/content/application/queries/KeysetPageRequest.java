@@ -0,0 +1,81 @@
+package com.woi.content.application.queries;
+
+import java.util.regex.Pattern;
+
+/**
+ * Keyset (cursor) page request for content list queries
+ *
+ * The cursor is the sort key of the last item of the previous page, as returned in
+ * KeysetPage.nextCursor(): a single key ("17": an ID or version number) or a position/ID pair ("3:17").
+ * Page size defaults to DEFAULT_LIMIT and is capped at MAX_LIMIT.
+ */
+public record KeysetPageRequest(
+    String after,  // null = first page
+    int limit
+) {
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 200;
+
+    private static final Pattern CURSOR = Pattern.compile("-?\\d{1,18}(:-?\\d{1,18})?");
+
+    public KeysetPageRequest {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        if (after != null && after.isBlank()) {
+            after = null;
+        }
+        if (after != null && !CURSOR.matcher(after).matches()) {
+            throw new IllegalArgumentException("Invalid cursor: " + after);
+        }
+        limit = Math.min(limit, MAX_LIMIT);
+    }
+
+    public static KeysetPageRequest of(String after, Integer limit) {
+        return new KeysetPageRequest(after, limit != null ? limit : DEFAULT_LIMIT);
+    }
+
+    public static KeysetPageRequest firstPage() {
+        return new KeysetPageRequest(null, DEFAULT_LIMIT);
+    }
+
+    /**
+     * @return ID of the cursor (its last key), or null for the first page
+     */
+    public Long afterId() {
+        if (after == null) {
+            return null;
+        }
+        return Long.parseLong(after.substring(after.indexOf(':') + 1));
+    }
+
+    /**
+     * @return Position of the cursor (its first key, e.g. paragraph or version number), or null for the first page
+     */
+    public Integer afterPosition() {
+        if (after == null) {
+            return null;
+        }
+        int separator = after.indexOf(':');
+        long position = Long.parseLong(separator < 0 ? after : after.substring(0, separator));
+        if (position < Integer.MIN_VALUE || position > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid cursor: " + after);
+        }
+        return (int) position;
+    }
+
+    public static String cursor(Number key) {
+        return String.valueOf(key);
+    }
+
+    public static String cursor(Integer position, Long id) {
+        return position + ":" + id;
+    }
+
+    /**
+     * Variant key for ETags, so different pages never share an ETag
+     */
+    public String variant() {
+        return (after != null ? after : "") + "/" + limit;
+    }
+}
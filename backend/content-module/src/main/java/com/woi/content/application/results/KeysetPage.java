@@ -0,0 +1,38 @@
+package com.woi.content.application.results;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated content list
+ *
+ * @param items Items of this page, in sort order
+ * @param nextCursor Cursor for the next page, or null if this is the last page
+ */
+public record KeysetPage<T>(
+    List<T> items,
+    String nextCursor
+) {
+    public KeysetPage {
+        items = List.copyOf(items);
+    }
+
+    /**
+     * Build a page from a fetch of (limit + 1) rows: the extra row only signals that another page exists
+     *
+     * @param fetched Rows fetched with limit + 1
+     * @param limit Requested page size
+     * @param cursorOf Cursor of an item (its sort key)
+     */
+    public static <T> KeysetPage<T> of(List<T> fetched, int limit, Function<T, String> cursorOf) {
+        if (fetched.size() <= limit) {
+            return new KeysetPage<>(fetched, null);
+        }
+        List<T> items = fetched.subList(0, limit);
+        return new KeysetPage<>(items, cursorOf.apply(items.get(limit - 1)));
+    }
+
+    public <R> KeysetPage<R> map(Function<T, R> mapper) {
+        return new KeysetPage<>(items.stream().map(mapper).toList(), nextCursor);
+    }
+}
@@ -0,0 +1,113 @@
+package com.woi.content.application.services;
+
+import com.woi.content.application.events.ContentChangedEvent;
+import com.woi.content.domain.entities.Book;
+import com.woi.content.domain.entities.Category;
+import com.woi.content.domain.entities.Chapter;
+import com.woi.content.domain.entities.Paragraph;
+import com.woi.content.domain.entities.Section;
+import com.woi.content.domain.repositories.BookRepository;
+import com.woi.content.domain.repositories.ChapterRepository;
+import com.woi.content.domain.repositories.ParagraphRepository;
+import com.woi.content.domain.repositories.SectionRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Publishes ContentChangedEvent for content command handlers
+ * 
+ * Responsibilities:
+ * - Resolve the category that owns a changed book/chapter/section/paragraph
+ * - Publish the event (listeners run after the command's transaction commits)
+ * 
+ * Call this before deleting an entity, so the owning category can still be resolved.
+ */
+@Component
+public class ContentChangeNotifier {
+    private final BookRepository bookRepository;
+    private final ChapterRepository chapterRepository;
+    private final SectionRepository sectionRepository;
+    private final ParagraphRepository paragraphRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    public ContentChangeNotifier(
+            BookRepository bookRepository,
+            ChapterRepository chapterRepository,
+            SectionRepository sectionRepository,
+            ParagraphRepository paragraphRepository,
+            ApplicationEventPublisher eventPublisher) {
+        this.bookRepository = bookRepository;
+        this.chapterRepository = chapterRepository;
+        this.sectionRepository = sectionRepository;
+        this.paragraphRepository = paragraphRepository;
+        this.eventPublisher = eventPublisher;
+    }
+    
+    public void categoryChanged(Category category) {
+        publish(new ContentChangedEvent(category.getId(), "category", category.getId(), null));
+    }
+    
+    public void bookChanged(Book book) {
+        publish(new ContentChangedEvent(book.getCategoryId(), "book", book.getId(), book.getCategoryId()));
+    }
+    
+    public void chapterChanged(Chapter chapter) {
+        publish(new ContentChangedEvent(
+            categoryIdOfBook(chapter.getBookId()).orElse(null),
+            "chapter", chapter.getId(), chapter.getBookId()));
+    }
+    
+    public void sectionChanged(Section section) {
+        publish(new ContentChangedEvent(
+            categoryIdOfChapter(section.getChapterId()).orElse(null),
+            "section", section.getId(), section.getChapterId()));
+    }
+    
+    public void paragraphChanged(Paragraph paragraph) {
+        publish(new ContentChangedEvent(
+            categoryIdOfSection(paragraph.getSectionId()).orElse(null),
+            "paragraph", paragraph.getId(), paragraph.getSectionId()));
+    }
+    
+    /**
+     * Publish a change for a polymorphic entity reference (as used by ContentStatus)
+     * 
+     * @param entityType Entity type ('book', 'chapter', 'section', 'paragraph')
+     * @param entityId Entity ID
+     */
+    public void entityChanged(String entityType, Long entityId) {
+        Optional<Runnable> notification = switch (entityType) {
+            case "book" -> bookRepository.findById(entityId).map(book -> () -> bookChanged(book));
+            case "chapter" -> chapterRepository.findById(entityId).map(chapter -> () -> chapterChanged(chapter));
+            case "section" -> sectionRepository.findById(entityId).map(section -> () -> sectionChanged(section));
+            case "paragraph" -> paragraphRepository.findById(entityId).map(paragraph -> () -> paragraphChanged(paragraph));
+            default -> Optional.empty();
+        };
+        notification.ifPresentOrElse(
+            Runnable::run,
+            () -> publish(ContentChangedEvent.unresolved(entityType, entityId)));
+    }
+    
+    private void publish(ContentChangedEvent event) {
+        eventPublisher.publishEvent(event);
+    }
+    
+    private Optional<Long> categoryIdOfBook(Long bookId) {
+        return bookRepository.findById(bookId)
+            .map(Book::getCategoryId);
+    }
+    
+    private Optional<Long> categoryIdOfChapter(Long chapterId) {
+        return chapterRepository.findById(chapterId)
+            .map(Chapter::getBookId)
+            .flatMap(this::categoryIdOfBook);
+    }
+    
+    private Optional<Long> categoryIdOfSection(Long sectionId) {
+        return sectionRepository.findById(sectionId)
+            .map(Section::getChapterId)
+            .flatMap(this::categoryIdOfChapter);
+    }
+}
@@ -0,0 +1,214 @@
+package com.woi.content.application.services;
+
+import com.woi.content.api.BookSummary;
+import com.woi.content.api.CategorySummary;
+import com.woi.content.api.ChapterSummary;
+import com.woi.content.api.ParagraphSummary;
+import com.woi.content.api.SectionSummary;
+import com.woi.content.domain.entities.*;
+import com.woi.content.domain.enums.ContentStatusType;
+import com.woi.content.domain.repositories.*;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Set-based loader for the Category → Book → Chapter → Section → Paragraph hierarchy
+ *
+ * Responsibilities:
+ * - Load each level of the hierarchy with one batched (IN-list) query
+ * - Resolve PUBLISHED status per level in one query
+ * - Assemble CategorySummary → BookSummary → ChapterSummary → SectionSummary in memory
+ *
+ * The number of queries is fixed per call, independent of the size of the catalogue.
+ */
+@Component
+public class ContentHierarchyLoader {
+    private static final String CATEGORY_ENTITY_TYPE = "category";
+    private static final String SECTION_ENTITY_TYPE = "section";
+
+    private final BookRepository bookRepository;
+    private final ChapterRepository chapterRepository;
+    private final SectionRepository sectionRepository;
+    private final ParagraphRepository paragraphRepository;
+    private final SectionVersionRepository sectionVersionRepository;
+    private final ContentStatusRepository contentStatusRepository;
+
+    public ContentHierarchyLoader(
+            BookRepository bookRepository,
+            ChapterRepository chapterRepository,
+            SectionRepository sectionRepository,
+            ParagraphRepository paragraphRepository,
+            SectionVersionRepository sectionVersionRepository,
+            ContentStatusRepository contentStatusRepository) {
+        this.bookRepository = bookRepository;
+        this.chapterRepository = chapterRepository;
+        this.sectionRepository = sectionRepository;
+        this.paragraphRepository = paragraphRepository;
+        this.sectionVersionRepository = sectionVersionRepository;
+        this.contentStatusRepository = contentStatusRepository;
+    }
+
+    /**
+     * Load the complete hierarchy for the given categories (all content, regardless of status)
+     *
+     * @param categories Categories to load the hierarchy for
+     * @return Category summaries in the order of the given categories
+     */
+    public List<CategorySummary> loadHierarchy(List<Category> categories) {
+        return buildHierarchy(categories, false);
+    }
+
+    /**
+     * Load the public hierarchy for the given categories
+     * Only PUBLISHED categories and sections are included; books, chapters and categories
+     * without published sections are left out.
+     *
+     * @param categories Categories to load the hierarchy for
+     * @return Category summaries with only PUBLISHED content
+     */
+    public List<CategorySummary> loadPublishedHierarchy(List<Category> categories) {
+        Set<Long> publishedCategoryIds = findPublishedIds(
+            CATEGORY_ENTITY_TYPE, ids(categories, Category::getId));
+
+        List<Category> publishedCategories = categories.stream()
+            .filter(category -> publishedCategoryIds.contains(category.getId()))
+            .collect(Collectors.toList());
+
+        return buildHierarchy(publishedCategories, true);
+    }
+
+    private List<CategorySummary> buildHierarchy(List<Category> categories, boolean publishedOnly) {
+        if (categories.isEmpty()) {
+            return List.of();
+        }
+
+        // 1. Load each level in one query
+        List<Book> books = bookRepository.findByCategoryIdIn(ids(categories, Category::getId));
+        List<Chapter> chapters = chapterRepository.findByBookIdIn(ids(books, Book::getId));
+        List<Section> sections = sectionRepository.findByChapterIdIn(ids(chapters, Chapter::getId));
+
+        // 2. Filter sections on PUBLISHED status (one query)
+        if (publishedOnly) {
+            Set<Long> publishedSectionIds = findPublishedIds(SECTION_ENTITY_TYPE, ids(sections, Section::getId));
+            sections = sections.stream()
+                .filter(section -> publishedSectionIds.contains(section.getId()))
+                .collect(Collectors.toList());
+        }
+
+        List<Paragraph> paragraphs = paragraphRepository.findBySectionIdIn(ids(sections, Section::getId));
+        Map<Long, SectionVersion> versionsById = sectionVersionRepository.findByIdIn(
+                ids(sections, Section::getWorkingStatusSectionVersionId)).stream()
+            .collect(Collectors.toMap(SectionVersion::getId, Function.identity()));
+
+        // 3. Group children by parent ID (query order is preserved within each group)
+        Map<Long, List<Book>> booksByCategory = books.stream()
+            .collect(Collectors.groupingBy(Book::getCategoryId));
+        Map<Long, List<Chapter>> chaptersByBook = chapters.stream()
+            .collect(Collectors.groupingBy(Chapter::getBookId));
+        Map<Long, List<Section>> sectionsByChapter = sections.stream()
+            .collect(Collectors.groupingBy(Section::getChapterId));
+        Map<Long, List<Paragraph>> paragraphsBySection = paragraphs.stream()
+            .collect(Collectors.groupingBy(Paragraph::getSectionId));
+
+        // 4. Assemble summaries bottom-up
+        List<CategorySummary> categorySummaries = new ArrayList<>();
+        for (Category category : categories) {
+            List<BookSummary> bookSummaries = new ArrayList<>();
+            for (Book book : booksByCategory.getOrDefault(category.getId(), List.of())) {
+                List<ChapterSummary> chapterSummaries = new ArrayList<>();
+                for (Chapter chapter : chaptersByBook.getOrDefault(book.getId(), List.of())) {
+                    List<SectionSummary> sectionSummaries = sectionsByChapter
+                        .getOrDefault(chapter.getId(), List.of()).stream()
+                        .map(section -> toSectionSummary(
+                            section,
+                            paragraphsBySection.getOrDefault(section.getId(), List.of()),
+                            versionsById.get(section.getWorkingStatusSectionVersionId())))
+                        .collect(Collectors.toList());
+
+                    // Only include chapters with published sections
+                    if (publishedOnly && sectionSummaries.isEmpty()) {
+                        continue;
+                    }
+                    chapterSummaries.add(new ChapterSummary(
+                        chapter.getId(),
+                        chapter.getBookId(),
+                        chapter.getChapterNumber(),
+                        chapter.getPosition(),
+                        sectionSummaries
+                    ));
+                }
+
+                // Only include books with published chapters
+                if (publishedOnly && chapterSummaries.isEmpty()) {
+                    continue;
+                }
+                bookSummaries.add(new BookSummary(
+                    book.getId(),
+                    book.getCategoryId(),
+                    book.getBookNumber(),
+                    chapterSummaries
+                ));
+            }
+
+            // Only include categories with published books
+            if (publishedOnly && bookSummaries.isEmpty()) {
+                continue;
+            }
+            categorySummaries.add(new CategorySummary(
+                category.getId(),
+                category.getTitleNl(),
+                category.getTitleEn(),
+                category.getSubtitleNl(),
+                category.getSubtitleEn(),
+                category.getDescriptionNl(),
+                category.getDescriptionEn(),
+                bookSummaries
+            ));
+        }
+
+        return categorySummaries;
+    }
+
+    private SectionSummary toSectionSummary(Section section, List<Paragraph> paragraphs, SectionVersion version) {
+        List<ParagraphSummary> paragraphSummaries = paragraphs.stream()
+            .map(p -> new ParagraphSummary(
+                p.getId(),
+                p.getSectionId(),
+                p.getParagraphNumber()
+            ))
+            .collect(Collectors.toList());
+
+        return new SectionSummary(
+            section.getId(),
+            section.getChapterId(),
+            section.getOrderIndex(),
+            version != null ? version.getTitleEn() : null,
+            version != null ? version.getTitleNl() : null,
+            version != null ? version.getIntroEn() : null,
+            version != null ? version.getIntroNl() : null,
+            paragraphSummaries
+        );
+    }
+
+    private Set<Long> findPublishedIds(String entityType, List<Long> entityIds) {
+        return contentStatusRepository.findStatusesByEntityTypeAndEntityIds(entityType, entityIds).entrySet().stream()
+            .filter(entry -> entry.getValue() == ContentStatusType.PUBLISHED)
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toSet());
+    }
+
+    private static <T> List<Long> ids(List<T> items, Function<T, Long> idExtractor) {
+        return items.stream()
+            .map(idExtractor)
+            .filter(Objects::nonNull)
+            .distinct()
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,104 @@
+package com.woi.content.application.services;
+
+import com.woi.content.application.events.ContentChangedEvent;
+import com.woi.content.domain.repositories.ContentRevisionRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-aggregate content revision counters, used for strong ETags on the content read endpoints that
+ * query the database (responses served from the PublishedContentSnapshot use its version instead)
+ *
+ * Every aggregate (the list of categories, the books of a category, the chapters of a book, ...)
+ * has a revision counter that is incremented by every content command that changes it
+ * (ContentChangedEvent). An unchanged ETag therefore means the response is unchanged, without
+ * running the query: building an ETag is one primary key lookup.
+ *
+ * Rules:
+ * - A change of an entity bumps the list it is part of and its own list of children
+ * - Category and book changes (incl. cascading deletes) bump the generation, invalidating all ETags
+ * - Every change also bumps the "all" counter (contentRevision()), which instances poll to refresh
+ *   their PublishedContentSnapshot. Its key sorts first, so a command takes it before any other
+ *   counter and concurrent content commands never lock counters in opposite orders
+ * - Counters are persisted (ContentRevisionRepository) and incremented in the command's transaction,
+ *   so all instances see a change as soon as it is committed, and counters survive restarts
+ * - Startup bumps the generation and "all", so content changed by migrations (or outside the
+ *   application) never matches an ETag from before, and running instances reload their snapshot
+ */
+@Component
+public class ContentRevisionTracker {
+    public static final String CATEGORIES = "categories";
+
+    private static final String ALL = "all";
+    private static final String GENERATION = "generation";
+
+    private final ContentRevisionRepository contentRevisionRepository;
+
+    public ContentRevisionTracker(ContentRevisionRepository contentRevisionRepository) {
+        this.contentRevisionRepository = contentRevisionRepository;
+    }
+
+    public static String chaptersOfBook(Long bookId) {
+        return "book:" + bookId;
+    }
+
+    public static String sectionsOfChapter(Long chapterId) {
+        return "chapter:" + chapterId;
+    }
+
+    public static String paragraphsOfSection(Long sectionId) {
+        return "section:" + sectionId;
+    }
+
+    /**
+     * Build a strong ETag for an aggregate
+     *
+     * @param aggregateKey Aggregate key (see constants and static key methods)
+     * @param variant Representation variant (e.g. "all"), so different views never share an ETag
+     * @return Quoted ETag value
+     */
+    public String etag(String aggregateKey, String variant) {
+        Map<String, Long> revisions = contentRevisionRepository.findRevisions(List.of(GENERATION, aggregateKey));
+        return "\"" + revisions.getOrDefault(GENERATION, 0L) + "-" + revisions.getOrDefault(aggregateKey, 0L)
+            + "-" + variant + "\"";
+    }
+
+    /**
+     * @return Revision of all content: changes with every committed content command
+     */
+    public long contentRevision() {
+        return contentRevisionRepository.findRevisions(List.of(ALL)).getOrDefault(ALL, 0L);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bumpGenerationOnStartup() {
+        contentRevisionRepository.increment(List.of(ALL, GENERATION));
+    }
+
+    /**
+     * Runs just before the command's transaction commits, so the change and its new revision
+     * become visible together (without a transaction: right away)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        contentRevisionRepository.increment(changedAggregates(event));
+    }
+
+    private static List<String> changedAggregates(ContentChangedEvent event) {
+        if (event.affectsAllCategories()) {
+            return List.of(ALL, GENERATION);
+        }
+        return switch (event.entityType()) {
+            case "chapter" -> List.of(ALL, chaptersOfBook(event.parentId()), sectionsOfChapter(event.entityId()));
+            case "section" -> List.of(ALL, sectionsOfChapter(event.parentId()), paragraphsOfSection(event.entityId()));
+            case "paragraph" -> List.of(ALL, paragraphsOfSection(event.parentId()));
+            default -> List.of(ALL, GENERATION); // category, book and anything unknown
+        };
+    }
+}
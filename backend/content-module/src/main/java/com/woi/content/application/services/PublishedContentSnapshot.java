@@ -0,0 +1,155 @@
+package com.woi.content.application.services;
+
+import com.woi.content.api.CategorySummary;
+import com.woi.content.application.results.BookResult;
+import com.woi.content.application.results.ChapterResult;
+import com.woi.content.application.results.ParagraphResult;
+import com.woi.content.application.results.SectionResult;
+import com.woi.content.application.results.WheelResult;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable snapshot of all PUBLISHED content (wheels, categories, books, chapters, sections, paragraphs)
+ *
+ * The snapshot is partitioned per category, so a change below one category only
+ * rebuilds that partition (see withCategory/withoutCategory). Instances are never
+ * modified after construction and can be read without locking.
+ *
+ * Every snapshot has a version (see PublishedContentSnapshotStore), used in the ETags of
+ * responses served from it: two snapshots with the same version have the same content.
+ */
+public final class PublishedContentSnapshot {
+
+    /**
+     * Published content below one category
+     *
+     * @param categoryId Category ID
+     * @param publicSummary Public hierarchy of the category, or null if the category is not PUBLISHED
+     *                      or has no published content
+     * @param books PUBLISHED books in this category
+     * @param chaptersByBook PUBLISHED chapters per book
+     * @param sectionsByChapter PUBLISHED sections per chapter
+     * @param paragraphsBySection PUBLISHED paragraphs per section
+     */
+    public record CategoryPartition(
+        Long categoryId,
+        CategorySummary publicSummary,
+        List<BookResult> books,
+        Map<Long, List<ChapterResult>> chaptersByBook,
+        Map<Long, List<SectionResult>> sectionsByChapter,
+        Map<Long, List<ParagraphResult>> paragraphsBySection
+    ) {
+        public CategoryPartition {
+            if (categoryId == null) {
+                throw new IllegalArgumentException("Category ID cannot be null");
+            }
+            books = List.copyOf(books);
+            chaptersByBook = Map.copyOf(chaptersByBook);
+            sectionsByChapter = Map.copyOf(sectionsByChapter);
+            paragraphsBySection = Map.copyOf(paragraphsBySection);
+        }
+    }
+
+    private static final PublishedContentSnapshot EMPTY = new PublishedContentSnapshot("0", List.of(), Map.of());
+
+    private final String version;
+    private final List<WheelResult> wheels;
+    private final Map<Long, CategoryPartition> partitions;  // Ordered by category ID
+
+    // Derived read indexes (built once per snapshot)
+    private final List<CategorySummary> publicCategories;
+    private final Map<Long, List<ChapterResult>> chaptersByBook;
+    private final Map<Long, List<SectionResult>> sectionsByChapter;
+    private final Map<Long, List<ParagraphResult>> paragraphsBySection;
+
+    private PublishedContentSnapshot(String version, List<WheelResult> wheels, Map<Long, CategoryPartition> partitions) {
+        this.version = version;
+        this.wheels = List.copyOf(wheels);
+        this.partitions = Collections.unmodifiableMap(new TreeMap<>(partitions));
+
+        List<CategorySummary> categories = new ArrayList<>();
+        Map<Long, List<ChapterResult>> chapters = new HashMap<>();
+        Map<Long, List<SectionResult>> sections = new HashMap<>();
+        Map<Long, List<ParagraphResult>> paragraphs = new HashMap<>();
+        for (CategoryPartition partition : this.partitions.values()) {
+            if (partition.publicSummary() != null) {
+                categories.add(partition.publicSummary());
+            }
+            chapters.putAll(partition.chaptersByBook());
+            sections.putAll(partition.sectionsByChapter());
+            paragraphs.putAll(partition.paragraphsBySection());
+        }
+        this.publicCategories = List.copyOf(categories);
+        this.chaptersByBook = Map.copyOf(chapters);
+        this.sectionsByChapter = Map.copyOf(sections);
+        this.paragraphsBySection = Map.copyOf(paragraphs);
+    }
+
+    public static PublishedContentSnapshot empty() {
+        return EMPTY;
+    }
+
+    public static PublishedContentSnapshot of(String version, List<WheelResult> wheels, List<CategoryPartition> partitions) {
+        Map<Long, CategoryPartition> byCategory = new HashMap<>();
+        for (CategoryPartition partition : partitions) {
+            byCategory.put(partition.categoryId(), partition);
+        }
+        return new PublishedContentSnapshot(version, wheels, byCategory);
+    }
+
+    /**
+     * @return New snapshot (with the given version) with the partition of this category replaced (or added)
+     */
+    public PublishedContentSnapshot withCategory(CategoryPartition partition, String version) {
+        Map<Long, CategoryPartition> updated = new HashMap<>(partitions);
+        updated.put(partition.categoryId(), partition);
+        return new PublishedContentSnapshot(version, wheels, updated);
+    }
+
+    /**
+     * @return New snapshot (with the given version) without the partition of this category (e.g. after it was deleted)
+     */
+    public PublishedContentSnapshot withoutCategory(Long categoryId, String version) {
+        if (!partitions.containsKey(categoryId)) {
+            return this;
+        }
+        Map<Long, CategoryPartition> updated = new HashMap<>(partitions);
+        updated.remove(categoryId);
+        return new PublishedContentSnapshot(version, wheels, updated);
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public List<WheelResult> getWheels() {
+        return wheels;
+    }
+
+    public List<CategorySummary> getPublicCategories() {
+        return publicCategories;
+    }
+
+    public List<BookResult> getPublishedBooks(Long categoryId) {
+        CategoryPartition partition = partitions.get(categoryId);
+        return partition != null ? partition.books() : List.of();
+    }
+
+    public List<ChapterResult> getPublishedChapters(Long bookId) {
+        return chaptersByBook.getOrDefault(bookId, List.of());
+    }
+
+    public List<SectionResult> getPublishedSections(Long chapterId) {
+        return sectionsByChapter.getOrDefault(chapterId, List.of());
+    }
+
+    public List<ParagraphResult> getPublishedParagraphs(Long sectionId) {
+        return paragraphsBySection.getOrDefault(sectionId, List.of());
+    }
+}
@@ -0,0 +1,265 @@
+package com.woi.content.application.services;
+
+import com.woi.content.api.CategorySummary;
+import com.woi.content.application.events.ContentChangedEvent;
+import com.woi.content.application.results.BookResult;
+import com.woi.content.application.results.ChapterResult;
+import com.woi.content.application.results.ParagraphResult;
+import com.woi.content.application.results.SectionResult;
+import com.woi.content.application.results.WheelResult;
+import com.woi.content.application.services.PublishedContentSnapshot.CategoryPartition;
+import com.woi.content.domain.entities.*;
+import com.woi.content.domain.enums.ContentStatusType;
+import com.woi.content.domain.repositories.*;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Holds the current PublishedContentSnapshot for the public read path
+ *
+ * Responsibilities:
+ * - Build the full snapshot at startup
+ * - Rebuild only the affected category partition when a content command commits (ContentChangedEvent)
+ * - Every content.snapshot.refresh-interval-seconds, compare the persisted content revision
+ *   (ContentRevisionTracker.contentRevision()) with the one the snapshot was built from, and rebuild
+ *   the full snapshot if it changed. Changes made by other instances (whose events are not seen here)
+ *   or outside the application show after at most that time (0 disables the check: single instance only)
+ * - Swap the new snapshot in atomically
+ *
+ * Versions (for ETags): a full build is versioned with the content revision read before its queries.
+ * A partition rebuild after a local change gets a version of its own (built revision, instance and
+ * change number), as no other instance has that content; the next check replaces it with a full build.
+ *
+ * Reads (current()) are lock-free and never touch the database. Rebuilds are serialized.
+ */
+@Component
+public class PublishedContentSnapshotStore {
+    private static final Logger log = LoggerFactory.getLogger(PublishedContentSnapshotStore.class);
+
+    private final WheelRepository wheelRepository;
+    private final CategoryRepository categoryRepository;
+    private final BookRepository bookRepository;
+    private final ChapterRepository chapterRepository;
+    private final SectionRepository sectionRepository;
+    private final ParagraphRepository paragraphRepository;
+    private final ContentStatusRepository contentStatusRepository;
+    private final ContentHierarchyLoader contentHierarchyLoader;
+    private final ContentRevisionTracker contentRevisionTracker;
+    private final long refreshIntervalSeconds;
+    private final String instanceId = UUID.randomUUID().toString().substring(0, 8);
+    private final ScheduledExecutorService refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "published-content-snapshot-refresher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile PublishedContentSnapshot snapshot;
+    private long builtRevision; // Guarded by this: content revision of the last full build
+    private long localChanges; // Guarded by this: partition rebuilds since then
+
+    public PublishedContentSnapshotStore(
+            WheelRepository wheelRepository,
+            CategoryRepository categoryRepository,
+            BookRepository bookRepository,
+            ChapterRepository chapterRepository,
+            SectionRepository sectionRepository,
+            ParagraphRepository paragraphRepository,
+            ContentStatusRepository contentStatusRepository,
+            ContentHierarchyLoader contentHierarchyLoader,
+            ContentRevisionTracker contentRevisionTracker,
+            @Value("${content.snapshot.refresh-interval-seconds:30}") long refreshIntervalSeconds) {
+        if (refreshIntervalSeconds < 0) {
+            throw new IllegalArgumentException("content.snapshot.refresh-interval-seconds cannot be negative");
+        }
+        this.wheelRepository = wheelRepository;
+        this.categoryRepository = categoryRepository;
+        this.bookRepository = bookRepository;
+        this.chapterRepository = chapterRepository;
+        this.sectionRepository = sectionRepository;
+        this.paragraphRepository = paragraphRepository;
+        this.contentStatusRepository = contentStatusRepository;
+        this.contentHierarchyLoader = contentHierarchyLoader;
+        this.contentRevisionTracker = contentRevisionTracker;
+        this.refreshIntervalSeconds = refreshIntervalSeconds;
+    }
+
+    /**
+     * @return Current snapshot (built on first use if startup has not loaded it yet)
+     */
+    public PublishedContentSnapshot current() {
+        PublishedContentSnapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    rebuildFullSnapshot();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void loadOnStartup() {
+        rebuildFullSnapshot();
+        if (refreshIntervalSeconds > 0) {
+            refresher.scheduleWithFixedDelay(this::refresh, refreshIntervalSeconds, refreshIntervalSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    /**
+     * Rebuild the affected part of the snapshot after a content command committed
+     * Runs in its own read-only transaction, after the command's transaction (if any) has committed.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public synchronized void onContentChanged(ContentChangedEvent event) {
+        if (snapshot == null || event.affectsAllCategories()) {
+            rebuildFullSnapshot();
+            return;
+        }
+
+        String version = builtRevision + "-" + instanceId + "-" + (++localChanges);
+        snapshot = categoryRepository.findById(event.categoryId())
+            .map(category -> snapshot.withCategory(buildPartitions(List.of(category)).get(0), version))
+            .orElseGet(() -> snapshot.withoutCategory(event.categoryId(), version));
+    }
+
+    /**
+     * Periodic check; a failure keeps the current snapshot until the next interval
+     */
+    private void refresh() {
+        try {
+            synchronized (this) {
+                if (contentRevisionTracker.contentRevision() != builtRevision) {
+                    rebuildFullSnapshot();
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Refreshing the published content snapshot failed; the next interval retries it", e);
+        }
+    }
+
+    /**
+     * Caller holds the lock
+     */
+    private void rebuildFullSnapshot() {
+        // Read before the queries: every change up to this revision has committed
+        long revision = contentRevisionTracker.contentRevision();
+        List<WheelResult> wheels = wheelRepository.findAllOrderedByDisplayOrder().stream()
+            .map(WheelResult::from)
+            .collect(Collectors.toList());
+        snapshot = PublishedContentSnapshot.of(String.valueOf(revision), wheels, buildPartitions(categoryRepository.findAll()));
+        builtRevision = revision;
+        localChanges = 0;
+    }
+
+    /**
+     * Build partitions for the given categories with a fixed number of queries
+     * (one per level plus one status lookup per level), independent of catalogue size.
+     */
+    private List<CategoryPartition> buildPartitions(List<Category> categories) {
+        // 1. Public hierarchy (PUBLISHED categories and sections only)
+        Map<Long, CategorySummary> summariesByCategory = contentHierarchyLoader.loadPublishedHierarchy(categories)
+            .stream()
+            .collect(Collectors.toMap(CategorySummary::id, Function.identity()));
+
+        // 2. All children per level, filtered on their own PUBLISHED status
+        List<Book> books = bookRepository.findByCategoryIdIn(ids(categories, Category::getId));
+        List<Chapter> chapters = chapterRepository.findByBookIdIn(ids(books, Book::getId));
+        List<Section> sections = sectionRepository.findByChapterIdIn(ids(chapters, Chapter::getId));
+        List<Paragraph> paragraphs = paragraphRepository.findBySectionIdIn(ids(sections, Section::getId));
+
+        Set<Long> publishedBookIds = findPublishedIds("book", ids(books, Book::getId));
+        Set<Long> publishedChapterIds = findPublishedIds("chapter", ids(chapters, Chapter::getId));
+        Set<Long> publishedSectionIds = findPublishedIds("section", ids(sections, Section::getId));
+        Set<Long> publishedParagraphIds = findPublishedIds("paragraph", ids(paragraphs, Paragraph::getId));
+
+        // 3. Resolve the owning category of every child
+        Map<Long, Long> categoryIdByBook = books.stream()
+            .collect(Collectors.toMap(Book::getId, Book::getCategoryId));
+        Map<Long, Long> categoryIdByChapter = chapters.stream()
+            .collect(Collectors.toMap(Chapter::getId, chapter -> categoryIdByBook.get(chapter.getBookId())));
+        Map<Long, Long> categoryIdBySection = sections.stream()
+            .collect(Collectors.toMap(Section::getId, section -> categoryIdByChapter.get(section.getChapterId())));
+
+        Map<Long, List<BookResult>> booksByCategory = books.stream()
+            .filter(book -> publishedBookIds.contains(book.getId()))
+            .map(BookResult::from)
+            .collect(Collectors.groupingBy(BookResult::categoryId));
+        Map<Long, Map<Long, List<ChapterResult>>> chaptersByCategory = chapters.stream()
+            .filter(chapter -> publishedChapterIds.contains(chapter.getId()))
+            .map(ChapterResult::from)
+            .collect(Collectors.groupingBy(
+                chapter -> categoryIdByBook.get(chapter.bookId()),
+                Collectors.groupingBy(ChapterResult::bookId)));
+        Map<Long, Map<Long, List<SectionResult>>> sectionsByCategory = sections.stream()
+            .filter(section -> publishedSectionIds.contains(section.getId()))
+            .map(SectionResult::from)
+            .collect(Collectors.groupingBy(
+                section -> categoryIdByChapter.get(section.chapterId()),
+                Collectors.groupingBy(SectionResult::chapterId)));
+        Map<Long, Map<Long, List<ParagraphResult>>> paragraphsByCategory = paragraphs.stream()
+            .filter(paragraph -> publishedParagraphIds.contains(paragraph.getId()))
+            .map(ParagraphResult::from)
+            .collect(Collectors.groupingBy(
+                paragraph -> categoryIdBySection.get(paragraph.sectionId()),
+                Collectors.groupingBy(ParagraphResult::sectionId)));
+
+        // 4. One partition per category
+        return categories.stream()
+            .map(category -> new CategoryPartition(
+                category.getId(),
+                summariesByCategory.get(category.getId()),
+                booksByCategory.getOrDefault(category.getId(), List.of()),
+                immutableValues(chaptersByCategory.getOrDefault(category.getId(), Map.of())),
+                immutableValues(sectionsByCategory.getOrDefault(category.getId(), Map.of())),
+                immutableValues(paragraphsByCategory.getOrDefault(category.getId(), Map.of()))
+            ))
+            .collect(Collectors.toList());
+    }
+
+    private Set<Long> findPublishedIds(String entityType, List<Long> entityIds) {
+        return contentStatusRepository.findStatusesByEntityTypeAndEntityIds(entityType, entityIds).entrySet().stream()
+            .filter(entry -> entry.getValue() == ContentStatusType.PUBLISHED)
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toSet());
+    }
+
+    private static <T> Map<Long, List<T>> immutableValues(Map<Long, List<T>> map) {
+        return map.entrySet().stream()
+            .collect(Collectors.toMap(Map.Entry::getKey, entry -> List.copyOf(entry.getValue())));
+    }
+
+    private static <T> List<Long> ids(List<T> items, Function<T, Long> idExtractor) {
+        return items.stream()
+            .map(idExtractor)
+            .filter(Objects::nonNull)
+            .distinct()
+            .collect(Collectors.toList());
+    }
+}
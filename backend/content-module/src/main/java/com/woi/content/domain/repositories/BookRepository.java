@@ -12,6 +12,8 @@ import java.util.Optional;
 public interface BookRepository {
     Optional<Book> findById(Long id);
     List<Book> findByCategoryId(Long categoryId);
+    List<Book> findPageByCategoryId(Long categoryId, Long afterId, int limit);  // Ordered by ID
+    List<Book> findByCategoryIdIn(List<Long> categoryIds);
     Book save(Book book);
     void delete(Book book);
 }
@@ -13,6 +13,7 @@ public interface BookVersionRepository {
     Optional<BookVersion> findById(Long id);
     Optional<BookVersion> findByBookIdAndVersionNumber(Long bookId, Integer versionNumber);
     List<BookVersion> findByBookIdOrderByVersionNumberDesc(Long bookId);
+    List<BookVersion> findPageByBookId(Long bookId, Integer beforeVersionNumber, int limit);  // Newest first
     Optional<BookVersion> findLatestByBookId(Long bookId);
     BookVersion save(BookVersion bookVersion);
     void delete(BookVersion bookVersion);
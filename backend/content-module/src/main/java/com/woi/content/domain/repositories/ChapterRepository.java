@@ -12,6 +12,7 @@ import java.util.Optional;
 public interface ChapterRepository {
     Optional<Chapter> findById(Long id);
     List<Chapter> findByBookId(Long bookId);
+    List<Chapter> findByBookIdIn(List<Long> bookIds);
     Chapter save(Chapter chapter);
     void delete(Chapter chapter);
 }
@@ -13,6 +13,7 @@ public interface ChapterVersionRepository {
     Optional<ChapterVersion> findById(Long id);
     Optional<ChapterVersion> findByChapterIdAndVersionNumber(Long chapterId, Integer versionNumber);
     List<ChapterVersion> findByChapterIdOrderByVersionNumberDesc(Long chapterId);
+    List<ChapterVersion> findPageByChapterId(Long chapterId, Integer beforeVersionNumber, int limit);  // Newest first
     Optional<ChapterVersion> findLatestByChapterId(Long chapterId);
     ChapterVersion save(ChapterVersion chapterVersion);
     void delete(ChapterVersion chapterVersion);
@@ -0,0 +1,21 @@
+package com.woi.content.domain.repositories;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Content revision repository interface - Domain layer
+ * Persisted revision counters of content aggregates (see ContentRevisionTracker).
+ * Pure Java interface (no Spring Data dependencies)
+ */
+public interface ContentRevisionRepository {
+    /**
+     * @return Current revision per key (keys that were never incremented are absent)
+     */
+    Map<String, Long> findRevisions(List<String> aggregateKeys);
+
+    /**
+     * Increment the revision of each key by one, in the caller's transaction (a new key starts at 1)
+     */
+    void increment(List<String> aggregateKeys);
+}
@@ -3,6 +3,8 @@ package com.woi.content.domain.repositories;
 import com.woi.content.domain.entities.ContentStatus;
 import com.woi.content.domain.enums.ContentStatusType;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -11,6 +13,16 @@ import java.util.Optional;
  */
 public interface ContentStatusRepository {
     Optional<ContentStatus> findByEntityTypeAndEntityId(String entityType, Long entityId);
+
+    /**
+     * Resolve the status of many entities of one type in a single query
+     *
+     * @param entityType Entity type (e.g. "section")
+     * @param entityIds Entity IDs
+     * @return Status per entity ID; entities without a status row are absent
+     */
+    Map<Long, ContentStatusType> findStatusesByEntityTypeAndEntityIds(String entityType, Collection<Long> entityIds);
+
     ContentStatus save(ContentStatus contentStatus);
     void delete(ContentStatus contentStatus);
 }
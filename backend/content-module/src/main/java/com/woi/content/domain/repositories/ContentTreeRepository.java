@@ -0,0 +1,13 @@
+package com.woi.content.domain.repositories;
+
+/**
+ * Content tree repository interface - Domain layer
+ * Set-based deletes of a complete subtree (category → book → chapter → section → paragraph),
+ * including the version, status and review rows of every deleted entity.
+ * Pure Java interface (no Spring Data dependencies)
+ */
+public interface ContentTreeRepository {
+    void deleteCategoryTree(Long categoryId);
+    void deleteBookTree(Long bookId);
+    void deleteChapterTree(Long chapterId);
+}
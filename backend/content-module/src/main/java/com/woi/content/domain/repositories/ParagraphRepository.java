@@ -12,6 +12,8 @@ import java.util.Optional;
 public interface ParagraphRepository {
     Optional<Paragraph> findById(Long id);
     List<Paragraph> findBySectionId(Long sectionId);
+    List<Paragraph> findPageBySectionId(Long sectionId, Integer afterParagraphNumber, Long afterId, int limit);  // Ordered by paragraph number, ID
+    List<Paragraph> findBySectionIdIn(List<Long> sectionIds);
     Paragraph save(Paragraph paragraph);
     void delete(Paragraph paragraph);
 }
@@ -13,6 +13,7 @@ public interface ParagraphVersionRepository {
     Optional<ParagraphVersion> findById(Long id);
     Optional<ParagraphVersion> findByParagraphIdAndVersionNumber(Long paragraphId, Integer versionNumber);
     List<ParagraphVersion> findByParagraphIdOrderByVersionNumberDesc(Long paragraphId);
+    List<ParagraphVersion> findPageByParagraphId(Long paragraphId, Integer beforeVersionNumber, int limit);  // Newest first
     Optional<ParagraphVersion> findLatestByParagraphId(Long paragraphId);
     ParagraphVersion save(ParagraphVersion paragraphVersion);
     void delete(ParagraphVersion paragraphVersion);
@@ -12,6 +12,7 @@ import java.util.Optional;
 public interface SectionRepository {
     Optional<Section> findById(Long id);
     List<Section> findByChapterId(Long chapterId);
+    List<Section> findByChapterIdIn(List<Long> chapterIds);
     Section save(Section section);
     void delete(Section section);
 }
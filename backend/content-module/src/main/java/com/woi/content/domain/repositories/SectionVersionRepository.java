@@ -11,8 +11,10 @@ import java.util.Optional;
  */
 public interface SectionVersionRepository {
     Optional<SectionVersion> findById(Long id);
+    List<SectionVersion> findByIdIn(List<Long> ids);
     Optional<SectionVersion> findBySectionIdAndVersionNumber(Long sectionId, Integer versionNumber);
     List<SectionVersion> findBySectionIdOrderByVersionNumberDesc(Long sectionId);
+    List<SectionVersion> findPageBySectionId(Long sectionId, Integer beforeVersionNumber, int limit);  // Newest first
     Optional<SectionVersion> findLatestBySectionId(Long sectionId);
     SectionVersion save(SectionVersion sectionVersion);
     void delete(SectionVersion sectionVersion);
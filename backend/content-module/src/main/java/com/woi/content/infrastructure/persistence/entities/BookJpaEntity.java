@@ -11,7 +11,8 @@ import java.time.LocalDateTime;
 public class BookJpaEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "content.books_id_seq")
+    @SequenceGenerator(name = "content.books_id_seq", schema = "content", sequenceName = "books_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
     
@@ -11,7 +11,8 @@ import java.time.LocalDateTime;
 public class BookVersionJpaEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "content.book_versions_id_seq")
+    @SequenceGenerator(name = "content.book_versions_id_seq", schema = "content", sequenceName = "book_versions_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
     
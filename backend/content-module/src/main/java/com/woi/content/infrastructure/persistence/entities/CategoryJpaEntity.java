@@ -11,7 +11,8 @@ import java.time.LocalDateTime;
 public class CategoryJpaEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "content.categories_id_seq")
+    @SequenceGenerator(name = "content.categories_id_seq", schema = "content", sequenceName = "categories_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
     
@@ -11,7 +11,8 @@ import java.time.LocalDateTime;
 public class ChapterJpaEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "content.chapters_id_seq")
+    @SequenceGenerator(name = "content.chapters_id_seq", schema = "content", sequenceName = "chapters_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
     
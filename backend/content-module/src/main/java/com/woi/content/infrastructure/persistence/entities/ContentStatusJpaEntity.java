@@ -12,7 +12,8 @@ import java.time.LocalDateTime;
 public class ContentStatusJpaEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "content.content_status_id_seq")
+    @SequenceGenerator(name = "content.content_status_id_seq", schema = "content", sequenceName = "content_status_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
     
@@ -11,7 +11,8 @@ import java.time.LocalDateTime;
 public class ParagraphJpaEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "content.paragraphs_id_seq")
+    @SequenceGenerator(name = "content.paragraphs_id_seq", schema = "content", sequenceName = "paragraphs_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
     
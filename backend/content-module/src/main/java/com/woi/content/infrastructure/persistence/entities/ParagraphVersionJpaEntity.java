@@ -11,7 +11,8 @@ import java.time.LocalDateTime;
 public class ParagraphVersionJpaEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "content.paragraph_versions_id_seq")
+    @SequenceGenerator(name = "content.paragraph_versions_id_seq", schema = "content", sequenceName = "paragraph_versions_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
     
@@ -11,7 +11,8 @@ import java.time.LocalDateTime;
 public class ReviewCommentJpaEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "content.review_comments_id_seq")
+    @SequenceGenerator(name = "content.review_comments_id_seq", schema = "content", sequenceName = "review_comments_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
     
@@ -11,7 +11,8 @@ import java.time.LocalDateTime;
 public class ReviewJpaEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "content.reviews_id_seq")
+    @SequenceGenerator(name = "content.reviews_id_seq", schema = "content", sequenceName = "reviews_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
     
@@ -11,7 +11,8 @@ import java.time.LocalDateTime;
 public class ReviewableItemJpaEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "content.reviewable_items_id_seq")
+    @SequenceGenerator(name = "content.reviewable_items_id_seq", schema = "content", sequenceName = "reviewable_items_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
     
@@ -11,7 +11,8 @@ import java.time.LocalDateTime;
 public class SectionJpaEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "content.sections_id_seq")
+    @SequenceGenerator(name = "content.sections_id_seq", schema = "content", sequenceName = "sections_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
     
@@ -12,7 +12,8 @@ import java.time.LocalDateTime;
 public class WheelJpaEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "content.wheels_id_seq")
+    @SequenceGenerator(name = "content.wheels_id_seq", schema = "content", sequenceName = "wheels_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
     
@@ -1,6 +1,7 @@
 package com.woi.content.infrastructure.persistence.repositories;
 
 import com.woi.content.infrastructure.persistence.entities.BookJpaEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -13,5 +14,11 @@ import java.util.List;
 public interface BookJpaRepository extends JpaRepository<BookJpaEntity, Long> {
     
     List<BookJpaEntity> findByCategoryId(Long categoryId);
+    
+    List<BookJpaEntity> findByCategoryIdOrderByIdAsc(Long categoryId, Pageable pageable);
+    
+    List<BookJpaEntity> findByCategoryIdAndIdGreaterThanOrderByIdAsc(Long categoryId, Long id, Pageable pageable);
+    
+    List<BookJpaEntity> findByCategoryIdInOrderById(List<Long> categoryIds);
 }
 
@@ -4,6 +4,7 @@ import com.woi.content.domain.entities.Book;
 import com.woi.content.domain.repositories.BookRepository;
 import com.woi.content.infrastructure.persistence.entities.BookJpaEntity;
 import com.woi.content.infrastructure.persistence.mappers.BookEntityMapper;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,6 +39,29 @@ public class BookRepositoryImpl implements BookRepository {
             .collect(Collectors.toList());
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public List<Book> findPageByCategoryId(Long categoryId, Long afterId, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        List<BookJpaEntity> entities = afterId == null
+            ? jpaRepository.findByCategoryIdOrderByIdAsc(categoryId, page)
+            : jpaRepository.findByCategoryIdAndIdGreaterThanOrderByIdAsc(categoryId, afterId, page);
+        return entities.stream()
+            .map(BookEntityMapper::toDomain)
+            .collect(Collectors.toList());
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<Book> findByCategoryIdIn(List<Long> categoryIds) {
+        if (categoryIds == null || categoryIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findByCategoryIdInOrderById(categoryIds).stream()
+            .map(BookEntityMapper::toDomain)
+            .collect(Collectors.toList());
+    }
+    
     @Override
     @Transactional
     public Book save(Book book) {
@@ -1,6 +1,7 @@
 package com.woi.content.infrastructure.persistence.repositories;
 
 import com.woi.content.infrastructure.persistence.entities.BookVersionJpaEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -15,6 +16,11 @@ public interface BookVersionJpaRepository extends JpaRepository<BookVersionJpaEn
     
     List<BookVersionJpaEntity> findByBookIdOrderByVersionNumberDesc(Long bookId);
     
+    List<BookVersionJpaEntity> findByBookIdOrderByVersionNumberDesc(Long bookId, Pageable pageable);
+    
+    List<BookVersionJpaEntity> findByBookIdAndVersionNumberLessThanOrderByVersionNumberDesc(
+        Long bookId, Integer versionNumber, Pageable pageable);
+    
     Optional<BookVersionJpaEntity> findByBookIdAndVersionNumber(Long bookId, Integer versionNumber);
     
     Optional<BookVersionJpaEntity> findFirstByBookIdOrderByVersionNumberDesc(Long bookId);
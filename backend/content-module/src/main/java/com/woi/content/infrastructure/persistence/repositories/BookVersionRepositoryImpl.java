@@ -4,6 +4,7 @@ import com.woi.content.domain.entities.BookVersion;
 import com.woi.content.domain.repositories.BookVersionRepository;
 import com.woi.content.infrastructure.persistence.entities.BookVersionJpaEntity;
 import com.woi.content.infrastructure.persistence.mappers.BookVersionEntityMapper;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -45,6 +46,18 @@ public class BookVersionRepositoryImpl implements BookVersionRepository {
             .collect(Collectors.toList());
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public List<BookVersion> findPageByBookId(Long bookId, Integer beforeVersionNumber, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        List<BookVersionJpaEntity> entities = beforeVersionNumber == null
+            ? jpaRepository.findByBookIdOrderByVersionNumberDesc(bookId, page)
+            : jpaRepository.findByBookIdAndVersionNumberLessThanOrderByVersionNumberDesc(bookId, beforeVersionNumber, page);
+        return entities.stream()
+            .map(BookVersionEntityMapper::toDomain)
+            .collect(Collectors.toList());
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public Optional<BookVersion> findLatestByBookId(Long bookId) {
@@ -1,6 +1,7 @@
 package com.woi.content.infrastructure.persistence.repositories;
 
 import com.woi.content.infrastructure.persistence.entities.CategoryJpaEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -14,5 +15,7 @@ import java.util.Optional;
 public interface CategoryJpaRepository extends JpaRepository<CategoryJpaEntity, Long> {
     Optional<CategoryJpaEntity> findByCategoryNumber(Integer categoryNumber);
     List<CategoryJpaEntity> findByWheelId(Long wheelId);
+    List<CategoryJpaEntity> findAllByOrderByIdAsc(Pageable pageable);
+    List<CategoryJpaEntity> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
 }
 
@@ -4,6 +4,7 @@ import com.woi.content.domain.entities.Category;
 import com.woi.content.domain.repositories.CategoryRepository;
 import com.woi.content.infrastructure.persistence.entities.CategoryJpaEntity;
 import com.woi.content.infrastructure.persistence.mappers.CategoryEntityMapper;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -45,6 +46,18 @@ public class CategoryRepositoryImpl implements CategoryRepository {
             .collect(Collectors.toList());
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public List<Category> findPage(Long afterId, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        List<CategoryJpaEntity> entities = afterId == null
+            ? jpaRepository.findAllByOrderByIdAsc(page)
+            : jpaRepository.findByIdGreaterThanOrderByIdAsc(afterId, page);
+        return entities.stream()
+            .map(CategoryEntityMapper::toDomain)
+            .collect(Collectors.toList());
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public List<Category> findByWheelId(Long wheelId) {
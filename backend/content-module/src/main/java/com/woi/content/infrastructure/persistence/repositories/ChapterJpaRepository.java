@@ -13,5 +13,7 @@ import java.util.List;
 public interface ChapterJpaRepository extends JpaRepository<ChapterJpaEntity, Long> {
     
     List<ChapterJpaEntity> findByBookId(Long bookId);
+    
+    List<ChapterJpaEntity> findByBookIdInOrderById(List<Long> bookIds);
 }
 
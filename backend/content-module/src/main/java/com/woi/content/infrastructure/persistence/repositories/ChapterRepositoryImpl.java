@@ -38,6 +38,17 @@ public class ChapterRepositoryImpl implements ChapterRepository {
             .collect(Collectors.toList());
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public List<Chapter> findByBookIdIn(List<Long> bookIds) {
+        if (bookIds == null || bookIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findByBookIdInOrderById(bookIds).stream()
+            .map(ChapterEntityMapper::toDomain)
+            .collect(Collectors.toList());
+    }
+    
     @Override
     @Transactional
     public Chapter save(Chapter chapter) {
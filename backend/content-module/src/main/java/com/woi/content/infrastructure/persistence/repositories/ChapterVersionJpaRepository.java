@@ -1,6 +1,7 @@
 package com.woi.content.infrastructure.persistence.repositories;
 
 import com.woi.content.infrastructure.persistence.entities.ChapterVersionJpaEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -15,6 +16,11 @@ public interface ChapterVersionJpaRepository extends JpaRepository<ChapterVersio
     
     List<ChapterVersionJpaEntity> findByChapterIdOrderByVersionNumberDesc(Long chapterId);
     
+    List<ChapterVersionJpaEntity> findByChapterIdOrderByVersionNumberDesc(Long chapterId, Pageable pageable);
+    
+    List<ChapterVersionJpaEntity> findByChapterIdAndVersionNumberLessThanOrderByVersionNumberDesc(
+        Long chapterId, Integer versionNumber, Pageable pageable);
+    
     Optional<ChapterVersionJpaEntity> findByChapterIdAndVersionNumber(Long chapterId, Integer versionNumber);
     
     Optional<ChapterVersionJpaEntity> findFirstByChapterIdOrderByVersionNumberDesc(Long chapterId);
@@ -4,6 +4,7 @@ import com.woi.content.domain.entities.ChapterVersion;
 import com.woi.content.domain.repositories.ChapterVersionRepository;
 import com.woi.content.infrastructure.persistence.entities.ChapterVersionJpaEntity;
 import com.woi.content.infrastructure.persistence.mappers.ChapterVersionEntityMapper;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -45,6 +46,18 @@ public class ChapterVersionRepositoryImpl implements ChapterVersionRepository {
             .collect(Collectors.toList());
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public List<ChapterVersion> findPageByChapterId(Long chapterId, Integer beforeVersionNumber, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        List<ChapterVersionJpaEntity> entities = beforeVersionNumber == null
+            ? jpaRepository.findByChapterIdOrderByVersionNumberDesc(chapterId, page)
+            : jpaRepository.findByChapterIdAndVersionNumberLessThanOrderByVersionNumberDesc(chapterId, beforeVersionNumber, page);
+        return entities.stream()
+            .map(ChapterVersionEntityMapper::toDomain)
+            .collect(Collectors.toList());
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public Optional<ChapterVersion> findLatestByChapterId(Long chapterId) {
@@ -0,0 +1,165 @@
+package com.woi.content.infrastructure.persistence.repositories;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Cursor-based JDBC reader for the export of a complete category hierarchy
+ *
+ * The hierarchy (book → chapter → section → paragraph, with the working version of each)
+ * is read as one flattened, ordered result set. With a fetch size inside a transaction the
+ * PostgreSQL driver reads it through a server-side cursor, so only FETCH_SIZE rows are held
+ * in memory at a time, independent of the size of the category.
+ */
+@Repository
+public class ContentHierarchyExportJdbcRepository {
+    private static final int FETCH_SIZE = 500;
+
+    private static final String CATEGORY_SQL = """
+        SELECT id, title_nl, title_en, subtitle_nl, subtitle_en, description_nl, description_en
+        FROM content.categories
+        WHERE id = ?
+        """;
+
+    private static final String HIERARCHY_SQL = """
+        SELECT b.id AS book_id, b.book_number,
+               bv.title_en AS book_title_en, bv.title_nl AS book_title_nl,
+               bv.intro_en AS book_intro_en, bv.intro_nl AS book_intro_nl,
+               c.id AS chapter_id, c.chapter_number, c.position,
+               cv.title_en AS chapter_title_en, cv.title_nl AS chapter_title_nl,
+               cv.intro_en AS chapter_intro_en, cv.intro_nl AS chapter_intro_nl,
+               s.id AS section_id, s.section_number,
+               sv.title_en AS section_title_en, sv.title_nl AS section_title_nl,
+               sv.intro_en AS section_intro_en, sv.intro_nl AS section_intro_nl,
+               p.id AS paragraph_id, p.paragraph_number,
+               pv.title_en AS paragraph_title_en, pv.title_nl AS paragraph_title_nl,
+               pv.content_en AS paragraph_content_en, pv.content_nl AS paragraph_content_nl
+        FROM content.books b
+        LEFT JOIN content.book_versions bv ON bv.id = b.working_status_bookversion_id
+        LEFT JOIN content.chapters c ON c.book_id = b.id
+        LEFT JOIN content.chapter_versions cv ON cv.id = c.working_status_chapterversion_id
+        LEFT JOIN content.sections s ON s.chapter_id = c.id
+        LEFT JOIN content.section_versions sv ON sv.id = s.working_status_sectionversion_id
+        LEFT JOIN content.paragraphs p ON p.section_id = s.id
+        LEFT JOIN content.paragraph_versions pv ON pv.id = p.working_status_paragraphversion_id
+        WHERE b.category_id = ?
+        ORDER BY b.id, c.position, c.id, s.section_number, s.id, p.paragraph_number, p.id
+        """;
+
+    public record CategoryRow(Long id, String titleNl, String titleEn, String subtitleNl, String subtitleEn,
+                              String descriptionNl, String descriptionEn) {}
+
+    public record BookRow(Long id, Integer bookNumber, String titleEn, String titleNl,
+                          String introEn, String introNl) {}
+
+    public record ChapterRow(Long id, Integer chapterNumber, Integer position, String titleEn, String titleNl,
+                             String introEn, String introNl) {}
+
+    public record SectionRow(Long id, Integer orderIndex, String titleEn, String titleNl,
+                             String introEn, String introNl) {}
+
+    public record ParagraphRow(Long id, Integer paragraphNumber, String titleEn, String titleNl,
+                               String contentEn, String contentNl) {}
+
+    /**
+     * One row of the flattened hierarchy; chapter, section and paragraph are null where a level has no children
+     */
+    public record HierarchyRow(BookRow book, ChapterRow chapter, SectionRow section, ParagraphRow paragraph) {}
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ContentHierarchyExportJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Stream the hierarchy of a category, ordered by book, chapter position, section number and paragraph number
+     * The transaction stays open while the consumer runs (required for the server-side cursor).
+     *
+     * @param categoryId Category ID
+     * @param header Receives the category before any hierarchy row
+     * @param consumer Receives every hierarchy row, in order
+     * @return false if the category does not exist (nothing is streamed)
+     */
+    @Transactional(readOnly = true)
+    public boolean streamCategoryHierarchy(Long categoryId, Consumer<CategoryRow> header, Consumer<HierarchyRow> consumer) {
+        Optional<CategoryRow> category = findCategory(categoryId);
+        if (category.isEmpty()) {
+            return false;
+        }
+        header.accept(category.get());
+
+        RowCallbackHandler rowHandler = rs -> consumer.accept(new HierarchyRow(
+            new BookRow(
+                rs.getLong("book_id"),
+                getInteger(rs, "book_number"),
+                rs.getString("book_title_en"),
+                rs.getString("book_title_nl"),
+                rs.getString("book_intro_en"),
+                rs.getString("book_intro_nl")),
+            getLong(rs, "chapter_id") == null ? null : new ChapterRow(
+                rs.getLong("chapter_id"),
+                getInteger(rs, "chapter_number"),
+                getInteger(rs, "position"),
+                rs.getString("chapter_title_en"),
+                rs.getString("chapter_title_nl"),
+                rs.getString("chapter_intro_en"),
+                rs.getString("chapter_intro_nl")),
+            getLong(rs, "section_id") == null ? null : new SectionRow(
+                rs.getLong("section_id"),
+                getInteger(rs, "section_number"),
+                rs.getString("section_title_en"),
+                rs.getString("section_title_nl"),
+                rs.getString("section_intro_en"),
+                rs.getString("section_intro_nl")),
+            getLong(rs, "paragraph_id") == null ? null : new ParagraphRow(
+                rs.getLong("paragraph_id"),
+                getInteger(rs, "paragraph_number"),
+                rs.getString("paragraph_title_en"),
+                rs.getString("paragraph_title_nl"),
+                rs.getString("paragraph_content_en"),
+                rs.getString("paragraph_content_nl"))
+        ));
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                HIERARCHY_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(FETCH_SIZE);
+            statement.setLong(1, categoryId);
+            return statement;
+        }, rowHandler);
+        return true;
+    }
+
+    private Optional<CategoryRow> findCategory(Long categoryId) {
+        List<CategoryRow> rows = jdbcTemplate.query(CATEGORY_SQL, (rs, rowNum) -> new CategoryRow(
+            rs.getLong("id"),
+            rs.getString("title_nl"),
+            rs.getString("title_en"),
+            rs.getString("subtitle_nl"),
+            rs.getString("subtitle_en"),
+            rs.getString("description_nl"),
+            rs.getString("description_en")
+        ), categoryId);
+        return rows.stream().findFirst();
+    }
+
+    private static Long getLong(ResultSet rs, String column) throws SQLException {
+        long value = rs.getLong(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static Integer getInteger(ResultSet rs, String column) throws SQLException {
+        int value = rs.getInt(column);
+        return rs.wasNull() ? null : value;
+    }
+}
@@ -0,0 +1,57 @@
+package com.woi.content.infrastructure.persistence.repositories;
+
+import com.woi.content.domain.repositories.ContentRevisionRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC implementation of ContentRevisionRepository
+ *
+ * Counters live in content.content_revisions (see V76). All keys of an increment are written with
+ * one upsert, in key order, so concurrent increments of overlapping keys never deadlock.
+ */
+@Repository
+public class ContentRevisionJdbcRepository implements ContentRevisionRepository {
+
+    private static final String FIND_SQL =
+        "SELECT aggregate_key, revision FROM content.content_revisions WHERE aggregate_key = ANY(?)";
+
+    private static final String INCREMENT_SQL = """
+        INSERT INTO content.content_revisions (aggregate_key, revision)
+        SELECT aggregate_key, 1 FROM unnest(?::varchar[]) AS keys(aggregate_key) ORDER BY aggregate_key
+        ON CONFLICT (aggregate_key) DO UPDATE SET revision = content.content_revisions.revision + 1
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ContentRevisionJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Long> findRevisions(List<String> aggregateKeys) {
+        Map<String, Long> revisions = new HashMap<>();
+        jdbcTemplate.query(FIND_SQL,
+            ps -> ps.setArray(1, ps.getConnection().createArrayOf("varchar", aggregateKeys.toArray())),
+            rs -> {
+                revisions.put(rs.getString("aggregate_key"), rs.getLong("revision"));
+            });
+        return revisions;
+    }
+
+    @Override
+    @Transactional
+    public void increment(List<String> aggregateKeys) {
+        if (aggregateKeys.isEmpty()) {
+            return;
+        }
+        String[] keys = aggregateKeys.stream().distinct().toArray(String[]::new);
+        jdbcTemplate.update(INCREMENT_SQL, ps -> ps.setArray(1, ps.getConnection().createArrayOf("varchar", keys)));
+    }
+}
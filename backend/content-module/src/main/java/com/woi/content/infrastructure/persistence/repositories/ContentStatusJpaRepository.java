@@ -2,8 +2,12 @@ package com.woi.content.infrastructure.persistence.repositories;
 
 import com.woi.content.infrastructure.persistence.entities.ContentStatusJpaEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -13,5 +17,19 @@ import java.util.Optional;
 public interface ContentStatusJpaRepository extends JpaRepository<ContentStatusJpaEntity, Long> {
     
     Optional<ContentStatusJpaEntity> findByEntityTypeAndEntityId(String entityType, Long entityId);
+    
+    /**
+     * Entity ID and status only (served from idx_content_status_entity_status without touching the table)
+     */
+    @Query("SELECT cs.entityId AS entityId, cs.status AS status FROM ContentStatusJpaEntity cs " +
+           "WHERE cs.entityType = :entityType AND cs.entityId IN :entityIds")
+    List<EntityStatusView> findStatusesByEntityTypeAndEntityIdIn(
+        @Param("entityType") String entityType,
+        @Param("entityIds") Collection<Long> entityIds);
+
+    interface EntityStatusView {
+        Long getEntityId();
+        String getStatus();
+    }
 }
 
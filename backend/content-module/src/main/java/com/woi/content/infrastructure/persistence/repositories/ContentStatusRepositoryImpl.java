@@ -1,12 +1,16 @@
 package com.woi.content.infrastructure.persistence.repositories;
 
 import com.woi.content.domain.entities.ContentStatus;
+import com.woi.content.domain.enums.ContentStatusType;
 import com.woi.content.domain.repositories.ContentStatusRepository;
 import com.woi.content.infrastructure.persistence.entities.ContentStatusJpaEntity;
 import com.woi.content.infrastructure.persistence.mappers.ContentStatusEntityMapper;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -28,6 +32,20 @@ public class ContentStatusRepositoryImpl implements ContentStatusRepository {
             .map(ContentStatusEntityMapper::toDomain);
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, ContentStatusType> findStatusesByEntityTypeAndEntityIds(String entityType, Collection<Long> entityIds) {
+        if (entityIds == null || entityIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, ContentStatusType> statuses = new HashMap<>();
+        for (ContentStatusJpaRepository.EntityStatusView view :
+                jpaRepository.findStatusesByEntityTypeAndEntityIdIn(entityType, entityIds)) {
+            statuses.put(view.getEntityId(), ContentStatusType.valueOf(view.getStatus()));
+        }
+        return statuses;
+    }
+    
     @Override
     @Transactional
     public ContentStatus save(ContentStatus contentStatus) {
@@ -0,0 +1,138 @@
+package com.woi.content.infrastructure.persistence.repositories;
+
+import com.woi.content.domain.enums.ReviewableType;
+import com.woi.content.domain.repositories.ContentTreeRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * JDBC implementation of ContentTreeRepository
+ *
+ * A subtree is deleted with one statement per table and level, independent of the number of rows:
+ * 1. Collect the IDs of each level below the root (one SELECT ... WHERE parent_id = ANY(?) per level)
+ * 2. Per level, bottom-up: review comments, reviews, reviewable items, content status, the entity rows
+ *
+ * content_status and reviewable_items are polymorphic (entity type + ID, no foreign key), so they are
+ * deleted explicitly. The version tables (book_versions ... paragraph_versions) are removed by their
+ * ON DELETE CASCADE foreign key within the DELETE of their entity rows (indexed on the entity ID).
+ * Deleting versions first would trip the ON DELETE SET NULL working-version keys of the entity tables.
+ */
+@Repository
+public class ContentTreeJdbcRepository implements ContentTreeRepository {
+
+    /**
+     * One level of the content tree
+     *
+     * @param table Entity table
+     * @param parentColumn Column referencing the level above (null for categories)
+     * @param statusType entity_type in content_status
+     * @param reviewableType type in reviewable_items (null if the level is not reviewable)
+     */
+    private record Level(String table, String parentColumn, String statusType, ReviewableType reviewableType) {}
+
+    private static final Level CATEGORY = new Level("content.categories", null, "category", null);
+    private static final Level BOOK = new Level("content.books", "category_id", "book", ReviewableType.BOOK);
+    private static final Level CHAPTER = new Level("content.chapters", "book_id", "chapter", ReviewableType.CHAPTER);
+    private static final Level SECTION = new Level("content.sections", "chapter_id", "section", ReviewableType.SECTION);
+    private static final Level PARAGRAPH = new Level("content.paragraphs", "section_id", "paragraph", ReviewableType.PARAGRAPH);
+
+    private static final String DELETE_REVIEW_COMMENTS_SQL = """
+        DELETE FROM content.review_comments
+        WHERE review_id IN (
+            SELECT r.id FROM content.reviews r
+            JOIN content.reviewable_items ri ON ri.id = r.reviewable_item_id
+            WHERE ri.type = ? AND ri.reference_id = ANY(?)
+        )
+        """;
+
+    private static final String DELETE_REVIEWS_SQL = """
+        DELETE FROM content.reviews
+        WHERE reviewable_item_id IN (
+            SELECT id FROM content.reviewable_items WHERE type = ? AND reference_id = ANY(?)
+        )
+        """;
+
+    private static final String DELETE_REVIEWABLE_ITEMS_SQL =
+        "DELETE FROM content.reviewable_items WHERE type = ? AND reference_id = ANY(?)";
+
+    private static final String DELETE_CONTENT_STATUS_SQL =
+        "DELETE FROM content.content_status WHERE entity_type = ? AND entity_id = ANY(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ContentTreeJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional
+    public void deleteCategoryTree(Long categoryId) {
+        deleteTree(List.of(CATEGORY, BOOK, CHAPTER, SECTION, PARAGRAPH), categoryId);
+    }
+
+    @Override
+    @Transactional
+    public void deleteBookTree(Long bookId) {
+        deleteTree(List.of(BOOK, CHAPTER, SECTION, PARAGRAPH), bookId);
+    }
+
+    @Override
+    @Transactional
+    public void deleteChapterTree(Long chapterId) {
+        deleteTree(List.of(CHAPTER, SECTION, PARAGRAPH), chapterId);
+    }
+
+    /**
+     * @param levels Levels from the root down
+     * @param rootId ID of the root entity (of the first level)
+     */
+    private void deleteTree(List<Level> levels, Long rootId) {
+        // 1. Collect the IDs of every level
+        Long[][] ids = new Long[levels.size()][];
+        ids[0] = new Long[] { rootId };
+        for (int i = 1; i < levels.size(); i++) {
+            ids[i] = findChildIds(levels.get(i), ids[i - 1]);
+        }
+
+        // 2. Delete bottom-up, so no row is deleted before its children
+        // TODO: Check if paragraphs are used in Learning module before deleting
+        for (int i = levels.size() - 1; i >= 0; i--) {
+            deleteLevel(levels.get(i), ids[i]);
+        }
+    }
+
+    private Long[] findChildIds(Level level, Long[] parentIds) {
+        if (parentIds.length == 0) {
+            return new Long[0];
+        }
+        String sql = "SELECT id FROM " + level.table() + " WHERE " + level.parentColumn() + " = ANY(?)";
+        return jdbcTemplate.query(sql, ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", parentIds)),
+                (rs, rowNum) -> rs.getLong(1))
+            .toArray(Long[]::new);
+    }
+
+    private void deleteLevel(Level level, Long[] ids) {
+        if (ids.length == 0) {
+            return;
+        }
+        if (level.reviewableType() != null) {
+            String type = level.reviewableType().name();
+            update(DELETE_REVIEW_COMMENTS_SQL, type, ids);
+            update(DELETE_REVIEWS_SQL, type, ids);
+            update(DELETE_REVIEWABLE_ITEMS_SQL, type, ids);
+        }
+        update(DELETE_CONTENT_STATUS_SQL, level.statusType(), ids);
+        jdbcTemplate.update("DELETE FROM " + level.table() + " WHERE id = ANY(?)",
+            ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids)));
+    }
+
+    private void update(String sql, String type, Long[] ids) {
+        jdbcTemplate.update(sql, ps -> {
+            ps.setString(1, type);
+            ps.setArray(2, ps.getConnection().createArrayOf("bigint", ids));
+        });
+    }
+}
@@ -1,7 +1,10 @@
 package com.woi.content.infrastructure.persistence.repositories;
 
 import com.woi.content.infrastructure.persistence.entities.ParagraphJpaEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,5 +16,18 @@ import java.util.List;
 public interface ParagraphJpaRepository extends JpaRepository<ParagraphJpaEntity, Long> {
     
     List<ParagraphJpaEntity> findBySectionId(Long sectionId);
+    
+    List<ParagraphJpaEntity> findBySectionIdOrderByParagraphNumberAscIdAsc(Long sectionId, Pageable pageable);
+    
+    @Query("SELECT p FROM ParagraphJpaEntity p WHERE p.sectionId = :sectionId " +
+           "AND (p.paragraphNumber > :paragraphNumber OR (p.paragraphNumber = :paragraphNumber AND p.id > :id)) " +
+           "ORDER BY p.paragraphNumber ASC, p.id ASC")
+    List<ParagraphJpaEntity> findBySectionIdAfter(
+        @Param("sectionId") Long sectionId,
+        @Param("paragraphNumber") Integer paragraphNumber,
+        @Param("id") Long id,
+        Pageable pageable);
+    
+    List<ParagraphJpaEntity> findBySectionIdInOrderById(List<Long> sectionIds);
 }
 
@@ -4,6 +4,7 @@ import com.woi.content.domain.entities.Paragraph;
 import com.woi.content.domain.repositories.ParagraphRepository;
 import com.woi.content.infrastructure.persistence.entities.ParagraphJpaEntity;
 import com.woi.content.infrastructure.persistence.mappers.ParagraphEntityMapper;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,6 +39,29 @@ public class ParagraphRepositoryImpl implements ParagraphRepository {
             .collect(Collectors.toList());
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public List<Paragraph> findPageBySectionId(Long sectionId, Integer afterParagraphNumber, Long afterId, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        List<ParagraphJpaEntity> entities = afterParagraphNumber == null || afterId == null
+            ? jpaRepository.findBySectionIdOrderByParagraphNumberAscIdAsc(sectionId, page)
+            : jpaRepository.findBySectionIdAfter(sectionId, afterParagraphNumber, afterId, page);
+        return entities.stream()
+            .map(ParagraphEntityMapper::toDomain)
+            .collect(Collectors.toList());
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<Paragraph> findBySectionIdIn(List<Long> sectionIds) {
+        if (sectionIds == null || sectionIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findBySectionIdInOrderById(sectionIds).stream()
+            .map(ParagraphEntityMapper::toDomain)
+            .collect(Collectors.toList());
+    }
+    
     @Override
     @Transactional
     public Paragraph save(Paragraph paragraph) {
@@ -1,6 +1,7 @@
 package com.woi.content.infrastructure.persistence.repositories;
 
 import com.woi.content.infrastructure.persistence.entities.ParagraphVersionJpaEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -15,6 +16,11 @@ public interface ParagraphVersionJpaRepository extends JpaRepository<ParagraphVe
     
     List<ParagraphVersionJpaEntity> findByParagraphIdOrderByVersionNumberDesc(Long paragraphId);
     
+    List<ParagraphVersionJpaEntity> findByParagraphIdOrderByVersionNumberDesc(Long paragraphId, Pageable pageable);
+    
+    List<ParagraphVersionJpaEntity> findByParagraphIdAndVersionNumberLessThanOrderByVersionNumberDesc(
+        Long paragraphId, Integer versionNumber, Pageable pageable);
+    
     Optional<ParagraphVersionJpaEntity> findByParagraphIdAndVersionNumber(Long paragraphId, Integer versionNumber);
     
     Optional<ParagraphVersionJpaEntity> findFirstByParagraphIdOrderByVersionNumberDesc(Long paragraphId);
@@ -4,6 +4,7 @@ import com.woi.content.domain.entities.ParagraphVersion;
 import com.woi.content.domain.repositories.ParagraphVersionRepository;
 import com.woi.content.infrastructure.persistence.entities.ParagraphVersionJpaEntity;
 import com.woi.content.infrastructure.persistence.mappers.ParagraphVersionEntityMapper;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -45,6 +46,18 @@ public class ParagraphVersionRepositoryImpl implements ParagraphVersionRepositor
             .collect(Collectors.toList());
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public List<ParagraphVersion> findPageByParagraphId(Long paragraphId, Integer beforeVersionNumber, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        List<ParagraphVersionJpaEntity> entities = beforeVersionNumber == null
+            ? jpaRepository.findByParagraphIdOrderByVersionNumberDesc(paragraphId, page)
+            : jpaRepository.findByParagraphIdAndVersionNumberLessThanOrderByVersionNumberDesc(paragraphId, beforeVersionNumber, page);
+        return entities.stream()
+            .map(ParagraphVersionEntityMapper::toDomain)
+            .collect(Collectors.toList());
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public Optional<ParagraphVersion> findLatestByParagraphId(Long paragraphId) {
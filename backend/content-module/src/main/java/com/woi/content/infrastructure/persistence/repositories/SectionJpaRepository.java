@@ -14,6 +14,8 @@ public interface SectionJpaRepository extends JpaRepository<SectionJpaEntity, Lo
     
     List<SectionJpaEntity> findByChapterIdOrderByOrderIndex(Long chapterId);
     
+    List<SectionJpaEntity> findByChapterIdInOrderByChapterIdAscOrderIndexAsc(List<Long> chapterIds);
+    
     boolean existsByChapterIdAndOrderIndex(Long chapterId, Integer orderIndex);
 }
 
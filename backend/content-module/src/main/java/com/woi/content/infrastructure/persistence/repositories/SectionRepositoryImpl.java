@@ -38,6 +38,17 @@ public class SectionRepositoryImpl implements SectionRepository {
             .collect(Collectors.toList());
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public List<Section> findByChapterIdIn(List<Long> chapterIds) {
+        if (chapterIds == null || chapterIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findByChapterIdInOrderByChapterIdAscOrderIndexAsc(chapterIds).stream()
+            .map(SectionEntityMapper::toDomain)
+            .collect(Collectors.toList());
+    }
+    
     @Override
     @Transactional
     public Section save(Section section) {
@@ -1,6 +1,7 @@
 package com.woi.content.infrastructure.persistence.repositories;
 
 import com.woi.content.infrastructure.persistence.entities.SectionVersionJpaEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -15,6 +16,11 @@ public interface SectionVersionJpaRepository extends JpaRepository<SectionVersio
     
     List<SectionVersionJpaEntity> findBySectionIdOrderByVersionNumberDesc(Long sectionId);
     
+    List<SectionVersionJpaEntity> findBySectionIdOrderByVersionNumberDesc(Long sectionId, Pageable pageable);
+    
+    List<SectionVersionJpaEntity> findBySectionIdAndVersionNumberLessThanOrderByVersionNumberDesc(
+        Long sectionId, Integer versionNumber, Pageable pageable);
+    
     Optional<SectionVersionJpaEntity> findBySectionIdAndVersionNumber(Long sectionId, Integer versionNumber);
     
     Optional<SectionVersionJpaEntity> findFirstBySectionIdOrderByVersionNumberDesc(Long sectionId);
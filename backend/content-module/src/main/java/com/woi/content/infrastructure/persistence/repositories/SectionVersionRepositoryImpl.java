@@ -4,6 +4,7 @@ import com.woi.content.domain.entities.SectionVersion;
 import com.woi.content.domain.repositories.SectionVersionRepository;
 import com.woi.content.infrastructure.persistence.entities.SectionVersionJpaEntity;
 import com.woi.content.infrastructure.persistence.mappers.SectionVersionEntityMapper;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -45,6 +46,18 @@ public class SectionVersionRepositoryImpl implements SectionVersionRepository {
             .collect(Collectors.toList());
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public List<SectionVersion> findPageBySectionId(Long sectionId, Integer beforeVersionNumber, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        List<SectionVersionJpaEntity> entities = beforeVersionNumber == null
+            ? jpaRepository.findBySectionIdOrderByVersionNumberDesc(sectionId, page)
+            : jpaRepository.findBySectionIdAndVersionNumberLessThanOrderByVersionNumberDesc(sectionId, beforeVersionNumber, page);
+        return entities.stream()
+            .map(SectionVersionEntityMapper::toDomain)
+            .collect(Collectors.toList());
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public Optional<SectionVersion> findLatestBySectionId(Long sectionId) {
@@ -52,6 +65,17 @@ public class SectionVersionRepositoryImpl implements SectionVersionRepository {
             .map(SectionVersionEntityMapper::toDomain);
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public List<SectionVersion> findByIdIn(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findAllById(ids).stream()
+            .map(SectionVersionEntityMapper::toDomain)
+            .collect(Collectors.toList());
+    }
+    
     @Override
     @Transactional
     public SectionVersion save(SectionVersion sectionVersion) {
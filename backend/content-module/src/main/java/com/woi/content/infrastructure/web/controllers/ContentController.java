@@ -90,13 +90,22 @@ import com.woi.content.application.queries.GetBookVersionHistoryQuery;
 import com.woi.content.application.queries.GetChapterVersionHistoryQuery;
 import com.woi.content.application.queries.GetParagraphVersionHistoryQuery;
 import com.woi.content.application.queries.GetSectionVersionHistoryQuery;
+import com.woi.content.application.queries.KeysetPageRequest;
+import com.woi.content.application.results.KeysetPage;
+import com.woi.content.application.services.ContentRevisionTracker;
+import com.woi.content.application.services.PublishedContentSnapshotStore;
 import com.woi.content.infrastructure.web.dtos.*;
+import com.woi.content.infrastructure.web.export.CategoryHierarchyJsonExporter;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -112,6 +121,8 @@ import java.util.stream.Collectors;
 @CrossOrigin(origins = "*")
 public class ContentController {
     
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    
     private final CreateCategoryCommandHandler createCategoryHandler;
     private final UpdateCategoryCommandHandler updateCategoryHandler;
     private final DeleteCategoryCommandHandler deleteCategoryHandler;
@@ -157,6 +168,9 @@ public class ContentController {
     private final GetChapterVersionHistoryQueryHandler getChapterVersionHistoryHandler;
     private final GetParagraphVersionHistoryQueryHandler getParagraphVersionHistoryHandler;
     private final GetSectionVersionHistoryQueryHandler getSectionVersionHistoryHandler;
+    private final ContentRevisionTracker contentRevisionTracker;
+    private final PublishedContentSnapshotStore publishedContentSnapshotStore;
+    private final CategoryHierarchyJsonExporter categoryHierarchyJsonExporter;
     
     public ContentController(
             CreateCategoryCommandHandler createCategoryHandler,
@@ -203,7 +217,10 @@ public class ContentController {
             GetBookVersionHistoryQueryHandler getBookVersionHistoryHandler,
             GetChapterVersionHistoryQueryHandler getChapterVersionHistoryHandler,
             GetParagraphVersionHistoryQueryHandler getParagraphVersionHistoryHandler,
-            GetSectionVersionHistoryQueryHandler getSectionVersionHistoryHandler) {
+            GetSectionVersionHistoryQueryHandler getSectionVersionHistoryHandler,
+            ContentRevisionTracker contentRevisionTracker,
+            PublishedContentSnapshotStore publishedContentSnapshotStore,
+            CategoryHierarchyJsonExporter categoryHierarchyJsonExporter) {
         this.createCategoryHandler = createCategoryHandler;
         this.updateCategoryHandler = updateCategoryHandler;
         this.deleteCategoryHandler = deleteCategoryHandler;
@@ -249,6 +266,9 @@ public class ContentController {
         this.getChapterVersionHistoryHandler = getChapterVersionHistoryHandler;
         this.getParagraphVersionHistoryHandler = getParagraphVersionHistoryHandler;
         this.getSectionVersionHistoryHandler = getSectionVersionHistoryHandler;
+        this.contentRevisionTracker = contentRevisionTracker;
+        this.publishedContentSnapshotStore = publishedContentSnapshotStore;
+        this.categoryHierarchyJsonExporter = categoryHierarchyJsonExporter;
     }
     
     // ========== Category Endpoints ==========
@@ -361,18 +381,32 @@ public class ContentController {
     
     /**
      * Get all categories
-     * GET /api/v2/content/categories
+     * GET /api/v2/content/categories?after={cursor}&limit={n}
+     * Keyset-paginated: the next page cursor is returned in the X-Next-Cursor header (absent on the last page)
+     * Supports conditional GET (If-None-Match → 304 Not Modified)
      */
     @GetMapping("/categories")
-    public ResponseEntity<List<CategoryDTO>> getAllCategories() {
-        GetAllCategoriesQuery query = new GetAllCategoriesQuery();
-        List<com.woi.content.application.results.CategoryResult> results = getAllCategoriesHandler.handle(query);
+    public ResponseEntity<?> getAllCategories(
+            WebRequest request,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        KeysetPageRequest pageRequest;
+        try {
+            pageRequest = KeysetPageRequest.of(after, limit);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", e.getMessage()));
+        }
         
-        List<CategoryDTO> dtos = results.stream()
-            .map(this::toCategoryDTO)
-            .collect(Collectors.toList());
+        String etag = contentRevisionTracker.etag(ContentRevisionTracker.CATEGORIES, "all-" + pageRequest.variant());
+        if (request.checkNotModified(etag)) {
+            return notModified(etag);
+        }
         
-        return ResponseEntity.ok(dtos);
+        GetAllCategoriesQuery query = new GetAllCategoriesQuery(pageRequest);
+        KeysetPage<CategoryDTO> page = getAllCategoriesHandler.handle(query).map(this::toCategoryDTO);
+        
+        return withNextCursor(ResponseEntity.ok().eTag(etag), page).body(page.items());
     }
     
     /**
@@ -396,9 +430,15 @@ public class ContentController {
     /**
      * Get all wheels
      * GET /api/v2/content/wheels
+     * Supports conditional GET (If-None-Match → 304 Not Modified)
      */
     @GetMapping("/wheels")
-    public ResponseEntity<List<WheelDTO>> getAllWheels() {
+    public ResponseEntity<List<WheelDTO>> getAllWheels(WebRequest request) {
+        String etag = publishedEtag();
+        if (request.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+        
         GetAllWheelsQuery query = new GetAllWheelsQuery();
         List<com.woi.content.application.results.WheelResult> results = getAllWheelsHandler.handle(query);
         
@@ -406,7 +446,7 @@ public class ContentController {
             .map(this::toWheelDTO)
             .collect(Collectors.toList());
         
-        return ResponseEntity.ok(dtos);
+        return ResponseEntity.ok().eTag(etag).body(dtos);
     }
     
     /**
@@ -447,6 +487,24 @@ public class ContentController {
                      .orElse(ResponseEntity.notFound().build());
     }
     
+    /**
+     * Export a category with its complete hierarchy (working versions of books, chapters, sections and paragraphs)
+     * GET /api/v2/content/categories/{id}/export
+     * The JSON is streamed while the hierarchy is read, so memory use does not grow with the size of the category
+     */
+    @GetMapping("/categories/{id}/export")
+    public ResponseEntity<StreamingResponseBody> exportCategoryHierarchy(@PathVariable Long id) {
+        if (getCategoryHandler.handle(new GetCategoryQuery(id)).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        
+        StreamingResponseBody body = outputStream -> categoryHierarchyJsonExporter.export(id, outputStream);
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"category-" + id + ".json\"")
+            .body(body);
+    }
+    
     // ========== Book Endpoints ==========
     
     /**
@@ -522,31 +580,35 @@ public class ContentController {
     
     /**
      * Get all books in a category
-     * GET /api/v2/content/categories/{categoryId}/books - Returns all books (admin)
+     * GET /api/v2/content/categories/{categoryId}/books?after={cursor}&limit={n} - Returns all books (admin),
+     *     keyset-paginated (next page cursor in the X-Next-Cursor header)
      * GET /api/v2/content/categories/{categoryId}/books?published=true - Returns only PUBLISHED books (public)
      */
     @GetMapping("/categories/{categoryId}/books")
-    public ResponseEntity<List<BookDTO>> getBooksByCategory(
+    public ResponseEntity<?> getBooksByCategory(
             @PathVariable Long categoryId,
-            @RequestParam(required = false) Boolean published) {
-        
-        List<com.woi.content.application.results.BookResult> results;
+            @RequestParam(required = false) Boolean published,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
         
         if (Boolean.TRUE.equals(published)) {
-            // Use public handler to filter for PUBLISHED books only
+            // Use public handler to filter for PUBLISHED books only (served from the in-memory snapshot)
             GetPublicBooksByCategoryQuery query = new GetPublicBooksByCategoryQuery(categoryId);
-            results = getPublicBooksByCategoryHandler.handle(query);
-        } else {
-            // Use normal handler to return all books
-            GetBooksByCategoryQuery query = new GetBooksByCategoryQuery(categoryId);
-            results = getBooksByCategoryHandler.handle(query);
+            List<BookDTO> dtos = getPublicBooksByCategoryHandler.handle(query).stream()
+                .map(this::toBookDTO)
+                .collect(Collectors.toList());
+            return ResponseEntity.ok(dtos);
         }
         
-        List<BookDTO> dtos = results.stream()
-            .map(this::toBookDTO)
-            .collect(Collectors.toList());
-        
-        return ResponseEntity.ok(dtos);
+        try {
+            // Use normal handler to return all books, one page at a time
+            GetBooksByCategoryQuery query = new GetBooksByCategoryQuery(categoryId, KeysetPageRequest.of(after, limit));
+            KeysetPage<BookDTO> page = getBooksByCategoryHandler.handle(query).map(this::toBookDTO);
+            return withNextCursor(ResponseEntity.ok(), page).body(page.items());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", e.getMessage()));
+        }
     }
     
     /**
@@ -644,11 +706,20 @@ public class ContentController {
      * Get all chapters in a book
      * GET /api/v2/content/books/{bookId}/chapters - Returns all chapters (admin)
      * GET /api/v2/content/books/{bookId}/chapters?published=true - Returns only PUBLISHED chapters (public)
+     * Supports conditional GET (If-None-Match → 304 Not Modified)
      */
     @GetMapping("/books/{bookId}/chapters")
     public ResponseEntity<List<ChapterDTO>> getChaptersByBook(
             @PathVariable Long bookId,
-            @RequestParam(required = false) Boolean published) {
+            @RequestParam(required = false) Boolean published,
+            WebRequest request) {
+        
+        String etag = Boolean.TRUE.equals(published)
+            ? publishedEtag()
+            : contentRevisionTracker.etag(ContentRevisionTracker.chaptersOfBook(bookId), "all");
+        if (request.checkNotModified(etag)) {
+            return notModified(etag);
+        }
         
         List<com.woi.content.application.results.ChapterResult> results;
         
@@ -666,18 +737,27 @@ public class ContentController {
             .map(this::toChapterDTO)
             .collect(Collectors.toList());
         
-        return ResponseEntity.ok(dtos);
+        return ResponseEntity.ok().eTag(etag).body(dtos);
     }
     
     /**
      * Get all sections in a chapter
      * GET /api/v2/content/chapters/{chapterId}/sections - Returns all sections (admin)
      * GET /api/v2/content/chapters/{chapterId}/sections?published=true - Returns only PUBLISHED sections (public)
+     * Supports conditional GET (If-None-Match → 304 Not Modified)
      */
     @GetMapping("/chapters/{chapterId}/sections")
     public ResponseEntity<List<SectionDTO>> getSectionsByChapter(
             @PathVariable Long chapterId,
-            @RequestParam(required = false) Boolean published) {
+            @RequestParam(required = false) Boolean published,
+            WebRequest request) {
+        
+        String etag = Boolean.TRUE.equals(published)
+            ? publishedEtag()
+            : contentRevisionTracker.etag(ContentRevisionTracker.sectionsOfChapter(chapterId), "all");
+        if (request.checkNotModified(etag)) {
+            return notModified(etag);
+        }
         
         List<com.woi.content.application.results.SectionResult> results;
         
@@ -695,7 +775,7 @@ public class ContentController {
             .map(this::toSectionDTO)
             .collect(Collectors.toList());
         
-        return ResponseEntity.ok(dtos);
+        return ResponseEntity.ok().eTag(etag).body(dtos);
     }
     
     /**
@@ -816,31 +896,35 @@ public class ContentController {
     
     /**
      * Get all paragraphs in a section
-     * GET /api/v2/content/sections/{sectionId}/paragraphs - Returns all paragraphs (admin)
+     * GET /api/v2/content/sections/{sectionId}/paragraphs?after={cursor}&limit={n} - Returns all paragraphs (admin),
+     *     keyset-paginated (next page cursor in the X-Next-Cursor header)
      * GET /api/v2/content/sections/{sectionId}/paragraphs?published=true - Returns only PUBLISHED paragraphs (public)
      */
     @GetMapping("/sections/{sectionId}/paragraphs")
-    public ResponseEntity<List<ParagraphDTO>> getParagraphsBySection(
+    public ResponseEntity<?> getParagraphsBySection(
             @PathVariable Long sectionId,
-            @RequestParam(required = false) Boolean published) {
-        
-        List<com.woi.content.application.results.ParagraphResult> results;
+            @RequestParam(required = false) Boolean published,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
         
         if (Boolean.TRUE.equals(published)) {
-            // Use public handler to filter for PUBLISHED paragraphs only
+            // Use public handler to filter for PUBLISHED paragraphs only (served from the in-memory snapshot)
             GetPublicParagraphsBySectionQuery query = new GetPublicParagraphsBySectionQuery(sectionId);
-            results = getPublicParagraphsBySectionHandler.handle(query);
-        } else {
-            // Use normal handler to return all paragraphs
-            GetParagraphsBySectionQuery query = new GetParagraphsBySectionQuery(sectionId);
-            results = getParagraphsBySectionHandler.handle(query);
+            List<ParagraphDTO> dtos = getPublicParagraphsBySectionHandler.handle(query).stream()
+                .map(this::toParagraphDTO)
+                .collect(Collectors.toList());
+            return ResponseEntity.ok(dtos);
         }
         
-        List<ParagraphDTO> dtos = results.stream()
-            .map(this::toParagraphDTO)
-            .collect(Collectors.toList());
-        
-        return ResponseEntity.ok(dtos);
+        try {
+            // Use normal handler to return all paragraphs, one page at a time
+            GetParagraphsBySectionQuery query = new GetParagraphsBySectionQuery(sectionId, KeysetPageRequest.of(after, limit));
+            KeysetPage<ParagraphDTO> page = getParagraphsBySectionHandler.handle(query).map(this::toParagraphDTO);
+            return withNextCursor(ResponseEntity.ok(), page).body(page.items());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", e.getMessage()));
+        }
     }
     
     /**
@@ -1213,67 +1297,106 @@ public class ContentController {
     // ========== Version History Endpoints ==========
     
     /**
-     * Get version history for a book
-     * GET /api/v2/content/books/{bookId}/versions
+     * Get version history for a book (newest first)
+     * GET /api/v2/content/books/{bookId}/versions?after={cursor}&limit={n}
+     * Keyset-paginated on version number: the next page cursor is returned in the X-Next-Cursor header
      */
     @GetMapping("/books/{bookId}/versions")
-    public ResponseEntity<List<BookVersionDTO>> getBookVersionHistory(@PathVariable Long bookId) {
-        GetBookVersionHistoryQuery query = new GetBookVersionHistoryQuery(bookId);
-        List<com.woi.content.application.results.BookVersionResult> results = getBookVersionHistoryHandler.handle(query);
-        
-        List<BookVersionDTO> dtos = results.stream()
-            .map(this::toBookVersionDTO)
-            .collect(Collectors.toList());
-        
-        return ResponseEntity.ok(dtos);
+    public ResponseEntity<?> getBookVersionHistory(
+            @PathVariable Long bookId,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            GetBookVersionHistoryQuery query = new GetBookVersionHistoryQuery(bookId, KeysetPageRequest.of(after, limit));
+            KeysetPage<BookVersionDTO> page = getBookVersionHistoryHandler.handle(query).map(this::toBookVersionDTO);
+            return withNextCursor(ResponseEntity.ok(), page).body(page.items());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", e.getMessage()));
+        }
     }
     
     /**
-     * Get version history for a chapter
-     * GET /api/v2/content/chapters/{chapterId}/versions
+     * Get version history for a chapter (newest first)
+     * GET /api/v2/content/chapters/{chapterId}/versions?after={cursor}&limit={n}
+     * Keyset-paginated on version number: the next page cursor is returned in the X-Next-Cursor header
      */
     @GetMapping("/chapters/{chapterId}/versions")
-    public ResponseEntity<List<ChapterVersionDTO>> getChapterVersionHistory(@PathVariable Long chapterId) {
-        GetChapterVersionHistoryQuery query = new GetChapterVersionHistoryQuery(chapterId);
-        List<com.woi.content.application.results.ChapterVersionResult> results = getChapterVersionHistoryHandler.handle(query);
-        
-        List<ChapterVersionDTO> dtos = results.stream()
-            .map(this::toChapterVersionDTO)
-            .collect(Collectors.toList());
-        
-        return ResponseEntity.ok(dtos);
+    public ResponseEntity<?> getChapterVersionHistory(
+            @PathVariable Long chapterId,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            GetChapterVersionHistoryQuery query = new GetChapterVersionHistoryQuery(chapterId, KeysetPageRequest.of(after, limit));
+            KeysetPage<ChapterVersionDTO> page = getChapterVersionHistoryHandler.handle(query).map(this::toChapterVersionDTO);
+            return withNextCursor(ResponseEntity.ok(), page).body(page.items());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", e.getMessage()));
+        }
     }
     
     /**
-     * Get version history for a paragraph
-     * GET /api/v2/content/paragraphs/{id}/versions
+     * Get version history for a paragraph (newest first)
+     * GET /api/v2/content/paragraphs/{id}/versions?after={cursor}&limit={n}
+     * Keyset-paginated on version number: the next page cursor is returned in the X-Next-Cursor header
      */
     @GetMapping("/paragraphs/{id}/versions")
-    public ResponseEntity<List<ParagraphVersionDTO>> getParagraphVersionHistory(@PathVariable Long id) {
-        GetParagraphVersionHistoryQuery query = new GetParagraphVersionHistoryQuery(id);
-        List<com.woi.content.application.results.ParagraphVersionResult> results = getParagraphVersionHistoryHandler.handle(query);
-        
-        List<ParagraphVersionDTO> dtos = results.stream()
-            .map(this::toParagraphVersionDTO)
-            .collect(Collectors.toList());
-        
-        return ResponseEntity.ok(dtos);
+    public ResponseEntity<?> getParagraphVersionHistory(
+            @PathVariable Long id,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            GetParagraphVersionHistoryQuery query = new GetParagraphVersionHistoryQuery(id, KeysetPageRequest.of(after, limit));
+            KeysetPage<ParagraphVersionDTO> page = getParagraphVersionHistoryHandler.handle(query).map(this::toParagraphVersionDTO);
+            return withNextCursor(ResponseEntity.ok(), page).body(page.items());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", e.getMessage()));
+        }
     }
     
     /**
-     * Get version history for a section
-     * GET /api/v2/content/sections/{id}/versions
+     * Get version history for a section (newest first)
+     * GET /api/v2/content/sections/{id}/versions?after={cursor}&limit={n}
+     * Keyset-paginated on version number: the next page cursor is returned in the X-Next-Cursor header
      */
     @GetMapping("/sections/{id}/versions")
-    public ResponseEntity<List<SectionVersionDTO>> getSectionVersionHistory(@PathVariable Long id) {
-        GetSectionVersionHistoryQuery query = new GetSectionVersionHistoryQuery(id);
-        List<com.woi.content.application.results.SectionVersionResult> results = getSectionVersionHistoryHandler.handle(query);
-        
-        List<SectionVersionDTO> dtos = results.stream()
-            .map(this::toSectionVersionDTO)
-            .collect(Collectors.toList());
-        
-        return ResponseEntity.ok(dtos);
+    public ResponseEntity<?> getSectionVersionHistory(
+            @PathVariable Long id,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            GetSectionVersionHistoryQuery query = new GetSectionVersionHistoryQuery(id, KeysetPageRequest.of(after, limit));
+            KeysetPage<SectionVersionDTO> page = getSectionVersionHistoryHandler.handle(query).map(this::toSectionVersionDTO);
+            return withNextCursor(ResponseEntity.ok(), page).body(page.items());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", e.getMessage()));
+        }
+    }
+    
+    // Conditional GET helpers
+    private <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
+    
+    /**
+     * ETag of responses served from the published snapshot: built from the in-memory snapshot
+     * version only, so public reads never touch the database. An instance whose snapshot is behind
+     * never serves its content under a newer ETag (read before the body, which comes from the same
+     * or a newer snapshot)
+     */
+    private String publishedEtag() {
+        return "\"published-" + publishedContentSnapshotStore.current().getVersion() + "\"";
+    }
+    
+    // Pagination helper
+    private ResponseEntity.BodyBuilder withNextCursor(ResponseEntity.BodyBuilder builder, KeysetPage<?> page) {
+        if (page.nextCursor() != null) {
+            builder.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return builder;
     }
     
     // Mapper methods
@@ -0,0 +1,201 @@
+package com.woi.content.infrastructure.web.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.woi.content.infrastructure.persistence.repositories.ContentHierarchyExportJdbcRepository;
+import com.woi.content.infrastructure.persistence.repositories.ContentHierarchyExportJdbcRepository.BookRow;
+import com.woi.content.infrastructure.persistence.repositories.ContentHierarchyExportJdbcRepository.CategoryRow;
+import com.woi.content.infrastructure.persistence.repositories.ContentHierarchyExportJdbcRepository.ChapterRow;
+import com.woi.content.infrastructure.persistence.repositories.ContentHierarchyExportJdbcRepository.HierarchyRow;
+import com.woi.content.infrastructure.persistence.repositories.ContentHierarchyExportJdbcRepository.ParagraphRow;
+import com.woi.content.infrastructure.persistence.repositories.ContentHierarchyExportJdbcRepository.SectionRow;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+
+/**
+ * Streaming JSON export of a complete category hierarchy
+ *
+ * Reads the flattened hierarchy row by row (ContentHierarchyExportJdbcRepository) and writes
+ * nested JSON incrementally through a JsonGenerator, opening and closing book/chapter/section
+ * objects as the parent IDs change. Nothing but the current row is held in memory.
+ *
+ * Output: { category fields, "books": [ { ..., "chapters": [ { ..., "sections": [ { ..., "paragraphs": [ ... ] } ] } ] } ] }
+ */
+@Component
+public class CategoryHierarchyJsonExporter {
+    private final ContentHierarchyExportJdbcRepository exportRepository;
+    private final ObjectMapper objectMapper;
+
+    public CategoryHierarchyJsonExporter(ContentHierarchyExportJdbcRepository exportRepository,
+                                         ObjectMapper objectMapper) {
+        this.exportRepository = exportRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Write the hierarchy of a category as JSON to the output stream
+     *
+     * @return false if the category does not exist (JSON null is written)
+     */
+    public boolean export(Long categoryId, OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            HierarchyWriter writer = new HierarchyWriter(generator);
+            boolean found = exportRepository.streamCategoryHierarchy(categoryId, writer::startCategory, writer::accept);
+            if (found) {
+                writer.endCategory();
+            } else {
+                generator.writeNull();
+            }
+            return found;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Row-driven JSON writer: tracks the open book/chapter/section and closes them when the next row moves on
+     */
+    private static final class HierarchyWriter {
+        private final JsonGenerator generator;
+        private Long currentBookId;
+        private Long currentChapterId;
+        private Long currentSectionId;
+
+        HierarchyWriter(JsonGenerator generator) {
+            this.generator = generator;
+        }
+
+        void startCategory(CategoryRow category) {
+            try {
+                generator.writeStartObject();
+                generator.writeNumberField("id", category.id());
+                generator.writeStringField("titleNl", category.titleNl());
+                generator.writeStringField("titleEn", category.titleEn());
+                generator.writeStringField("subtitleNl", category.subtitleNl());
+                generator.writeStringField("subtitleEn", category.subtitleEn());
+                generator.writeStringField("descriptionNl", category.descriptionNl());
+                generator.writeStringField("descriptionEn", category.descriptionEn());
+                generator.writeArrayFieldStart("books");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void accept(HierarchyRow row) {
+            try {
+                if (!Objects.equals(row.book().id(), currentBookId)) {
+                    closeBook();
+                    startBook(row.book());
+                }
+                if (row.chapter() != null && !Objects.equals(row.chapter().id(), currentChapterId)) {
+                    closeChapter();
+                    startChapter(row.chapter());
+                }
+                if (row.section() != null && !Objects.equals(row.section().id(), currentSectionId)) {
+                    closeSection();
+                    startSection(row.section());
+                }
+                if (row.paragraph() != null) {
+                    writeParagraph(row.paragraph());
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void endCategory() throws IOException {
+            closeBook();
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+
+        private void startBook(BookRow book) throws IOException {
+            generator.writeStartObject();
+            generator.writeNumberField("id", book.id());
+            writeIntegerField("bookNumber", book.bookNumber());
+            generator.writeStringField("titleEn", book.titleEn());
+            generator.writeStringField("titleNl", book.titleNl());
+            generator.writeStringField("introEn", book.introEn());
+            generator.writeStringField("introNl", book.introNl());
+            generator.writeArrayFieldStart("chapters");
+            currentBookId = book.id();
+        }
+
+        private void startChapter(ChapterRow chapter) throws IOException {
+            generator.writeStartObject();
+            generator.writeNumberField("id", chapter.id());
+            writeIntegerField("chapterNumber", chapter.chapterNumber());
+            writeIntegerField("position", chapter.position());
+            generator.writeStringField("titleEn", chapter.titleEn());
+            generator.writeStringField("titleNl", chapter.titleNl());
+            generator.writeStringField("introEn", chapter.introEn());
+            generator.writeStringField("introNl", chapter.introNl());
+            generator.writeArrayFieldStart("sections");
+            currentChapterId = chapter.id();
+        }
+
+        private void startSection(SectionRow section) throws IOException {
+            generator.writeStartObject();
+            generator.writeNumberField("id", section.id());
+            writeIntegerField("orderIndex", section.orderIndex());
+            generator.writeStringField("titleEn", section.titleEn());
+            generator.writeStringField("titleNl", section.titleNl());
+            generator.writeStringField("introEn", section.introEn());
+            generator.writeStringField("introNl", section.introNl());
+            generator.writeArrayFieldStart("paragraphs");
+            currentSectionId = section.id();
+        }
+
+        private void writeParagraph(ParagraphRow paragraph) throws IOException {
+            generator.writeStartObject();
+            generator.writeNumberField("id", paragraph.id());
+            writeIntegerField("paragraphNumber", paragraph.paragraphNumber());
+            generator.writeStringField("titleEn", paragraph.titleEn());
+            generator.writeStringField("titleNl", paragraph.titleNl());
+            generator.writeStringField("contentEn", paragraph.contentEn());
+            generator.writeStringField("contentNl", paragraph.contentNl());
+            generator.writeEndObject();
+        }
+
+        private void closeSection() throws IOException {
+            if (currentSectionId != null) {
+                generator.writeEndArray();
+                generator.writeEndObject();
+                currentSectionId = null;
+            }
+        }
+
+        private void closeChapter() throws IOException {
+            closeSection();
+            if (currentChapterId != null) {
+                generator.writeEndArray();
+                generator.writeEndObject();
+                currentChapterId = null;
+            }
+        }
+
+        private void closeBook() throws IOException {
+            closeChapter();
+            if (currentBookId != null) {
+                generator.writeEndArray();
+                generator.writeEndObject();
+                currentBookId = null;
+                // Push each completed book to the client
+                generator.flush();
+            }
+        }
+
+        private void writeIntegerField(String name, Integer value) throws IOException {
+            if (value != null) {
+                generator.writeNumberField(name, value);
+            } else {
+                generator.writeNullField(name);
+            }
+        }
+    }
+}
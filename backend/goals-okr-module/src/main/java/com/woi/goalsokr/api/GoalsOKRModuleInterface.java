@@ -106,6 +106,14 @@ public interface GoalsOKRModuleInterface {
      */
     UserObjectiveInstanceSummary completeUserObjectiveInstance(Long userObjectiveInstanceId);
 
+    /**
+     * Get the whole OKR tree of a user in one call
+     * (objective instances → key result instances with latest progress → initiative instances)
+     * @param userId User ID
+     * @return Objective instances of the user, each with its key result and initiative instances
+     */
+    List<UserObjectiveTreeSummary> getUserOkrTree(Long userId);
+
     // ========== User Key Result Instances (User-specific) ==========
 
     /**
@@ -0,0 +1,14 @@
+package com.woi.goalsokr.api;
+
+import java.util.List;
+
+/**
+ * Summary DTO for one key result instance of a user's OKR tree, with its latest progress
+ * (null if none) and its initiative instances
+ * Used in public API interface
+ */
+public record UserKeyResultTreeSummary(
+    UserKeyResultInstanceSummary keyResultInstance,
+    KeyResultProgressSummary progress,
+    List<UserInitiativeInstanceSummary> initiatives
+) {}
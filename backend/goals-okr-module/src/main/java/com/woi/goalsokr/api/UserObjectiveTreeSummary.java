@@ -0,0 +1,12 @@
+package com.woi.goalsokr.api;
+
+import java.util.List;
+
+/**
+ * Summary DTO for one objective instance of a user's OKR tree, with its key result instances
+ * Used in public API interface
+ */
+public record UserObjectiveTreeSummary(
+    UserObjectiveInstanceSummary objectiveInstance,
+    List<UserKeyResultTreeSummary> keyResults
+) {}
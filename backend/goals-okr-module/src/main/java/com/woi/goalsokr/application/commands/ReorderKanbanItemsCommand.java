@@ -0,0 +1,36 @@
+package com.woi.goalsokr.application.commands;
+
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Command to move one or more kanban items (one drag operation) to a place in a column
+ */
+public record ReorderKanbanItemsCommand(
+    Long userId,
+    String columnName, // TODO, IN_PROGRESS, IN_REVIEW, DONE
+    List<Long> itemIds, // Items to move, in their new order
+    Long afterItemId // Item in the target column to place them after (null = top of the column)
+) {
+    public ReorderKanbanItemsCommand {
+        if (userId == null) {
+            throw new IllegalArgumentException("User ID cannot be null");
+        }
+        if (columnName == null || columnName.trim().isEmpty()) {
+            throw new IllegalArgumentException("Column name cannot be null or empty");
+        }
+        if (itemIds == null || itemIds.isEmpty()) {
+            throw new IllegalArgumentException("Item IDs cannot be null or empty");
+        }
+        if (itemIds.stream().anyMatch(id -> id == null || id <= 0)) {
+            throw new IllegalArgumentException("Item IDs must be positive integers");
+        }
+        if (new HashSet<>(itemIds).size() != itemIds.size()) {
+            throw new IllegalArgumentException("Item IDs must be unique");
+        }
+        if (afterItemId != null && itemIds.contains(afterItemId)) {
+            throw new IllegalArgumentException("Cannot place items after an item that is being moved");
+        }
+        itemIds = List.copyOf(itemIds);
+    }
+}
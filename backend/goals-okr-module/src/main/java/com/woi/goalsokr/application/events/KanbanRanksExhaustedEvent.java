@@ -0,0 +1,16 @@
+package com.woi.goalsokr.application.events;
+
+import com.woi.goalsokr.domain.enums.KanbanColumn;
+
+/**
+ * In-process event: a kanban item got a rank longer than KanbanRankGenerator.REBALANCE_LENGTH
+ * Published by KanbanItemOrdering; the column is renumbered in the background after commit.
+ *
+ * @param userId Owner of the kanban board
+ * @param column Column whose ranks should be renumbered
+ */
+public record KanbanRanksExhaustedEvent(
+    Long userId,
+    KanbanColumn column
+) {
+}
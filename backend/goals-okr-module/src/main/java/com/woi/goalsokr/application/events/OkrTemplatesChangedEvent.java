@@ -0,0 +1,15 @@
+package com.woi.goalsokr.application.events;
+
+/**
+ * In-process event: a template objective or key result (createdByUserId NULL) was created or deleted
+ * Published by the create/delete objective and key result handlers; the template catalogue
+ * (OkrTemplateCatalogueStore) is reloaded after commit.
+ *
+ * @param entityType Changed entity type ('objective', 'key_result')
+ * @param entityId Changed entity ID
+ */
+public record OkrTemplatesChangedEvent(
+    String entityType,
+    Long entityId
+) {
+}
@@ -2,6 +2,7 @@ package com.woi.goalsokr.application.handlers.commands;
 
 import com.woi.goalsokr.application.commands.AddKanbanItemCommand;
 import com.woi.goalsokr.application.results.KanbanItemResult;
+import com.woi.goalsokr.application.services.KanbanItemOrdering;
 import com.woi.goalsokr.domain.entities.KanbanItem;
 import com.woi.goalsokr.domain.enums.EntityType;
 import com.woi.goalsokr.domain.enums.ItemType;
@@ -19,14 +20,17 @@ public class AddKanbanItemCommandHandler {
     private final KanbanItemRepository kanbanItemRepository;
     private final UserModuleInterface userModule;
     private final EntityNumberGenerator numberGenerator;
+    private final KanbanItemOrdering kanbanItemOrdering;
 
     public AddKanbanItemCommandHandler(
             KanbanItemRepository kanbanItemRepository,
             UserModuleInterface userModule,
-            EntityNumberGenerator numberGenerator) {
+            EntityNumberGenerator numberGenerator,
+            KanbanItemOrdering kanbanItemOrdering) {
         this.kanbanItemRepository = kanbanItemRepository;
         this.userModule = userModule;
         this.numberGenerator = numberGenerator;
+        this.kanbanItemOrdering = kanbanItemOrdering;
     }
 
     @Transactional(noRollbackFor = {IllegalArgumentException.class})
@@ -51,11 +55,12 @@ public class AddKanbanItemCommandHandler {
             throw new IllegalArgumentException("Item already exists in kanban board");
         });
 
-        // Create kanban item (domain factory method validates)
+        // Create kanban item at the end of the TODO column (domain factory method validates)
         KanbanItem item = KanbanItem.create(
             command.userId(),
             itemType,
-            command.itemId()
+            command.itemId(),
+            kanbanItemOrdering.rankForNewItem(command.userId())
         );
 
         // Generate unique number
@@ -1,12 +1,14 @@
 package com.woi.goalsokr.application.handlers.commands;
 
 import com.woi.goalsokr.application.commands.CreateKeyResultCommand;
+import com.woi.goalsokr.application.events.OkrTemplatesChangedEvent;
 import com.woi.goalsokr.application.results.KeyResultResult;
 import com.woi.goalsokr.domain.entities.KeyResult;
 import com.woi.goalsokr.domain.enums.EntityType;
 import com.woi.goalsokr.domain.repositories.KeyResultRepository;
 import com.woi.goalsokr.domain.repositories.ObjectiveRepository;
 import com.woi.goalsokr.domain.services.EntityNumberGenerator;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,14 +20,17 @@ public class CreateKeyResultCommandHandler {
     private final KeyResultRepository keyResultRepository;
     private final ObjectiveRepository objectiveRepository;
     private final EntityNumberGenerator numberGenerator;
+    private final ApplicationEventPublisher eventPublisher;
 
     public CreateKeyResultCommandHandler(
             KeyResultRepository keyResultRepository,
             ObjectiveRepository objectiveRepository,
-            EntityNumberGenerator numberGenerator) {
+            EntityNumberGenerator numberGenerator,
+            ApplicationEventPublisher eventPublisher) {
         this.keyResultRepository = keyResultRepository;
         this.objectiveRepository = objectiveRepository;
         this.numberGenerator = numberGenerator;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -59,6 +64,9 @@ public class CreateKeyResultCommandHandler {
         // Save key result
         KeyResult savedKeyResult = keyResultRepository.save(keyResult);
 
+        // Key results created here are templates: reload the template catalogue after commit
+        eventPublisher.publishEvent(new OkrTemplatesChangedEvent("key_result", savedKeyResult.getId()));
+
         // Return result
         return KeyResultResult.from(savedKeyResult);
     }
@@ -1,11 +1,13 @@
 package com.woi.goalsokr.application.handlers.commands;
 
 import com.woi.goalsokr.application.commands.CreateObjectiveCommand;
+import com.woi.goalsokr.application.events.OkrTemplatesChangedEvent;
 import com.woi.goalsokr.application.results.ObjectiveResult;
 import com.woi.goalsokr.domain.entities.Objective;
 import com.woi.goalsokr.domain.enums.EntityType;
 import com.woi.goalsokr.domain.repositories.ObjectiveRepository;
 import com.woi.goalsokr.domain.services.EntityNumberGenerator;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,12 +18,15 @@ import org.springframework.transaction.annotation.Transactional;
 public class CreateObjectiveCommandHandler {
     private final ObjectiveRepository objectiveRepository;
     private final EntityNumberGenerator numberGenerator;
+    private final ApplicationEventPublisher eventPublisher;
 
     public CreateObjectiveCommandHandler(
             ObjectiveRepository objectiveRepository,
-            EntityNumberGenerator numberGenerator) {
+            EntityNumberGenerator numberGenerator,
+            ApplicationEventPublisher eventPublisher) {
         this.objectiveRepository = objectiveRepository;
         this.numberGenerator = numberGenerator;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -52,6 +57,11 @@ public class CreateObjectiveCommandHandler {
         // Save objective
         Objective savedObjective = objectiveRepository.save(objective);
 
+        // Templates are served from the template catalogue: reload it after commit
+        if (command.createdByUserId() == null) {
+            eventPublisher.publishEvent(new OkrTemplatesChangedEvent("objective", savedObjective.getId()));
+        }
+
         // Return result
         return ObjectiveResult.from(savedObjective);
     }
@@ -1,14 +1,14 @@
 package com.woi.goalsokr.application.handlers.commands;
 
 import com.woi.goalsokr.application.commands.DeleteKeyResultCommand;
+import com.woi.goalsokr.application.events.OkrTemplatesChangedEvent;
 import com.woi.goalsokr.domain.entities.KeyResult;
 import com.woi.goalsokr.domain.repositories.KeyResultRepository;
 import com.woi.goalsokr.domain.repositories.UserKeyResultInstanceRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-
 /**
  * Command handler for deleting a key result.
  * Only allowed when no user has started this key result (no UserKeyResultInstance).
@@ -17,12 +17,15 @@ import java.util.List;
 public class DeleteKeyResultCommandHandler {
     private final KeyResultRepository keyResultRepository;
     private final UserKeyResultInstanceRepository userKeyResultInstanceRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public DeleteKeyResultCommandHandler(
             KeyResultRepository keyResultRepository,
-            UserKeyResultInstanceRepository userKeyResultInstanceRepository) {
+            UserKeyResultInstanceRepository userKeyResultInstanceRepository,
+            ApplicationEventPublisher eventPublisher) {
         this.keyResultRepository = keyResultRepository;
         this.userKeyResultInstanceRepository = userKeyResultInstanceRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -30,11 +33,14 @@ public class DeleteKeyResultCommandHandler {
         KeyResult keyResult = keyResultRepository.findById(command.keyResultId())
             .orElseThrow(() -> new IllegalArgumentException("Key result not found with id: " + command.keyResultId()));
 
-        List<?> instances = userKeyResultInstanceRepository.findByKeyResultId(keyResult.getId());
-        if (!instances.isEmpty()) {
+        if (userKeyResultInstanceRepository.existsByKeyResultId(keyResult.getId())) {
             throw new IllegalArgumentException("Cannot delete key result: it is in use. Remove it from all progress boards first.");
         }
 
         keyResultRepository.delete(keyResult);
+
+        if (keyResult.getCreatedByUserId() == null) {
+            eventPublisher.publishEvent(new OkrTemplatesChangedEvent("key_result", keyResult.getId()));
+        }
     }
 }
@@ -1,64 +1,42 @@
 package com.woi.goalsokr.application.handlers.commands;
 
-import com.woi.goalsokr.application.commands.DeleteKanbanItemCommand;
 import com.woi.goalsokr.application.commands.DeleteObjectiveCommand;
-import com.woi.goalsokr.domain.entities.KeyResult;
+import com.woi.goalsokr.application.events.OkrTemplatesChangedEvent;
+import com.woi.goalsokr.application.services.UserOkrInstanceDeleter;
 import com.woi.goalsokr.domain.entities.Objective;
-import com.woi.goalsokr.domain.entities.Initiative;
-import com.woi.goalsokr.domain.entities.UserInitiativeInstance;
-import com.woi.goalsokr.domain.entities.UserKeyResultInstance;
-import com.woi.goalsokr.domain.entities.UserObjectiveInstance;
-import com.woi.goalsokr.domain.enums.ItemType;
-import com.woi.goalsokr.domain.repositories.KeyResultProgressRepository;
 import com.woi.goalsokr.domain.repositories.KeyResultRepository;
-import com.woi.goalsokr.domain.repositories.KanbanItemRepository;
 import com.woi.goalsokr.domain.repositories.ObjectiveRepository;
-import com.woi.goalsokr.domain.repositories.InitiativeRepository;
-import com.woi.goalsokr.domain.repositories.UserInitiativeInstanceRepository;
-import com.woi.goalsokr.domain.repositories.UserKeyResultInstanceRepository;
 import com.woi.goalsokr.domain.repositories.UserObjectiveInstanceRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-
 /**
  * Command handler for deleting an objective.
  * Cascades deletion of UserObjectiveInstances (and their kanban items, key result instances,
  * initiatives, etc.) so personal objectives on the kanban can be deleted.
  * Then deletes all key results under this objective, and finally the objective.
+ * All levels are deleted set-based (see UserOkrInstanceDeleter).
  */
 @Component
 public class DeleteObjectiveCommandHandler {
     private final ObjectiveRepository objectiveRepository;
     private final KeyResultRepository keyResultRepository;
     private final UserObjectiveInstanceRepository userObjectiveInstanceRepository;
-    private final UserKeyResultInstanceRepository userKeyResultInstanceRepository;
-    private final KeyResultProgressRepository keyResultProgressRepository;
-    private final UserInitiativeInstanceRepository userInitiativeInstanceRepository;
-    private final InitiativeRepository initiativeRepository;
-    private final KanbanItemRepository kanbanItemRepository;
-    private final DeleteKanbanItemCommandHandler deleteKanbanItemHandler;
+    private final UserOkrInstanceDeleter userOkrInstanceDeleter;
+    private final ApplicationEventPublisher eventPublisher;
 
     public DeleteObjectiveCommandHandler(
             ObjectiveRepository objectiveRepository,
             KeyResultRepository keyResultRepository,
             UserObjectiveInstanceRepository userObjectiveInstanceRepository,
-            UserKeyResultInstanceRepository userKeyResultInstanceRepository,
-            KeyResultProgressRepository keyResultProgressRepository,
-            UserInitiativeInstanceRepository userInitiativeInstanceRepository,
-            InitiativeRepository initiativeRepository,
-            KanbanItemRepository kanbanItemRepository,
-            DeleteKanbanItemCommandHandler deleteKanbanItemHandler) {
+            UserOkrInstanceDeleter userOkrInstanceDeleter,
+            ApplicationEventPublisher eventPublisher) {
         this.objectiveRepository = objectiveRepository;
         this.keyResultRepository = keyResultRepository;
         this.userObjectiveInstanceRepository = userObjectiveInstanceRepository;
-        this.userKeyResultInstanceRepository = userKeyResultInstanceRepository;
-        this.keyResultProgressRepository = keyResultProgressRepository;
-        this.userInitiativeInstanceRepository = userInitiativeInstanceRepository;
-        this.initiativeRepository = initiativeRepository;
-        this.kanbanItemRepository = kanbanItemRepository;
-        this.deleteKanbanItemHandler = deleteKanbanItemHandler;
+        this.userOkrInstanceDeleter = userOkrInstanceDeleter;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -66,54 +44,15 @@ public class DeleteObjectiveCommandHandler {
         Objective objective = objectiveRepository.findById(command.objectiveId())
             .orElseThrow(() -> new IllegalArgumentException("Objective not found with id: " + command.objectiveId()));
 
-        List<UserObjectiveInstance> instances = userObjectiveInstanceRepository.findByObjectiveId(objective.getId());
-        for (UserObjectiveInstance uoi : instances) {
-            deleteUserObjectiveInstance(uoi);
-        }
+        userOkrInstanceDeleter.deleteUserObjectiveInstances(
+            userObjectiveInstanceRepository.findIdsByObjectiveId(objective.getId()));
 
-        List<KeyResult> keyResults = keyResultRepository.findByObjectiveId(objective.getId());
-        for (KeyResult kr : keyResults) {
-            keyResultRepository.delete(kr);
-        }
+        keyResultRepository.deleteByObjectiveId(objective.getId());
         objectiveRepository.delete(objective);
-    }
 
-    private void deleteUserObjectiveInstance(UserObjectiveInstance uoi) {
-        Long userId = uoi.getUserId();
-        List<UserKeyResultInstance> krInstances = userKeyResultInstanceRepository.findByUserObjectiveInstanceId(uoi.getId());
-        for (UserKeyResultInstance ukri : krInstances) {
-            deleteUserKeyResultInstance(ukri, userId);
+        // Template objectives (and their template key results) are served from the template catalogue
+        if (objective.getCreatedByUserId() == null) {
+            eventPublisher.publishEvent(new OkrTemplatesChangedEvent("objective", objective.getId()));
         }
-        kanbanItemRepository.findByUserIdAndItemTypeAndItemId(userId, ItemType.OBJECTIVE, uoi.getId())
-            .ifPresent(item -> deleteKanbanItemHandler.handle(new DeleteKanbanItemCommand(item.getId())));
-        userObjectiveInstanceRepository.delete(uoi);
-    }
-
-    private void deleteUserKeyResultInstance(UserKeyResultInstance ukri, Long userId) {
-        keyResultProgressRepository.findByUserKeyResultInstanceId(ukri.getId())
-            .forEach(keyResultProgressRepository::delete);
-
-        List<UserInitiativeInstance> initiativeInstances = userInitiativeInstanceRepository.findByUserKeyResultInstanceId(ukri.getId());
-        for (UserInitiativeInstance uii : initiativeInstances) {
-            kanbanItemRepository.findByUserIdAndItemTypeAndItemId(userId, ItemType.INITIATIVE, uii.getId())
-                .ifPresent(item -> deleteKanbanItemHandler.handle(new DeleteKanbanItemCommand(item.getId())));
-            var initiativeOpt = initiativeRepository.findById(uii.getInitiativeId());
-            userInitiativeInstanceRepository.delete(uii);
-            initiativeOpt.ifPresent(init -> {
-                if (init.getCreatedByUserId() != null) {
-                    initiativeRepository.delete(init.getId());
-                }
-            });
-        }
-
-        kanbanItemRepository.findByUserIdAndItemTypeAndItemId(userId, ItemType.KEY_RESULT, ukri.getId())
-            .ifPresent(item -> deleteKanbanItemHandler.handle(new DeleteKanbanItemCommand(item.getId())));
-        var keyResultOpt = keyResultRepository.findById(ukri.getKeyResultId());
-        userKeyResultInstanceRepository.delete(ukri);
-        keyResultOpt.ifPresent(kr -> {
-            if (kr.getCreatedByUserId() != null) {
-                keyResultRepository.delete(kr);
-            }
-        });
     }
 }
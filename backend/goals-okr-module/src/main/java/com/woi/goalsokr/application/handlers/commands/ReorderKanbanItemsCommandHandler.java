@@ -0,0 +1,60 @@
+package com.woi.goalsokr.application.handlers.commands;
+
+import com.woi.goalsokr.application.commands.ReorderKanbanItemsCommand;
+import com.woi.goalsokr.application.results.KanbanItemResult;
+import com.woi.goalsokr.application.services.KanbanItemOrdering;
+import com.woi.goalsokr.domain.entities.KanbanItem;
+import com.woi.goalsokr.domain.enums.KanbanColumn;
+import com.woi.goalsokr.domain.repositories.KanbanItemRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Command handler for moving kanban items (one drag operation) in one transaction
+ * Only the moved items are written, with one batched UPDATE (see KanbanItemOrdering).
+ */
+@Component
+public class ReorderKanbanItemsCommandHandler {
+    private final KanbanItemRepository kanbanItemRepository;
+    private final KanbanItemOrdering kanbanItemOrdering;
+
+    public ReorderKanbanItemsCommandHandler(
+            KanbanItemRepository kanbanItemRepository,
+            KanbanItemOrdering kanbanItemOrdering) {
+        this.kanbanItemRepository = kanbanItemRepository;
+        this.kanbanItemOrdering = kanbanItemOrdering;
+    }
+
+    @Transactional
+    public List<KanbanItemResult> handle(ReorderKanbanItemsCommand command) {
+        KanbanColumn column;
+        try {
+            column = KanbanColumn.valueOf(command.columnName());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid column: " + command.columnName() + ". Must be one of: TODO, IN_PROGRESS, IN_REVIEW, DONE");
+        }
+
+        // 1. Load the items and check they belong to the user
+        Map<Long, KanbanItem> itemsById = kanbanItemRepository.findByIdIn(command.itemIds()).stream()
+            .collect(Collectors.toMap(KanbanItem::getId, Function.identity()));
+        List<KanbanItem> items = command.itemIds().stream()
+            .map(id -> {
+                KanbanItem item = itemsById.get(id);
+                if (item == null || !item.getUserId().equals(command.userId())) {
+                    throw new IllegalArgumentException("KanbanItem not found with id: " + id);
+                }
+                return item;
+            })
+            .collect(Collectors.toList());
+
+        // 2. Move them (in the given order) after the target item
+        return kanbanItemOrdering.moveAfter(command.userId(), column, items, command.afterItemId()).stream()
+            .map(KanbanItemResult::from)
+            .collect(Collectors.toList());
+    }
+}
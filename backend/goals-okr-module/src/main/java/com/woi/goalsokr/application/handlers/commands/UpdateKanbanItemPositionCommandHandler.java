@@ -2,6 +2,7 @@ package com.woi.goalsokr.application.handlers.commands;
 
 import com.woi.goalsokr.application.commands.UpdateKanbanItemPositionCommand;
 import com.woi.goalsokr.application.results.KanbanItemResult;
+import com.woi.goalsokr.application.services.KanbanItemOrdering;
 import com.woi.goalsokr.domain.entities.KanbanItem;
 import com.woi.goalsokr.domain.enums.KanbanColumn;
 import com.woi.goalsokr.domain.repositories.KanbanItemRepository;
@@ -10,13 +11,18 @@ import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Command handler for updating kanban item position
+ * The item gets a rank at the given index of the column; the other items are not changed.
  */
 @Component
 public class UpdateKanbanItemPositionCommandHandler {
     private final KanbanItemRepository kanbanItemRepository;
+    private final KanbanItemOrdering kanbanItemOrdering;
 
-    public UpdateKanbanItemPositionCommandHandler(KanbanItemRepository kanbanItemRepository) {
+    public UpdateKanbanItemPositionCommandHandler(
+            KanbanItemRepository kanbanItemRepository,
+            KanbanItemOrdering kanbanItemOrdering) {
         this.kanbanItemRepository = kanbanItemRepository;
+        this.kanbanItemOrdering = kanbanItemOrdering;
     }
 
     @Transactional
@@ -25,14 +31,11 @@ public class UpdateKanbanItemPositionCommandHandler {
         KanbanItem item = kanbanItemRepository.findById(command.itemId())
             .orElseThrow(() -> new IllegalArgumentException("KanbanItem not found with id: " + command.itemId()));
 
-        // Update position
+        // Move item to the position within the column
         KanbanColumn column = KanbanColumn.valueOf(command.columnName());
-        item.updatePosition(column, command.position());
-
-        // Save item
-        KanbanItem savedItem = kanbanItemRepository.save(item);
+        KanbanItem movedItem = kanbanItemOrdering.moveToIndex(item.getUserId(), column, item, command.position());
 
         // Return result
-        return KanbanItemResult.from(savedItem);
+        return KanbanItemResult.from(movedItem);
     }
 }
@@ -3,6 +3,7 @@ package com.woi.goalsokr.application.handlers.commands;
 import com.woi.goalsokr.application.commands.UpdateKeyResultProgressCommand;
 import com.woi.goalsokr.application.results.KeyResultProgressResult;
 import com.woi.goalsokr.domain.entities.KeyResultProgress;
+import com.woi.goalsokr.domain.repositories.KeyResultProgressHistoryRepository;
 import com.woi.goalsokr.domain.repositories.KeyResultProgressRepository;
 import com.woi.goalsokr.domain.repositories.KeyResultRepository;
 import com.woi.goalsokr.domain.repositories.UserKeyResultInstanceRepository;
@@ -12,20 +13,25 @@ import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Command handler for updating key result progress
+ *
+ * Overwrites the current value (one upsert, no read) and appends the update to the progress history.
  */
 @Component
 public class UpdateKeyResultProgressCommandHandler {
     private final KeyResultProgressRepository progressRepository;
+    private final KeyResultProgressHistoryRepository progressHistoryRepository;
     private final KeyResultRepository keyResultRepository;
     private final UserKeyResultInstanceRepository userKeyResultInstanceRepository;
     private final UserModuleInterface userModule;
 
     public UpdateKeyResultProgressCommandHandler(
             KeyResultProgressRepository progressRepository,
+            KeyResultProgressHistoryRepository progressHistoryRepository,
             KeyResultRepository keyResultRepository,
             UserKeyResultInstanceRepository userKeyResultInstanceRepository,
             UserModuleInterface userModule) {
         this.progressRepository = progressRepository;
+        this.progressHistoryRepository = progressHistoryRepository;
         this.keyResultRepository = keyResultRepository;
         this.userKeyResultInstanceRepository = userKeyResultInstanceRepository;
         this.userModule = userModule;
@@ -46,29 +52,23 @@ public class UpdateKeyResultProgressCommandHandler {
         var userKeyResultInstance = userKeyResultInstanceRepository.findById(command.userKeyResultInstanceId())
             .orElseThrow(() -> new IllegalArgumentException("User key result instance not found: " + command.userKeyResultInstanceId()));
 
-        // Note: User validation is done via UserKeyResultInstance → UserObjectiveInstance → UserGoalInstance chain
-
-        // Find or create progress (query via userKeyResultInstanceId)
-        var existingProgress = progressRepository.findByUserKeyResultInstanceId(command.userKeyResultInstanceId()).stream()
-            .filter(p -> p.getKeyResultId().equals(command.keyResultId()))
-            .findFirst();
-
-        KeyResultProgress progress;
-        if (existingProgress.isPresent()) {
-            progress = existingProgress.get();
-            progress.updateProgress(command.currentValue());
-        } else {
-            progress = KeyResultProgress.create(
-                command.keyResultId(),
-                command.userKeyResultInstanceId(),
-                command.currentValue()
-            );
+        if (!userKeyResultInstance.getKeyResultId().equals(command.keyResultId())) {
+            throw new IllegalArgumentException("User key result instance " + command.userKeyResultInstanceId()
+                + " does not belong to key result " + command.keyResultId());
         }
 
-        // Save progress
-        KeyResultProgress savedProgress = progressRepository.save(progress);
+        // Note: User validation is done via UserKeyResultInstance → UserObjectiveInstance → UserGoalInstance chain
+
+        // Overwrite the current value and record the update in the history
+        KeyResultProgress progress = KeyResultProgress.create(
+            command.keyResultId(),
+            command.userKeyResultInstanceId(),
+            command.currentValue()
+        );
+        KeyResultProgress savedProgress = progressRepository.upsert(progress);
+        progressHistoryRepository.append(savedProgress);
 
-        // Return result
+        // Return the row as stored (not the in-memory value it was created from)
         return KeyResultProgressResult.from(savedProgress);
     }
 }
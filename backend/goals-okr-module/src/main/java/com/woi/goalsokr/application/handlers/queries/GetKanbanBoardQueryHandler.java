@@ -0,0 +1,266 @@
+package com.woi.goalsokr.application.handlers.queries;
+
+import com.woi.goalsokr.application.queries.GetKanbanBoardQuery;
+import com.woi.goalsokr.application.results.KanbanBoardResult;
+import com.woi.goalsokr.application.results.KanbanCardResult;
+import com.woi.goalsokr.application.results.KanbanColumnResult;
+import com.woi.goalsokr.application.results.KanbanItemResult;
+import com.woi.goalsokr.domain.entities.Initiative;
+import com.woi.goalsokr.domain.entities.KanbanItem;
+import com.woi.goalsokr.domain.entities.KeyResult;
+import com.woi.goalsokr.domain.entities.KeyResultProgress;
+import com.woi.goalsokr.domain.entities.Objective;
+import com.woi.goalsokr.domain.entities.UserInitiativeInstance;
+import com.woi.goalsokr.domain.entities.UserKeyResultInstance;
+import com.woi.goalsokr.domain.entities.UserObjectiveInstance;
+import com.woi.goalsokr.domain.enums.ItemType;
+import com.woi.goalsokr.domain.enums.KanbanColumn;
+import com.woi.goalsokr.domain.repositories.InitiativeRepository;
+import com.woi.goalsokr.domain.repositories.KanbanItemRepository;
+import com.woi.goalsokr.domain.repositories.KeyResultProgressRepository;
+import com.woi.goalsokr.domain.repositories.KeyResultRepository;
+import com.woi.goalsokr.domain.repositories.ObjectiveRepository;
+import com.woi.goalsokr.domain.repositories.UserInitiativeInstanceRepository;
+import com.woi.goalsokr.domain.repositories.UserKeyResultInstanceRepository;
+import com.woi.goalsokr.domain.repositories.UserObjectiveInstanceRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Query handler for getting the enriched kanban board of a user
+ *
+ * Loads the board in a fixed number of queries, independent of the number of cards:
+ * kanban items, then each level of instances and templates with one batched lookup
+ * (initiative instances → key result instances → objective instances → initiatives →
+ * key results → objectives → progress).
+ *
+ * GOAL items are returned without enrichment: the goal layer was removed (V57).
+ */
+@Component
+public class GetKanbanBoardQueryHandler {
+    private static final Comparator<KanbanItem> BOARD_ORDER = Comparator
+        .comparing(KanbanItem::getRank, Comparator.nullsLast(Comparator.naturalOrder()))
+        .thenComparing(KanbanItem::getId);
+
+    private final KanbanItemRepository kanbanItemRepository;
+    private final UserObjectiveInstanceRepository userObjectiveInstanceRepository;
+    private final UserKeyResultInstanceRepository userKeyResultInstanceRepository;
+    private final UserInitiativeInstanceRepository userInitiativeInstanceRepository;
+    private final ObjectiveRepository objectiveRepository;
+    private final KeyResultRepository keyResultRepository;
+    private final InitiativeRepository initiativeRepository;
+    private final KeyResultProgressRepository keyResultProgressRepository;
+
+    public GetKanbanBoardQueryHandler(
+            KanbanItemRepository kanbanItemRepository,
+            UserObjectiveInstanceRepository userObjectiveInstanceRepository,
+            UserKeyResultInstanceRepository userKeyResultInstanceRepository,
+            UserInitiativeInstanceRepository userInitiativeInstanceRepository,
+            ObjectiveRepository objectiveRepository,
+            KeyResultRepository keyResultRepository,
+            InitiativeRepository initiativeRepository,
+            KeyResultProgressRepository keyResultProgressRepository) {
+        this.kanbanItemRepository = kanbanItemRepository;
+        this.userObjectiveInstanceRepository = userObjectiveInstanceRepository;
+        this.userKeyResultInstanceRepository = userKeyResultInstanceRepository;
+        this.userInitiativeInstanceRepository = userInitiativeInstanceRepository;
+        this.objectiveRepository = objectiveRepository;
+        this.keyResultRepository = keyResultRepository;
+        this.initiativeRepository = initiativeRepository;
+        this.keyResultProgressRepository = keyResultProgressRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public KanbanBoardResult handle(GetKanbanBoardQuery query) {
+        // 1. Kanban items of the user
+        List<KanbanItem> items = kanbanItemRepository.findByUserId(query.userId());
+
+        // 2. User instances the items point to (initiative → key result → objective instances)
+        Map<Long, UserInitiativeInstance> initiativeInstances = byId(
+            userInitiativeInstanceRepository.findByIdIn(itemIds(items, ItemType.INITIATIVE)),
+            UserInitiativeInstance::getId);
+
+        Set<Long> keyResultInstanceIds = new HashSet<>(itemIds(items, ItemType.KEY_RESULT));
+        initiativeInstances.values().forEach(uii -> keyResultInstanceIds.add(uii.getUserKeyResultInstanceId()));
+        Map<Long, UserKeyResultInstance> keyResultInstances = byId(
+            userKeyResultInstanceRepository.findByIdIn(nonNull(keyResultInstanceIds)),
+            UserKeyResultInstance::getId);
+
+        Map<Long, UserObjectiveInstance> objectiveInstances = byId(
+            userObjectiveInstanceRepository.findByIdIn(itemIds(items, ItemType.OBJECTIVE)),
+            UserObjectiveInstance::getId);
+
+        // 3. Templates (initiatives → key results → objectives)
+        Map<Long, Initiative> initiatives = byId(
+            initiativeRepository.findByIdIn(nonNull(initiativeInstances.values().stream()
+                .map(UserInitiativeInstance::getInitiativeId)
+                .collect(Collectors.toSet()))),
+            Initiative::getId);
+
+        Set<Long> keyResultIds = new HashSet<>();
+        keyResultInstances.values().forEach(ukri -> keyResultIds.add(ukri.getKeyResultId()));
+        initiatives.values().forEach(initiative -> keyResultIds.add(initiative.getKeyResultId()));
+        Map<Long, KeyResult> keyResults = byId(keyResultRepository.findByIdIn(nonNull(keyResultIds)), KeyResult::getId);
+
+        Set<Long> objectiveIds = new HashSet<>();
+        objectiveInstances.values().forEach(uoi -> objectiveIds.add(uoi.getObjectiveId()));
+        keyResults.values().forEach(keyResult -> objectiveIds.add(keyResult.getObjectiveId()));
+        Map<Long, Objective> objectives = byId(objectiveRepository.findByIdIn(nonNull(objectiveIds)), Objective::getId);
+
+        // 4. Latest progress per key result instance
+        Map<Long, KeyResultProgress> latestProgress = keyResultProgressRepository
+            .findByUserKeyResultInstanceIdIn(new ArrayList<>(keyResultInstances.keySet())).stream()
+            .collect(Collectors.toMap(
+                KeyResultProgress::getUserKeyResultInstanceId,
+                Function.identity(),
+                (a, b) -> isNewer(b, a) ? b : a));
+
+        // 5. Build the cards and group them by column (all columns, in board order)
+        BoardData data = new BoardData(initiativeInstances, keyResultInstances, objectiveInstances,
+            initiatives, keyResults, objectives, latestProgress);
+        Map<KanbanColumn, List<KanbanCardResult>> cardsByColumn = new EnumMap<>(KanbanColumn.class);
+        for (KanbanColumn column : KanbanColumn.values()) {
+            cardsByColumn.put(column, new ArrayList<>());
+        }
+        items.stream()
+            .sorted(BOARD_ORDER)
+            .forEach(item -> cardsByColumn.get(item.getColumnName()).add(toCard(item, data)));
+
+        List<KanbanColumnResult> columns = cardsByColumn.entrySet().stream()
+            .map(entry -> new KanbanColumnResult(entry.getKey().name(), entry.getValue()))
+            .collect(Collectors.toList());
+        return new KanbanBoardResult(query.userId(), columns);
+    }
+
+    /**
+     * Everything loaded for the board, keyed by ID
+     */
+    private record BoardData(
+        Map<Long, UserInitiativeInstance> initiativeInstances,
+        Map<Long, UserKeyResultInstance> keyResultInstances,
+        Map<Long, UserObjectiveInstance> objectiveInstances,
+        Map<Long, Initiative> initiatives,
+        Map<Long, KeyResult> keyResults,
+        Map<Long, Objective> objectives,
+        Map<Long, KeyResultProgress> latestProgress
+    ) {
+    }
+
+    private KanbanCardResult toCard(KanbanItem item, BoardData data) {
+        String titleNl = null;
+        String titleEn = null;
+        String instanceNumber = null;
+        UserKeyResultInstance keyResultInstance = null;
+        KeyResult keyResult = null;
+        Objective objective = null;
+
+        switch (item.getItemType()) {
+            case OBJECTIVE -> {
+                UserObjectiveInstance objectiveInstance = data.objectiveInstances().get(item.getItemId());
+                if (objectiveInstance != null) {
+                    instanceNumber = objectiveInstance.getNumber();
+                    objective = data.objectives().get(objectiveInstance.getObjectiveId());
+                }
+                if (objective != null) {
+                    titleNl = objective.getTitleNl();
+                    titleEn = objective.getTitleEn();
+                }
+            }
+            case KEY_RESULT -> {
+                keyResultInstance = data.keyResultInstances().get(item.getItemId());
+                if (keyResultInstance != null) {
+                    instanceNumber = keyResultInstance.getNumber();
+                    keyResult = data.keyResults().get(keyResultInstance.getKeyResultId());
+                }
+                if (keyResult != null) {
+                    titleNl = keyResult.getTitleNl();
+                    titleEn = keyResult.getTitleEn();
+                }
+            }
+            case INITIATIVE -> {
+                UserInitiativeInstance initiativeInstance = data.initiativeInstances().get(item.getItemId());
+                Initiative initiative = null;
+                if (initiativeInstance != null) {
+                    instanceNumber = initiativeInstance.getNumber();
+                    keyResultInstance = data.keyResultInstances().get(initiativeInstance.getUserKeyResultInstanceId());
+                    initiative = data.initiatives().get(initiativeInstance.getInitiativeId());
+                }
+                if (initiative != null) {
+                    titleNl = initiative.getTitleNl();
+                    titleEn = initiative.getTitleEn();
+                }
+                // Custom initiatives may have no template key result: use the one of the instance
+                Long keyResultId = initiative != null && initiative.getKeyResultId() != null
+                    ? initiative.getKeyResultId()
+                    : keyResultInstance != null ? keyResultInstance.getKeyResultId() : null;
+                keyResult = keyResultId != null ? data.keyResults().get(keyResultId) : null;
+            }
+            case GOAL -> {
+                // Goal layer removed: nothing to resolve
+            }
+        }
+
+        if (keyResult != null && objective == null) {
+            objective = data.objectives().get(keyResult.getObjectiveId());
+        }
+        KeyResultProgress progress = keyResultInstance != null
+            ? data.latestProgress().get(keyResultInstance.getId())
+            : null;
+
+        return new KanbanCardResult(
+            KanbanItemResult.from(item),
+            titleNl,
+            titleEn,
+            instanceNumber,
+            objective != null ? objective.getLifeDomainId() : null,
+            objective != null ? objective.getId() : null,
+            objective != null ? objective.getTitleNl() : null,
+            objective != null ? objective.getTitleEn() : null,
+            keyResult != null ? keyResult.getId() : null,
+            keyResult != null ? keyResult.getTitleNl() : null,
+            keyResult != null ? keyResult.getTitleEn() : null,
+            keyResult != null ? keyResult.getTargetValue() : null,
+            keyResult != null ? keyResult.getUnit() : null,
+            progress != null ? progress.getCurrentValue() : null,
+            progress != null && progress.getUpdatedAt() != null ? progress.getUpdatedAt().toString() : null
+        );
+    }
+
+    private static List<Long> itemIds(List<KanbanItem> items, ItemType itemType) {
+        return items.stream()
+            .filter(item -> item.getItemType() == itemType)
+            .map(KanbanItem::getItemId)
+            .filter(Objects::nonNull)
+            .distinct()
+            .collect(Collectors.toList());
+    }
+
+    private static List<Long> nonNull(Set<Long> ids) {
+        return ids.stream()
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
+    private static <T> Map<Long, T> byId(List<T> entities, Function<T, Long> id) {
+        return entities.stream()
+            .collect(Collectors.toMap(id, Function.identity(), (a, b) -> a));
+    }
+
+    private static boolean isNewer(KeyResultProgress candidate, KeyResultProgress current) {
+        if (candidate.getUpdatedAt() == null) {
+            return false;
+        }
+        return current.getUpdatedAt() == null || candidate.getUpdatedAt().isAfter(current.getUpdatedAt());
+    }
+}
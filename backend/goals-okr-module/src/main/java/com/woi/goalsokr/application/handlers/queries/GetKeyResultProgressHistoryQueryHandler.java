@@ -0,0 +1,44 @@
+package com.woi.goalsokr.application.handlers.queries;
+
+import com.woi.goalsokr.application.queries.GetKeyResultProgressHistoryQuery;
+import com.woi.goalsokr.application.results.KeyResultProgressHistoryResult;
+import com.woi.goalsokr.application.results.KeyResultProgressPointResult;
+import com.woi.goalsokr.domain.repositories.KeyResultProgressHistoryRepository;
+import com.woi.goalsokr.domain.repositories.UserKeyResultInstanceRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Query handler for getting the progress history of a user key result instance
+ */
+@Component
+public class GetKeyResultProgressHistoryQueryHandler {
+    private final KeyResultProgressHistoryRepository progressHistoryRepository;
+    private final UserKeyResultInstanceRepository userKeyResultInstanceRepository;
+
+    public GetKeyResultProgressHistoryQueryHandler(
+            KeyResultProgressHistoryRepository progressHistoryRepository,
+            UserKeyResultInstanceRepository userKeyResultInstanceRepository) {
+        this.progressHistoryRepository = progressHistoryRepository;
+        this.userKeyResultInstanceRepository = userKeyResultInstanceRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public KeyResultProgressHistoryResult handle(GetKeyResultProgressHistoryQuery query) {
+        userKeyResultInstanceRepository.findById(query.userKeyResultInstanceId())
+            .orElseThrow(() -> new IllegalArgumentException("User key result instance not found: " + query.userKeyResultInstanceId()));
+
+        // Whole days: [from 00:00, day after to 00:00)
+        List<KeyResultProgressPointResult> points = progressHistoryRepository.findBuckets(
+                query.userKeyResultInstanceId(),
+                query.bucketSize(),
+                query.from().atStartOfDay(),
+                query.to().plusDays(1).atStartOfDay()).stream()
+            .map(KeyResultProgressPointResult::from)
+            .collect(Collectors.toList());
+        return new KeyResultProgressHistoryResult(query.userKeyResultInstanceId(), query.bucketSize(), points);
+    }
+}
@@ -2,34 +2,40 @@ package com.woi.goalsokr.application.handlers.queries;
 
 import com.woi.goalsokr.application.queries.GetKeyResultsByObjectiveQuery;
 import com.woi.goalsokr.application.results.KeyResultResult;
-import com.woi.goalsokr.domain.entities.KeyResult;
+import com.woi.goalsokr.application.services.OkrTemplateCatalogue;
+import com.woi.goalsokr.application.services.OkrTemplateCatalogueStore;
 import com.woi.goalsokr.domain.repositories.KeyResultRepository;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
 
 /**
  * Query handler for getting key results by objective
+ * Templates come from the template catalogue; a user's own key results are merged in
+ * with one query on (objective, created_by_user_id).
  */
 @Component
 public class GetKeyResultsByObjectiveQueryHandler {
     private final KeyResultRepository keyResultRepository;
+    private final OkrTemplateCatalogueStore templateCatalogueStore;
 
-    public GetKeyResultsByObjectiveQueryHandler(KeyResultRepository keyResultRepository) {
+    public GetKeyResultsByObjectiveQueryHandler(
+            KeyResultRepository keyResultRepository,
+            OkrTemplateCatalogueStore templateCatalogueStore) {
         this.keyResultRepository = keyResultRepository;
+        this.templateCatalogueStore = templateCatalogueStore;
     }
 
-    @Transactional(readOnly = true)
     public List<KeyResultResult> handle(GetKeyResultsByObjectiveQuery query) {
-        List<KeyResult> keyResults = query.userId() != null
-            ? keyResultRepository.findByObjectiveIdAndUserFilteredOrderedByOrderIndex(query.objectiveId(), query.userId())
-            : keyResultRepository.findByObjectiveIdOrderedByOrderIndex(query.objectiveId()).stream()
-                .filter(kr -> kr.getCreatedByUserId() == null)
-                .collect(Collectors.toList());
-        return keyResults.stream()
+        List<KeyResultResult> templates = templateCatalogueStore.current().keyResultsOfObjective(query.objectiveId());
+        if (query.userId() == null) {
+            return templates;
+        }
+        List<KeyResultResult> own = keyResultRepository.findByObjectiveIdAndCreatedByUserId(query.objectiveId(), query.userId())
+            .stream()
             .map(KeyResultResult::from)
             .collect(Collectors.toList());
+        return OkrTemplateCatalogue.merge(templates, own, KeyResultResult::orderIndex);
     }
 }
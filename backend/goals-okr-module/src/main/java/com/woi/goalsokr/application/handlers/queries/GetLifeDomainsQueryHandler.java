@@ -2,28 +2,23 @@ package com.woi.goalsokr.application.handlers.queries;
 
 import com.woi.goalsokr.application.queries.GetLifeDomainsQuery;
 import com.woi.goalsokr.application.results.LifeDomainResult;
-import com.woi.goalsokr.domain.repositories.LifeDomainRepository;
+import com.woi.goalsokr.application.services.OkrTemplateCatalogueStore;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
- * Query handler for getting all life domains
+ * Query handler for getting all life domains (from the template catalogue)
  */
 @Component("okrGetLifeDomainsQueryHandler")
 public class GetLifeDomainsQueryHandler {
-    private final LifeDomainRepository lifeDomainRepository;
+    private final OkrTemplateCatalogueStore templateCatalogueStore;
     
-    public GetLifeDomainsQueryHandler(LifeDomainRepository lifeDomainRepository) {
-        this.lifeDomainRepository = lifeDomainRepository;
+    public GetLifeDomainsQueryHandler(OkrTemplateCatalogueStore templateCatalogueStore) {
+        this.templateCatalogueStore = templateCatalogueStore;
     }
     
-    @Transactional(readOnly = true)
     public List<LifeDomainResult> handle(GetLifeDomainsQuery query) {
-        return lifeDomainRepository.findAllOrderedByDisplayOrder().stream()
-            .map(LifeDomainResult::from)
-            .collect(Collectors.toList());
+        return templateCatalogueStore.current().lifeDomains();
     }
 }
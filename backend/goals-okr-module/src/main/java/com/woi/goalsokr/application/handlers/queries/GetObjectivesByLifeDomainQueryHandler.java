@@ -2,34 +2,40 @@ package com.woi.goalsokr.application.handlers.queries;
 
 import com.woi.goalsokr.application.queries.GetObjectivesByLifeDomainQuery;
 import com.woi.goalsokr.application.results.ObjectiveResult;
-import com.woi.goalsokr.domain.entities.Objective;
+import com.woi.goalsokr.application.services.OkrTemplateCatalogue;
+import com.woi.goalsokr.application.services.OkrTemplateCatalogueStore;
 import com.woi.goalsokr.domain.repositories.ObjectiveRepository;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
 
 /**
  * Query handler for getting objectives by life domain
+ * Templates come from the template catalogue; a user's own objectives are merged in
+ * with one query on (life domain, created_by_user_id).
  */
 @Component
 public class GetObjectivesByLifeDomainQueryHandler {
     private final ObjectiveRepository objectiveRepository;
+    private final OkrTemplateCatalogueStore templateCatalogueStore;
 
-    public GetObjectivesByLifeDomainQueryHandler(ObjectiveRepository objectiveRepository) {
+    public GetObjectivesByLifeDomainQueryHandler(
+            ObjectiveRepository objectiveRepository,
+            OkrTemplateCatalogueStore templateCatalogueStore) {
         this.objectiveRepository = objectiveRepository;
+        this.templateCatalogueStore = templateCatalogueStore;
     }
 
-    @Transactional(readOnly = true)
     public List<ObjectiveResult> handle(GetObjectivesByLifeDomainQuery query) {
-        List<Objective> objectives = query.userId() != null
-            ? objectiveRepository.findByLifeDomainIdAndUserFilteredOrderedByOrderIndex(query.lifeDomainId(), query.userId())
-            : objectiveRepository.findByLifeDomainIdOrderedByOrderIndex(query.lifeDomainId()).stream()
-                .filter(o -> o.getCreatedByUserId() == null) // anonymous: only templates
-                .collect(Collectors.toList());
-        return objectives.stream()
+        List<ObjectiveResult> templates = templateCatalogueStore.current().objectivesOfLifeDomain(query.lifeDomainId());
+        if (query.userId() == null) {
+            return templates; // anonymous: only templates
+        }
+        List<ObjectiveResult> own = objectiveRepository.findByLifeDomainIdAndCreatedByUserId(query.lifeDomainId(), query.userId())
+            .stream()
             .map(ObjectiveResult::from)
             .collect(Collectors.toList());
+        return OkrTemplateCatalogue.merge(templates, own, ObjectiveResult::orderIndex);
     }
 }
@@ -0,0 +1,114 @@
+package com.woi.goalsokr.application.handlers.queries;
+
+import com.woi.goalsokr.application.queries.GetUserOkrTreeQuery;
+import com.woi.goalsokr.application.results.KeyResultProgressResult;
+import com.woi.goalsokr.application.results.UserInitiativeInstanceResult;
+import com.woi.goalsokr.application.results.UserKeyResultInstanceResult;
+import com.woi.goalsokr.application.results.UserKeyResultNodeResult;
+import com.woi.goalsokr.application.results.UserObjectiveInstanceResult;
+import com.woi.goalsokr.application.results.UserObjectiveNodeResult;
+import com.woi.goalsokr.application.results.UserOkrTreeResult;
+import com.woi.goalsokr.domain.entities.KeyResultProgress;
+import com.woi.goalsokr.domain.entities.UserInitiativeInstance;
+import com.woi.goalsokr.domain.entities.UserKeyResultInstance;
+import com.woi.goalsokr.domain.entities.UserObjectiveInstance;
+import com.woi.goalsokr.domain.repositories.KeyResultProgressRepository;
+import com.woi.goalsokr.domain.repositories.UserInitiativeInstanceRepository;
+import com.woi.goalsokr.domain.repositories.UserKeyResultInstanceRepository;
+import com.woi.goalsokr.domain.repositories.UserObjectiveInstanceRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Query handler for getting the OKR tree of a user
+ *
+ * Loads the tree in four queries, independent of its size:
+ * objective instances of the user, then one batched lookup per level
+ * (key result instances → initiative instances → progress of the key result instances).
+ */
+@Component
+public class GetUserOkrTreeQueryHandler {
+    private final UserObjectiveInstanceRepository userObjectiveInstanceRepository;
+    private final UserKeyResultInstanceRepository userKeyResultInstanceRepository;
+    private final UserInitiativeInstanceRepository userInitiativeInstanceRepository;
+    private final KeyResultProgressRepository keyResultProgressRepository;
+
+    public GetUserOkrTreeQueryHandler(
+            UserObjectiveInstanceRepository userObjectiveInstanceRepository,
+            UserKeyResultInstanceRepository userKeyResultInstanceRepository,
+            UserInitiativeInstanceRepository userInitiativeInstanceRepository,
+            KeyResultProgressRepository keyResultProgressRepository) {
+        this.userObjectiveInstanceRepository = userObjectiveInstanceRepository;
+        this.userKeyResultInstanceRepository = userKeyResultInstanceRepository;
+        this.userInitiativeInstanceRepository = userInitiativeInstanceRepository;
+        this.keyResultProgressRepository = keyResultProgressRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public UserOkrTreeResult handle(GetUserOkrTreeQuery query) {
+        // 1. Objective instances of the user
+        List<UserObjectiveInstance> objectiveInstances = userObjectiveInstanceRepository.findByUserId(query.userId());
+
+        // 2. Key result instances of those objective instances
+        List<UserKeyResultInstance> keyResultInstances = userKeyResultInstanceRepository.findByUserObjectiveInstanceIdIn(
+            objectiveInstances.stream().map(UserObjectiveInstance::getId).collect(Collectors.toList()));
+        List<Long> keyResultInstanceIds = keyResultInstances.stream()
+            .map(UserKeyResultInstance::getId)
+            .collect(Collectors.toList());
+
+        // 3. Initiative instances and latest progress of those key result instances
+        Map<Long, List<UserInitiativeInstance>> initiativesByKeyResultInstance = userInitiativeInstanceRepository
+            .findByUserKeyResultInstanceIdIn(keyResultInstanceIds).stream()
+            .sorted(Comparator.comparing(UserInitiativeInstance::getId))
+            .collect(Collectors.groupingBy(UserInitiativeInstance::getUserKeyResultInstanceId));
+        Map<Long, KeyResultProgress> latestProgress = keyResultProgressRepository
+            .findByUserKeyResultInstanceIdIn(keyResultInstanceIds).stream()
+            .collect(Collectors.toMap(
+                KeyResultProgress::getUserKeyResultInstanceId,
+                Function.identity(),
+                (a, b) -> isNewer(b, a) ? b : a));
+
+        // 4. Build the tree (each level in ID order, i.e. the order in which it was started)
+        Map<Long, List<UserKeyResultNodeResult>> keyResultsByObjectiveInstance = keyResultInstances.stream()
+            .sorted(Comparator.comparing(UserKeyResultInstance::getId))
+            .collect(Collectors.groupingBy(
+                UserKeyResultInstance::getUserObjectiveInstanceId,
+                Collectors.mapping(ukri -> toKeyResultNode(ukri, initiativesByKeyResultInstance, latestProgress),
+                    Collectors.toList())));
+
+        List<UserObjectiveNodeResult> objectives = objectiveInstances.stream()
+            .sorted(Comparator.comparing(UserObjectiveInstance::getId))
+            .map(uoi -> new UserObjectiveNodeResult(
+                UserObjectiveInstanceResult.from(uoi),
+                keyResultsByObjectiveInstance.getOrDefault(uoi.getId(), List.of())))
+            .collect(Collectors.toList());
+        return new UserOkrTreeResult(query.userId(), objectives);
+    }
+
+    private UserKeyResultNodeResult toKeyResultNode(
+            UserKeyResultInstance keyResultInstance,
+            Map<Long, List<UserInitiativeInstance>> initiativesByKeyResultInstance,
+            Map<Long, KeyResultProgress> latestProgress) {
+        KeyResultProgress progress = latestProgress.get(keyResultInstance.getId());
+        return new UserKeyResultNodeResult(
+            UserKeyResultInstanceResult.from(keyResultInstance),
+            progress != null ? KeyResultProgressResult.from(progress) : null,
+            initiativesByKeyResultInstance.getOrDefault(keyResultInstance.getId(), List.of()).stream()
+                .map(UserInitiativeInstanceResult::from)
+                .collect(Collectors.toList())
+        );
+    }
+
+    private static boolean isNewer(KeyResultProgress candidate, KeyResultProgress current) {
+        if (candidate.getUpdatedAt() == null) {
+            return false;
+        }
+        return current.getUpdatedAt() == null || candidate.getUpdatedAt().isAfter(current.getUpdatedAt());
+    }
+}
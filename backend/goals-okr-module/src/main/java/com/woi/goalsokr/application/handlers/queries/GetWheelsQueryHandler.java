@@ -2,28 +2,23 @@ package com.woi.goalsokr.application.handlers.queries;
 
 import com.woi.goalsokr.application.queries.GetWheelsQuery;
 import com.woi.goalsokr.application.results.WheelResult;
-import com.woi.goalsokr.domain.repositories.WheelRepository;
+import com.woi.goalsokr.application.services.OkrTemplateCatalogueStore;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
- * Query handler for getting all wheels
+ * Query handler for getting all wheels (from the template catalogue)
  */
 @Component("okrGetWheelsQueryHandler")
 public class GetWheelsQueryHandler {
-    private final WheelRepository wheelRepository;
+    private final OkrTemplateCatalogueStore templateCatalogueStore;
     
-    public GetWheelsQueryHandler(WheelRepository wheelRepository) {
-        this.wheelRepository = wheelRepository;
+    public GetWheelsQueryHandler(OkrTemplateCatalogueStore templateCatalogueStore) {
+        this.templateCatalogueStore = templateCatalogueStore;
     }
     
-    @Transactional(readOnly = true)
     public List<WheelResult> handle(GetWheelsQuery query) {
-        return wheelRepository.findAllOrderedByDisplayOrder().stream()
-            .map(WheelResult::from)
-            .collect(Collectors.toList());
+        return templateCatalogueStore.current().wheels();
     }
 }
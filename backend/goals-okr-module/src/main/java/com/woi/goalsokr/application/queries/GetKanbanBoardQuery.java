@@ -0,0 +1,15 @@
+package com.woi.goalsokr.application.queries;
+
+/**
+ * Query to get the kanban board of a user: all items grouped by column,
+ * with the titles, parent OKR and latest progress resolved
+ */
+public record GetKanbanBoardQuery(
+    Long userId
+) {
+    public GetKanbanBoardQuery {
+        if (userId == null) {
+            throw new IllegalArgumentException("User ID cannot be null");
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.woi.goalsokr.application.queries;
+
+import com.woi.goalsokr.domain.enums.ProgressBucketSize;
+
+import java.time.LocalDate;
+
+/**
+ * Query to get the progress history of a user key result instance, downsampled to days or weeks
+ *
+ * @param from First day of the range (inclusive)
+ * @param to Last day of the range (inclusive)
+ */
+public record GetKeyResultProgressHistoryQuery(
+    Long userKeyResultInstanceId,
+    ProgressBucketSize bucketSize,
+    LocalDate from,
+    LocalDate to
+) {
+    public GetKeyResultProgressHistoryQuery {
+        if (userKeyResultInstanceId == null) {
+            throw new IllegalArgumentException("User Key Result Instance ID cannot be null");
+        }
+        if (bucketSize == null) {
+            throw new IllegalArgumentException("Bucket size cannot be null");
+        }
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("From and to dates cannot be null");
+        }
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("To date cannot be before from date");
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.woi.goalsokr.application.queries;
+
+/**
+ * Query to get the OKR tree of a user: objective instances → key result instances
+ * (with their latest progress) → initiative instances
+ */
+public record GetUserOkrTreeQuery(
+    Long userId
+) {
+    public GetUserOkrTreeQuery {
+        if (userId == null) {
+            throw new IllegalArgumentException("User ID cannot be null");
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.woi.goalsokr.application.results;
+
+import java.util.List;
+
+/**
+ * Result DTO for the kanban board of a user (all columns, also empty ones, in board order)
+ */
+public record KanbanBoardResult(
+    Long userId,
+    List<KanbanColumnResult> columns
+) {
+}
@@ -0,0 +1,27 @@
+package com.woi.goalsokr.application.results;
+
+import java.math.BigDecimal;
+
+/**
+ * Result DTO for one card on the kanban board: the kanban item with the data needed to render it
+ *
+ * Fields that do not apply to the item type are null (e.g. keyResult* for an OBJECTIVE card).
+ */
+public record KanbanCardResult(
+    KanbanItemResult item,
+    String titleNl,
+    String titleEn,
+    String instanceNumber, // Number of the user instance the card points to (e.g. "KR-SUB-123")
+    Long lifeDomainId,
+    Long objectiveId,
+    String objectiveTitleNl,
+    String objectiveTitleEn,
+    Long keyResultId,
+    String keyResultTitleNl,
+    String keyResultTitleEn,
+    BigDecimal targetValue,
+    String unit,
+    BigDecimal currentValue, // Latest progress of the key result instance
+    String progressUpdatedAt
+) {
+}
@@ -0,0 +1,12 @@
+package com.woi.goalsokr.application.results;
+
+import java.util.List;
+
+/**
+ * Result DTO for one kanban column with its cards, in board order (rank)
+ */
+public record KanbanColumnResult(
+    String columnName, // TODO, IN_PROGRESS, IN_REVIEW, DONE
+    List<KanbanCardResult> cards
+) {
+}
@@ -12,6 +12,7 @@ public record KanbanItemResult(
     Long itemId,
     String columnName, // TODO, IN_PROGRESS, IN_REVIEW, DONE
     Integer position,
+    String rank, // Order within the column (compare as plain strings)
     String notes,
     String number,
     String createdAt,
@@ -30,6 +31,7 @@ public record KanbanItemResult(
             item.getItemId(),
             item.getColumnName().name(),
             item.getPosition(),
+            item.getRank(),
             item.getNotes(),
             item.getNumber(),
             item.getCreatedAt() != null ? item.getCreatedAt().toString() : null,
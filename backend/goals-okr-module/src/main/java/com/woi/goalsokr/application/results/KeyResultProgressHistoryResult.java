@@ -0,0 +1,15 @@
+package com.woi.goalsokr.application.results;
+
+import com.woi.goalsokr.domain.enums.ProgressBucketSize;
+
+import java.util.List;
+
+/**
+ * Result DTO for the progress history of a user key result instance
+ * Points are oldest first; days or weeks without updates have no point (the value carries over).
+ */
+public record KeyResultProgressHistoryResult(
+    Long userKeyResultInstanceId,
+    ProgressBucketSize bucketSize,
+    List<KeyResultProgressPointResult> points
+) {}
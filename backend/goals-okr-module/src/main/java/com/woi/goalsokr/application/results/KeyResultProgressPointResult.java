@@ -0,0 +1,27 @@
+package com.woi.goalsokr.application.results;
+
+import com.woi.goalsokr.domain.entities.KeyResultProgressBucket;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Result DTO for one data point (day or week) of the progress history
+ */
+public record KeyResultProgressPointResult(
+    LocalDate start,
+    BigDecimal value,
+    BigDecimal minValue,
+    BigDecimal maxValue,
+    int updates
+) {
+    public static KeyResultProgressPointResult from(KeyResultProgressBucket bucket) {
+        return new KeyResultProgressPointResult(
+            bucket.start(),
+            bucket.lastValue(),
+            bucket.minValue(),
+            bucket.maxValue(),
+            bucket.updates()
+        );
+    }
+}
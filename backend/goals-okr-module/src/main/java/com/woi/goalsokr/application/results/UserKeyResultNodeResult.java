@@ -0,0 +1,14 @@
+package com.woi.goalsokr.application.results;
+
+import java.util.List;
+
+/**
+ * Result DTO for one key result instance in the OKR tree, with its latest progress
+ * (null if no progress was recorded) and its initiative instances
+ */
+public record UserKeyResultNodeResult(
+    UserKeyResultInstanceResult keyResultInstance,
+    KeyResultProgressResult progress,
+    List<UserInitiativeInstanceResult> initiatives
+) {
+}
@@ -0,0 +1,12 @@
+package com.woi.goalsokr.application.results;
+
+import java.util.List;
+
+/**
+ * Result DTO for one objective instance in the OKR tree, with its key result instances
+ */
+public record UserObjectiveNodeResult(
+    UserObjectiveInstanceResult objectiveInstance,
+    List<UserKeyResultNodeResult> keyResults
+) {
+}
@@ -0,0 +1,12 @@
+package com.woi.goalsokr.application.results;
+
+import java.util.List;
+
+/**
+ * Result DTO for the OKR tree of a user (objective instances with their key result and initiative instances)
+ */
+public record UserOkrTreeResult(
+    Long userId,
+    List<UserObjectiveNodeResult> objectives
+) {
+}
@@ -0,0 +1,138 @@
+package com.woi.goalsokr.application.services;
+
+import com.woi.goalsokr.application.events.KanbanRanksExhaustedEvent;
+import com.woi.goalsokr.domain.entities.KanbanItem;
+import com.woi.goalsokr.domain.enums.KanbanColumn;
+import com.woi.goalsokr.domain.repositories.KanbanItemRepository;
+import com.woi.goalsokr.domain.services.KanbanRankGenerator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Places kanban items within a column, using fractional ranks (see KanbanRankGenerator)
+ *
+ * Rules:
+ * - Moved items get ranks between their new neighbours; other items are not changed
+ * - All moved items are written with one batched UPDATE
+ * - The rows of the target column and the moved items are locked for the rest of the transaction
+ *   (in ID order), so concurrent moves (and the background renumbering) never rank against stale
+ *   neighbours, and moves between two columns in opposite directions do not deadlock
+ * - Ranks that grew past REBALANCE_LENGTH trigger a background renumbering of the column;
+ *   when there is no room at all, the column is renumbered right away
+ *
+ * Must be called within a transaction.
+ */
+@Component
+public class KanbanItemOrdering {
+    private final KanbanItemRepository kanbanItemRepository;
+    private final KanbanRankGenerator rankGenerator;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public KanbanItemOrdering(
+            KanbanItemRepository kanbanItemRepository,
+            KanbanRankGenerator rankGenerator,
+            ApplicationEventPublisher eventPublisher) {
+        this.kanbanItemRepository = kanbanItemRepository;
+        this.rankGenerator = rankGenerator;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Rank for a new item at the end of the TODO column
+     */
+    public String rankForNewItem(Long userId) {
+        String last = kanbanItemRepository.findLastRank(userId, KanbanColumn.TODO).orElse(null);
+        String rank = rankGenerator.between(last, null);
+        if (rankGenerator.needsRebalance(rank)) {
+            eventPublisher.publishEvent(new KanbanRanksExhaustedEvent(userId, KanbanColumn.TODO));
+        }
+        return rank;
+    }
+
+    /**
+     * Move items (in the given order) to a column, directly after another item
+     *
+     * @param userId Owner of the items
+     * @param column Target column
+     * @param items Items to move, in their new order
+     * @param afterItemId Item in the target column to place them after (null = top of the column)
+     * @return The moved items
+     * @throws IllegalArgumentException if afterItemId is not in the target column
+     */
+    public List<KanbanItem> moveAfter(Long userId, KanbanColumn column, List<KanbanItem> items, Long afterItemId) {
+        List<KanbanItem> others = otherItemsInColumn(userId, column, items);
+        int index = 0;
+        if (afterItemId != null) {
+            index = indexOf(others, afterItemId) + 1;
+            if (index == 0) {
+                throw new IllegalArgumentException("KanbanItem " + afterItemId + " is not in column " + column.name());
+            }
+        }
+        return place(userId, column, others, items, index);
+    }
+
+    /**
+     * Move one item to a column, at an index (clamped to the end of the column)
+     */
+    public KanbanItem moveToIndex(Long userId, KanbanColumn column, KanbanItem item, int index) {
+        List<KanbanItem> others = otherItemsInColumn(userId, column, List.of(item));
+        return place(userId, column, others, List.of(item), Math.min(index, others.size())).get(0);
+    }
+
+    private List<KanbanItem> place(Long userId, KanbanColumn column, List<KanbanItem> others,
+                                   List<KanbanItem> items, int index) {
+        // 1. Ranks between the new neighbours
+        String lower = index > 0 ? others.get(index - 1).getRank() : null;
+        String upper = index < others.size() ? others.get(index).getRank() : null;
+        List<String> ranks = null;
+        if (lower == null || upper == null || lower.compareTo(upper) < 0) {
+            ranks = rankGenerator.between(lower, upper, items.size());
+        }
+
+        // 2. No room (equal neighbour ranks, or ranks at the maximum length): renumber the column now
+        if (ranks == null || !ranks.stream().allMatch(rankGenerator::fits)) {
+            List<KanbanItem> columnItems = new ArrayList<>(others);
+            columnItems.addAll(index, items);
+            List<String> spaced = rankGenerator.evenlySpaced(columnItems.size());
+            for (int i = 0; i < columnItems.size(); i++) {
+                columnItems.get(i).moveTo(column, spaced.get(i), i);
+            }
+            kanbanItemRepository.updateRanks(columnItems);
+            return items;
+        }
+
+        // 3. Update only the moved items (one batched UPDATE)
+        for (int i = 0; i < items.size(); i++) {
+            items.get(i).moveTo(column, ranks.get(i), index + i);
+        }
+        kanbanItemRepository.updateRanks(items);
+
+        // 4. Renumber in the background when ranks are getting long
+        if (ranks.stream().anyMatch(rankGenerator::needsRebalance)) {
+            eventPublisher.publishEvent(new KanbanRanksExhaustedEvent(userId, column));
+        }
+        return items;
+    }
+
+    private List<KanbanItem> otherItemsInColumn(Long userId, KanbanColumn column, List<KanbanItem> items) {
+        List<Long> movedIds = items.stream()
+            .map(KanbanItem::getId)
+            .collect(Collectors.toList());
+        return kanbanItemRepository.findByUserIdAndColumnForUpdate(userId, column, movedIds).stream()
+            .filter(item -> !movedIds.contains(item.getId()))
+            .collect(Collectors.toList());
+    }
+
+    private static int indexOf(List<KanbanItem> items, Long itemId) {
+        for (int i = 0; i < items.size(); i++) {
+            if (items.get(i).getId().equals(itemId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
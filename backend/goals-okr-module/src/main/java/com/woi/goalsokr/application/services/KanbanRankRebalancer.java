@@ -0,0 +1,99 @@
+package com.woi.goalsokr.application.services;
+
+import com.woi.goalsokr.application.events.KanbanRanksExhaustedEvent;
+import com.woi.goalsokr.domain.entities.KanbanItem;
+import com.woi.goalsokr.domain.enums.KanbanColumn;
+import com.woi.goalsokr.domain.repositories.KanbanItemRepository;
+import com.woi.goalsokr.domain.services.KanbanRankGenerator;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Renumbers kanban columns whose ranks have grown long, in the background
+ *
+ * Responsibilities:
+ * - Pick up KanbanRanksExhaustedEvent after the move has committed
+ * - Renumber the column on one background thread (evenly spaced ranks, one batched UPDATE)
+ * - Queue each column at most once until its renumbering starts
+ *
+ * Renumbering locks the column rows like a move does, so it never interleaves with one.
+ * Renumbering is an optimisation: if it is skipped (e.g. during shutdown), the long ranks
+ * stay valid and the next move in the column asks again.
+ */
+@Component
+public class KanbanRankRebalancer {
+    private static final Logger log = LoggerFactory.getLogger(KanbanRankRebalancer.class);
+
+    private final KanbanItemRepository kanbanItemRepository;
+    private final KanbanRankGenerator rankGenerator;
+    private final TransactionTemplate transactionTemplate;
+    private final Set<String> pendingColumns = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "kanban-rank-rebalancer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public KanbanRankRebalancer(
+            KanbanItemRepository kanbanItemRepository,
+            KanbanRankGenerator rankGenerator,
+            TransactionTemplate transactionTemplate) {
+        this.kanbanItemRepository = kanbanItemRepository;
+        this.rankGenerator = rankGenerator;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRanksExhausted(KanbanRanksExhaustedEvent event) {
+        String key = event.userId() + ":" + event.column().name();
+        if (!pendingColumns.add(key)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                pendingColumns.remove(key);
+                try {
+                    rebalance(event.userId(), event.column());
+                } catch (RuntimeException e) {
+                    log.warn("Renumbering kanban column {} of user {} failed; the next move in the column retries it",
+                        event.column(), event.userId(), e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pendingColumns.remove(key);
+        }
+    }
+
+    /**
+     * Give all items of a column evenly spaced ranks (keeping their order)
+     */
+    public void rebalance(Long userId, KanbanColumn column) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<KanbanItem> items = kanbanItemRepository.findByUserIdAndColumnForUpdate(userId, column, List.of());
+            if (items.stream().noneMatch(item -> rankGenerator.needsRebalance(item.getRank()))) {
+                return; // Already renumbered (or moved away) in the meantime
+            }
+            List<String> ranks = rankGenerator.evenlySpaced(items.size());
+            for (int i = 0; i < items.size(); i++) {
+                items.get(i).moveTo(column, ranks.get(i), i);
+            }
+            kanbanItemRepository.updateRanks(items);
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
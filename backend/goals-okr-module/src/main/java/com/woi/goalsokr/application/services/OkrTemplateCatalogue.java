@@ -0,0 +1,66 @@
+package com.woi.goalsokr.application.services;
+
+import com.woi.goalsokr.application.results.KeyResultResult;
+import com.woi.goalsokr.application.results.LifeDomainResult;
+import com.woi.goalsokr.application.results.ObjectiveResult;
+import com.woi.goalsokr.application.results.WheelResult;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Immutable snapshot of the OKR template catalogue: wheels, life domains and the template
+ * objectives and key results (createdByUserId NULL), indexed by life domain and objective
+ *
+ * @param version Number of template changes included in this snapshot (see OkrTemplateCatalogueStore)
+ * @param wheels Wheels in display order
+ * @param lifeDomains Life domains in display order
+ * @param objectivesByLifeDomain Template objectives per life domain, in order index order
+ * @param keyResultsByObjective Template key results per objective, in order index order
+ */
+public record OkrTemplateCatalogue(
+    long version,
+    List<WheelResult> wheels,
+    List<LifeDomainResult> lifeDomains,
+    Map<Long, List<ObjectiveResult>> objectivesByLifeDomain,
+    Map<Long, List<KeyResultResult>> keyResultsByObjective
+) {
+    public List<ObjectiveResult> objectivesOfLifeDomain(Long lifeDomainId) {
+        return objectivesByLifeDomain.getOrDefault(lifeDomainId, List.of());
+    }
+
+    public List<KeyResultResult> keyResultsOfObjective(Long objectiveId) {
+        return keyResultsByObjective.getOrDefault(objectiveId, List.of());
+    }
+
+    /**
+     * Group items by key, each group sorted by order index (immutable lists)
+     */
+    static <T> Map<Long, List<T>> index(List<T> items, Function<T, Long> key, Function<T, Integer> orderIndex) {
+        return items.stream()
+            .collect(Collectors.groupingBy(key)).entrySet().stream()
+            .collect(Collectors.toUnmodifiableMap(
+                Map.Entry::getKey,
+                entry -> sortedByOrderIndex(entry.getValue().stream(), orderIndex)));
+    }
+
+    /**
+     * Merge template rows with user rows, in order index order (templates first on equal order index)
+     */
+    public static <T> List<T> merge(List<T> templates, List<T> userRows, Function<T, Integer> orderIndex) {
+        if (userRows.isEmpty()) {
+            return templates;
+        }
+        return sortedByOrderIndex(Stream.concat(templates.stream(), userRows.stream()), orderIndex);
+    }
+
+    private static <T> List<T> sortedByOrderIndex(Stream<T> items, Function<T, Integer> orderIndex) {
+        return items
+            .sorted(Comparator.comparing(orderIndex, Comparator.nullsLast(Comparator.naturalOrder())))
+            .collect(Collectors.toUnmodifiableList());
+    }
+}
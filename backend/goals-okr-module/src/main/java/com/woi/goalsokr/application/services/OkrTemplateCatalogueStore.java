@@ -0,0 +1,166 @@
+package com.woi.goalsokr.application.services;
+
+import com.woi.goalsokr.application.events.OkrTemplatesChangedEvent;
+import com.woi.goalsokr.application.results.KeyResultResult;
+import com.woi.goalsokr.application.results.LifeDomainResult;
+import com.woi.goalsokr.application.results.ObjectiveResult;
+import com.woi.goalsokr.application.results.WheelResult;
+import com.woi.goalsokr.domain.repositories.KeyResultRepository;
+import com.woi.goalsokr.domain.repositories.LifeDomainRepository;
+import com.woi.goalsokr.domain.repositories.ObjectiveRepository;
+import com.woi.goalsokr.domain.repositories.WheelRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Holds the current OkrTemplateCatalogue for the template read path
+ *
+ * Responsibilities:
+ * - Load the catalogue at startup (templates only change through migrations or the
+ *   create/delete objective and key result commands)
+ * - Reload it when such a command commits (OkrTemplatesChangedEvent)
+ * - Reload it every goals-okr.templates.refresh-interval-seconds on a background thread, so changes
+ *   made by other instances (whose events are not seen here) or outside the application show after
+ *   at most that time (0 disables the periodic reload: single instance only)
+ * - Swap the new catalogue in atomically
+ *
+ * Versioned invalidation: every change increments a counter after commit, and a load is tagged
+ * with the counter value read before its queries. A change is therefore included in every
+ * catalogue whose version is at least its number; changes that arrive while a reload is
+ * running are coalesced into a single reload.
+ *
+ * Reads (current()) are lock-free and never touch the database. Reloads are serialized.
+ */
+@Component
+public class OkrTemplateCatalogueStore {
+    private static final Logger log = LoggerFactory.getLogger(OkrTemplateCatalogueStore.class);
+
+    private final WheelRepository wheelRepository;
+    private final LifeDomainRepository lifeDomainRepository;
+    private final ObjectiveRepository objectiveRepository;
+    private final KeyResultRepository keyResultRepository;
+    private final AtomicLong changes = new AtomicLong();
+    private final long refreshIntervalSeconds;
+    private final ScheduledExecutorService refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "okr-template-catalogue-refresher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile OkrTemplateCatalogue catalogue;
+
+    public OkrTemplateCatalogueStore(
+            WheelRepository wheelRepository,
+            LifeDomainRepository lifeDomainRepository,
+            ObjectiveRepository objectiveRepository,
+            KeyResultRepository keyResultRepository,
+            @Value("${goals-okr.templates.refresh-interval-seconds:60}") long refreshIntervalSeconds) {
+        if (refreshIntervalSeconds < 0) {
+            throw new IllegalArgumentException("goals-okr.templates.refresh-interval-seconds cannot be negative");
+        }
+        this.wheelRepository = wheelRepository;
+        this.lifeDomainRepository = lifeDomainRepository;
+        this.objectiveRepository = objectiveRepository;
+        this.keyResultRepository = keyResultRepository;
+        this.refreshIntervalSeconds = refreshIntervalSeconds;
+    }
+
+    /**
+     * @return Current catalogue (loaded on first use if startup has not loaded it yet)
+     */
+    public OkrTemplateCatalogue current() {
+        OkrTemplateCatalogue current = catalogue;
+        if (current == null) {
+            synchronized (this) {
+                if (catalogue == null) {
+                    catalogue = load();
+                }
+                current = catalogue;
+            }
+        }
+        return current;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void loadOnStartup() {
+        catalogue = load();
+        if (refreshIntervalSeconds > 0) {
+            refresher.scheduleWithFixedDelay(this::refresh, refreshIntervalSeconds, refreshIntervalSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    /**
+     * Reload the catalogue after a template command committed
+     * Runs in its own read-only transaction, after the command's transaction (if any) has committed.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onTemplatesChanged(OkrTemplatesChangedEvent event) {
+        long change = changes.incrementAndGet();
+        synchronized (this) {
+            if (catalogue != null && catalogue.version() >= change) {
+                return; // Already included by a reload that started after this change
+            }
+            catalogue = load();
+        }
+    }
+
+    /**
+     * Periodic reload; a failure keeps the current catalogue until the next interval
+     */
+    private void refresh() {
+        try {
+            synchronized (this) {
+                catalogue = load();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Reloading the OKR template catalogue failed; the next interval retries it", e);
+        }
+    }
+
+    private OkrTemplateCatalogue load() {
+        // Read before the queries: every change up to this number has committed
+        long version = changes.get();
+
+        List<WheelResult> wheels = wheelRepository.findAllOrderedByDisplayOrder().stream()
+            .map(WheelResult::from)
+            .collect(Collectors.toList());
+        List<LifeDomainResult> lifeDomains = lifeDomainRepository.findAllOrderedByDisplayOrder().stream()
+            .map(LifeDomainResult::from)
+            .collect(Collectors.toList());
+        List<ObjectiveResult> objectives = objectiveRepository.findTemplates().stream()
+            .map(ObjectiveResult::from)
+            .collect(Collectors.toList());
+        List<KeyResultResult> keyResults = keyResultRepository.findTemplates().stream()
+            .map(KeyResultResult::from)
+            .collect(Collectors.toList());
+
+        return new OkrTemplateCatalogue(
+            version,
+            List.copyOf(wheels),
+            List.copyOf(lifeDomains),
+            OkrTemplateCatalogue.index(objectives, ObjectiveResult::lifeDomainId, ObjectiveResult::orderIndex),
+            OkrTemplateCatalogue.index(keyResults, KeyResultResult::objectiveId, KeyResultResult::orderIndex)
+        );
+    }
+}
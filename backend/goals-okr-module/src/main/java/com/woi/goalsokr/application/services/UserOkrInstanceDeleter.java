@@ -0,0 +1,110 @@
+package com.woi.goalsokr.application.services;
+
+import com.woi.goalsokr.domain.enums.ItemType;
+import com.woi.goalsokr.domain.repositories.InitiativeRepository;
+import com.woi.goalsokr.domain.repositories.KanbanItemRepository;
+import com.woi.goalsokr.domain.repositories.KeyResultProgressRepository;
+import com.woi.goalsokr.domain.repositories.KeyResultRepository;
+import com.woi.goalsokr.domain.repositories.UserInitiativeInstanceRepository;
+import com.woi.goalsokr.domain.repositories.UserKeyResultInstanceRepository;
+import com.woi.goalsokr.domain.repositories.UserObjectiveInstanceRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Set-based cascading delete of user OKR instances
+ *
+ * Collects the IDs of each level with one IN query and bulk-deletes each table in dependency order:
+ * 1. Key result progress of the key result instances
+ * 2. Kanban items of the initiative instances, the initiative instances, their user-created initiatives
+ * 3. Kanban items of the key result instances, the key result instances, their user-created key results
+ * 4. Kanban items of the objective instances, the objective instances
+ *
+ * Templates (createdByUserId NULL) are never deleted here. IDs are processed in chunks of
+ * CHUNK_SIZE, so IN lists stay within the JDBC bind parameter limit.
+ *
+ * Must be called within a transaction.
+ */
+@Component
+public class UserOkrInstanceDeleter {
+    private static final int CHUNK_SIZE = 1000;
+
+    private final UserObjectiveInstanceRepository userObjectiveInstanceRepository;
+    private final UserKeyResultInstanceRepository userKeyResultInstanceRepository;
+    private final UserInitiativeInstanceRepository userInitiativeInstanceRepository;
+    private final KeyResultProgressRepository keyResultProgressRepository;
+    private final KeyResultRepository keyResultRepository;
+    private final InitiativeRepository initiativeRepository;
+    private final KanbanItemRepository kanbanItemRepository;
+
+    public UserOkrInstanceDeleter(
+            UserObjectiveInstanceRepository userObjectiveInstanceRepository,
+            UserKeyResultInstanceRepository userKeyResultInstanceRepository,
+            UserInitiativeInstanceRepository userInitiativeInstanceRepository,
+            KeyResultProgressRepository keyResultProgressRepository,
+            KeyResultRepository keyResultRepository,
+            InitiativeRepository initiativeRepository,
+            KanbanItemRepository kanbanItemRepository) {
+        this.userObjectiveInstanceRepository = userObjectiveInstanceRepository;
+        this.userKeyResultInstanceRepository = userKeyResultInstanceRepository;
+        this.userInitiativeInstanceRepository = userInitiativeInstanceRepository;
+        this.keyResultProgressRepository = keyResultProgressRepository;
+        this.keyResultRepository = keyResultRepository;
+        this.initiativeRepository = initiativeRepository;
+        this.kanbanItemRepository = kanbanItemRepository;
+    }
+
+    /**
+     * Delete user objective instances with their key result instances, initiative instances,
+     * progress, kanban items and user-created key results and initiatives
+     */
+    public void deleteUserObjectiveInstances(List<Long> userObjectiveInstanceIds) {
+        for (List<Long> ids : chunks(userObjectiveInstanceIds)) {
+            deleteUserKeyResultInstances(userKeyResultInstanceRepository.findIdsByUserObjectiveInstanceIdIn(ids));
+            kanbanItemRepository.deleteByItemTypeAndItemIdIn(ItemType.OBJECTIVE, ids);
+            userObjectiveInstanceRepository.deleteByIdIn(ids);
+        }
+    }
+
+    /**
+     * Delete user key result instances with their initiative instances, progress, kanban items
+     * and user-created key results and initiatives
+     */
+    public void deleteUserKeyResultInstances(List<Long> userKeyResultInstanceIds) {
+        for (List<Long> ids : chunks(userKeyResultInstanceIds)) {
+            // 1. Progress
+            keyResultProgressRepository.deleteByUserKeyResultInstanceIdIn(ids);
+
+            // 2. Initiative instances
+            deleteUserInitiativeInstances(userInitiativeInstanceRepository.findIdsByUserKeyResultInstanceIdIn(ids));
+
+            // 3. Key result instances (user-created key results after their instances)
+            List<Long> keyResultIds = userKeyResultInstanceRepository.findKeyResultIdsByIdIn(ids);
+            kanbanItemRepository.deleteByItemTypeAndItemIdIn(ItemType.KEY_RESULT, ids);
+            userKeyResultInstanceRepository.deleteByIdIn(ids);
+            keyResultRepository.deleteUserCreatedByIdIn(keyResultIds);
+        }
+    }
+
+    private void deleteUserInitiativeInstances(List<Long> userInitiativeInstanceIds) {
+        for (List<Long> ids : chunks(userInitiativeInstanceIds)) {
+            List<Long> initiativeIds = userInitiativeInstanceRepository.findInitiativeIdsByIdIn(ids);
+            kanbanItemRepository.deleteByItemTypeAndItemIdIn(ItemType.INITIATIVE, ids);
+            userInitiativeInstanceRepository.deleteByIdIn(ids);
+            initiativeRepository.deleteUserCreatedByIdIn(initiativeIds);
+        }
+    }
+
+    private static List<List<Long>> chunks(List<Long> ids) {
+        if (ids.size() <= CHUNK_SIZE) {
+            return ids.isEmpty() ? List.of() : List.of(ids);
+        }
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            chunks.add(ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size())));
+        }
+        return chunks;
+    }
+}
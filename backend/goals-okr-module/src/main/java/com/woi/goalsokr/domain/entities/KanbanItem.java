@@ -16,6 +16,7 @@ import java.time.LocalDateTime;
  * - itemType and itemId are required
  * - columnName defaults to TODO
  * - position defaults to 0
+ * - rank determines the order within a column
  * - One item per type per user (enforced by unique constraint)
  */
 public class KanbanItem {
@@ -24,7 +25,8 @@ public class KanbanItem {
     private ItemType itemType; // Required - GOAL, OBJECTIVE, KEY_RESULT, or INITIATIVE
     private Long itemId; // Required - ID of the selected item
     private KanbanColumn columnName; // Default: TODO
-    private Integer position; // Default: 0 - Order within the column
+    private Integer position; // Default: 0 - Index within the column at the last move (informational)
+    private String rank; // Order within the column (fractional rank, see KanbanRankGenerator)
     private String notes; // Optional notes
     private String number; // Unique human-readable number (e.g., "KANBAN-123")
     private LocalDateTime createdAt;
@@ -39,10 +41,11 @@ public class KanbanItem {
      * @param userId User ID (required)
      * @param itemType Item type (required)
      * @param itemId Item ID (required)
+     * @param rank Rank within the TODO column (required)
      * @return New KanbanItem instance
      * @throws IllegalArgumentException if required fields are null or invalid
      */
-    public static KanbanItem create(Long userId, ItemType itemType, Long itemId) {
+    public static KanbanItem create(Long userId, ItemType itemType, Long itemId, String rank) {
         if (userId == null) {
             throw new IllegalArgumentException("User ID cannot be null");
         }
@@ -52,6 +55,9 @@ public class KanbanItem {
         if (itemId == null || itemId <= 0) {
             throw new IllegalArgumentException("Item ID must be a positive integer");
         }
+        if (rank == null || rank.isBlank()) {
+            throw new IllegalArgumentException("Rank cannot be null or empty");
+        }
 
         KanbanItem item = new KanbanItem();
         item.userId = userId;
@@ -59,6 +65,7 @@ public class KanbanItem {
         item.itemId = itemId;
         item.columnName = KanbanColumn.TODO; // Default column
         item.position = 0; // Default position
+        item.rank = rank;
         item.createdAt = LocalDateTime.now();
         item.updatedAt = LocalDateTime.now();
         return item;
@@ -79,6 +86,21 @@ public class KanbanItem {
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * Move this item to a column, at the place given by its new rank
+     *
+     * @param newColumn Target column
+     * @param newRank Rank within the target column
+     * @param newPosition Index within the target column after the move
+     */
+    public void moveTo(KanbanColumn newColumn, String newRank, Integer newPosition) {
+        if (newRank == null || newRank.isBlank()) {
+            throw new IllegalArgumentException("Rank cannot be null or empty");
+        }
+        updatePosition(newColumn, newPosition);
+        this.rank = newRank;
+    }
+
     /**
      * Update notes
      */
@@ -94,6 +116,7 @@ public class KanbanItem {
     public Long getItemId() { return itemId; }
     public KanbanColumn getColumnName() { return columnName; }
     public Integer getPosition() { return position; }
+    public String getRank() { return rank; }
     public String getNotes() { return notes; }
     public String getNumber() { return number; }
     public LocalDateTime getCreatedAt() { return createdAt; }
@@ -106,6 +129,7 @@ public class KanbanItem {
     public void setItemId(Long itemId) { this.itemId = itemId; }
     public void setColumnName(KanbanColumn columnName) { this.columnName = columnName; }
     public void setPosition(Integer position) { this.position = position; }
+    public void setRank(String rank) { this.rank = rank; }
     public void setNotes(String notes) { this.notes = notes; }
     public void setNumber(String number) { this.number = number; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
@@ -0,0 +1,24 @@
+package com.woi.goalsokr.domain.entities;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * KeyResultProgressBucket - Read model (immutable)
+ *
+ * Progress updates of one user key result instance within one bucket (day or week) of its history.
+ * Buckets without updates are not returned: the value carries over from the previous bucket.
+ *
+ * @param start First day of the bucket
+ * @param lastValue Value after the last update in the bucket (the value to chart)
+ * @param minValue Lowest value in the bucket
+ * @param maxValue Highest value in the bucket
+ * @param updates Number of updates in the bucket
+ */
+public record KeyResultProgressBucket(
+    LocalDate start,
+    BigDecimal lastValue,
+    BigDecimal minValue,
+    BigDecimal maxValue,
+    int updates
+) {}
@@ -0,0 +1,9 @@
+package com.woi.goalsokr.domain.enums;
+
+/**
+ * Bucket size for downsampled progress history (one data point per bucket)
+ */
+public enum ProgressBucketSize {
+    DAY,    // Calendar day
+    WEEK    // ISO week (starting Monday)
+}
@@ -9,8 +9,10 @@ import java.util.Optional;
  */
 public interface InitiativeRepository {
     Optional<Initiative> findById(Long id);
+    List<Initiative> findByIdIn(List<Long> ids);
     List<Initiative> findByKeyResultId(Long keyResultId);
     List<Initiative> findByCreatedByUserId(Long createdByUserId);
     Initiative save(Initiative initiative);
     void delete(Long id);
+    void deleteUserCreatedByIdIn(List<Long> ids); // Templates (createdByUserId NULL) are kept
 }
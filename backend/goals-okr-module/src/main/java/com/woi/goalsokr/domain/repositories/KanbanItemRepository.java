@@ -13,9 +13,19 @@ import java.util.Optional;
 public interface KanbanItemRepository {
     Optional<KanbanItem> findById(Long id);
     List<KanbanItem> findByUserId(Long userId);
+    List<KanbanItem> findByIdIn(List<Long> ids);
     List<KanbanItem> findByUserIdAndColumn(Long userId, KanbanColumn column);
+    /**
+     * Items of a column (ordered by rank), locked until commit together with the given other items
+     * (e.g. items moved in from other columns). All rows are locked in ID order, so concurrent moves
+     * between columns wait for each other instead of deadlocking.
+     */
+    List<KanbanItem> findByUserIdAndColumnForUpdate(Long userId, KanbanColumn column, List<Long> alsoLockIds);
+    Optional<String> findLastRank(Long userId, KanbanColumn column);
     Optional<KanbanItem> findByUserIdAndItemTypeAndItemId(Long userId, com.woi.goalsokr.domain.enums.ItemType itemType, Long itemId);
     KanbanItem save(KanbanItem item);
     void delete(KanbanItem item);
+    void deleteByItemTypeAndItemIdIn(com.woi.goalsokr.domain.enums.ItemType itemType, List<Long> itemIds);
     void updatePosition(Long id, KanbanColumn column, Integer position);
+    void updateRanks(List<KanbanItem> items); // Column, rank and position of all items in one batched UPDATE
 }
@@ -0,0 +1,26 @@
+package com.woi.goalsokr.domain.repositories;
+
+import com.woi.goalsokr.domain.entities.KeyResultProgress;
+import com.woi.goalsokr.domain.entities.KeyResultProgressBucket;
+import com.woi.goalsokr.domain.enums.ProgressBucketSize;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Key result progress history repository interface - Domain layer
+ * Append-only time series of progress updates (one event per update), read back downsampled.
+ * Pure Java interface (no Spring Data dependencies)
+ */
+public interface KeyResultProgressHistoryRepository {
+    /**
+     * Append the value of a progress update, recorded at its updatedAt
+     */
+    void append(KeyResultProgress progress);
+
+    /**
+     * Progress updates of a user key result instance in [from, to), one bucket per day or week, oldest first
+     */
+    List<KeyResultProgressBucket> findBuckets(Long userKeyResultInstanceId, ProgressBucketSize bucketSize,
+                                              LocalDateTime from, LocalDateTime to);
+}
@@ -12,7 +12,15 @@ import java.util.Optional;
 public interface KeyResultProgressRepository {
     Optional<KeyResultProgress> findById(Long id);
     List<KeyResultProgress> findByUserKeyResultInstanceId(Long userKeyResultInstanceId);
+    List<KeyResultProgress> findByUserKeyResultInstanceIdIn(List<Long> userKeyResultInstanceIds);
     List<KeyResultProgress> findByKeyResultId(Long keyResultId);
     KeyResultProgress save(KeyResultProgress keyResultProgress);
+    /**
+     * Insert or overwrite the progress of the user key result instance (one row per instance)
+     *
+     * @return The row as stored (with its id and the persisted updatedAt)
+     */
+    KeyResultProgress upsert(KeyResultProgress keyResultProgress);
     void delete(KeyResultProgress keyResultProgress);
+    void deleteByUserKeyResultInstanceIdIn(List<Long> userKeyResultInstanceIds);
 }
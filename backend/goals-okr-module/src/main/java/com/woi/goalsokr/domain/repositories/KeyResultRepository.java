@@ -11,9 +11,14 @@ import java.util.Optional;
  */
 public interface KeyResultRepository {
     Optional<KeyResult> findById(Long id);
+    List<KeyResult> findByIdIn(List<Long> ids);
     List<KeyResult> findByObjectiveId(Long objectiveId);
     List<KeyResult> findByObjectiveIdOrderedByOrderIndex(Long objectiveId);
     List<KeyResult> findByObjectiveIdAndUserFilteredOrderedByOrderIndex(Long objectiveId, Long userId);
+    List<KeyResult> findTemplates(); // createdByUserId NULL
+    List<KeyResult> findByObjectiveIdAndCreatedByUserId(Long objectiveId, Long userId);
     KeyResult save(KeyResult keyResult);
     void delete(KeyResult keyResult);
+    void deleteUserCreatedByIdIn(List<Long> ids); // Templates (createdByUserId NULL) are kept
+    void deleteByObjectiveId(Long objectiveId);
 }
@@ -11,9 +11,12 @@ import java.util.Optional;
  */
 public interface ObjectiveRepository {
     Optional<Objective> findById(Long id);
+    List<Objective> findByIdIn(List<Long> ids);
     List<Objective> findByLifeDomainId(Long lifeDomainId);
     List<Objective> findByLifeDomainIdOrderedByOrderIndex(Long lifeDomainId);
     List<Objective> findByLifeDomainIdAndUserFilteredOrderedByOrderIndex(Long lifeDomainId, Long userId);
+    List<Objective> findTemplates(); // createdByUserId NULL
+    List<Objective> findByLifeDomainIdAndCreatedByUserId(Long lifeDomainId, Long userId);
     Objective save(Objective objective);
     void delete(Objective objective);
 
@@ -11,10 +11,14 @@ import java.util.Optional;
  */
 public interface UserInitiativeInstanceRepository {
     Optional<UserInitiativeInstance> findById(Long id);
+    List<UserInitiativeInstance> findByIdIn(List<Long> ids);
     List<UserInitiativeInstance> findByUserKeyResultInstanceId(Long userKeyResultInstanceId);
     List<UserInitiativeInstance> findByUserKeyResultInstanceIdIn(List<Long> userKeyResultInstanceIds);
     Optional<UserInitiativeInstance> findByUserKeyResultInstanceIdAndInitiativeId(Long userKeyResultInstanceId, Long initiativeId);
     List<UserInitiativeInstance> findByInitiativeId(Long initiativeId);
     UserInitiativeInstance save(UserInitiativeInstance userInitiativeInstance);
     void delete(UserInitiativeInstance userInitiativeInstance);
+    List<Long> findIdsByUserKeyResultInstanceIdIn(List<Long> userKeyResultInstanceIds);
+    List<Long> findInitiativeIdsByIdIn(List<Long> ids);
+    void deleteByIdIn(List<Long> ids);
 }
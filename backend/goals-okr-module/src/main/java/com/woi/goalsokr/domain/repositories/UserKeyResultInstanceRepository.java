@@ -11,10 +11,15 @@ import java.util.Optional;
  */
 public interface UserKeyResultInstanceRepository {
     Optional<UserKeyResultInstance> findById(Long id);
+    List<UserKeyResultInstance> findByIdIn(List<Long> ids);
     List<UserKeyResultInstance> findByUserObjectiveInstanceId(Long userObjectiveInstanceId);
     List<UserKeyResultInstance> findByUserObjectiveInstanceIdIn(List<Long> userObjectiveInstanceIds);
     Optional<UserKeyResultInstance> findByUserObjectiveInstanceIdAndKeyResultId(Long userObjectiveInstanceId, Long keyResultId);
     List<UserKeyResultInstance> findByKeyResultId(Long keyResultId);
     UserKeyResultInstance save(UserKeyResultInstance userKeyResultInstance);
     void delete(UserKeyResultInstance userKeyResultInstance);
+    List<Long> findIdsByUserObjectiveInstanceIdIn(List<Long> userObjectiveInstanceIds);
+    List<Long> findKeyResultIdsByIdIn(List<Long> ids);
+    boolean existsByKeyResultId(Long keyResultId);
+    void deleteByIdIn(List<Long> ids);
 }
@@ -11,9 +11,12 @@ import java.util.Optional;
  */
 public interface UserObjectiveInstanceRepository {
     Optional<UserObjectiveInstance> findById(Long id);
+    List<UserObjectiveInstance> findByIdIn(List<Long> ids);
     List<UserObjectiveInstance> findByUserId(Long userId);
     Optional<UserObjectiveInstance> findByUserIdAndObjectiveId(Long userId, Long objectiveId);
     List<UserObjectiveInstance> findByObjectiveId(Long objectiveId);
     UserObjectiveInstance save(UserObjectiveInstance userObjectiveInstance);
     void delete(UserObjectiveInstance userObjectiveInstance);
+    List<Long> findIdsByObjectiveId(Long objectiveId);
+    void deleteByIdIn(List<Long> ids);
 }
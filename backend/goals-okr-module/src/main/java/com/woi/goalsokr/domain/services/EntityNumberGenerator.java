@@ -1,41 +1,123 @@
 package com.woi.goalsokr.domain.services;
 
 import com.woi.goalsokr.domain.enums.EntityType;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * Domain service for generating unique, human-readable entity numbers
  * Uses PostgreSQL sequences for thread-safe, auto-incrementing numbers
- * 
+ *
+ * Numbers are handed out from pre-allocated blocks (hi/lo, "pooled"): each sequence is
+ * incremented by the block size, so one nextval call reserves the values
+ * [value, value + blockSize) for this instance. Within a block numbers come from an in-memory
+ * counter without locking; only taking a new block is synchronized (per entity type).
+ *
+ * Rules (safe across replicas):
+ * - The increment of the sequences is set by a migration (V77); the application never alters it
+ * - goals-okr.numbering.block-size must equal that increment: startup fails if a sequence
+ *   increments by anything else, so no instance can use more of a block than it reserved
+ * - Unused numbers of a block are lost on shutdown: numbers are unique and ascending per
+ *   instance, but not gap-free
+ *
  * Format: PREFIX-NUMBER (e.g., "GOAL-123", "OBJ-SUB-456")
  */
 @Service
-public class EntityNumberGenerator {
-    
+public class EntityNumberGenerator implements SmartInitializingSingleton {
+
     private final JdbcTemplate jdbcTemplate;
-    
-    public EntityNumberGenerator(JdbcTemplate jdbcTemplate) {
+    private final int blockSize;
+    private final Map<EntityType, NumberPool> pools = new EnumMap<>(EntityType.class);
+
+    public EntityNumberGenerator(
+            JdbcTemplate jdbcTemplate,
+            @Value("${goals-okr.numbering.block-size:50}") int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("goals-okr.numbering.block-size must be at least 1");
+        }
         this.jdbcTemplate = jdbcTemplate;
+        this.blockSize = blockSize;
+        for (EntityType entityType : EntityType.values()) {
+            pools.put(entityType, new NumberPool(entityType));
+        }
+    }
+
+    /**
+     * Fail fast if a sequence does not increment by the block size
+     * Runs after all singletons (incl. the Flyway migration) are created, before requests are served.
+     * Sequences that do not exist are skipped (seq_user_goal_number was dropped with its table).
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        List<String> sequenceNames = Arrays.stream(EntityType.values()).map(EntityType::getSequenceName).toList();
+        jdbcTemplate.query(
+            "SELECT sequencename, increment_by FROM pg_sequences WHERE schemaname = 'goals_okr' AND sequencename = ANY(?)",
+            ps -> ps.setArray(1, ps.getConnection().createArrayOf("varchar", sequenceNames.toArray())),
+            rs -> {
+                long increment = rs.getLong("increment_by");
+                if (increment != blockSize) {
+                    throw new IllegalStateException("Sequence goals_okr." + rs.getString("sequencename")
+                        + " increments by " + increment + ", but goals-okr.numbering.block-size is " + blockSize
+                        + "; change the increment with a migration (ALTER SEQUENCE ... INCREMENT BY) or the block size");
+                }
+            });
     }
-    
+
     /**
      * Generate next unique number for an entity type
-     * 
+     *
      * @param entityType The type of entity to generate a number for
      * @return Unique number in format PREFIX-NUMBER (e.g., "GOAL-123")
      */
     public String generateNextNumber(EntityType entityType) {
-        String sequenceName = "goals_okr." + entityType.getSequenceName();
-        String prefix = entityType.getPrefix();
-        
-        // Get next value from sequence
-        Long nextValue = jdbcTemplate.queryForObject(
-            "SELECT nextval(?)",
-            Long.class,
-            sequenceName
-        );
-        
-        return prefix + nextValue;
+        return entityType.getPrefix() + pools.get(entityType).next();
+    }
+
+    /**
+     * A reserved range of sequence values: [next, end)
+     */
+    private record Block(AtomicLong next, long end) {
+        static final Block EMPTY = new Block(new AtomicLong(), 0);
+    }
+
+    /**
+     * Numbers of one entity type: the current block of its sequence
+     */
+    private final class NumberPool {
+        private final String sequenceName;
+        private volatile Block block = Block.EMPTY;
+
+        NumberPool(EntityType entityType) {
+            this.sequenceName = "goals_okr." + entityType.getSequenceName();
+        }
+
+        long next() {
+            while (true) {
+                Block current = block;
+                long value = current.next().getAndIncrement();
+                if (value < current.end()) {
+                    return value;
+                }
+                refill(current);
+            }
+        }
+
+        private synchronized void refill(Block exhausted) {
+            if (block != exhausted) {
+                return; // Another thread took a new block in the meantime
+            }
+
+            // Reserve the next block
+            Long start = jdbcTemplate.queryForObject("SELECT nextval(?)", Long.class, sequenceName);
+            block = new Block(new AtomicLong(start), start + blockSize);
+        }
     }
 }
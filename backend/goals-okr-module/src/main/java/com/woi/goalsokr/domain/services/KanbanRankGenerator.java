@@ -0,0 +1,144 @@
+package com.woi.goalsokr.domain.services;
+
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Domain service for fractional kanban ranks
+ * The order of items within a column is the (byte-wise) order of their ranks.
+ *
+ * Ranks are base-36 strings (0-9, a-z) that never end in '0', so there is always
+ * a rank between two different ranks: moving an item only changes the moved item.
+ * Every move in the same gap makes the new rank a little longer; once a rank is longer
+ * than REBALANCE_LENGTH the column should be renumbered (evenlySpaced).
+ *
+ * Format: "i", "9", "9i", "00h3k" (VARCHAR(64) COLLATE "C" in goals_okr.kanban_items)
+ */
+@Service
+public class KanbanRankGenerator {
+
+    public static final int REBALANCE_LENGTH = 16;
+    public static final int MAX_LENGTH = 64;
+
+    private static final String DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+    private static final int SPACED_WIDTH = 6; // Same width as the V70 backfill
+
+    /**
+     * Generate a rank between two ranks
+     *
+     * @param lower Rank to sort after (null = start of the column)
+     * @param upper Rank to sort before (null = end of the column)
+     * @return Shortest convenient rank with lower < rank < upper
+     * @throws IllegalArgumentException if lower is not smaller than upper
+     */
+    public String between(String lower, String upper) {
+        String low = lower != null ? lower : "";
+        if (upper != null && low.compareTo(upper) >= 0) {
+            throw new IllegalArgumentException("Rank " + low + " is not smaller than " + upper);
+        }
+
+        StringBuilder rank = new StringBuilder();
+        boolean upperOpen = upper == null;
+        for (int i = 0; ; i++) {
+            if (!upperOpen && i >= upper.length()) {
+                // Only possible when upper is lower followed by '0's, which generated ranks never are
+                throw new IllegalArgumentException("No rank between " + low + " and " + upper);
+            }
+            int lowDigit = i < low.length() ? digit(low.charAt(i)) : 0;
+            int highDigit = upperOpen ? BASE : (i < upper.length() ? digit(upper.charAt(i)) : 0);
+            if (highDigit - lowDigit > 1) {
+                rank.append(DIGITS.charAt((lowDigit + highDigit) / 2));
+                return rank.toString();
+            }
+            rank.append(DIGITS.charAt(lowDigit));
+            if (highDigit > lowDigit) {
+                // Prefix is now smaller than upper: only lower still bounds the rest
+                upperOpen = true;
+            }
+        }
+    }
+
+    /**
+     * Generate ascending ranks between two ranks (for several items moved together)
+     * The gap is split in halves, so the ranks stay as short as for a single move.
+     *
+     * @param lower Rank to sort after (null = start of the column)
+     * @param upper Rank to sort before (null = end of the column)
+     * @param count Number of ranks
+     * @return count ascending ranks, all between lower and upper
+     */
+    public List<String> between(String lower, String upper, int count) {
+        String[] ranks = new String[count];
+        fill(ranks, 0, count, lower, upper);
+        return Arrays.asList(ranks);
+    }
+
+    /**
+     * Generate ranks for a whole column, evenly spread over the rank space (renumbering)
+     *
+     * @param count Number of items in the column
+     * @return count ascending ranks of at most SPACED_WIDTH characters (more for very large columns)
+     */
+    public List<String> evenlySpaced(int count) {
+        int width = SPACED_WIDTH;
+        while (Math.pow(BASE, width) < (count + 1) * 2.0) {
+            width++;
+        }
+        double step = Math.pow(BASE, width) / (count + 1);
+
+        List<String> ranks = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            ranks.add(encode((long) (i * step), width));
+        }
+        return ranks;
+    }
+
+    /**
+     * Whether a rank has grown so long that its column should be renumbered
+     */
+    public boolean needsRebalance(String rank) {
+        return rank != null && rank.length() > REBALANCE_LENGTH;
+    }
+
+    /**
+     * Whether a rank fits in the rank column
+     */
+    public boolean fits(String rank) {
+        return rank.length() <= MAX_LENGTH;
+    }
+
+    private void fill(String[] ranks, int from, int to, String lower, String upper) {
+        if (from >= to) {
+            return;
+        }
+        int middle = (from + to) / 2;
+        ranks[middle] = between(lower, upper);
+        fill(ranks, from, middle, lower, ranks[middle]);
+        fill(ranks, middle + 1, to, ranks[middle], upper);
+    }
+
+    private static String encode(long value, int width) {
+        char[] chars = new char[width];
+        for (int i = width - 1; i >= 0; i--) {
+            chars[i] = DIGITS.charAt((int) (value % BASE));
+            value /= BASE;
+        }
+        int length = width;
+        while (length > 1 && chars[length - 1] == '0') {
+            length--;
+        }
+        return new String(chars, 0, length);
+    }
+
+    private static int digit(char c) {
+        int digit = DIGITS.indexOf(c);
+        if (digit < 0) {
+            throw new IllegalArgumentException("Invalid rank character: " + c);
+        }
+        return digit;
+    }
+}
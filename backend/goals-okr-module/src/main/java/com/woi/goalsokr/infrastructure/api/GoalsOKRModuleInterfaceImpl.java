@@ -42,6 +42,7 @@ public class GoalsOKRModuleInterfaceImpl implements GoalsOKRModuleInterface {
     private final GetKeyResultsByObjectiveQueryHandler getKeyResultsByObjectiveHandler;
     private final GetUserObjectiveInstanceQueryHandler getUserObjectiveInstanceHandler;
     private final GetUserObjectiveInstancesQueryHandler getUserObjectiveInstancesHandler;
+    private final GetUserOkrTreeQueryHandler getUserOkrTreeHandler;
     private final GetUserKeyResultInstanceQueryHandler getUserKeyResultInstanceHandler;
     private final GetUserKeyResultInstancesQueryHandler getUserKeyResultInstancesHandler;
     private final GetUserInitiativeInstanceQueryHandler getUserInitiativeInstanceHandler;
@@ -74,6 +75,7 @@ public class GoalsOKRModuleInterfaceImpl implements GoalsOKRModuleInterface {
             GetKeyResultsByObjectiveQueryHandler getKeyResultsByObjectiveHandler,
             GetUserObjectiveInstanceQueryHandler getUserObjectiveInstanceHandler,
             GetUserObjectiveInstancesQueryHandler getUserObjectiveInstancesHandler,
+            GetUserOkrTreeQueryHandler getUserOkrTreeHandler,
             GetUserKeyResultInstanceQueryHandler getUserKeyResultInstanceHandler,
             GetUserKeyResultInstancesQueryHandler getUserKeyResultInstancesHandler,
             GetUserInitiativeInstanceQueryHandler getUserInitiativeInstanceHandler,
@@ -104,6 +106,7 @@ public class GoalsOKRModuleInterfaceImpl implements GoalsOKRModuleInterface {
         this.getKeyResultsByObjectiveHandler = getKeyResultsByObjectiveHandler;
         this.getUserObjectiveInstanceHandler = getUserObjectiveInstanceHandler;
         this.getUserObjectiveInstancesHandler = getUserObjectiveInstancesHandler;
+        this.getUserOkrTreeHandler = getUserOkrTreeHandler;
         this.getUserKeyResultInstanceHandler = getUserKeyResultInstanceHandler;
         this.getUserKeyResultInstancesHandler = getUserKeyResultInstancesHandler;
         this.getUserInitiativeInstanceHandler = getUserInitiativeInstanceHandler;
@@ -192,6 +195,14 @@ public class GoalsOKRModuleInterfaceImpl implements GoalsOKRModuleInterface {
             .collect(Collectors.toList());
     }
 
+    @Override
+    public List<UserObjectiveTreeSummary> getUserOkrTree(Long userId) {
+        UserOkrTreeResult result = getUserOkrTreeHandler.handle(new GetUserOkrTreeQuery(userId));
+        return result.objectives().stream()
+            .map(this::toUserObjectiveTreeSummary)
+            .collect(Collectors.toList());
+    }
+
     @Override
     public UserObjectiveInstanceSummary completeUserObjectiveInstance(Long userObjectiveInstanceId) {
         UserObjectiveInstanceResult result = completeUserObjectiveInstanceHandler.handle(
@@ -410,6 +421,25 @@ public class GoalsOKRModuleInterfaceImpl implements GoalsOKRModuleInterface {
         );
     }
 
+    private UserObjectiveTreeSummary toUserObjectiveTreeSummary(UserObjectiveNodeResult node) {
+        return new UserObjectiveTreeSummary(
+            toUserObjectiveInstanceSummary(node.objectiveInstance()),
+            node.keyResults().stream()
+                .map(this::toUserKeyResultTreeSummary)
+                .collect(Collectors.toList())
+        );
+    }
+
+    private UserKeyResultTreeSummary toUserKeyResultTreeSummary(UserKeyResultNodeResult node) {
+        return new UserKeyResultTreeSummary(
+            toUserKeyResultInstanceSummary(node.keyResultInstance()),
+            node.progress() != null ? toKeyResultProgressSummary(node.progress()) : null,
+            node.initiatives().stream()
+                .map(this::toUserInitiativeInstanceSummary)
+                .collect(Collectors.toList())
+        );
+    }
+
     private KeyResultProgressSummary toKeyResultProgressSummary(KeyResultProgressResult result) {
         return new KeyResultProgressSummary(
             result.id(),
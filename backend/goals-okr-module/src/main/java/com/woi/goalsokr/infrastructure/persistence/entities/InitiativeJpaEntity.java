@@ -13,7 +13,8 @@ import java.time.LocalDateTime;
 public class InitiativeJpaEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "goals_okr.initiatives_id_seq")
+    @SequenceGenerator(name = "goals_okr.initiatives_id_seq", schema = "goals_okr", sequenceName = "initiatives_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
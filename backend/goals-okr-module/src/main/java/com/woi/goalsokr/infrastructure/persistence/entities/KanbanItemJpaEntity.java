@@ -11,7 +11,8 @@ import java.time.LocalDateTime;
 public class KanbanItemJpaEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "goals_okr.kanban_items_id_seq")
+    @SequenceGenerator(name = "goals_okr.kanban_items_id_seq", schema = "goals_okr", sequenceName = "kanban_items_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -30,6 +31,9 @@ public class KanbanItemJpaEntity {
     @Column(name = "position", nullable = false)
     private Integer position;
 
+    @Column(name = "rank", nullable = false, length = 64)
+    private String rank; // Fractional rank, order within the column
+
     @Column(name = "notes", columnDefinition = "TEXT")
     private String notes;
 
@@ -64,6 +68,9 @@ public class KanbanItemJpaEntity {
     public Integer getPosition() { return position; }
     public void setPosition(Integer position) { this.position = position; }
 
+    public String getRank() { return rank; }
+    public void setRank(String rank) { this.rank = rank; }
+
     public String getNotes() { return notes; }
     public void setNotes(String notes) { this.notes = notes; }
 
@@ -12,7 +12,8 @@ import java.time.LocalDateTime;
 public class KeyResultJpaEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "goals_okr.key_results_id_seq")
+    @SequenceGenerator(name = "goals_okr.key_results_id_seq", schema = "goals_okr", sequenceName = "key_results_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
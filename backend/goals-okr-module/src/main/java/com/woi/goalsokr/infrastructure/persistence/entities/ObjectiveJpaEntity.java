@@ -11,7 +11,8 @@ import java.time.LocalDateTime;
 public class ObjectiveJpaEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "goals_okr.objectives_id_seq")
+    @SequenceGenerator(name = "goals_okr.objectives_id_seq", schema = "goals_okr", sequenceName = "objectives_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
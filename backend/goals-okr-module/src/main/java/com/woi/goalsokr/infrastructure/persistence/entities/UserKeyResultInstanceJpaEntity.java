@@ -11,7 +11,8 @@ import java.time.LocalDateTime;
 public class UserKeyResultInstanceJpaEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "goals_okr.user_key_result_instances_id_seq")
+    @SequenceGenerator(name = "goals_okr.user_key_result_instances_id_seq", schema = "goals_okr", sequenceName = "user_key_result_instances_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
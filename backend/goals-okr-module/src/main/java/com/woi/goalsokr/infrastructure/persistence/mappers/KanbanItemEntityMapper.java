@@ -22,6 +22,7 @@ public class KanbanItemEntityMapper {
         domain.setItemId(jpaEntity.getItemId());
         domain.setColumnName(KanbanColumn.valueOf(jpaEntity.getColumnName()));
         domain.setPosition(jpaEntity.getPosition());
+        domain.setRank(jpaEntity.getRank());
         domain.setNotes(jpaEntity.getNotes());
         domain.setNumber(jpaEntity.getNumber());
         domain.setCreatedAt(jpaEntity.getCreatedAt());
@@ -42,6 +43,7 @@ public class KanbanItemEntityMapper {
         jpaEntity.setItemId(domain.getItemId());
         jpaEntity.setColumnName(domain.getColumnName().name());
         jpaEntity.setPosition(domain.getPosition());
+        jpaEntity.setRank(domain.getRank());
         jpaEntity.setNotes(domain.getNotes());
         jpaEntity.setNumber(domain.getNumber());
         jpaEntity.setCreatedAt(domain.getCreatedAt());
@@ -2,6 +2,9 @@ package com.woi.goalsokr.infrastructure.persistence.repositories;
 
 import com.woi.goalsokr.infrastructure.persistence.entities.InitiativeJpaEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,4 +16,8 @@ import java.util.List;
 public interface InitiativeJpaRepository extends JpaRepository<InitiativeJpaEntity, Long> {
     List<InitiativeJpaEntity> findByKeyResultIdOrderByDisplayOrderAsc(Long keyResultId);
     List<InitiativeJpaEntity> findByCreatedByUserIdOrderByCreatedAtDesc(Long createdByUserId);
+
+    @Modifying
+    @Query("DELETE FROM InitiativeJpaEntity i WHERE i.id IN :ids AND i.createdByUserId IS NOT NULL")
+    void deleteUserCreatedByIdIn(@Param("ids") List<Long> ids);
 }
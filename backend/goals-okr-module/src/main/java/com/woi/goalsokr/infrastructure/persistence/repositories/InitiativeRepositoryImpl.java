@@ -5,6 +5,7 @@ import com.woi.goalsokr.domain.repositories.InitiativeRepository;
 import com.woi.goalsokr.infrastructure.persistence.entities.InitiativeJpaEntity;
 import com.woi.goalsokr.infrastructure.persistence.mappers.InitiativeEntityMapper;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -27,6 +28,16 @@ public class InitiativeRepositoryImpl implements InitiativeRepository {
                 .map(InitiativeEntityMapper::toDomain);
     }
 
+    @Override
+    public List<Initiative> findByIdIn(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findAllById(ids).stream()
+                .map(InitiativeEntityMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<Initiative> findByKeyResultId(Long keyResultId) {
         return jpaRepository.findByKeyResultIdOrderByDisplayOrderAsc(keyResultId)
@@ -54,4 +65,13 @@ public class InitiativeRepositoryImpl implements InitiativeRepository {
     public void delete(Long id) {
         jpaRepository.deleteById(id);
     }
+
+    @Override
+    @Transactional
+    public void deleteUserCreatedByIdIn(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jpaRepository.deleteUserCreatedByIdIn(ids);
+    }
 }
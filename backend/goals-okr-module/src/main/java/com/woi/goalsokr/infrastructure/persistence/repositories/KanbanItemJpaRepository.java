@@ -1,7 +1,10 @@
 package com.woi.goalsokr.infrastructure.persistence.repositories;
 
 import com.woi.goalsokr.infrastructure.persistence.entities.KanbanItemJpaEntity;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -16,13 +19,33 @@ import java.util.Optional;
 public interface KanbanItemJpaRepository extends JpaRepository<KanbanItemJpaEntity, Long> {
     List<KanbanItemJpaEntity> findByUserId(Long userId);
 
-    @Query("SELECT k FROM KanbanItemJpaEntity k WHERE k.userId = :userId AND k.columnName = :columnName ORDER BY k.position ASC")
+    @Query("SELECT k FROM KanbanItemJpaEntity k WHERE k.userId = :userId AND k.columnName = :columnName ORDER BY k.rank ASC, k.id ASC")
     List<KanbanItemJpaEntity> findByUserIdAndColumnName(@Param("userId") Long userId, @Param("columnName") String columnName);
 
+    // Rows are locked in ID order (PostgreSQL sorts before locking), the same order for every caller
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT k FROM KanbanItemJpaEntity k WHERE k.userId = :userId AND k.columnName = :columnName ORDER BY k.id ASC")
+    List<KanbanItemJpaEntity> findByUserIdAndColumnNameForUpdate(@Param("userId") Long userId, @Param("columnName") String columnName);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT k FROM KanbanItemJpaEntity k WHERE k.userId = :userId AND (k.columnName = :columnName OR k.id IN :ids) ORDER BY k.id ASC")
+    List<KanbanItemJpaEntity> findByUserIdAndColumnNameOrIdInForUpdate(
+        @Param("userId") Long userId,
+        @Param("columnName") String columnName,
+        @Param("ids") List<Long> ids
+    );
+
+    @Query("SELECT MAX(k.rank) FROM KanbanItemJpaEntity k WHERE k.userId = :userId AND k.columnName = :columnName")
+    Optional<String> findMaxRank(@Param("userId") Long userId, @Param("columnName") String columnName);
+
     @Query("SELECT k FROM KanbanItemJpaEntity k WHERE k.userId = :userId AND k.itemType = :itemType AND k.itemId = :itemId")
     Optional<KanbanItemJpaEntity> findByUserIdAndItemTypeAndItemId(
         @Param("userId") Long userId,
         @Param("itemType") String itemType,
         @Param("itemId") Long itemId
     );
+
+    @Modifying
+    @Query("DELETE FROM KanbanItemJpaEntity k WHERE k.itemType = :itemType AND k.itemId IN :itemIds")
+    void deleteByItemTypeAndItemIdIn(@Param("itemType") String itemType, @Param("itemIds") List<Long> itemIds);
 }
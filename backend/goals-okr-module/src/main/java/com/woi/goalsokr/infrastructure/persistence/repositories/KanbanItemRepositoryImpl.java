@@ -6,23 +6,35 @@ import com.woi.goalsokr.domain.enums.KanbanColumn;
 import com.woi.goalsokr.domain.repositories.KanbanItemRepository;
 import com.woi.goalsokr.infrastructure.persistence.entities.KanbanItemJpaEntity;
 import com.woi.goalsokr.infrastructure.persistence.mappers.KanbanItemEntityMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
  * Repository implementation for KanbanItem
+ * Rank updates use JDBC directly, so a move is one batched UPDATE without loading entities first.
  */
 @Repository
 public class KanbanItemRepositoryImpl implements KanbanItemRepository {
 
+    private static final String UPDATE_RANK_SQL = """
+        UPDATE goals_okr.kanban_items
+        SET column_name = ?, rank = ?, position = ?, updated_at = ?
+        WHERE id = ?
+        """;
+
     private final KanbanItemJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
-    public KanbanItemRepositoryImpl(KanbanItemJpaRepository jpaRepository) {
+    public KanbanItemRepositoryImpl(KanbanItemJpaRepository jpaRepository, JdbcTemplate jdbcTemplate) {
         this.jpaRepository = jpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -40,6 +52,17 @@ public class KanbanItemRepositoryImpl implements KanbanItemRepository {
             .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<KanbanItem> findByIdIn(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findAllById(ids).stream()
+            .map(KanbanItemEntityMapper::toDomain)
+            .collect(Collectors.toList());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<KanbanItem> findByUserIdAndColumn(Long userId, KanbanColumn column) {
@@ -48,6 +71,25 @@ public class KanbanItemRepositoryImpl implements KanbanItemRepository {
             .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional
+    public List<KanbanItem> findByUserIdAndColumnForUpdate(Long userId, KanbanColumn column, List<Long> alsoLockIds) {
+        List<KanbanItemJpaEntity> locked = alsoLockIds.isEmpty()
+            ? jpaRepository.findByUserIdAndColumnNameForUpdate(userId, column.name())
+            : jpaRepository.findByUserIdAndColumnNameOrIdInForUpdate(userId, column.name(), alsoLockIds);
+        return locked.stream()
+            .filter(entity -> column.name().equals(entity.getColumnName()))
+            .sorted(Comparator.comparing(KanbanItemJpaEntity::getRank).thenComparing(KanbanItemJpaEntity::getId))
+            .map(KanbanItemEntityMapper::toDomain)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> findLastRank(Long userId, KanbanColumn column) {
+        return jpaRepository.findMaxRank(userId, column.name());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<KanbanItem> findByUserIdAndItemTypeAndItemId(Long userId, ItemType itemType, Long itemId) {
@@ -69,6 +111,15 @@ public class KanbanItemRepositoryImpl implements KanbanItemRepository {
         jpaRepository.deleteById(item.getId());
     }
 
+    @Override
+    @Transactional
+    public void deleteByItemTypeAndItemIdIn(ItemType itemType, List<Long> itemIds) {
+        if (itemIds.isEmpty()) {
+            return;
+        }
+        jpaRepository.deleteByItemTypeAndItemIdIn(itemType.name(), itemIds);
+    }
+
     @Override
     @Transactional
     public void updatePosition(Long id, KanbanColumn column, Integer position) {
@@ -79,4 +130,19 @@ public class KanbanItemRepositoryImpl implements KanbanItemRepository {
         entity.setUpdatedAt(java.time.LocalDateTime.now());
         jpaRepository.save(entity);
     }
+
+    @Override
+    @Transactional
+    public void updateRanks(List<KanbanItem> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_RANK_SQL, items, items.size(), (ps, item) -> {
+            ps.setString(1, item.getColumnName().name());
+            ps.setString(2, item.getRank());
+            ps.setInt(3, item.getPosition());
+            ps.setTimestamp(4, Timestamp.valueOf(item.getUpdatedAt()));
+            ps.setLong(5, item.getId());
+        });
+    }
 }
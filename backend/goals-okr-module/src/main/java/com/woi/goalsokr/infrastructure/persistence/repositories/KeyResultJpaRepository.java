@@ -2,6 +2,7 @@ package com.woi.goalsokr.infrastructure.persistence.repositories;
 
 import com.woi.goalsokr.infrastructure.persistence.entities.KeyResultJpaEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -14,6 +15,8 @@ import java.util.List;
 @Repository
 public interface KeyResultJpaRepository extends JpaRepository<KeyResultJpaEntity, Long> {
     List<KeyResultJpaEntity> findByObjectiveId(Long objectiveId);
+    List<KeyResultJpaEntity> findByCreatedByUserIdIsNull();
+    List<KeyResultJpaEntity> findByObjectiveIdAndCreatedByUserId(Long objectiveId, Long createdByUserId);
 
     @Query("SELECT kr FROM KeyResultJpaEntity kr WHERE kr.objectiveId = :objectiveId ORDER BY kr.orderIndex ASC")
     List<KeyResultJpaEntity> findByObjectiveIdOrderedByOrderIndex(@Param("objectiveId") Long objectiveId);
@@ -22,4 +25,12 @@ public interface KeyResultJpaRepository extends JpaRepository<KeyResultJpaEntity
            "AND (kr.createdByUserId IS NULL OR kr.createdByUserId = :userId) ORDER BY kr.orderIndex ASC")
     List<KeyResultJpaEntity> findByObjectiveIdAndUserFilteredOrderedByOrderIndex(
         @Param("objectiveId") Long objectiveId, @Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM KeyResultJpaEntity k WHERE k.id IN :ids AND k.createdByUserId IS NOT NULL")
+    void deleteUserCreatedByIdIn(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM KeyResultJpaEntity k WHERE k.objectiveId = :objectiveId")
+    void deleteByObjectiveId(@Param("objectiveId") Long objectiveId);
 }
@@ -0,0 +1,104 @@
+package com.woi.goalsokr.infrastructure.persistence.repositories;
+
+import com.woi.goalsokr.domain.entities.KeyResultProgress;
+import com.woi.goalsokr.domain.entities.KeyResultProgressBucket;
+import com.woi.goalsokr.domain.enums.ProgressBucketSize;
+import com.woi.goalsokr.domain.repositories.KeyResultProgressHistoryRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JDBC implementation of KeyResultProgressHistoryRepository
+ *
+ * Events live in goals_okr.key_result_progress_events, range-partitioned by month on recorded_at
+ * (see V72). A range query only scans the partitions it overlaps, via the
+ * (user_key_result_instance_id, recorded_at) index of each partition, so its cost depends on
+ * the range, not on the age of the table.
+ *
+ * Partitions are created on demand: before the first append of a month, this instance calls
+ * goals_okr.create_key_result_progress_event_partition (idempotent) in its own transaction,
+ * so the DDL lock is not held until the caller commits.
+ */
+@Repository
+public class KeyResultProgressHistoryJdbcRepository implements KeyResultProgressHistoryRepository {
+
+    private static final String INSERT_EVENT_SQL = """
+        INSERT INTO goals_okr.key_result_progress_events
+            (user_key_result_instance_id, key_result_id, current_value, recorded_at)
+        VALUES (?, ?, ?, ?)
+        """;
+
+    // Last value of a bucket: the value of its most recent event
+    private static final String FIND_BUCKETS_SQL = """
+        SELECT date_trunc(?, recorded_at) AS bucket_start,
+               (array_agg(current_value ORDER BY recorded_at DESC))[1] AS last_value,
+               MIN(current_value) AS min_value,
+               MAX(current_value) AS max_value,
+               COUNT(*) AS updates
+        FROM goals_okr.key_result_progress_events
+        WHERE user_key_result_instance_id = ? AND recorded_at >= ? AND recorded_at < ?
+        GROUP BY bucket_start
+        ORDER BY bucket_start
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate partitionTransaction;
+    private final Set<YearMonth> partitionMonths = ConcurrentHashMap.newKeySet();
+
+    public KeyResultProgressHistoryJdbcRepository(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.partitionTransaction = new TransactionTemplate(transactionManager);
+        this.partitionTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    @Transactional
+    public void append(KeyResultProgress progress) {
+        ensurePartition(YearMonth.from(progress.getUpdatedAt()));
+        jdbcTemplate.update(INSERT_EVENT_SQL,
+            progress.getUserKeyResultInstanceId(),
+            progress.getKeyResultId(),
+            progress.getCurrentValue(),
+            Timestamp.valueOf(progress.getUpdatedAt()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<KeyResultProgressBucket> findBuckets(Long userKeyResultInstanceId, ProgressBucketSize bucketSize,
+                                                     LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(FIND_BUCKETS_SQL,
+            (rs, rowNum) -> new KeyResultProgressBucket(
+                rs.getTimestamp("bucket_start").toLocalDateTime().toLocalDate(),
+                rs.getBigDecimal("last_value"),
+                rs.getBigDecimal("min_value"),
+                rs.getBigDecimal("max_value"),
+                rs.getInt("updates")),
+            bucketSize.name().toLowerCase(),
+            userKeyResultInstanceId,
+            Timestamp.valueOf(from),
+            Timestamp.valueOf(to));
+    }
+
+    private void ensurePartition(YearMonth month) {
+        if (partitionMonths.contains(month)) {
+            return;
+        }
+        partitionTransaction.executeWithoutResult(status -> jdbcTemplate.queryForObject(
+            "SELECT 1 FROM goals_okr.create_key_result_progress_event_partition(?)",
+            Integer.class,
+            Date.valueOf(month.atDay(1))));
+        partitionMonths.add(month);
+    }
+}
@@ -2,6 +2,9 @@ package com.woi.goalsokr.infrastructure.persistence.repositories;
 
 import com.woi.goalsokr.infrastructure.persistence.entities.KeyResultProgressJpaEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,5 +16,10 @@ import java.util.Optional;
 @Repository
 public interface KeyResultProgressJpaRepository extends JpaRepository<KeyResultProgressJpaEntity, Long> {
     List<KeyResultProgressJpaEntity> findByUserKeyResultInstanceId(Long userKeyResultInstanceId);
+    List<KeyResultProgressJpaEntity> findByUserKeyResultInstanceIdIn(List<Long> userKeyResultInstanceIds);
     List<KeyResultProgressJpaEntity> findByKeyResultId(Long keyResultId);
+
+    @Modifying
+    @Query("DELETE FROM KeyResultProgressJpaEntity p WHERE p.userKeyResultInstanceId IN :userKeyResultInstanceIds")
+    void deleteByUserKeyResultInstanceIdIn(@Param("userKeyResultInstanceIds") List<Long> userKeyResultInstanceIds);
 }
@@ -4,9 +4,11 @@ import com.woi.goalsokr.domain.entities.KeyResultProgress;
 import com.woi.goalsokr.domain.repositories.KeyResultProgressRepository;
 import com.woi.goalsokr.infrastructure.persistence.entities.KeyResultProgressJpaEntity;
 import com.woi.goalsokr.infrastructure.persistence.mappers.KeyResultProgressEntityMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -17,10 +19,24 @@ import java.util.stream.Collectors;
 @Repository
 public class KeyResultProgressRepositoryImpl implements KeyResultProgressRepository {
 
+    // One statement, no read first: the row of the instance is created or overwritten (uk_key_result_progress_instance),
+    // and returned as stored (updated_at at column precision)
+    private static final String UPSERT_SQL = """
+        INSERT INTO goals_okr.key_result_progress (key_result_id, user_key_result_instance_id, current_value, updated_at)
+        VALUES (?, ?, ?, ?)
+        ON CONFLICT (user_key_result_instance_id) DO UPDATE
+        SET key_result_id = EXCLUDED.key_result_id,
+            current_value = EXCLUDED.current_value,
+            updated_at = EXCLUDED.updated_at
+        RETURNING id, key_result_id, user_key_result_instance_id, current_value, updated_at
+        """;
+
     private final KeyResultProgressJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
-    public KeyResultProgressRepositoryImpl(KeyResultProgressJpaRepository jpaRepository) {
+    public KeyResultProgressRepositoryImpl(KeyResultProgressJpaRepository jpaRepository, JdbcTemplate jdbcTemplate) {
         this.jpaRepository = jpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -38,6 +54,17 @@ public class KeyResultProgressRepositoryImpl implements KeyResultProgressReposit
             .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<KeyResultProgress> findByUserKeyResultInstanceIdIn(List<Long> userKeyResultInstanceIds) {
+        if (userKeyResultInstanceIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findByUserKeyResultInstanceIdIn(userKeyResultInstanceIds).stream()
+            .map(KeyResultProgressEntityMapper::toDomain)
+            .collect(Collectors.toList());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<KeyResultProgress> findByKeyResultId(Long keyResultId) {
@@ -54,9 +81,37 @@ public class KeyResultProgressRepositoryImpl implements KeyResultProgressReposit
         return KeyResultProgressEntityMapper.toDomain(saved);
     }
 
+    @Override
+    @Transactional
+    public KeyResultProgress upsert(KeyResultProgress keyResultProgress) {
+        return jdbcTemplate.queryForObject(UPSERT_SQL,
+            (rs, rowNum) -> {
+                KeyResultProgress stored = new KeyResultProgress();
+                stored.setId(rs.getLong("id"));
+                stored.setKeyResultId(rs.getLong("key_result_id"));
+                stored.setUserKeyResultInstanceId(rs.getLong("user_key_result_instance_id"));
+                stored.setCurrentValue(rs.getBigDecimal("current_value"));
+                stored.setUpdatedAt(rs.getTimestamp("updated_at").toLocalDateTime());
+                return stored;
+            },
+            keyResultProgress.getKeyResultId(),
+            keyResultProgress.getUserKeyResultInstanceId(),
+            keyResultProgress.getCurrentValue(),
+            Timestamp.valueOf(keyResultProgress.getUpdatedAt()));
+    }
+
     @Override
     @Transactional
     public void delete(KeyResultProgress keyResultProgress) {
         jpaRepository.deleteById(keyResultProgress.getId());
     }
+
+    @Override
+    @Transactional
+    public void deleteByUserKeyResultInstanceIdIn(List<Long> userKeyResultInstanceIds) {
+        if (userKeyResultInstanceIds.isEmpty()) {
+            return;
+        }
+        jpaRepository.deleteByUserKeyResultInstanceIdIn(userKeyResultInstanceIds);
+    }
 }
@@ -30,6 +30,17 @@ public class KeyResultRepositoryImpl implements KeyResultRepository {
             .map(KeyResultEntityMapper::toDomain);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<KeyResult> findByIdIn(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findAllById(ids).stream()
+            .map(KeyResultEntityMapper::toDomain)
+            .collect(Collectors.toList());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<KeyResult> findByObjectiveId(Long objectiveId) {
@@ -54,6 +65,22 @@ public class KeyResultRepositoryImpl implements KeyResultRepository {
             .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<KeyResult> findTemplates() {
+        return jpaRepository.findByCreatedByUserIdIsNull().stream()
+            .map(KeyResultEntityMapper::toDomain)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<KeyResult> findByObjectiveIdAndCreatedByUserId(Long objectiveId, Long userId) {
+        return jpaRepository.findByObjectiveIdAndCreatedByUserId(objectiveId, userId).stream()
+            .map(KeyResultEntityMapper::toDomain)
+            .collect(Collectors.toList());
+    }
+
     @Override
     @Transactional
     public KeyResult save(KeyResult keyResult) {
@@ -67,4 +94,19 @@ public class KeyResultRepositoryImpl implements KeyResultRepository {
     public void delete(KeyResult keyResult) {
         jpaRepository.deleteById(keyResult.getId());
     }
+
+    @Override
+    @Transactional
+    public void deleteUserCreatedByIdIn(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jpaRepository.deleteUserCreatedByIdIn(ids);
+    }
+
+    @Override
+    @Transactional
+    public void deleteByObjectiveId(Long objectiveId) {
+        jpaRepository.deleteByObjectiveId(objectiveId);
+    }
 }
@@ -15,6 +15,8 @@ import java.util.List;
 @Repository
 public interface ObjectiveJpaRepository extends JpaRepository<ObjectiveJpaEntity, Long> {
     List<ObjectiveJpaEntity> findByLifeDomainId(Long lifeDomainId);
+    List<ObjectiveJpaEntity> findByCreatedByUserIdIsNull();
+    List<ObjectiveJpaEntity> findByLifeDomainIdAndCreatedByUserId(Long lifeDomainId, Long createdByUserId);
 
     @Query("SELECT o FROM ObjectiveJpaEntity o WHERE o.lifeDomainId = :lifeDomainId ORDER BY o.orderIndex ASC")
     List<ObjectiveJpaEntity> findByLifeDomainIdOrderedByOrderIndex(@Param("lifeDomainId") Long lifeDomainId);
@@ -30,6 +30,17 @@ public class ObjectiveRepositoryImpl implements ObjectiveRepository {
             .map(ObjectiveEntityMapper::toDomain);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Objective> findByIdIn(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findAllById(ids).stream()
+            .map(ObjectiveEntityMapper::toDomain)
+            .collect(Collectors.toList());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Objective> findByLifeDomainId(Long lifeDomainId) {
@@ -54,6 +65,22 @@ public class ObjectiveRepositoryImpl implements ObjectiveRepository {
             .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Objective> findTemplates() {
+        return jpaRepository.findByCreatedByUserIdIsNull().stream()
+            .map(ObjectiveEntityMapper::toDomain)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Objective> findByLifeDomainIdAndCreatedByUserId(Long lifeDomainId, Long userId) {
+        return jpaRepository.findByLifeDomainIdAndCreatedByUserId(lifeDomainId, userId).stream()
+            .map(ObjectiveEntityMapper::toDomain)
+            .collect(Collectors.toList());
+    }
+
     @Override
     @Transactional
     public Objective save(Objective objective) {
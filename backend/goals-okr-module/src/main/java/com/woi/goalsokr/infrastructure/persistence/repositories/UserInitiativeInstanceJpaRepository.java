@@ -2,6 +2,9 @@ package com.woi.goalsokr.infrastructure.persistence.repositories;
 
 import com.woi.goalsokr.infrastructure.persistence.entities.UserInitiativeInstanceJpaEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -16,4 +19,14 @@ public interface UserInitiativeInstanceJpaRepository extends JpaRepository<UserI
     List<UserInitiativeInstanceJpaEntity> findByUserKeyResultInstanceIdIn(List<Long> userKeyResultInstanceIds);
     Optional<UserInitiativeInstanceJpaEntity> findByUserKeyResultInstanceIdAndInitiativeId(Long userKeyResultInstanceId, Long initiativeId);
     List<UserInitiativeInstanceJpaEntity> findByInitiativeId(Long initiativeId);
+
+    @Query("SELECT u.id FROM UserInitiativeInstanceJpaEntity u WHERE u.userKeyResultInstanceId IN :userKeyResultInstanceIds")
+    List<Long> findIdsByUserKeyResultInstanceIdIn(@Param("userKeyResultInstanceIds") List<Long> userKeyResultInstanceIds);
+
+    @Query("SELECT DISTINCT u.initiativeId FROM UserInitiativeInstanceJpaEntity u WHERE u.id IN :ids")
+    List<Long> findInitiativeIdsByIdIn(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM UserInitiativeInstanceJpaEntity u WHERE u.id IN :ids")
+    void deleteByIdIn(@Param("ids") List<Long> ids);
 }
@@ -30,6 +30,17 @@ public class UserInitiativeInstanceRepositoryImpl implements UserInitiativeInsta
             .map(UserInitiativeInstanceEntityMapper::toDomain);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserInitiativeInstance> findByIdIn(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findAllById(ids).stream()
+            .map(UserInitiativeInstanceEntityMapper::toDomain)
+            .collect(Collectors.toList());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<UserInitiativeInstance> findByUserKeyResultInstanceId(Long userKeyResultInstanceId) {
@@ -74,4 +85,31 @@ public class UserInitiativeInstanceRepositoryImpl implements UserInitiativeInsta
     public void delete(UserInitiativeInstance userInitiativeInstance) {
         jpaRepository.deleteById(userInitiativeInstance.getId());
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findIdsByUserKeyResultInstanceIdIn(List<Long> userKeyResultInstanceIds) {
+        if (userKeyResultInstanceIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findIdsByUserKeyResultInstanceIdIn(userKeyResultInstanceIds);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findInitiativeIdsByIdIn(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findInitiativeIdsByIdIn(ids);
+    }
+
+    @Override
+    @Transactional
+    public void deleteByIdIn(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jpaRepository.deleteByIdIn(ids);
+    }
 }
@@ -2,6 +2,9 @@ package com.woi.goalsokr.infrastructure.persistence.repositories;
 
 import com.woi.goalsokr.infrastructure.persistence.entities.UserKeyResultInstanceJpaEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -16,4 +19,16 @@ public interface UserKeyResultInstanceJpaRepository extends JpaRepository<UserKe
     List<UserKeyResultInstanceJpaEntity> findByUserObjectiveInstanceIdIn(List<Long> userObjectiveInstanceIds);
     Optional<UserKeyResultInstanceJpaEntity> findByUserObjectiveInstanceIdAndKeyResultId(Long userObjectiveInstanceId, Long keyResultId);
     List<UserKeyResultInstanceJpaEntity> findByKeyResultId(Long keyResultId);
+
+    @Query("SELECT u.id FROM UserKeyResultInstanceJpaEntity u WHERE u.userObjectiveInstanceId IN :userObjectiveInstanceIds")
+    List<Long> findIdsByUserObjectiveInstanceIdIn(@Param("userObjectiveInstanceIds") List<Long> userObjectiveInstanceIds);
+
+    @Query("SELECT DISTINCT u.keyResultId FROM UserKeyResultInstanceJpaEntity u WHERE u.id IN :ids")
+    List<Long> findKeyResultIdsByIdIn(@Param("ids") List<Long> ids);
+
+    boolean existsByKeyResultId(Long keyResultId);
+
+    @Modifying
+    @Query("DELETE FROM UserKeyResultInstanceJpaEntity u WHERE u.id IN :ids")
+    void deleteByIdIn(@Param("ids") List<Long> ids);
 }
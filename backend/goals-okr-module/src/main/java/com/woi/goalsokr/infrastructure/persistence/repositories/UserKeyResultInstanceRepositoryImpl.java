@@ -30,6 +30,17 @@ public class UserKeyResultInstanceRepositoryImpl implements UserKeyResultInstanc
             .map(UserKeyResultInstanceEntityMapper::toDomain);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserKeyResultInstance> findByIdIn(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findAllById(ids).stream()
+            .map(UserKeyResultInstanceEntityMapper::toDomain)
+            .collect(Collectors.toList());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<UserKeyResultInstance> findByUserObjectiveInstanceId(Long userObjectiveInstanceId) {
@@ -74,4 +85,37 @@ public class UserKeyResultInstanceRepositoryImpl implements UserKeyResultInstanc
     public void delete(UserKeyResultInstance userKeyResultInstance) {
         jpaRepository.deleteById(userKeyResultInstance.getId());
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findIdsByUserObjectiveInstanceIdIn(List<Long> userObjectiveInstanceIds) {
+        if (userObjectiveInstanceIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findIdsByUserObjectiveInstanceIdIn(userObjectiveInstanceIds);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findKeyResultIdsByIdIn(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findKeyResultIdsByIdIn(ids);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean existsByKeyResultId(Long keyResultId) {
+        return jpaRepository.existsByKeyResultId(keyResultId);
+    }
+
+    @Override
+    @Transactional
+    public void deleteByIdIn(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jpaRepository.deleteByIdIn(ids);
+    }
 }
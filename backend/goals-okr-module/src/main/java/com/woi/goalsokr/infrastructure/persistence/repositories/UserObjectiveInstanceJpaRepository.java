@@ -2,6 +2,9 @@ package com.woi.goalsokr.infrastructure.persistence.repositories;
 
 import com.woi.goalsokr.infrastructure.persistence.entities.UserObjectiveInstanceJpaEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -16,4 +19,11 @@ public interface UserObjectiveInstanceJpaRepository extends JpaRepository<UserOb
     List<UserObjectiveInstanceJpaEntity> findByUserId(Long userId);
     Optional<UserObjectiveInstanceJpaEntity> findByUserIdAndObjectiveId(Long userId, Long objectiveId);
     List<UserObjectiveInstanceJpaEntity> findByObjectiveId(Long objectiveId);
+
+    @Query("SELECT u.id FROM UserObjectiveInstanceJpaEntity u WHERE u.objectiveId = :objectiveId")
+    List<Long> findIdsByObjectiveId(@Param("objectiveId") Long objectiveId);
+
+    @Modifying
+    @Query("DELETE FROM UserObjectiveInstanceJpaEntity u WHERE u.id IN :ids")
+    void deleteByIdIn(@Param("ids") List<Long> ids);
 }
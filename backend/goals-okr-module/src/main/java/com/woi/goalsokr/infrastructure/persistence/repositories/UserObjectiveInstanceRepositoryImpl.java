@@ -30,6 +30,17 @@ public class UserObjectiveInstanceRepositoryImpl implements UserObjectiveInstanc
             .map(UserObjectiveInstanceEntityMapper::toDomain);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserObjectiveInstance> findByIdIn(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findAllById(ids).stream()
+            .map(UserObjectiveInstanceEntityMapper::toDomain)
+            .collect(Collectors.toList());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<UserObjectiveInstance> findByUserId(Long userId) {
@@ -66,4 +77,19 @@ public class UserObjectiveInstanceRepositoryImpl implements UserObjectiveInstanc
     public void delete(UserObjectiveInstance userObjectiveInstance) {
         jpaRepository.deleteById(userObjectiveInstance.getId());
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findIdsByObjectiveId(Long objectiveId) {
+        return jpaRepository.findIdsByObjectiveId(objectiveId);
+    }
+
+    @Override
+    @Transactional
+    public void deleteByIdIn(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jpaRepository.deleteByIdIn(ids);
+    }
 }
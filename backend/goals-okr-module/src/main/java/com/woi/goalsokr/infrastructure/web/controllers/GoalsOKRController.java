@@ -10,14 +10,17 @@ import com.woi.goalsokr.domain.repositories.ObjectiveRepository;
 import com.woi.goalsokr.domain.repositories.KeyResultRepository;
 import com.woi.goalsokr.domain.entities.KanbanItem;
 import com.woi.goalsokr.domain.enums.ItemType;
+import com.woi.goalsokr.domain.enums.ProgressBucketSize;
 import com.woi.goalsokr.infrastructure.web.dtos.*;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -66,13 +69,17 @@ public class GoalsOKRController {
     private final GetInitiativesByUserKeyResultInstanceQueryHandler getInitiativesByUserKeyResultInstanceHandler;
     private final GetInitiativesByUserQueryHandler getInitiativesByUserHandler;
     private final GetKeyResultProgressQueryHandler getKeyResultProgressHandler;
+    private final GetKeyResultProgressHistoryQueryHandler getKeyResultProgressHistoryHandler;
     private final GetInitiativeQueryHandler getInitiativeHandler;
     private final GetInitiativesByKeyResultQueryHandler getInitiativesByKeyResultHandler;
     private final AddKanbanItemCommandHandler addKanbanItemHandler;
     private final UpdateKanbanItemPositionCommandHandler updateKanbanItemPositionHandler;
+    private final ReorderKanbanItemsCommandHandler reorderKanbanItemsHandler;
     private final UpdateKanbanItemNotesCommandHandler updateKanbanItemNotesHandler;
     private final DeleteKanbanItemCommandHandler deleteKanbanItemHandler;
     private final GetKanbanItemsByUserQueryHandler getKanbanItemsByUserHandler;
+    private final GetKanbanBoardQueryHandler getKanbanBoardHandler;
+    private final GetUserOkrTreeQueryHandler getUserOkrTreeHandler;
     private final GetTeamKanbanItemsQueryHandler getTeamKanbanItemsHandler;
     private final KanbanItemRepository kanbanItemRepository;
     private final ObjectiveRepository objectiveRepository;
@@ -117,13 +124,17 @@ public class GoalsOKRController {
             GetInitiativesByUserKeyResultInstanceQueryHandler getInitiativesByUserKeyResultInstanceHandler,
             GetInitiativesByUserQueryHandler getInitiativesByUserHandler,
             GetKeyResultProgressQueryHandler getKeyResultProgressHandler,
+            GetKeyResultProgressHistoryQueryHandler getKeyResultProgressHistoryHandler,
             GetInitiativeQueryHandler getInitiativeHandler,
             GetInitiativesByKeyResultQueryHandler getInitiativesByKeyResultHandler,
             AddKanbanItemCommandHandler addKanbanItemHandler,
             UpdateKanbanItemPositionCommandHandler updateKanbanItemPositionHandler,
+            ReorderKanbanItemsCommandHandler reorderKanbanItemsHandler,
             UpdateKanbanItemNotesCommandHandler updateKanbanItemNotesHandler,
             DeleteKanbanItemCommandHandler deleteKanbanItemHandler,
             GetKanbanItemsByUserQueryHandler getKanbanItemsByUserHandler,
+            GetKanbanBoardQueryHandler getKanbanBoardHandler,
+            GetUserOkrTreeQueryHandler getUserOkrTreeHandler,
             GetTeamKanbanItemsQueryHandler getTeamKanbanItemsHandler,
             KanbanItemRepository kanbanItemRepository,
             ObjectiveRepository objectiveRepository,
@@ -165,13 +176,17 @@ public class GoalsOKRController {
         this.getInitiativesByUserKeyResultInstanceHandler = getInitiativesByUserKeyResultInstanceHandler;
         this.getInitiativesByUserHandler = getInitiativesByUserHandler;
         this.getKeyResultProgressHandler = getKeyResultProgressHandler;
+        this.getKeyResultProgressHistoryHandler = getKeyResultProgressHistoryHandler;
         this.getInitiativeHandler = getInitiativeHandler;
         this.getInitiativesByKeyResultHandler = getInitiativesByKeyResultHandler;
         this.addKanbanItemHandler = addKanbanItemHandler;
         this.updateKanbanItemPositionHandler = updateKanbanItemPositionHandler;
+        this.reorderKanbanItemsHandler = reorderKanbanItemsHandler;
         this.updateKanbanItemNotesHandler = updateKanbanItemNotesHandler;
         this.deleteKanbanItemHandler = deleteKanbanItemHandler;
         this.getKanbanItemsByUserHandler = getKanbanItemsByUserHandler;
+        this.getKanbanBoardHandler = getKanbanBoardHandler;
+        this.getUserOkrTreeHandler = getUserOkrTreeHandler;
         this.getTeamKanbanItemsHandler = getTeamKanbanItemsHandler;
         this.kanbanItemRepository = kanbanItemRepository;
         this.objectiveRepository = objectiveRepository;
@@ -421,6 +436,23 @@ public class GoalsOKRController {
         }
     }
 
+    /**
+     * Get the OKR tree of a user: objective instances with their key result instances
+     * (including latest progress) and initiative instances, in one response
+     * GET /api/v2/goals-okr/users/{userId}/okr-tree
+     */
+    @GetMapping("/users/{userId}/okr-tree")
+    public ResponseEntity<?> getUserOkrTree(@PathVariable Long userId) {
+        try {
+            UserOkrTreeResult result = getUserOkrTreeHandler.handle(new GetUserOkrTreeQuery(userId));
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("error", "An unexpected error occurred."));
+        }
+    }
+
     /**
      * Start a new user objective instance
      * POST /api/v2/goals-okr/user-objective-instances
@@ -875,6 +907,32 @@ public class GoalsOKRController {
         }
     }
 
+    /**
+     * Get the progress history of a user key result instance, one point per day or week
+     * (defaults: daily, the last 90 days)
+     * GET /api/v2/goals-okr/user-key-result-instances/{id}/progress-history?bucket=WEEK&from=2026-07-01&to=2026-09-30
+     */
+    @GetMapping("/user-key-result-instances/{userKeyResultInstanceId}/progress-history")
+    public ResponseEntity<?> getKeyResultProgressHistory(
+            @PathVariable Long userKeyResultInstanceId,
+            @RequestParam(defaultValue = "DAY") ProgressBucketSize bucket,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            LocalDate end = to != null ? to : LocalDate.now();
+            LocalDate start = from != null ? from : end.minusDays(89);
+            KeyResultProgressHistoryResult result = getKeyResultProgressHistoryHandler.handle(
+                new GetKeyResultProgressHistoryQuery(userKeyResultInstanceId, bucket, start, end));
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("error", "An unexpected error occurred."));
+        }
+    }
+
     /**
      * Update key result progress
      * PUT /api/v2/goals-okr/key-result-progress
@@ -919,6 +977,22 @@ public class GoalsOKRController {
         }
     }
     
+    /**
+     * Get the kanban board for a user: items grouped by column, with titles, parent OKR and progress
+     * GET /api/v2/goals-okr/users/{userId}/kanban-board
+     */
+    @GetMapping("/users/{userId}/kanban-board")
+    public ResponseEntity<?> getKanbanBoard(@PathVariable Long userId) {
+        try {
+            KanbanBoardResult result = getKanbanBoardHandler.handle(new GetKanbanBoardQuery(userId));
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("error", "An unexpected error occurred."));
+        }
+    }
+
     /**
      * Get team kanban items (read-only, from team owner)
      * GET /api/v2/goals-okr/teams/{teamId}/kanban-items
@@ -1018,6 +1092,32 @@ public class GoalsOKRController {
         }
     }
 
+    /**
+     * Move kanban items (one drag operation) to a place in a column, in one transaction
+     * PUT /api/v2/goals-okr/users/{userId}/kanban-items/order
+     */
+    @PutMapping("/users/{userId}/kanban-items/order")
+    public ResponseEntity<?> reorderKanbanItems(
+            @PathVariable Long userId,
+            @Valid @RequestBody ReorderKanbanItemsRequest request) {
+        try {
+            ReorderKanbanItemsCommand command = new ReorderKanbanItemsCommand(
+                userId,
+                request.columnName(),
+                request.itemIds(),
+                request.afterItemId()
+            );
+            List<KanbanItemResult> results = reorderKanbanItemsHandler.handle(command);
+            return ResponseEntity.ok(results);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("error", "An unexpected error occurred."));
+        }
+    }
+
     /**
      * Update kanban item notes
      * PUT /api/v2/goals-okr/kanban-items/{itemId}/notes
@@ -0,0 +1,19 @@
+package com.woi.goalsokr.infrastructure.web.dtos;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+/**
+ * Request DTO for moving kanban items (one drag operation)
+ */
+public record ReorderKanbanItemsRequest(
+    @NotNull(message = "Column name is required")
+    String columnName, // TODO, IN_PROGRESS, IN_REVIEW, DONE
+
+    @NotEmpty(message = "Item IDs are required")
+    List<Long> itemIds, // Items to move, in their new order
+
+    Long afterItemId // Item in the target column to place them after (null = top of the column)
+) {}
@@ -55,15 +55,12 @@ public class StartEnrollmentCommandHandler {
         // Save enrollment
         LearningFlowEnrollment savedEnrollment = enrollmentRepository.save(enrollment);
         
-        // Initialize progress for all steps in the template
-        List<com.woi.learning.domain.entities.LearningFlowStep> steps = 
-            stepRepository.findByTemplateIdOrderByOrderIndex(command.templateId());
-        
-        for (var step : steps) {
-            LearningFlowEnrollmentStepProgress progress = 
-                LearningFlowEnrollmentStepProgress.create(savedEnrollment.getId(), step.getId());
-            progressRepository.save(progress);
-        }
+        // Initialize progress for all steps in the template (one multi-row insert)
+        List<LearningFlowEnrollmentStepProgress> progress = 
+            stepRepository.findByTemplateIdOrderByOrderIndex(command.templateId()).stream()
+                .map(step -> LearningFlowEnrollmentStepProgress.create(savedEnrollment.getId(), step.getId()))
+                .toList();
+        progressRepository.insertAll(progress);
         
         // Return result
         return LearningFlowEnrollmentResult.from(savedEnrollment);
@@ -13,6 +13,12 @@ public interface LearningFlowEnrollmentStepProgressRepository {
     Optional<LearningFlowEnrollmentStepProgress> findByEnrollmentIdAndStepId(Long enrollmentId, Long stepId);
     List<LearningFlowEnrollmentStepProgress> findByEnrollmentId(Long enrollmentId);
     LearningFlowEnrollmentStepProgress save(LearningFlowEnrollmentStepProgress progress);
+
+    /**
+     * Insert new progress rows with a single multi-row INSERT (IDs are not set on the given objects)
+     * Pending changes of the transaction (e.g. a just saved enrollment) are flushed first.
+     */
+    void insertAll(List<LearningFlowEnrollmentStepProgress> progress);
     void delete(LearningFlowEnrollmentStepProgress progress);
 }
 
@@ -11,7 +11,8 @@ import java.time.LocalDateTime;
 public class LearningFlowEnrollmentAnswerJpaEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "learning.learning_flow_answers_id_seq")
+    @SequenceGenerator(name = "learning.learning_flow_answers_id_seq", schema = "learning", sequenceName = "learning_flow_answers_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
     
@@ -10,7 +10,8 @@ import jakarta.persistence.*;
 public class LearningFlowStepJpaEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "learning.learning_flow_steps_id_seq")
+    @SequenceGenerator(name = "learning.learning_flow_steps_id_seq", schema = "learning", sequenceName = "learning_flow_steps_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
     
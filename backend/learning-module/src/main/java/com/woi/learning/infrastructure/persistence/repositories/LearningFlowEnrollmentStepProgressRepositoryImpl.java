@@ -4,9 +4,12 @@ import com.woi.learning.domain.entities.LearningFlowEnrollmentStepProgress;
 import com.woi.learning.domain.repositories.LearningFlowEnrollmentStepProgressRepository;
 import com.woi.learning.infrastructure.persistence.entities.LearningFlowEnrollmentStepProgressJpaEntity;
 import com.woi.learning.infrastructure.persistence.mappers.LearningFlowEnrollmentStepProgressEntityMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Connection;
+import java.sql.Timestamp;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -17,10 +20,19 @@ import java.util.stream.Collectors;
 @Repository
 public class LearningFlowEnrollmentStepProgressRepositoryImpl implements LearningFlowEnrollmentStepProgressRepository {
     
+    private static final String INSERT_ALL_SQL = """
+        INSERT INTO learning.learning_flow_step_progress (enrollment_id, step_id, status, updated_at)
+        SELECT * FROM unnest(?::bigint[], ?::bigint[], ?::varchar[], ?::timestamp[])
+        """;
+    
     private final LearningFlowEnrollmentStepProgressJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
     
-    public LearningFlowEnrollmentStepProgressRepositoryImpl(LearningFlowEnrollmentStepProgressJpaRepository jpaRepository) {
+    public LearningFlowEnrollmentStepProgressRepositoryImpl(
+            LearningFlowEnrollmentStepProgressJpaRepository jpaRepository,
+            JdbcTemplate jdbcTemplate) {
         this.jpaRepository = jpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
     }
     
     @Override
@@ -46,6 +58,37 @@ public class LearningFlowEnrollmentStepProgressRepositoryImpl implements Learnin
         return LearningFlowEnrollmentStepProgressEntityMapper.toDomain(saved);
     }
     
+    @Override
+    @Transactional
+    public void insertAll(List<LearningFlowEnrollmentStepProgress> progress) {
+        if (progress.isEmpty()) {
+            return;
+        }
+        // The enrollment may have been saved in this transaction but not inserted yet (pooled IDs
+        // defer inserts to the flush); write it first, fk_progress_enrollment is checked per statement
+        jpaRepository.flush();
+        
+        // One statement for all rows: the columns are passed as arrays and unnested into rows
+        Long[] enrollmentIds = new Long[progress.size()];
+        Long[] stepIds = new Long[progress.size()];
+        String[] statuses = new String[progress.size()];
+        Timestamp[] updatedAts = new Timestamp[progress.size()];
+        for (int i = 0; i < progress.size(); i++) {
+            LearningFlowEnrollmentStepProgress row = progress.get(i);
+            enrollmentIds[i] = row.getEnrollmentId();
+            stepIds[i] = row.getStepId();
+            statuses[i] = row.getStatus().name();
+            updatedAts[i] = Timestamp.valueOf(row.getUpdatedAt());
+        }
+        jdbcTemplate.update(INSERT_ALL_SQL, ps -> {
+            Connection connection = ps.getConnection();
+            ps.setArray(1, connection.createArrayOf("bigint", enrollmentIds));
+            ps.setArray(2, connection.createArrayOf("bigint", stepIds));
+            ps.setArray(3, connection.createArrayOf("varchar", statuses));
+            ps.setArray(4, connection.createArrayOf("timestamp", updatedAts));
+        });
+    }
+    
     @Override
     @Transactional
     public void delete(LearningFlowEnrollmentStepProgress progress) {
@@ -0,0 +1,21 @@
+package com.woi.user.application.events;
+
+/**
+ * In-process event: a user logged in with a password whose hash was made with older settings
+ * Published by LoginCommandHandler; the password is hashed again in the background after commit
+ * (PasswordRehasher).
+ *
+ * @param userId User that logged in
+ * @param currentHash Stored hash the password was verified against
+ * @param plainPassword The verified password (never logged: see toString)
+ */
+public record PasswordRehashNeededEvent(
+    Long userId,
+    String currentHash,
+    String plainPassword
+) {
+    @Override
+    public String toString() {
+        return "PasswordRehashNeededEvent[userId=" + userId + "]";
+    }
+}
@@ -0,0 +1,13 @@
+package com.woi.user.application.events;
+
+/**
+ * In-process event: the kanban board of a team was shared or unshared
+ * Published by ShareTeamKanbanCommandHandler and UnshareTeamKanbanCommandHandler; the cached
+ * share (CachingUserModuleInterface) is dropped after commit.
+ *
+ * @param teamId Team whose kanban share changed
+ */
+public record TeamKanbanShareChangedEvent(
+    Long teamId
+) {
+}
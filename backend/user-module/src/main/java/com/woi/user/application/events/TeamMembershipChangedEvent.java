@@ -0,0 +1,15 @@
+package com.woi.user.application.events;
+
+/**
+ * In-process event: the members of a team changed (member added, removed, left or changed role)
+ * Published by team command handlers; cached team membership (CachingUserModuleInterface)
+ * is dropped after commit.
+ *
+ * @param teamId Team whose members changed
+ * @param userId Member that was added, removed or changed
+ */
+public record TeamMembershipChangedEvent(
+    Long teamId,
+    Long userId
+) {
+}
@@ -1,12 +1,14 @@
 package com.woi.user.application.handlers.commands;
 
 import com.woi.user.application.commands.AcceptTeamInvitationCommand;
+import com.woi.user.application.events.TeamMembershipChangedEvent;
 import com.woi.user.application.results.TeamMemberResult;
 import com.woi.user.domain.entities.TeamInvitation;
 import com.woi.user.domain.entities.TeamMember;
 import com.woi.user.domain.repositories.TeamInvitationRepository;
 import com.woi.user.domain.repositories.TeamMemberRepository;
 import com.woi.user.domain.repositories.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,14 +20,17 @@ public class AcceptTeamInvitationCommandHandler {
     private final TeamInvitationRepository teamInvitationRepository;
     private final TeamMemberRepository teamMemberRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     public AcceptTeamInvitationCommandHandler(
             TeamInvitationRepository teamInvitationRepository,
             TeamMemberRepository teamMemberRepository,
-            UserRepository userRepository) {
+            UserRepository userRepository,
+            ApplicationEventPublisher eventPublisher) {
         this.teamInvitationRepository = teamInvitationRepository;
         this.teamMemberRepository = teamMemberRepository;
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
     }
     
     @Transactional
@@ -67,6 +72,7 @@ public class AcceptTeamInvitationCommandHandler {
             invitation.getInvitedById()
         );
         TeamMember saved = teamMemberRepository.save(member);
+        eventPublisher.publishEvent(new TeamMembershipChangedEvent(saved.getTeamId(), saved.getUserId()));
         
         // 7. Return result
         return TeamMemberResult.from(saved);
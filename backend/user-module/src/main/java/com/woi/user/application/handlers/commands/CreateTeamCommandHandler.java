@@ -1,6 +1,7 @@
 package com.woi.user.application.handlers.commands;
 
 import com.woi.user.application.commands.CreateTeamCommand;
+import com.woi.user.application.events.TeamMembershipChangedEvent;
 import com.woi.user.application.results.TeamResult;
 import com.woi.user.domain.entities.Team;
 import com.woi.user.domain.entities.TeamMember;
@@ -8,6 +9,7 @@ import com.woi.user.domain.enums.TeamRole;
 import com.woi.user.domain.repositories.TeamMemberRepository;
 import com.woi.user.domain.repositories.TeamRepository;
 import com.woi.user.domain.repositories.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,14 +26,17 @@ public class CreateTeamCommandHandler {
     private final TeamRepository teamRepository;
     private final TeamMemberRepository teamMemberRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     public CreateTeamCommandHandler(
             TeamRepository teamRepository,
             TeamMemberRepository teamMemberRepository,
-            UserRepository userRepository) {
+            UserRepository userRepository,
+            ApplicationEventPublisher eventPublisher) {
         this.teamRepository = teamRepository;
         this.teamMemberRepository = teamMemberRepository;
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
     }
     
     @Transactional
@@ -57,6 +62,7 @@ public class CreateTeamCommandHandler {
             command.ownerId() // Owner invited themselves
         );
         teamMemberRepository.save(ownerMember);
+        eventPublisher.publishEvent(new TeamMembershipChangedEvent(savedTeam.getId(), command.ownerId()));
         
         // 5. Return result
         return TeamResult.from(savedTeam);
@@ -1,6 +1,7 @@
 package com.woi.user.application.handlers.commands;
 
 import com.woi.user.application.commands.LoginCommand;
+import com.woi.user.application.events.PasswordRehashNeededEvent;
 import com.woi.user.application.results.AuthResult;
 import com.woi.user.application.ports.output.JwtTokenService;
 import com.woi.user.domain.entities.Credential;
@@ -12,6 +13,7 @@ import com.woi.user.domain.services.PasswordHasher;
 import com.woi.user.infrastructure.services.AccountLockoutService;
 import com.woi.user.infrastructure.services.AuditLogService;
 import com.woi.user.infrastructure.services.RefreshTokenService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
@@ -25,6 +27,7 @@ import java.util.Optional;
  * - Coordinate domain entities and repositories
  * - Generate authentication tokens
  * - Handle account lockout and audit logging
+ * - Request a rehash of passwords hashed with older settings
  */
 @Component
 public class LoginCommandHandler {
@@ -35,6 +38,7 @@ public class LoginCommandHandler {
     private final RefreshTokenService refreshTokenService;
     private final AccountLockoutService accountLockoutService;
     private final AuditLogService auditLogService;
+    private final ApplicationEventPublisher eventPublisher;
     
     public LoginCommandHandler(
             UserRepository userRepository,
@@ -43,7 +47,8 @@ public class LoginCommandHandler {
             JwtTokenService jwtTokenService,
             RefreshTokenService refreshTokenService,
             AccountLockoutService accountLockoutService,
-            AuditLogService auditLogService) {
+            AuditLogService auditLogService,
+            ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.credentialRepository = credentialRepository;
         this.passwordHasher = passwordHasher;
@@ -51,6 +56,7 @@ public class LoginCommandHandler {
         this.refreshTokenService = refreshTokenService;
         this.accountLockoutService = accountLockoutService;
         this.auditLogService = auditLogService;
+        this.eventPublisher = eventPublisher;
     }
     
     public AuthResult handle(LoginCommand command) {
@@ -100,6 +106,11 @@ public class LoginCommandHandler {
         // 6. Successful login - reset failed attempts
         accountLockoutService.resetFailedAttempts(user);
         
+        // Hash made with older settings: hash again in the background (after commit, not on this request)
+        if (passwordHasher.needsRehash(credential.getPasswordHash())) {
+            eventPublisher.publishEvent(new PasswordRehashNeededEvent(user.getId(), credential.getPasswordHash(), command.password()));
+        }
+        
         // 7. Audit logging
         auditLogService.logLoginSuccess(user.getId(), command.ipAddress(), command.userAgent());
         
@@ -16,7 +16,7 @@ import org.springframework.stereotype.Component;
  * Command handler for refreshing an access token
  * 
  * Responsibilities:
- * - Validate refresh token
+ * - Rotate refresh token (the presented token is revoked and replaced)
  * - Generate new access token
  * - Return new authentication result
  */
@@ -36,14 +36,14 @@ public class RefreshTokenCommandHandler {
     }
     
     public AuthResult handle(RefreshTokenCommand command) {
-        // 1. Validate refresh token
-        Optional<Long> userIdOpt = refreshTokenService.validateRefreshToken(command.refreshToken());
+        // 1. Rotate refresh token
+        Optional<RefreshTokenService.RotatedRefreshToken> rotatedOpt = refreshTokenService.rotateRefreshToken(command.refreshToken());
         
-        if (userIdOpt.isEmpty()) {
+        if (rotatedOpt.isEmpty()) {
             throw new IllegalArgumentException("Ongeldige of verlopen refresh token");
         }
         
-        Long userId = userIdOpt.get();
+        Long userId = rotatedOpt.get().userId();
         
         // 2. Find user
         Optional<User> userOpt = userRepository.findById(userId);
@@ -62,8 +62,8 @@ public class RefreshTokenCommandHandler {
         String token = jwtTokenService.generateToken(user.getId(), user.getEmail());
         LocalDateTime expiresAt = jwtTokenService.getExpirationTime(token);
         
-        // 5. Return new access token (refresh token remains the same)
-        return new AuthResult(token, command.refreshToken(), user.getId(), user.getEmail(), expiresAt);
+        // 5. Return new access token and the replacement refresh token
+        return new AuthResult(token, rotatedOpt.get().refreshToken(), user.getId(), user.getEmail(), expiresAt);
     }
 }
 
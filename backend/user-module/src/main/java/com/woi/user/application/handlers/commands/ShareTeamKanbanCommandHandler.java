@@ -1,10 +1,12 @@
 package com.woi.user.application.handlers.commands;
 
 import com.woi.user.application.commands.ShareTeamKanbanCommand;
+import com.woi.user.application.events.TeamKanbanShareChangedEvent;
 import com.woi.user.application.results.TeamKanbanShareResult;
 import com.woi.user.domain.entities.TeamKanbanShare;
 import com.woi.user.domain.repositories.TeamKanbanShareRepository;
 import com.woi.user.domain.repositories.TeamRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,12 +17,15 @@ import org.springframework.transaction.annotation.Transactional;
 public class ShareTeamKanbanCommandHandler {
     private final TeamKanbanShareRepository shareRepository;
     private final TeamRepository teamRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     public ShareTeamKanbanCommandHandler(
             TeamKanbanShareRepository shareRepository,
-            TeamRepository teamRepository) {
+            TeamRepository teamRepository,
+            ApplicationEventPublisher eventPublisher) {
         this.shareRepository = shareRepository;
         this.teamRepository = teamRepository;
+        this.eventPublisher = eventPublisher;
     }
     
     @Transactional
@@ -37,6 +42,7 @@ public class ShareTeamKanbanCommandHandler {
         // 3. Create share
         TeamKanbanShare share = TeamKanbanShare.create(command.teamId(), command.ownerUserId());
         TeamKanbanShare saved = shareRepository.save(share);
+        eventPublisher.publishEvent(new TeamKanbanShareChangedEvent(command.teamId()));
         
         return TeamKanbanShareResult.from(saved);
     }
@@ -1,9 +1,11 @@
 package com.woi.user.application.handlers.commands;
 
 import com.woi.user.application.commands.UnshareTeamKanbanCommand;
+import com.woi.user.application.events.TeamKanbanShareChangedEvent;
 import com.woi.user.application.results.TeamKanbanShareResult;
 import com.woi.user.domain.entities.TeamKanbanShare;
 import com.woi.user.domain.repositories.TeamKanbanShareRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,9 +15,13 @@ import org.springframework.transaction.annotation.Transactional;
 @Component
 public class UnshareTeamKanbanCommandHandler {
     private final TeamKanbanShareRepository shareRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
-    public UnshareTeamKanbanCommandHandler(TeamKanbanShareRepository shareRepository) {
+    public UnshareTeamKanbanCommandHandler(
+            TeamKanbanShareRepository shareRepository,
+            ApplicationEventPublisher eventPublisher) {
         this.shareRepository = shareRepository;
+        this.eventPublisher = eventPublisher;
     }
     
     @Transactional
@@ -32,6 +38,7 @@ public class UnshareTeamKanbanCommandHandler {
         // 3. Unshare (soft delete)
         share.unshare();
         TeamKanbanShare saved = shareRepository.save(share);
+        eventPublisher.publishEvent(new TeamKanbanShareChangedEvent(command.teamId()));
         
         return TeamKanbanShareResult.from(saved);
     }
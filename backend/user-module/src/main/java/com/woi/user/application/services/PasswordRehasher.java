@@ -0,0 +1,79 @@
+package com.woi.user.application.services;
+
+import com.woi.user.application.events.PasswordRehashNeededEvent;
+import com.woi.user.domain.repositories.CredentialRepository;
+import com.woi.user.domain.services.PasswordHasher;
+import com.woi.user.domain.services.PasswordHasherBusyException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Hashes passwords again after a login, when their hash was made with older settings
+ * (another algorithm or cost, see PasswordHasher.needsRehash)
+ *
+ * Runs after the login committed, on a background thread, so the login response does not wait for
+ * the extra hash. At most one rehash per user is pending.
+ *
+ * Rehashing is an upgrade, not a requirement: it is skipped when the hasher is at capacity (or
+ * during shutdown), and the stored hash is only replaced if it is still the hash the login
+ * verified, so a password change in the meantime is never overwritten. The next login tries again.
+ */
+@Component
+public class PasswordRehasher {
+    private static final Logger log = LoggerFactory.getLogger(PasswordRehasher.class);
+
+    private final PasswordHasher passwordHasher;
+    private final CredentialRepository credentialRepository;
+    private final Set<Long> pendingUsers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "password-rehasher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public PasswordRehasher(PasswordHasher passwordHasher, CredentialRepository credentialRepository) {
+        this.passwordHasher = passwordHasher;
+        this.credentialRepository = credentialRepository;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPasswordRehashNeeded(PasswordRehashNeededEvent event) {
+        if (!pendingUsers.add(event.userId())) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    rehash(event);
+                } catch (PasswordHasherBusyException e) {
+                    // Skipped; the next login tries again
+                } catch (RuntimeException e) {
+                    log.warn("Rehash for user {} failed", event.userId(), e);
+                } finally {
+                    pendingUsers.remove(event.userId());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pendingUsers.remove(event.userId());
+        }
+    }
+
+    private void rehash(PasswordRehashNeededEvent event) {
+        String newHash = passwordHasher.hash(event.plainPassword());
+        credentialRepository.replacePasswordHash(event.userId(), event.currentHash(), newHash);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
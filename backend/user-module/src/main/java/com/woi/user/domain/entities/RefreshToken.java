@@ -1,6 +1,7 @@
 package com.woi.user.domain.entities;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 /**
  * RefreshToken domain entity - Pure POJO (no JPA annotations)
@@ -10,6 +11,7 @@ public class RefreshToken {
     private Long id;
     private Long userId;  // Soft reference
     private String tokenHash;
+    private UUID familyId;  // Shared by all tokens rotated from the same login
     private LocalDateTime expiresAt;
     private LocalDateTime createdAt;
     private LocalDateTime revokedAt;
@@ -18,7 +20,7 @@ public class RefreshToken {
     private RefreshToken() {}
     
     /**
-     * Factory method: Create a new refresh token
+     * Factory method: Create a new refresh token (the first of a new token family)
      * 
      * @param userId User ID for whom the token is created
      * @param tokenHash Hashed token value
@@ -39,6 +41,7 @@ public class RefreshToken {
         RefreshToken refreshToken = new RefreshToken();
         refreshToken.userId = userId;
         refreshToken.tokenHash = tokenHash;
+        refreshToken.familyId = UUID.randomUUID();
         refreshToken.expiresAt = expiresAt;
         refreshToken.createdAt = LocalDateTime.now();
         refreshToken.revokedAt = null;
@@ -69,6 +72,7 @@ public class RefreshToken {
     public Long getId() { return id; }
     public Long getUserId() { return userId; }
     public String getTokenHash() { return tokenHash; }
+    public UUID getFamilyId() { return familyId; }
     public LocalDateTime getExpiresAt() { return expiresAt; }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public LocalDateTime getRevokedAt() { return revokedAt; }
@@ -79,6 +83,12 @@ public class RefreshToken {
      */
     public void setId(Long id) { this.id = id; }
     
+    /**
+     * Setter for familyId - ONLY for entity mapping (infrastructure layer)
+     * DO NOT use in business logic - this is for persistence mapping only
+     */
+    public void setFamilyId(UUID familyId) { this.familyId = familyId; }
+    
     /**
      * Setter for createdAt - ONLY for entity mapping (infrastructure layer)
      * DO NOT use in business logic - this is for persistence mapping only
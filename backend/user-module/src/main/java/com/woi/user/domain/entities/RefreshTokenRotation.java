@@ -0,0 +1,22 @@
+package com.woi.user.domain.entities;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Outcome of presenting a refresh token for rotation
+ *
+ * @param userId Owner of the presented token
+ * @param familyId Token family of the presented token
+ * @param rotated Whether this call revoked the presented token and stored its replacement
+ * @param revokedAt When the presented token had been revoked before this call (null if it was not)
+ * @param expiresAt Expiry of the presented token
+ */
+public record RefreshTokenRotation(
+    Long userId,
+    UUID familyId,
+    boolean rotated,
+    LocalDateTime revokedAt,
+    LocalDateTime expiresAt
+) {
+}
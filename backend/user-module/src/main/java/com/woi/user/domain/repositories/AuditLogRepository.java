@@ -10,6 +10,11 @@ import java.util.List;
  */
 public interface AuditLogRepository {
     AuditLog save(AuditLog auditLog);
+    
+    /**
+     * Insert new audit log entries in one batch (IDs are not set on the given entries)
+     */
+    void saveAll(List<AuditLog> auditLogs);
     List<AuditLog> findByUserIdOrderByCreatedAtDesc(Long userId);
     List<AuditLog> findByEventTypeOrderByCreatedAtDesc(AuditLog.EventType eventType);
     List<AuditLog> findByCreatedAtBetweenOrderByCreatedAtDesc(LocalDateTime start, LocalDateTime end);
@@ -13,5 +13,13 @@ public interface CredentialRepository {
     boolean existsByUserId(Long userId);
     Credential save(Credential credential);
     void delete(Credential credential);
+    
+    /**
+     * Replace the password hash of a user, only if it is still expectedHash
+     * (a password change in the meantime wins)
+     * 
+     * @return true if the hash was replaced
+     */
+    boolean replacePasswordHash(Long userId, String expectedHash, String newHash);
 }
 
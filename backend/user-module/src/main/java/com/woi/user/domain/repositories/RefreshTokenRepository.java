@@ -1,9 +1,11 @@
 package com.woi.user.domain.repositories;
 
 import com.woi.user.domain.entities.RefreshToken;
+import com.woi.user.domain.entities.RefreshTokenRotation;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * RefreshToken repository interface - Domain layer
@@ -24,6 +26,34 @@ public interface RefreshTokenRepository {
      */
     int revokeAllByUserId(Long userId);
     
+    /**
+     * Revoke all refresh tokens of a token family
+     * 
+     * @param familyId Token family (all tokens rotated from one login)
+     * @return Number of tokens revoked
+     */
+    int revokeFamily(UUID familyId);
+    
+    /**
+     * Rotate a refresh token in one statement: if the token with tokenHash is neither revoked nor
+     * expired, revoke it and store its replacement (same user and family)
+     * 
+     * @param tokenHash Hash of the presented token
+     * @param replacementHash Hash of the replacement token
+     * @param replacementExpiresAt Expiry of the replacement token
+     * @param now Revocation time of the presented token
+     * @return Outcome, or empty if no token has this hash
+     */
+    Optional<RefreshTokenRotation> rotate(String tokenHash, String replacementHash, LocalDateTime replacementExpiresAt, LocalDateTime now);
+    
+    /**
+     * Store a new refresh token in a token family, if the family still has a valid token
+     * (not revoked, not expired)
+     * 
+     * @return true if the token was stored
+     */
+    boolean addToValidFamily(Long userId, UUID familyId, String tokenHash, LocalDateTime expiresAt, LocalDateTime now);
+    
     /**
      * Delete expired tokens
      * 
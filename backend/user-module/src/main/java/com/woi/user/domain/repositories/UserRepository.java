@@ -1,6 +1,7 @@
 package com.woi.user.domain.repositories;
 
 import com.woi.user.domain.entities.User;
+import com.woi.user.domain.enums.UserStatus;
 import java.util.Optional;
 
 /**
@@ -9,6 +10,8 @@ import java.util.Optional;
  */
 public interface UserRepository {
     Optional<User> findById(Long id);
+    Optional<UserStatus> findStatusById(Long id); // Without loading the user
+    boolean existsById(Long id);
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
     User save(User user);
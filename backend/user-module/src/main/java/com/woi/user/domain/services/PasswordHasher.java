@@ -4,6 +4,9 @@ package com.woi.user.domain.services;
  * PasswordHasher interface - Domain layer
  * Interface for password hashing operations
  * 
+ * Hashes are versioned: they name the algorithm and its cost, so the hasher can verify hashes made
+ * with earlier settings and tell which ones should be replaced (see needsRehash).
+ * 
  * Implementation will be in infrastructure layer (BcryptPasswordHasher)
  */
 public interface PasswordHasher {
@@ -13,6 +16,7 @@ public interface PasswordHasher {
      * @param plainPassword Plain text password
      * @return Hashed password
      * @throws IllegalArgumentException if password is null or empty
+     * @throws PasswordHasherBusyException if the hasher is at capacity
      */
     String hash(String plainPassword);
     
@@ -22,7 +26,16 @@ public interface PasswordHasher {
      * @param plainPassword Plain text password to verify
      * @param hash Hashed password to compare against
      * @return true if password matches hash, false otherwise
+     * @throws PasswordHasherBusyException if the hasher is at capacity
      */
     boolean verify(String plainPassword, String hash);
+    
+    /**
+     * Check whether a hash was made with other settings (algorithm or cost) than new hashes
+     * Cheap: does not hash anything.
+     * 
+     * @param hash Hashed password
+     * @return true if the password should be hashed again (when it is known, e.g. after a successful login)
+     */
+    boolean needsRehash(String hash);
 }
-
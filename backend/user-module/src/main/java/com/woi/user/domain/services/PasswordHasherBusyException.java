@@ -0,0 +1,19 @@
+package com.woi.user.domain.services;
+
+/**
+ * Thrown by PasswordHasher when it is at capacity and does not accept more work
+ * The request can be retried after a short wait (HTTP 429)
+ */
+public class PasswordHasherBusyException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public PasswordHasherBusyException(long retryAfterSeconds) {
+        super("Password hashing is at capacity");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,252 @@
+package com.woi.user.infrastructure.api;
+
+import com.woi.user.api.TeamSummary;
+import com.woi.user.api.UserModuleInterface;
+import com.woi.user.api.UserPreferenceSummary;
+import com.woi.user.api.UserSummary;
+import com.woi.user.application.events.TeamKanbanShareChangedEvent;
+import com.woi.user.application.events.TeamMembershipChangedEvent;
+import com.woi.user.domain.entities.Team;
+import com.woi.user.domain.entities.TeamKanbanShare;
+import com.woi.user.domain.entities.TeamMember;
+import com.woi.user.domain.enums.Context;
+import com.woi.user.domain.enums.GoalsOkrContext;
+import com.woi.user.domain.enums.TeamMemberStatus;
+import com.woi.user.domain.enums.UserStatus;
+import com.woi.user.domain.repositories.TeamKanbanShareRepository;
+import com.woi.user.domain.repositories.TeamMemberRepository;
+import com.woi.user.domain.repositories.TeamRepository;
+import com.woi.user.domain.repositories.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * Caching decorator of UserModuleInterface (the implementation other modules get injected)
+ *
+ * Other modules check userExists, isUserActive, isUserTeamMember and getTeamKanbanShareOwnerId on
+ * nearly every command; after the first lookup these are memory lookups:
+ * - Users: two bitmaps keyed by user ID (known, active), filled by one status query on the first
+ *   lookup of a user. Only found users are remembered, so a user registered later is found as well.
+ * - Teams: per team the owner, the active members with their role and the kanban share owner,
+ *   loaded with one query each on the first lookup of the team.
+ *
+ * Invalidation:
+ * - A team is dropped after a team command commits (TeamMembershipChangedEvent, TeamKanbanShareChangedEvent)
+ * - A team load that overlaps such an invalidation is returned but not cached
+ * - Everything expires after user-module.cache.ttl-seconds (0 disables the cache). This bounds how
+ *   long changes made by other instances, or outside the application, stay unseen.
+ *
+ * All other methods delegate to UserModuleInterfaceImpl.
+ */
+@Component
+@Primary
+public class CachingUserModuleInterface implements UserModuleInterface {
+
+    /**
+     * @param ownerId Owner of the team (null if the team does not exist)
+     * @param memberRoles Role per active member
+     * @param kanbanShareOwnerId Owner of the active kanban share (null if not shared)
+     */
+    private record CachedTeam(Long ownerId, Map<Long, String> memberRoles, Long kanbanShareOwnerId, long expiresAtMillis) {
+    }
+
+    private final UserModuleInterfaceImpl delegate;
+    private final UserRepository userRepository;
+    private final TeamRepository teamRepository;
+    private final TeamMemberRepository teamMemberRepository;
+    private final TeamKanbanShareRepository teamKanbanShareRepository;
+    private final long ttlMillis;
+
+    private final ReadWriteLock userLock = new ReentrantReadWriteLock();
+    private final BitSet knownUsers = new BitSet(); // Guarded by userLock
+    private final BitSet activeUsers = new BitSet(); // Guarded by userLock
+    private long usersExpireAtMillis; // Guarded by userLock
+
+    private final ConcurrentHashMap<Long, CachedTeam> teams = new ConcurrentHashMap<>();
+    private final AtomicLong teamInvalidations = new AtomicLong();
+
+    public CachingUserModuleInterface(
+            UserModuleInterfaceImpl delegate,
+            UserRepository userRepository,
+            TeamRepository teamRepository,
+            TeamMemberRepository teamMemberRepository,
+            TeamKanbanShareRepository teamKanbanShareRepository,
+            @Value("${user-module.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.delegate = delegate;
+        this.userRepository = userRepository;
+        this.teamRepository = teamRepository;
+        this.teamMemberRepository = teamMemberRepository;
+        this.teamKanbanShareRepository = teamKanbanShareRepository;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    // ========== Users ==========
+
+    @Override
+    public boolean userExists(Long userId) {
+        Boolean active = cachedActive(userId);
+        if (active != null) {
+            return true;
+        }
+        return loadUserStatus(userId).isPresent();
+    }
+
+    @Override
+    public boolean isUserActive(Long userId) {
+        Boolean active = cachedActive(userId);
+        if (active != null) {
+            return active;
+        }
+        return loadUserStatus(userId).map(status -> status == UserStatus.ACTIVE).orElse(false);
+    }
+
+    /**
+     * @return Whether the user is active, or null if the user is not cached
+     */
+    private Boolean cachedActive(Long userId) {
+        if (!isCacheable(userId)) {
+            return null;
+        }
+        int index = userId.intValue();
+        userLock.readLock().lock();
+        try {
+            if (System.currentTimeMillis() >= usersExpireAtMillis || !knownUsers.get(index)) {
+                return null;
+            }
+            return activeUsers.get(index);
+        } finally {
+            userLock.readLock().unlock();
+        }
+    }
+
+    private Optional<UserStatus> loadUserStatus(Long userId) {
+        Optional<UserStatus> status = userRepository.findStatusById(userId);
+        if (status.isPresent() && isCacheable(userId)) {
+            int index = userId.intValue();
+            userLock.writeLock().lock();
+            try {
+                long now = System.currentTimeMillis();
+                if (now >= usersExpireAtMillis) {
+                    knownUsers.clear();
+                    activeUsers.clear();
+                    usersExpireAtMillis = now + ttlMillis;
+                }
+                knownUsers.set(index);
+                activeUsers.set(index, status.get() == UserStatus.ACTIVE);
+            } finally {
+                userLock.writeLock().unlock();
+            }
+        }
+        return status;
+    }
+
+    private boolean isCacheable(Long userId) {
+        return ttlMillis > 0 && userId != null && userId >= 0 && userId <= Integer.MAX_VALUE;
+    }
+
+    // ========== Teams ==========
+
+    @Override
+    public boolean isUserTeamMember(Long userId, Long teamId) {
+        return team(teamId).memberRoles().containsKey(userId);
+    }
+
+    @Override
+    public Optional<String> getUserTeamRole(Long userId, Long teamId) {
+        return Optional.ofNullable(team(teamId).memberRoles().get(userId));
+    }
+
+    @Override
+    public Optional<Long> getTeamOwnerId(Long teamId) {
+        return Optional.ofNullable(team(teamId).ownerId());
+    }
+
+    @Override
+    public Optional<Long> getTeamKanbanShareOwnerId(Long teamId) {
+        return Optional.ofNullable(team(teamId).kanbanShareOwnerId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTeamMembershipChanged(TeamMembershipChangedEvent event) {
+        evictTeam(event.teamId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTeamKanbanShareChanged(TeamKanbanShareChangedEvent event) {
+        evictTeam(event.teamId());
+    }
+
+    private CachedTeam team(Long teamId) {
+        if (ttlMillis <= 0) {
+            return loadTeam(teamId);
+        }
+        CachedTeam cached = teams.get(teamId);
+        if (cached != null && cached.expiresAtMillis() > System.currentTimeMillis()) {
+            return cached;
+        }
+
+        long invalidations = teamInvalidations.get();
+        CachedTeam loaded = loadTeam(teamId);
+        teams.put(teamId, loaded);
+        if (teamInvalidations.get() != invalidations) {
+            teams.remove(teamId, loaded); // May predate a change that committed during the load
+        }
+        return loaded;
+    }
+
+    private CachedTeam loadTeam(Long teamId) {
+        Long ownerId = teamRepository.findById(teamId)
+            .map(Team::getOwnerId)
+            .orElse(null);
+        Map<Long, String> memberRoles = teamMemberRepository.findByTeamIdAndStatus(teamId, TeamMemberStatus.ACTIVE).stream()
+            .collect(Collectors.toUnmodifiableMap(TeamMember::getUserId, member -> member.getRole().name(), (a, b) -> a));
+        Long kanbanShareOwnerId = teamKanbanShareRepository.findActiveByTeamId(teamId)
+            .map(TeamKanbanShare::getOwnerUserId)
+            .orElse(null);
+        return new CachedTeam(ownerId, memberRoles, kanbanShareOwnerId, System.currentTimeMillis() + ttlMillis);
+    }
+
+    private void evictTeam(Long teamId) {
+        teamInvalidations.incrementAndGet();
+        teams.remove(teamId);
+    }
+
+    // ========== Delegated ==========
+
+    @Override
+    public Optional<UserSummary> getUserById(Long userId) {
+        return delegate.getUserById(userId);
+    }
+
+    @Override
+    public Optional<UserSummary> getUserByEmail(String email) {
+        return delegate.getUserByEmail(email);
+    }
+
+    @Override
+    public UserPreferenceSummary getUserPreferences(Long userId) {
+        return delegate.getUserPreferences(userId);
+    }
+
+    @Override
+    public UserPreferenceSummary updateUserPreferences(Long userId, Context defaultContext, GoalsOkrContext defaultGoalsOkrContext) {
+        return delegate.updateUserPreferences(userId, defaultContext, defaultGoalsOkrContext);
+    }
+
+    @Override
+    public List<TeamSummary> getTeamsByUserId(Long userId) {
+        return delegate.getTeamsByUserId(userId);
+    }
+}
@@ -85,7 +85,7 @@ public class UserModuleInterfaceImpl implements UserModuleInterface {
     
     @Override
     public boolean userExists(Long userId) {
-        return userRepository.findById(userId).isPresent();
+        return userRepository.existsById(userId);
     }
     
     @Override
@@ -12,7 +12,8 @@ import java.time.LocalDateTime;
 public class AccountLockoutJpaEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users.account_lockout_id_seq")
+    @SequenceGenerator(name = "users.account_lockout_id_seq", schema = "users", sequenceName = "account_lockout_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
     
@@ -27,7 +27,8 @@ public class AuditLogJpaEntity {
     }
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users.audit_log_id_seq")
+    @SequenceGenerator(name = "users.audit_log_id_seq", schema = "users", sequenceName = "audit_log_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
     
@@ -12,7 +12,8 @@ import java.time.LocalDateTime;
 public class CredentialJpaEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users.credentials_id_seq")
+    @SequenceGenerator(name = "users.credentials_id_seq", schema = "users", sequenceName = "credentials_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
     
@@ -12,7 +12,8 @@ import java.time.LocalDateTime;
 public class PasswordResetTokenJpaEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users.password_reset_tokens_id_seq")
+    @SequenceGenerator(name = "users.password_reset_tokens_id_seq", schema = "users", sequenceName = "password_reset_tokens_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
     
@@ -2,6 +2,7 @@ package com.woi.user.infrastructure.persistence.entities;
 
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 /**
  * JPA entity for RefreshToken
@@ -12,7 +13,8 @@ import java.time.LocalDateTime;
 public class RefreshTokenJpaEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users.refresh_tokens_id_seq")
+    @SequenceGenerator(name = "users.refresh_tokens_id_seq", schema = "users", sequenceName = "refresh_tokens_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
     
@@ -22,6 +24,9 @@ public class RefreshTokenJpaEntity {
     @Column(name = "token_hash", nullable = false, unique = true, length = 255)
     private String tokenHash;
     
+    @Column(name = "family_id", nullable = false)
+    private UUID familyId;
+    
     @Column(name = "expires_at", nullable = false)
     private LocalDateTime expiresAt;
     
@@ -44,6 +49,9 @@ public class RefreshTokenJpaEntity {
     public String getTokenHash() { return tokenHash; }
     public void setTokenHash(String tokenHash) { this.tokenHash = tokenHash; }
     
+    public UUID getFamilyId() { return familyId; }
+    public void setFamilyId(UUID familyId) { this.familyId = familyId; }
+    
     public LocalDateTime getExpiresAt() { return expiresAt; }
     public void setExpiresAt(LocalDateTime expiresAt) { this.expiresAt = expiresAt; }
     
@@ -12,7 +12,8 @@ import java.time.LocalDateTime;
 public class TeamInvitationJpaEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users.team_invitations_id_seq")
+    @SequenceGenerator(name = "users.team_invitations_id_seq", schema = "users", sequenceName = "team_invitations_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
     
@@ -12,7 +12,8 @@ import java.time.LocalDateTime;
 public class TeamJpaEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users.teams_id_seq")
+    @SequenceGenerator(name = "users.teams_id_seq", schema = "users", sequenceName = "teams_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
     
@@ -12,7 +12,8 @@ import java.time.LocalDateTime;
 public class TeamMemberJpaEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users.team_members_id_seq")
+    @SequenceGenerator(name = "users.team_members_id_seq", schema = "users", sequenceName = "team_members_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
     
@@ -13,7 +13,8 @@ import java.time.LocalDateTime;
 public class UserJpaEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users.users_id_seq")
+    @SequenceGenerator(name = "users.users_id_seq", schema = "users", sequenceName = "users_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
     
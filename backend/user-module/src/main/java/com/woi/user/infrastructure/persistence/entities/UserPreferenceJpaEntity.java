@@ -14,7 +14,8 @@ import java.time.LocalDateTime;
 public class UserPreferenceJpaEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users.user_preferences_id_seq")
+    @SequenceGenerator(name = "users.user_preferences_id_seq", schema = "users", sequenceName = "user_preferences_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
     
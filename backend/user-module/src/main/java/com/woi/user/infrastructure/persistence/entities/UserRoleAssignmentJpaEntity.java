@@ -13,7 +13,8 @@ import java.time.LocalDateTime;
 public class UserRoleAssignmentJpaEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users.user_role_assignments_id_seq")
+    @SequenceGenerator(name = "users.user_role_assignments_id_seq", schema = "users", sequenceName = "user_role_assignments_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
     
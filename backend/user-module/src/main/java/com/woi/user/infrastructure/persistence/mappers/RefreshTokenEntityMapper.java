@@ -15,6 +15,7 @@ public class RefreshTokenEntityMapper {
         
         RefreshToken token = RefreshToken.create(jpa.getUserId(), jpa.getTokenHash(), jpa.getExpiresAt());
         token.setId(jpa.getId());
+        token.setFamilyId(jpa.getFamilyId());
         token.setCreatedAt(jpa.getCreatedAt());
         token.setRevokedAt(jpa.getRevokedAt());
         return token;
@@ -27,6 +28,7 @@ public class RefreshTokenEntityMapper {
         jpa.setId(domain.getId());
         jpa.setUserId(domain.getUserId());
         jpa.setTokenHash(domain.getTokenHash());
+        jpa.setFamilyId(domain.getFamilyId());
         jpa.setExpiresAt(domain.getExpiresAt());
         jpa.setCreatedAt(domain.getCreatedAt());
         jpa.setRevokedAt(domain.getRevokedAt());
@@ -4,23 +4,34 @@ import com.woi.user.domain.entities.AuditLog;
 import com.woi.user.domain.repositories.AuditLogRepository;
 import com.woi.user.infrastructure.persistence.entities.AuditLogJpaEntity;
 import com.woi.user.infrastructure.persistence.mappers.AuditLogEntityMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
 /**
  * Repository implementation for AuditLog
+ * Batch inserts use JDBC directly: Hibernate cannot batch inserts of IDENTITY entities.
  */
 @Repository
 public class AuditLogRepositoryImpl implements AuditLogRepository {
+    private static final String INSERT_SQL = """
+        INSERT INTO users.audit_log (user_id, event_type, event_status, ip_address, user_agent, details, created_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?)
+        """;
+    
     private final AuditLogJpaRepository jpaRepository;
     private final AuditLogEntityMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
     
-    public AuditLogRepositoryImpl(AuditLogJpaRepository jpaRepository, AuditLogEntityMapper mapper) {
+    public AuditLogRepositoryImpl(AuditLogJpaRepository jpaRepository, AuditLogEntityMapper mapper, JdbcTemplate jdbcTemplate) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.jdbcTemplate = jdbcTemplate;
     }
     
     @Override
@@ -30,6 +41,23 @@ public class AuditLogRepositoryImpl implements AuditLogRepository {
         return mapper.toDomain(saved);
     }
     
+    @Override
+    @Transactional
+    public void saveAll(List<AuditLog> auditLogs) {
+        if (auditLogs.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, auditLogs, auditLogs.size(), (ps, log) -> {
+            ps.setObject(1, log.getUserId());
+            ps.setString(2, log.getEventType().name());
+            ps.setString(3, log.getEventStatus().name());
+            ps.setString(4, log.getIpAddress());
+            ps.setString(5, log.getUserAgent());
+            ps.setString(6, log.getDetails());
+            ps.setTimestamp(7, Timestamp.valueOf(log.getCreatedAt()));
+        });
+    }
+    
     @Override
     public List<AuditLog> findByUserIdOrderByCreatedAtDesc(Long userId) {
         return jpaRepository.findByUserIdOrderByCreatedAtDesc(userId).stream()
@@ -2,6 +2,9 @@ package com.woi.user.infrastructure.persistence.repositories;
 
 import com.woi.user.infrastructure.persistence.entities.CredentialJpaEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -13,5 +16,9 @@ import java.util.Optional;
 public interface CredentialJpaRepository extends JpaRepository<CredentialJpaEntity, Long> {
     Optional<CredentialJpaEntity> findByUserId(Long userId);
     boolean existsByUserId(Long userId);
+    
+    @Modifying
+    @Query("UPDATE CredentialJpaEntity c SET c.passwordHash = :newHash WHERE c.userId = :userId AND c.passwordHash = :expectedHash")
+    int replacePasswordHash(@Param("userId") Long userId, @Param("expectedHash") String expectedHash, @Param("newHash") String newHash);
 }
 
@@ -5,6 +5,7 @@ import com.woi.user.domain.repositories.CredentialRepository;
 import com.woi.user.infrastructure.persistence.entities.CredentialJpaEntity;
 import com.woi.user.infrastructure.persistence.mappers.CredentialEntityMapper;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -49,5 +50,11 @@ public class CredentialRepositoryImpl implements CredentialRepository {
     public void delete(Credential credential) {
         jpaRepository.deleteById(credential.getId());
     }
+    
+    @Override
+    @Transactional
+    public boolean replacePasswordHash(Long userId, String expectedHash, String newHash) {
+        return jpaRepository.replacePasswordHash(userId, expectedHash, newHash) > 0;
+    }
 }
 
@@ -10,6 +10,7 @@ import org.springframework.stereotype.Repository;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Spring Data JPA repository for RefreshTokenJpaEntity
@@ -23,6 +24,10 @@ public interface RefreshTokenJpaRepository extends JpaRepository<RefreshTokenJpa
     @Query("UPDATE RefreshTokenJpaEntity rt SET rt.revokedAt = :now WHERE rt.userId = :userId AND rt.revokedAt IS NULL")
     int revokeAllByUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now);
     
+    @Modifying
+    @Query("UPDATE RefreshTokenJpaEntity rt SET rt.revokedAt = :now WHERE rt.familyId = :familyId AND rt.revokedAt IS NULL")
+    int revokeFamily(@Param("familyId") UUID familyId, @Param("now") LocalDateTime now);
+    
     @Modifying
     @Query("DELETE FROM RefreshTokenJpaEntity rt WHERE rt.expiresAt < :now")
     int deleteExpiredTokens(@Param("now") LocalDateTime now);
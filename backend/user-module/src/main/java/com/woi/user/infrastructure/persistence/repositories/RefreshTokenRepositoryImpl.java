@@ -1,15 +1,19 @@
 package com.woi.user.infrastructure.persistence.repositories;
 
 import com.woi.user.domain.entities.RefreshToken;
+import com.woi.user.domain.entities.RefreshTokenRotation;
 import com.woi.user.domain.repositories.RefreshTokenRepository;
 import com.woi.user.infrastructure.persistence.entities.RefreshTokenJpaEntity;
 import com.woi.user.infrastructure.persistence.mappers.RefreshTokenEntityMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
@@ -17,12 +21,45 @@ import java.util.stream.Collectors;
  */
 @Repository
 public class RefreshTokenRepositoryImpl implements RefreshTokenRepository {
+    
+    // The presented row as it was before this statement; the UPDATE only matches it while it is still
+    // valid, so of concurrent rotations of one token exactly one revokes it and inserts a replacement
+    private static final String ROTATE_SQL = """
+        WITH presented AS (
+            SELECT user_id, family_id, revoked_at, expires_at
+            FROM users.refresh_tokens
+            WHERE token_hash = ?
+        ), rotated AS (
+            UPDATE users.refresh_tokens
+            SET revoked_at = ?
+            WHERE token_hash = ? AND revoked_at IS NULL AND expires_at > ?
+            RETURNING user_id, family_id
+        ), replacement AS (
+            INSERT INTO users.refresh_tokens (user_id, token_hash, family_id, expires_at, created_at)
+            SELECT user_id, ?, family_id, ?, ? FROM rotated
+        )
+        SELECT presented.user_id, presented.family_id, presented.revoked_at, presented.expires_at,
+               EXISTS (SELECT 1 FROM rotated) AS rotated
+        FROM presented
+        """;
+    
+    private static final String ADD_TO_VALID_FAMILY_SQL = """
+        INSERT INTO users.refresh_tokens (user_id, token_hash, family_id, expires_at, created_at)
+        SELECT ?, ?, ?, ?, ?
+        WHERE EXISTS (
+            SELECT 1 FROM users.refresh_tokens
+            WHERE family_id = ? AND revoked_at IS NULL AND expires_at > ?
+        )
+        """;
+    
     private final RefreshTokenJpaRepository jpaRepository;
     private final RefreshTokenEntityMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
     
-    public RefreshTokenRepositoryImpl(RefreshTokenJpaRepository jpaRepository, RefreshTokenEntityMapper mapper) {
+    public RefreshTokenRepositoryImpl(RefreshTokenJpaRepository jpaRepository, RefreshTokenEntityMapper mapper, JdbcTemplate jdbcTemplate) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.jdbcTemplate = jdbcTemplate;
     }
     
     @Override
@@ -62,6 +99,42 @@ public class RefreshTokenRepositoryImpl implements RefreshTokenRepository {
         return jpaRepository.revokeAllByUserId(userId, LocalDateTime.now());
     }
     
+    @Override
+    @Transactional
+    public int revokeFamily(UUID familyId) {
+        return jpaRepository.revokeFamily(familyId, LocalDateTime.now());
+    }
+    
+    @Override
+    @Transactional
+    public Optional<RefreshTokenRotation> rotate(String tokenHash, String replacementHash, LocalDateTime replacementExpiresAt, LocalDateTime now) {
+        Timestamp nowTimestamp = Timestamp.valueOf(now);
+        return jdbcTemplate.query(ROTATE_SQL,
+            (rs, rowNum) -> {
+                Timestamp revokedAt = rs.getTimestamp("revoked_at");
+                return new RefreshTokenRotation(
+                    rs.getLong("user_id"),
+                    rs.getObject("family_id", UUID.class),
+                    rs.getBoolean("rotated"),
+                    revokedAt != null ? revokedAt.toLocalDateTime() : null,
+                    rs.getTimestamp("expires_at").toLocalDateTime());
+            },
+            tokenHash,
+            nowTimestamp, tokenHash, nowTimestamp,
+            replacementHash, Timestamp.valueOf(replacementExpiresAt), nowTimestamp)
+            .stream()
+            .findFirst();
+    }
+    
+    @Override
+    @Transactional
+    public boolean addToValidFamily(Long userId, UUID familyId, String tokenHash, LocalDateTime expiresAt, LocalDateTime now) {
+        Timestamp nowTimestamp = Timestamp.valueOf(now);
+        return jdbcTemplate.update(ADD_TO_VALID_FAMILY_SQL,
+            userId, tokenHash, familyId, Timestamp.valueOf(expiresAt), nowTimestamp,
+            familyId, nowTimestamp) > 0;
+    }
+    
     @Override
     @Transactional
     public int deleteExpiredTokens(LocalDateTime now) {
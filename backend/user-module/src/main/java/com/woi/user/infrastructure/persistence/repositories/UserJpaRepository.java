@@ -1,7 +1,10 @@
 package com.woi.user.infrastructure.persistence.repositories;
 
 import com.woi.user.infrastructure.persistence.entities.UserJpaEntity;
+import com.woi.user.domain.enums.UserStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -13,5 +16,8 @@ import java.util.Optional;
 public interface UserJpaRepository extends JpaRepository<UserJpaEntity, Long> {
     Optional<UserJpaEntity> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    @Query("SELECT u.status FROM UserJpaEntity u WHERE u.id = :id")
+    Optional<UserStatus> findStatusById(@Param("id") Long id);
 }
 
@@ -1,6 +1,7 @@
 package com.woi.user.infrastructure.persistence.repositories;
 
 import com.woi.user.domain.entities.User;
+import com.woi.user.domain.enums.UserStatus;
 import com.woi.user.domain.repositories.UserRepository;
 import com.woi.user.infrastructure.persistence.entities.UserJpaEntity;
 import com.woi.user.infrastructure.persistence.mappers.UserEntityMapper;
@@ -28,6 +29,16 @@ public class UserRepositoryImpl implements UserRepository {
             .map(mapper::toDomain);
     }
     
+    @Override
+    public Optional<UserStatus> findStatusById(Long id) {
+        return jpaRepository.findStatusById(id);
+    }
+    
+    @Override
+    public boolean existsById(Long id) {
+        return jpaRepository.existsById(id);
+    }
+    
     @Override
     public Optional<User> findByEmail(String email) {
         return jpaRepository.findByEmail(email)
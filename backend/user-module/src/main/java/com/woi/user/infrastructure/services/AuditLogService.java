@@ -1,27 +1,31 @@
 package com.woi.user.infrastructure.services;
 
 import com.woi.user.domain.entities.AuditLog;
-import com.woi.user.domain.repositories.AuditLogRepository;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * Service for audit logging
  * Logs security-related events for compliance and monitoring
+ *
+ * Entries are handed to AuditLogWriter, which inserts them in batches in the background,
+ * so logging never waits for the database. Inside a transaction the entry is handed over
+ * after commit (as before, a rolled back transaction leaves no audit entry), so it never
+ * references a user that is not committed yet.
  */
 @Service
 public class AuditLogService {
     
-    private final AuditLogRepository auditLogRepository;
+    private final AuditLogWriter auditLogWriter;
     
-    public AuditLogService(AuditLogRepository auditLogRepository) {
-        this.auditLogRepository = auditLogRepository;
+    public AuditLogService(AuditLogWriter auditLogWriter) {
+        this.auditLogWriter = auditLogWriter;
     }
     
     /**
      * Log a security event
      */
-    @Transactional
     public void logEvent(
             Long userId,
             AuditLog.EventType eventType,
@@ -39,13 +43,21 @@ public class AuditLogService {
             details
         );
         
-        auditLogRepository.save(log);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    auditLogWriter.write(log);
+                }
+            });
+        } else {
+            auditLogWriter.write(log);
+        }
     }
     
     /**
      * Log successful login
      */
-    @Transactional
     public void logLoginSuccess(Long userId, String ipAddress, String userAgent) {
         logEvent(
             userId,
@@ -60,7 +72,6 @@ public class AuditLogService {
     /**
      * Log failed login attempt
      */
-    @Transactional
     public void logLoginFailure(Long userId, String ipAddress, String userAgent, String reason) {
         logEvent(
             userId,
@@ -75,7 +86,6 @@ public class AuditLogService {
     /**
      * Log password change
      */
-    @Transactional
     public void logPasswordChange(Long userId, String ipAddress, String userAgent) {
         logEvent(
             userId,
@@ -90,7 +100,6 @@ public class AuditLogService {
     /**
      * Log account lockout
      */
-    @Transactional
     public void logAccountLocked(Long userId, String ipAddress, String userAgent) {
         logEvent(
             userId,
@@ -105,7 +114,6 @@ public class AuditLogService {
     /**
      * Log registration
      */
-    @Transactional
     public void logRegistration(Long userId, String ipAddress, String userAgent) {
         logEvent(
             userId,
@@ -0,0 +1,256 @@
+package com.woi.user.infrastructure.services;
+
+import com.woi.user.domain.entities.AuditLog;
+import com.woi.user.domain.repositories.AuditLogRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Background writer for audit log entries
+ *
+ * Responsibilities:
+ * - Accept entries without touching the database (bounded in-memory queue)
+ * - Insert queued entries in JDBC batches from one background thread
+ * - Write a batch when it is full or when the flush interval since its first entry has passed
+ * - Flush everything that is still queued on shutdown
+ *
+ * Entries are never dropped:
+ * - When the queue is full, the caller waits up to audit.writer.offer-timeout-ms for a free slot
+ *   (backpressure); if there is still none, it writes its own entry synchronously (audit.log.synchronous.writes)
+ * - A failed batch is written entry by entry; entries that still fail are retried after the flush interval
+ * - After shutdown has started, entries are written synchronously
+ *
+ * Metrics (audit.log.*) are registered when the application runs with Actuator.
+ */
+@Component
+public class AuditLogWriter implements SmartLifecycle, MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditLogWriter.class);
+    private static final long IDLE_POLL_MILLIS = 1000;
+    private static final long OVERFLOW_LOG_EVERY = 1000;
+
+    private final AuditLogRepository auditLogRepository;
+    private final BlockingQueue<AuditLog> queue;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final long offerTimeoutMillis;
+
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong synchronousWrites = new AtomicLong();
+    private final AtomicLong overflows = new AtomicLong();
+    private final AtomicLong failedBatches = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public AuditLogWriter(
+            AuditLogRepository auditLogRepository,
+            @Value("${audit.writer.queue-capacity:10000}") int queueCapacity,
+            @Value("${audit.writer.batch-size:100}") int batchSize,
+            @Value("${audit.writer.flush-interval-ms:200}") long flushIntervalMillis,
+            @Value("${audit.writer.offer-timeout-ms:50}") long offerTimeoutMillis) {
+        if (queueCapacity < 1 || batchSize < 1 || flushIntervalMillis < 0 || offerTimeoutMillis < 0) {
+            throw new IllegalArgumentException("Audit writer queue capacity and batch size must be positive, flush interval and offer timeout cannot be negative");
+        }
+        this.auditLogRepository = auditLogRepository;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+    }
+
+    /**
+     * Queue an audit log entry (written synchronously if the queue stays full for the offer timeout,
+     * or if the writer is stopped)
+     */
+    public void write(AuditLog auditLog) {
+        // Re-check after queueing: if stop() raced us, take the entry back unless the final flush has it
+        if (running && offer(auditLog) && (running || !queue.remove(auditLog))) {
+            return;
+        }
+        synchronousWrites.incrementAndGet();
+        auditLogRepository.saveAll(List.of(auditLog));
+        written.incrementAndGet();
+    }
+
+    private boolean offer(AuditLog auditLog) {
+        if (queue.offer(auditLog)) {
+            return true;
+        }
+        try {
+            if (queue.offer(auditLog, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        long count = overflows.getAndIncrement();
+        if (count % OVERFLOW_LOG_EVERY == 0) {
+            log.warn("Audit log queue is full; writing the entry on the caller's thread ({} overflows in total)", count + 1);
+        }
+        return false;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::run, "audit-log-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        // The worker notices within IDLE_POLL_MILLIS (or the flush interval) and exits
+        running = false;
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // Final flush: whatever the worker did not write
+        List<AuditLog> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            auditLogRepository.saveAll(batch);
+            written.addAndGet(batch.size());
+            batch.clear();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stop after the web server (lower phase = stopped later), so in-flight requests can still log
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("audit.log.queue.size", queue, BlockingQueue::size)
+            .description("Audit log entries waiting to be written")
+            .register(registry);
+        Gauge.builder("audit.log.queue.remaining", queue, BlockingQueue::remainingCapacity)
+            .description("Free slots in the audit log queue")
+            .register(registry);
+        FunctionCounter.builder("audit.log.written", written, AtomicLong::get)
+            .description("Audit log entries written")
+            .register(registry);
+        FunctionCounter.builder("audit.log.synchronous.writes", synchronousWrites, AtomicLong::get)
+            .description("Audit log entries written by the caller because the queue was full or the writer was stopped")
+            .register(registry);
+        FunctionCounter.builder("audit.log.overflows", overflows, AtomicLong::get)
+            .description("Audit log entries that found the queue full for the whole offer timeout")
+            .register(registry);
+        FunctionCounter.builder("audit.log.batch.failures", failedBatches, AtomicLong::get)
+            .description("Audit log batches that failed and were retried")
+            .register(registry);
+    }
+
+    private void run() {
+        List<AuditLog> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                // 1. Collect a batch (unless a failed batch is waiting for retry)
+                if (batch.isEmpty()) {
+                    collectBatch(batch);
+                }
+                if (batch.isEmpty()) {
+                    continue;
+                }
+
+                // 2. Write it in one JDBC batch
+                auditLogRepository.saveAll(batch);
+                written.addAndGet(batch.size());
+                batch.clear();
+            } catch (InterruptedException e) {
+                break;
+            } catch (RuntimeException e) {
+                // 3. Write entry by entry, so one bad entry does not hold back the rest;
+                //    keep what still fails and retry it after the flush interval
+                failedBatches.incrementAndGet();
+                log.warn("Writing a batch of {} audit log entries failed; writing them one by one", batch.size(), e);
+                writeIndividually(batch);
+                if (batch.isEmpty()) {
+                    continue;
+                }
+                try {
+                    Thread.sleep(Math.max(flushIntervalMillis, IDLE_POLL_MILLIS));
+                } catch (InterruptedException interrupted) {
+                    break;
+                }
+            }
+        }
+
+        // Hand an unwritten batch back to stop() for the final flush
+        for (AuditLog auditLog : batch) {
+            if (!queue.offer(auditLog)) {
+                auditLogRepository.saveAll(List.of(auditLog));
+                written.incrementAndGet();
+            }
+        }
+    }
+
+    private void writeIndividually(List<AuditLog> batch) {
+        batch.removeIf(auditLog -> {
+            try {
+                auditLogRepository.saveAll(List.of(auditLog));
+                written.incrementAndGet();
+                return true;
+            } catch (RuntimeException e) {
+                return false;
+            }
+        });
+    }
+
+    /**
+     * Wait for a first entry, then add entries until the batch is full or the flush interval has passed
+     */
+    private void collectBatch(List<AuditLog> batch) throws InterruptedException {
+        AuditLog first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+            AuditLog next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+}
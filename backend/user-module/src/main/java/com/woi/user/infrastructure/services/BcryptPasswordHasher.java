@@ -1,38 +1,182 @@
 package com.woi.user.infrastructure.services;
 
 import com.woi.user.domain.services.PasswordHasher;
+import com.woi.user.domain.services.PasswordHasherBusyException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
 /**
  * BCrypt password hasher implementation
  * Implements PasswordHasher interface from domain layer
+ *
+ * Hash format: {bcrypt}$2a$<cost>$... (Spring Security's DelegatingPasswordEncoder), cost
+ * user-module.password-hasher.bcrypt-strength. Hashes without an {id} prefix (stored before the
+ * format was versioned) are verified as BCrypt. needsRehash reports hashes with another algorithm,
+ * without prefix or with another cost, so the cost can be tuned in both directions; another
+ * algorithm is added by registering its encoder under a new id and encoding with that id.
+ *
+ * BCrypt is deliberately CPU-heavy (tens of milliseconds per call). It runs on a dedicated pool of
+ * user-module.password-hasher.threads threads (default: one per core) instead of on the request
+ * threads, so a burst of logins can occupy at most that many cores; other requests keep getting CPU.
+ * - Callers wait for their result; at most user-module.password-hasher.queue-capacity calls wait
+ *   for a thread
+ * - Beyond that, calls fail at once with PasswordHasherBusyException (HTTP 429), instead of queueing
+ *   without bound
+ *
+ * Metrics (password.hasher.*) are registered when the application runs with Actuator.
  */
 @Component
-public class BcryptPasswordHasher implements PasswordHasher {
-    
+public class BcryptPasswordHasher implements PasswordHasher, MeterBinder {
+
+    private static final long RETRY_AFTER_SECONDS = 1;
+    private static final String ENCODING_ID = "bcrypt";
+    private static final String HASH_PREFIX = "{" + ENCODING_ID + "}";
+
     private final PasswordEncoder encoder;
-    
-    public BcryptPasswordHasher() {
-        // BCrypt with strength 10 (default, good balance between security and performance)
-        this.encoder = new BCryptPasswordEncoder();
+    private final String costPrefix; // "$2a$<cost>$" of new hashes
+    private final ThreadPoolExecutor executor;
+
+    private final AtomicLong hashes = new AtomicLong();
+    private final AtomicLong hashNanos = new AtomicLong();
+    private final AtomicLong verifications = new AtomicLong();
+    private final AtomicLong verificationNanos = new AtomicLong();
+    private final AtomicLong queued = new AtomicLong();
+    private final AtomicLong queueWaitNanos = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    public BcryptPasswordHasher(
+            @Value("${user-module.password-hasher.threads:0}") int threads,
+            @Value("${user-module.password-hasher.queue-capacity:100}") int queueCapacity,
+            @Value("${user-module.password-hasher.bcrypt-strength:10}") int strength) {
+        if (threads < 0 || queueCapacity < 1) {
+            throw new IllegalArgumentException("Password hasher threads cannot be negative, queue capacity must be positive");
+        }
+        if (strength < 4 || strength > 31) {
+            throw new IllegalArgumentException("BCrypt strength must be between 4 and 31");
+        }
+        // BCrypt with strength 10 by default (good balance between security and performance)
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(BCryptPasswordEncoder.BCryptVersion.$2A, strength);
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(ENCODING_ID, Map.of(ENCODING_ID, bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        this.encoder = delegating;
+        this.costPrefix = String.format("$2a$%02d$", strength);
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "password-hasher-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
     }
-    
+
     @Override
     public String hash(String plainPassword) {
         if (plainPassword == null || plainPassword.trim().isEmpty()) {
             throw new IllegalArgumentException("Password cannot be null or empty");
         }
-        return encoder.encode(plainPassword);
+        return run(() -> encoder.encode(plainPassword), hashes, hashNanos);
     }
-    
+
     @Override
     public boolean verify(String plainPassword, String hash) {
         if (plainPassword == null || hash == null) {
             return false;
         }
-        return encoder.matches(plainPassword, hash);
+        return run(() -> encoder.matches(plainPassword, hash), verifications, verificationNanos);
     }
-}
 
+    @Override
+    public boolean needsRehash(String hash) {
+        return hash == null || !hash.startsWith(HASH_PREFIX + costPrefix);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("password.hasher.queue.size", executor, pool -> pool.getQueue().size())
+            .description("Password hashing calls waiting for a thread")
+            .register(registry);
+        Gauge.builder("password.hasher.active", executor, ThreadPoolExecutor::getActiveCount)
+            .description("Password hashing calls running")
+            .register(registry);
+        FunctionTimer.builder("password.hasher.duration", hashes, AtomicLong::get, count -> hashNanos.get(), TimeUnit.NANOSECONDS)
+            .description("Time spent hashing passwords (excluding queue wait)")
+            .tag("operation", "hash")
+            .register(registry);
+        FunctionTimer.builder("password.hasher.duration", verifications, AtomicLong::get, count -> verificationNanos.get(), TimeUnit.NANOSECONDS)
+            .description("Time spent hashing passwords (excluding queue wait)")
+            .tag("operation", "verify")
+            .register(registry);
+        FunctionTimer.builder("password.hasher.queue.wait", queued, AtomicLong::get, count -> queueWaitNanos.get(), TimeUnit.NANOSECONDS)
+            .description("Time password hashing calls waited for a thread")
+            .register(registry);
+        FunctionCounter.builder("password.hasher.rejected", rejected, AtomicLong::get)
+            .description("Password hashing calls rejected because the queue was full")
+            .register(registry);
+    }
+
+    /**
+     * Run a BCrypt call on the pool and wait for its result
+     */
+    private <T> T run(Supplier<T> work, AtomicLong count, AtomicLong nanos) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                queued.incrementAndGet();
+                queueWaitNanos.addAndGet(startedAt - submittedAt);
+                try {
+                    return work.get();
+                } finally {
+                    count.incrementAndGet();
+                    nanos.addAndGet(System.nanoTime() - startedAt);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            throw new PasswordHasherBusyException(RETRY_AFTER_SECONDS);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.woi.user.infrastructure.services;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Background cleanup of the refresh token, password reset token and account lockout tables
+ *
+ * Responsibilities:
+ * - Every cleanup interval, delete rows that can no longer affect authentication:
+ *   - Refresh tokens that expired more than the retention period ago. Revoked tokens are kept until
+ *     then as well: a rotated token that is presented again must still be found, so its family is
+ *     revoked (reuse detection, see RefreshTokenService)
+ *   - Password reset tokens that expired more than the retention period ago (used tokens expire within the hour)
+ *   - Lockout rows that are not locked and were not updated within the retention period
+ *     (failed attempts older than that are forgiven)
+ * - Delete in batches of at most batch-size rows, each its own statement and transaction, with a pause in between
+ *
+ * Never in the way of the login path:
+ * - Batches are selected through an index (V73) and skip rows locked by other transactions (FOR UPDATE SKIP LOCKED)
+ * - Each batch commits on its own, so locks are held for one short statement
+ * - All instances may run the cleanup; SKIP LOCKED makes concurrent runs divide the rows instead of waiting
+ *
+ * Metrics (credential.cleanup.*) are registered when the application runs with Actuator.
+ */
+@Component
+public class CredentialTableCleaner implements SmartLifecycle, MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(CredentialTableCleaner.class);
+
+    /**
+     * A cleanup of one table: deletes one batch of rows older than the cutoff (parameters: cutoff, batch size)
+     */
+    private record Cleanup(String table, String sql, AtomicLong deleted) {
+        Cleanup(String table, String sql) {
+            this(table, sql, new AtomicLong());
+        }
+    }
+
+    private static final String DELETE_EXPIRED_REFRESH_TOKENS_SQL = """
+        DELETE FROM users.refresh_tokens
+        WHERE id = ANY(ARRAY(
+            SELECT id FROM users.refresh_tokens
+            WHERE expires_at < ?
+            ORDER BY expires_at
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+        ))
+        """;
+
+    private static final String DELETE_EXPIRED_PASSWORD_RESET_TOKENS_SQL = """
+        DELETE FROM users.password_reset_tokens
+        WHERE id = ANY(ARRAY(
+            SELECT id FROM users.password_reset_tokens
+            WHERE expires_at < ?
+            ORDER BY expires_at
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+        ))
+        """;
+
+    private static final String DELETE_STALE_LOCKOUTS_SQL = """
+        DELETE FROM users.account_lockout
+        WHERE id = ANY(ARRAY(
+            SELECT id FROM users.account_lockout
+            WHERE updated_at < ? AND (locked_until IS NULL OR locked_until < LOCALTIMESTAMP)
+            ORDER BY updated_at
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+        ))
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long intervalMillis;
+    private final long retentionMillis;
+    private final int batchSize;
+    private final long batchPauseMillis;
+    private final List<Cleanup> cleanups = List.of(
+        new Cleanup("refresh_tokens", DELETE_EXPIRED_REFRESH_TOKENS_SQL),
+        new Cleanup("password_reset_tokens", DELETE_EXPIRED_PASSWORD_RESET_TOKENS_SQL),
+        new Cleanup("account_lockout", DELETE_STALE_LOCKOUTS_SQL));
+
+    private final AtomicLong runs = new AtomicLong();
+    private final AtomicLong runMillis = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public CredentialTableCleaner(
+            JdbcTemplate jdbcTemplate,
+            @Value("${user-module.cleanup.interval-minutes:60}") long intervalMinutes,
+            @Value("${user-module.cleanup.retention-hours:24}") long retentionHours,
+            @Value("${user-module.cleanup.batch-size:1000}") int batchSize,
+            @Value("${user-module.cleanup.batch-pause-ms:100}") long batchPauseMillis) {
+        if (intervalMinutes < 1 || batchSize < 1 || retentionHours < 0 || batchPauseMillis < 0) {
+            throw new IllegalArgumentException("Cleanup interval and batch size must be positive, retention and batch pause cannot be negative");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.intervalMillis = TimeUnit.MINUTES.toMillis(intervalMinutes);
+        this.retentionMillis = TimeUnit.HOURS.toMillis(retentionHours);
+        this.batchSize = batchSize;
+        this.batchPauseMillis = batchPauseMillis;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::run, "credential-table-cleaner");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        // Wakes the worker from its pause; a running batch statement finishes first
+        running = false;
+        worker.interrupt();
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        cleanups.stream().map(Cleanup::table).distinct().forEach(table ->
+            FunctionCounter.builder("credential.cleanup.deleted", this, cleaner -> cleaner.deletedRows(table))
+                .description("Rows deleted by the credential table cleanup")
+                .tag("table", table)
+                .register(registry));
+        FunctionTimer.builder("credential.cleanup.runs", this,
+                cleaner -> cleaner.runs.get(), cleaner -> cleaner.runMillis.get(), TimeUnit.MILLISECONDS)
+            .description("Completed cleanup runs and the time spent in them, including batch pauses")
+            .register(registry);
+        FunctionCounter.builder("credential.cleanup.failures", failures, AtomicLong::get)
+            .description("Table cleanups that failed (retried in the next run)")
+            .register(registry);
+    }
+
+    private double deletedRows(String table) {
+        return cleanups.stream()
+            .filter(cleanup -> cleanup.table().equals(table))
+            .mapToLong(cleanup -> cleanup.deleted().get())
+            .sum();
+    }
+
+    private void run() {
+        while (running) {
+            long start = System.currentTimeMillis();
+            try {
+                for (Cleanup cleanup : cleanups) {
+                    clean(cleanup);
+                }
+                runs.incrementAndGet();
+                runMillis.addAndGet(System.currentTimeMillis() - start);
+                Thread.sleep(intervalMillis);
+            } catch (InterruptedException e) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Delete batches until a batch comes back short (or the cleaner stops)
+     */
+    private void clean(Cleanup cleanup) throws InterruptedException {
+        try {
+            while (running) {
+                long now = System.currentTimeMillis();
+                int deleted = jdbcTemplate.update(cleanup.sql(), new Timestamp(now - retentionMillis), batchSize);
+                cleanup.deleted().addAndGet(deleted);
+                if (deleted < batchSize) {
+                    return;
+                }
+                Thread.sleep(batchPauseMillis);
+            }
+        } catch (RuntimeException e) {
+            failures.incrementAndGet();
+            log.warn("Cleanup of users.{} failed; the next run retries it", cleanup.table(), e);
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.woi.user.infrastructure.services;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-process sliding-window rate limiter (default, rate-limit.store=memory)
+ *
+ * Responsibilities:
+ * - Count attempts per key lock-free (compare-and-set on an immutable window state)
+ * - Expire idle keys with a time wheel, so memory does not grow with the number of distinct keys
+ * - Cap the number of tracked keys (rate-limit.memory.max-keys)
+ *
+ * A key is needed until its current window and the next one have passed. When it is created it is
+ * put in the wheel slot of that moment; callers sweep the slots that have passed (no extra thread).
+ * A swept key that was used again in the meantime is put back in a later slot.
+ *
+ * When the cap is reached (e.g. during an IP-spraying attack), the keys whose windows end first
+ * (the earliest wheel slots) are evicted in a batch to make room, so new keys are still admitted
+ * and counted. Eviction forgets the attempts of those keys; the cap should therefore be well above
+ * the number of keys that are active within one window.
+ */
+@Component
+@ConditionalOnProperty(name = "rate-limit.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRateLimiter implements RateLimiter {
+
+    private static final long TICK_MILLIS = 10_000;
+    private static final int WHEEL_SLOTS = 1024;  // ~2.8 hours; later expiries are rescheduled when swept
+
+    /**
+     * Counts of the current and previous fixed window of one key
+     */
+    private record WindowState(long windowNumber, long previousAttempts, long currentAttempts, long expiresAtMillis) {
+    }
+
+    private static final WindowState EXPIRED = new WindowState(-1, 0, 0, 0);
+
+    private final int maxKeys;
+    private final int evictionBatch;
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final ConcurrentHashMap<String, AtomicReference<WindowState>> windows = new ConcurrentHashMap<>();
+    private final Queue<String>[] wheel;
+    private final AtomicLong sweptTick;
+
+    @SuppressWarnings("unchecked")
+    public InMemoryRateLimiter(@Value("${rate-limit.memory.max-keys:100000}") int maxKeys) {
+        this.maxKeys = maxKeys;
+        this.evictionBatch = Math.max(1, maxKeys / 100);
+        this.wheel = new Queue[WHEEL_SLOTS];
+        for (int i = 0; i < WHEEL_SLOTS; i++) {
+            wheel[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.sweptTick = new AtomicLong(System.currentTimeMillis() / TICK_MILLIS);
+    }
+
+    @Override
+    public Decision tryAcquire(Rule rule, String key) {
+        long now = System.currentTimeMillis();
+        sweep(now);
+
+        String mapKey = rule.bucket() + ":" + key;
+        long windowMillis = rule.windowMillis();
+        long windowNumber = now / windowMillis;
+
+        while (true) {
+            // 1. Find or create the state of this key
+            AtomicReference<WindowState> holder = windows.get(mapKey);
+            if (holder == null) {
+                if (windows.size() >= maxKeys) {
+                    evict();
+                }
+                AtomicReference<WindowState> created = new AtomicReference<>(
+                    new WindowState(windowNumber, 0, 0, expiresAt(windowNumber, windowMillis)));
+                holder = windows.putIfAbsent(mapKey, created);
+                if (holder == null) {
+                    holder = created;
+                    schedule(mapKey, created.get().expiresAtMillis());
+                }
+            }
+
+            // 2. Count the attempt (compare-and-set, retried on contention)
+            WindowState current;
+            WindowState updated = null;
+            do {
+                current = holder.get();
+                if (current == EXPIRED) {
+                    break;
+                }
+                updated = advance(current, windowNumber, windowMillis);
+                updated = new WindowState(updated.windowNumber(), updated.previousAttempts(),
+                    updated.currentAttempts() + 1, updated.expiresAtMillis());
+            } while (!holder.compareAndSet(current, updated));
+
+            // Swept between lookup and update: start again with a fresh state
+            if (current == EXPIRED) {
+                windows.remove(mapKey, holder);
+                continue;
+            }
+            return RateLimiter.decide(rule, updated.previousAttempts(), updated.currentAttempts(),
+                now - windowNumber * windowMillis);
+        }
+    }
+
+    @Override
+    public void reset(Rule rule, String key) {
+        AtomicReference<WindowState> holder = windows.remove(rule.bucket() + ":" + key);
+        if (holder != null) {
+            holder.set(EXPIRED);
+        }
+    }
+
+    /**
+     * Move a state to the given window: the current window becomes the previous one,
+     * or both are cleared when more than one window has passed
+     */
+    private static WindowState advance(WindowState state, long windowNumber, long windowMillis) {
+        if (state.windowNumber() == windowNumber) {
+            return state;
+        }
+        long previousAttempts = state.windowNumber() == windowNumber - 1 ? state.currentAttempts() : 0;
+        return new WindowState(windowNumber, previousAttempts, 0, expiresAt(windowNumber, windowMillis));
+    }
+
+    private static long expiresAt(long windowNumber, long windowMillis) {
+        return (windowNumber + 2) * windowMillis;
+    }
+
+    private void schedule(String mapKey, long expiresAtMillis) {
+        long tick = Math.min(expiresAtMillis / TICK_MILLIS + 1, sweptTick.get() + WHEEL_SLOTS - 1);
+        wheel[(int) (tick % WHEEL_SLOTS)].add(mapKey);
+    }
+
+    /**
+     * Make room for new keys: drop a batch of the keys whose windows end first, taken from the
+     * earliest wheel slots (one caller at a time; others go ahead and may exceed the cap briefly)
+     */
+    private void evict() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int evicted = 0;
+            long fromTick = sweptTick.get() + 1;
+            for (long tick = fromTick; tick < fromTick + WHEEL_SLOTS && evicted < evictionBatch; tick++) {
+                Queue<String> slot = wheel[(int) (tick % WHEEL_SLOTS)];
+                String mapKey;
+                while (evicted < evictionBatch && (mapKey = slot.poll()) != null) {
+                    AtomicReference<WindowState> holder = windows.get(mapKey);
+                    if (holder != null) {
+                        holder.set(EXPIRED);  // A concurrent update fails its compare-and-set and starts again
+                        windows.remove(mapKey, holder);
+                        evicted++;
+                    }
+                }
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    /**
+     * Sweep the wheel slots between the last swept tick and now (one caller at a time, others skip)
+     */
+    private void sweep(long now) {
+        long targetTick = now / TICK_MILLIS;
+        long lastTick = sweptTick.get();
+        if (targetTick <= lastTick || !sweptTick.compareAndSet(lastTick, targetTick)) {
+            return;
+        }
+        long fromTick = Math.max(lastTick + 1, targetTick - WHEEL_SLOTS + 1);
+        for (long tick = fromTick; tick <= targetTick; tick++) {
+            Queue<String> slot = wheel[(int) (tick % WHEEL_SLOTS)];
+            for (int i = slot.size(); i > 0; i--) {
+                String mapKey = slot.poll();
+                if (mapKey == null) {
+                    break;
+                }
+                expireOrReschedule(mapKey, now);
+            }
+        }
+    }
+
+    private void expireOrReschedule(String mapKey, long now) {
+        AtomicReference<WindowState> holder = windows.get(mapKey);
+        if (holder == null) {
+            return;
+        }
+        WindowState state = holder.get();
+        if (state == EXPIRED) {
+            windows.remove(mapKey, holder);
+        } else if (state.expiresAtMillis() <= now) {
+            if (holder.compareAndSet(state, EXPIRED)) {
+                windows.remove(mapKey, holder);
+            } else {
+                schedule(mapKey, now);  // Used concurrently, look again in the next tick
+            }
+        } else {
+            schedule(mapKey, state.expiresAtMillis());
+        }
+    }
+}
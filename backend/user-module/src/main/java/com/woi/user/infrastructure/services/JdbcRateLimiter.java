@@ -0,0 +1,122 @@
+package com.woi.user.infrastructure.services;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * PostgreSQL-backed sliding-window rate limiter (rate-limit.store=jdbc)
+ *
+ * Responsibilities:
+ * - Count attempts in users.rate_limit_counters, shared by all backend instances
+ * - Increment and read the counters in one statement (INSERT ... ON CONFLICT ... RETURNING)
+ * - Delete expired counters in bounded batches, at most once per CLEANUP_INTERVAL_MILLIS
+ *
+ * One row per bucket, key and fixed window; the previous window's row is weighted in
+ * for the sliding-window estimate (see RateLimiter.decide).
+ *
+ * Counting commits at once, outside the caller's transaction, so the counter row is locked for one
+ * statement and not across the caller's password hashing. The statements run on a small pool of their
+ * own (rate-limit.jdbc.pool-size connections, autocommit): a request that already holds a connection
+ * of the main pool never waits for a second one from that pool, so concurrent logins cannot exhaust it.
+ */
+@Component
+@ConditionalOnProperty(name = "rate-limit.store", havingValue = "jdbc")
+public class JdbcRateLimiter implements RateLimiter {
+
+    private static final long CLEANUP_INTERVAL_MILLIS = 60_000;
+    private static final int CLEANUP_BATCH_SIZE = 1000;
+
+    private static final String ACQUIRE_SQL = """
+        WITH current_window AS (
+            INSERT INTO users.rate_limit_counters (bucket, rate_key, window_number, attempts, expires_at)
+            VALUES (?, ?, ?, 1, ?)
+            ON CONFLICT (bucket, rate_key, window_number)
+            DO UPDATE SET attempts = users.rate_limit_counters.attempts + 1
+            RETURNING attempts
+        )
+        SELECT current_window.attempts,
+               COALESCE((SELECT previous_window.attempts
+                         FROM users.rate_limit_counters previous_window
+                         WHERE previous_window.bucket = ?
+                           AND previous_window.rate_key = ?
+                           AND previous_window.window_number = ?), 0) AS previous_attempts
+        FROM current_window
+        """;
+
+    private static final String RESET_SQL = """
+        DELETE FROM users.rate_limit_counters WHERE bucket = ? AND rate_key = ?
+        """;
+
+    private static final String CLEANUP_SQL = """
+        DELETE FROM users.rate_limit_counters
+        WHERE ctid IN (
+            SELECT ctid FROM users.rate_limit_counters
+            WHERE expires_at < ?
+            LIMIT ?
+        )
+        """;
+
+    private final HikariDataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final AtomicLong lastCleanupMillis = new AtomicLong();
+
+    public JdbcRateLimiter(
+            DataSourceProperties dataSourceProperties,
+            @Value("${rate-limit.jdbc.pool-size:2}") int poolSize) {
+        if (poolSize < 1) {
+            throw new IllegalArgumentException("rate-limit.jdbc.pool-size must be at least 1");
+        }
+        this.dataSource = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        this.dataSource.setPoolName("rate-limit");
+        this.dataSource.setMaximumPoolSize(poolSize);
+        this.dataSource.setMinimumIdle(0);
+        this.dataSource.setAutoCommit(true);
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dataSource.close();
+    }
+
+    @Override
+    public Decision tryAcquire(Rule rule, String key) {
+        long now = System.currentTimeMillis();
+        long windowMillis = rule.windowMillis();
+        long windowNumber = now / windowMillis;
+        Timestamp expiresAt = new Timestamp((windowNumber + 2) * windowMillis);
+
+        Decision decision = jdbcTemplate.queryForObject(ACQUIRE_SQL,
+            (rs, rowNum) -> RateLimiter.decide(rule,
+                rs.getLong("previous_attempts"), rs.getLong("attempts"), now - windowNumber * windowMillis),
+            rule.bucket(), key, windowNumber, expiresAt,
+            rule.bucket(), key, windowNumber - 1);
+
+        cleanupIfDue(now);
+        return decision;
+    }
+
+    @Override
+    public void reset(Rule rule, String key) {
+        jdbcTemplate.update(RESET_SQL, rule.bucket(), key);
+    }
+
+    /**
+     * Delete one batch of expired counters; only one caller per interval (per instance) does this
+     */
+    private void cleanupIfDue(long now) {
+        long last = lastCleanupMillis.get();
+        if (now - last < CLEANUP_INTERVAL_MILLIS || !lastCleanupMillis.compareAndSet(last, now)) {
+            return;
+        }
+        jdbcTemplate.update(CLEANUP_SQL, new Timestamp(now), CLEANUP_BATCH_SIZE);
+    }
+}
@@ -2,6 +2,7 @@ package com.woi.user.infrastructure.services;
 
 import com.woi.user.application.ports.output.JwtTokenService;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -13,23 +14,35 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Date;
+import java.util.Optional;
 
 /**
  * JWT Token Service implementation
  * Implements JwtTokenService interface from application layer
+ *
+ * The parser is built once (it is immutable and thread-safe). Validated tokens are kept in
+ * JwtValidationCache until they expire, so repeated requests with the same token skip
+ * signature verification.
  */
 @Service
 public class JwtTokenServiceImpl implements JwtTokenService {
     
     private final SecretKey secretKey;
     private final long expirationMillis;
+    private final JwtParser parser;
+    private final JwtValidationCache validationCache;
     
     public JwtTokenServiceImpl(
             @Value("${jwt.secret:default-secret-key-change-in-production-min-256-bits}") String secret,
-            @Value("${jwt.expiration:900000}") long expirationMillis) { // Default 15 minutes
+            @Value("${jwt.expiration:900000}") long expirationMillis, // Default 15 minutes
+            JwtValidationCache validationCache) {
         // Generate secret key from string (minimum 256 bits for HS256)
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.expirationMillis = expirationMillis;
+        this.parser = Jwts.parser()
+            .verifyWith(secretKey)
+            .build();
+        this.validationCache = validationCache;
     }
     
     @Override
@@ -48,22 +61,25 @@ public class JwtTokenServiceImpl implements JwtTokenService {
     
     @Override
     public Long validateToken(String token) {
-        Claims claims = Jwts.parser()
-            .verifyWith(secretKey)
-            .build()
-            .parseSignedClaims(token)
-            .getPayload();
+        Optional<Long> cachedUserId = validationCache.get(token);
+        if (cachedUserId.isPresent()) {
+            return cachedUserId.get();
+        }
+        
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        Long userId = Long.parseLong(claims.getSubject());
         
-        return Long.parseLong(claims.getSubject());
+        // Tokens without expiration are not cached
+        Date expiration = claims.getExpiration();
+        if (expiration != null) {
+            validationCache.put(token, userId, expiration.getTime());
+        }
+        return userId;
     }
     
     @Override
     public LocalDateTime getExpirationTime(String token) {
-        Claims claims = Jwts.parser()
-            .verifyWith(secretKey)
-            .build()
-            .parseSignedClaims(token)
-            .getPayload();
+        Claims claims = parser.parseSignedClaims(token).getPayload();
         
         Date expiration = claims.getExpiration();
         return LocalDateTime.ofInstant(expiration.toInstant(), ZoneId.systemDefault());
@@ -0,0 +1,89 @@
+package com.woi.user.infrastructure.services;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded cache of validated access tokens (token digest → user ID)
+ *
+ * Responsibilities:
+ * - Skip signature verification for tokens that were already validated
+ * - Drop entries at the token's expiration time, so a cached token never outlives its JWT
+ *
+ * Caching does not change which tokens are accepted: access tokens are stateless and stay valid
+ * until they expire, also after the user's refresh tokens were revoked (with or without this cache).
+ *
+ * Only a SHA-256 digest of the token is kept, never the token itself.
+ * When the cache is full, expired entries are purged; if it is still full, the token is not cached.
+ */
+@Component
+public class JwtValidationCache {
+
+    private record CachedToken(Long userId, long expiresAtMillis) {
+    }
+
+    private final int maxEntries;
+    private final ConcurrentHashMap<String, CachedToken> tokens = new ConcurrentHashMap<>();
+
+    public JwtValidationCache(@Value("${jwt.validation-cache.max-entries:10000}") int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * @param token JWT token
+     * @return User ID if the token was validated before and has not expired, empty otherwise
+     */
+    public Optional<Long> get(String token) {
+        String digest = digest(token);
+        CachedToken cached = tokens.get(digest);
+        if (cached == null) {
+            return Optional.empty();
+        }
+        if (cached.expiresAtMillis() <= System.currentTimeMillis()) {
+            tokens.remove(digest, cached);
+            return Optional.empty();
+        }
+        return Optional.of(cached.userId());
+    }
+
+    /**
+     * Remember a validated token until its expiration time
+     *
+     * @param token JWT token (signature already verified)
+     * @param userId User ID from the token
+     * @param expiresAtMillis Expiration time of the token (epoch millis)
+     */
+    public void put(String token, Long userId, long expiresAtMillis) {
+        if (maxEntries <= 0 || expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        if (tokens.size() >= maxEntries) {
+            evictExpired();
+            if (tokens.size() >= maxEntries) {
+                return;
+            }
+        }
+        tokens.put(digest(token), new CachedToken(userId, expiresAtMillis));
+    }
+
+    private void evictExpired() {
+        long now = System.currentTimeMillis();
+        tokens.values().removeIf(cached -> cached.expiresAtMillis() <= now);
+    }
+
+    private String digest(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 algorithm not available", e);
+        }
+    }
+}
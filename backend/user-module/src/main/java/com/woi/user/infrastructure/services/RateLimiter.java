@@ -0,0 +1,82 @@
+package com.woi.user.infrastructure.services;
+
+import java.time.Duration;
+
+/**
+ * Rate limiter - counts attempts per key in a sliding window
+ *
+ * Implementations (selected with rate-limit.store):
+ * - memory (default): InMemoryRateLimiter, per backend instance
+ * - jdbc: JdbcRateLimiter, shared by all backend instances through PostgreSQL
+ *
+ * Every call to tryAcquire counts as an attempt, including denied ones; checking and
+ * counting is one atomic step.
+ */
+public interface RateLimiter {
+
+    /**
+     * Limit for one kind of attempt
+     *
+     * @param bucket Name of the limit (e.g. "login"), keeps keys of different limits apart
+     * @param maxAttempts Maximum attempts per window
+     * @param window Length of the sliding window
+     */
+    record Rule(String bucket, int maxAttempts, Duration window) {
+        public Rule {
+            if (bucket == null || bucket.isBlank()) {
+                throw new IllegalArgumentException("Bucket cannot be empty");
+            }
+            if (maxAttempts < 1) {
+                throw new IllegalArgumentException("Max attempts must be at least 1");
+            }
+            if (window == null || window.toMillis() < 1) {
+                throw new IllegalArgumentException("Window must be positive");
+            }
+        }
+
+        public long windowMillis() {
+            return window.toMillis();
+        }
+    }
+
+    /**
+     * Outcome of an attempt
+     *
+     * @param allowed Whether the attempt is within the limit
+     * @param remaining Attempts left in the current window
+     * @param retryAfterSeconds Seconds until the next attempt may be allowed (0 if allowed)
+     */
+    record Decision(boolean allowed, int remaining, long retryAfterSeconds) {
+    }
+
+    /**
+     * Count an attempt for a key and decide whether it is allowed
+     *
+     * @param rule Limit to apply
+     * @param key Key to limit (e.g. client IP address)
+     * @return Decision for this attempt
+     */
+    Decision tryAcquire(Rule rule, String key);
+
+    /**
+     * Forget all attempts of a key (e.g. after a successful login)
+     */
+    void reset(Rule rule, String key);
+
+    /**
+     * Sliding-window estimate: the previous window counts for the part that still overlaps
+     *
+     * @param previousAttempts Attempts in the previous fixed window
+     * @param currentAttempts Attempts in the current fixed window (including this one)
+     * @param elapsedMillis Time since the start of the current fixed window
+     */
+    static Decision decide(Rule rule, long previousAttempts, long currentAttempts, long elapsedMillis) {
+        long windowMillis = rule.windowMillis();
+        double estimate = previousAttempts * ((double) (windowMillis - elapsedMillis) / windowMillis) + currentAttempts;
+        if (estimate <= rule.maxAttempts()) {
+            return new Decision(true, (int) Math.max(0, Math.floor(rule.maxAttempts() - estimate)), 0);
+        }
+        long retryAfterMillis = windowMillis - elapsedMillis;
+        return new Decision(false, 0, Math.max(1, (retryAfterMillis + 999) / 1000));
+    }
+}
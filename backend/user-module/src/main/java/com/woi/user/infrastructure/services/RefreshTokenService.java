@@ -1,6 +1,7 @@
 package com.woi.user.infrastructure.services;
 
 import com.woi.user.domain.entities.RefreshToken;
+import com.woi.user.domain.entities.RefreshTokenRotation;
 import com.woi.user.domain.repositories.RefreshTokenRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,12 +15,31 @@ import java.util.UUID;
 
 /**
  * Service for managing refresh tokens
- * Handles generation, validation, and revocation of refresh tokens
+ * Handles generation, validation, rotation and revocation of refresh tokens
+ *
+ * Rotation: every refresh revokes the presented token and hands out a replacement of the same
+ * token family (all tokens descending from one login). Presenting a revoked token again means
+ * it was copied: the whole family is revoked, so the copy and the legitimate client both have to
+ * log in again.
+ *
+ * Concurrent refreshes with the same token (several tabs, or several requests of one page that
+ * expired together) are not reuse: one of them rotates the token; the others, and a token
+ * presented again within REUSE_GRACE_SECONDS of its rotation, get a token of the same family
+ * as long as the family still has a valid token (so never after logout or a password change).
  */
 @Service
 public class RefreshTokenService {
     
     private static final int REFRESH_TOKEN_EXPIRATION_DAYS = 7;
+    private static final int REUSE_GRACE_SECONDS = 10;
+    
+    /**
+     * A rotated refresh token
+     * 
+     * @param userId Owner of the token
+     * @param refreshToken Plain text replacement token (should be sent to client, never stored)
+     */
+    public record RotatedRefreshToken(Long userId, String refreshToken) {}
     
     private final RefreshTokenRepository refreshTokenRepository;
     
@@ -36,7 +56,7 @@ public class RefreshTokenService {
     @Transactional
     public String generateRefreshToken(Long userId) {
         // Generate a random UUID-based token
-        String plainToken = UUID.randomUUID().toString() + "-" + UUID.randomUUID().toString();
+        String plainToken = newPlainToken();
         
         // Hash the token before storing using SHA-256 (deterministic, for lookup)
         String tokenHash = hashToken(plainToken);
@@ -83,6 +103,47 @@ public class RefreshTokenService {
         return Optional.of(token.getUserId());
     }
     
+    /**
+     * Rotate a refresh token: revoke it and issue a replacement, in one statement
+     * 
+     * @param plainToken Plain text refresh token from client
+     * @return Owner and replacement token if the token was valid, empty otherwise
+     */
+    @Transactional
+    public Optional<RotatedRefreshToken> rotateRefreshToken(String plainToken) {
+        if (plainToken == null || plainToken.isEmpty()) {
+            return Optional.empty();
+        }
+        
+        String replacement = newPlainToken();
+        LocalDateTime now = LocalDateTime.now();
+        Optional<RefreshTokenRotation> rotationOpt = refreshTokenRepository.rotate(
+            hashToken(plainToken), hashToken(replacement), now.plusDays(REFRESH_TOKEN_EXPIRATION_DAYS), now);
+        
+        if (rotationOpt.isEmpty()) {
+            return Optional.empty();
+        }
+        
+        RefreshTokenRotation rotation = rotationOpt.get();
+        if (rotation.rotated()) {
+            return Optional.of(new RotatedRefreshToken(rotation.userId(), replacement));
+        }
+        if (!now.isBefore(rotation.expiresAt())) {
+            return Optional.empty();
+        }
+        
+        // Revoked by a concurrent rotation (revokedAt null: it committed during this statement) or just before
+        if (rotation.revokedAt() == null || !rotation.revokedAt().isBefore(now.minusSeconds(REUSE_GRACE_SECONDS))) {
+            boolean added = refreshTokenRepository.addToValidFamily(rotation.userId(), rotation.familyId(),
+                hashToken(replacement), now.plusDays(REFRESH_TOKEN_EXPIRATION_DAYS), now);
+            return added ? Optional.of(new RotatedRefreshToken(rotation.userId(), replacement)) : Optional.empty();
+        }
+        
+        // Revoked longer ago: the token was copied
+        refreshTokenRepository.revokeFamily(rotation.familyId());
+        return Optional.empty();
+    }
+    
     /**
      * Revoke a refresh token
      */
@@ -106,6 +167,10 @@ public class RefreshTokenService {
         refreshTokenRepository.revokeAllByUserId(userId);
     }
     
+    private String newPlainToken() {
+        return UUID.randomUUID().toString() + "-" + UUID.randomUUID().toString();
+    }
+    
     /**
      * Hash a refresh token using SHA-256 (deterministic, for lookup)
      * Note: This is different from password hashing (BCrypt) which is non-deterministic
@@ -21,12 +21,18 @@ import com.woi.user.application.commands.UpdateUserPreferencesCommand;
 import com.woi.user.application.results.AuthResult;
 import com.woi.user.application.results.UserResult;
 import com.woi.user.application.results.UserPreferenceResult;
+import com.woi.user.domain.services.PasswordHasherBusyException;
+import com.woi.user.infrastructure.services.RateLimiter;
+import com.woi.user.infrastructure.services.RateLimitingService;
 import com.woi.user.infrastructure.web.dtos.*;
+import com.woi.user.infrastructure.web.support.ClientIpResolver;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
@@ -51,6 +57,8 @@ public class UserController {
     private final GetUserQueryHandler getUserHandler;
     private final GetUserPreferencesQueryHandler getUserPreferencesHandler;
     private final UpdateUserPreferencesCommandHandler updateUserPreferencesHandler;
+    private final RateLimitingService rateLimitingService;
+    private final ClientIpResolver clientIpResolver;
     
     public UserController(
             RegisterUserCommandHandler registerHandler,
@@ -61,7 +69,9 @@ public class UserController {
             ChangePasswordCommandHandler changePasswordHandler,
             GetUserQueryHandler getUserHandler,
             GetUserPreferencesQueryHandler getUserPreferencesHandler,
-            UpdateUserPreferencesCommandHandler updateUserPreferencesHandler) {
+            UpdateUserPreferencesCommandHandler updateUserPreferencesHandler,
+            RateLimitingService rateLimitingService,
+            ClientIpResolver clientIpResolver) {
         this.registerHandler = registerHandler;
         this.loginHandler = loginHandler;
         this.refreshTokenHandler = refreshTokenHandler;
@@ -71,22 +81,19 @@ public class UserController {
         this.getUserHandler = getUserHandler;
         this.getUserPreferencesHandler = getUserPreferencesHandler;
         this.updateUserPreferencesHandler = updateUserPreferencesHandler;
+        this.rateLimitingService = rateLimitingService;
+        this.clientIpResolver = clientIpResolver;
     }
     
     /**
      * Get client IP address from request
      * Helper method for extracting request metadata
+     *
+     * X-Forwarded-For is only used when the request comes from a trusted proxy (see ClientIpResolver):
+     * a client-supplied header could give every request its own rate limit key.
      */
     private String getClientIpAddress(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
-        }
-        String xRealIp = request.getHeader("X-Real-IP");
-        if (xRealIp != null && !xRealIp.isEmpty()) {
-            return xRealIp;
-        }
-        return request.getRemoteAddr();
+        return clientIpResolver.resolve(request);
     }
     
     /**
@@ -117,6 +124,12 @@ public class UserController {
             String clientIp = getClientIpAddress(httpRequest);
             String userAgent = httpRequest.getHeader("User-Agent");
             
+            // Rate limit per client IP
+            RateLimiter.Decision rateLimit = rateLimitingService.tryRegisterAttempt(clientIp);
+            if (!rateLimit.allowed()) {
+                return tooManyRequests(rateLimit);
+            }
+            
             // Create command (includes metadata for audit logging)
             RegisterUserCommand command = new RegisterUserCommand(
                 request.getEmail(),
@@ -131,6 +144,8 @@ public class UserController {
             // Convert to response DTO
             RegisterResponseDTO response = toRegisterResponseDTO(result);
             return new ResponseEntity<>(response, HttpStatus.CREATED);
+        } catch (PasswordHasherBusyException e) {
+            return passwordHasherBusy(e);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest()
                 .body(Map.of("error", e.getMessage()));
@@ -169,6 +184,12 @@ public class UserController {
             String clientIp = getClientIpAddress(httpRequest);
             String userAgent = httpRequest.getHeader("User-Agent");
             
+            // Rate limit per client IP
+            RateLimiter.Decision rateLimit = rateLimitingService.tryLoginAttempt(clientIp);
+            if (!rateLimit.allowed()) {
+                return tooManyRequests(rateLimit);
+            }
+            
             // Create command
             LoginCommand command = new LoginCommand(
                 request.getEmail(),
@@ -179,10 +200,13 @@ public class UserController {
             
             // Handle command (use case handles business logic)
             AuthResult authResult = loginHandler.handle(command);
+            rateLimitingService.resetLoginAttempts(clientIp);
             
             // Convert to response DTO
             LoginResponseDTO response = toLoginResponseDTO(authResult);
             return ResponseEntity.ok(response);
+        } catch (PasswordHasherBusyException e) {
+            return passwordHasherBusy(e);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest()
                 .body(Map.of("error", e.getMessage()));
@@ -284,6 +308,8 @@ public class UserController {
             resetPasswordHandler.handle(command);
             
             return ResponseEntity.ok(Map.of("message", "Wachtwoord is succesvol gewijzigd."));
+        } catch (PasswordHasherBusyException e) {
+            return passwordHasherBusy(e);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest()
                 .body(Map.of("error", e.getMessage()));
@@ -330,6 +356,8 @@ public class UserController {
             changePasswordHandler.handle(command);
             
             return ResponseEntity.ok(Map.of("message", "Wachtwoord is succesvol gewijzigd."));
+        } catch (PasswordHasherBusyException e) {
+            return passwordHasherBusy(e);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest()
                 .body(Map.of("error", e.getMessage()));
@@ -412,6 +440,20 @@ public class UserController {
         }
     }
     
+    private ResponseEntity<?> tooManyRequests(RateLimiter.Decision rateLimit) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(rateLimit.retryAfterSeconds()))
+            .body(Map.of("error", "Te veel pogingen. Probeer het later opnieuw."));
+    }
+    
+    private ResponseEntity<?> passwordHasherBusy(PasswordHasherBusyException e) {
+        // Store nothing of the rejected request (e.g. a registered user without credential)
+        TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+            .body(Map.of("error", "Het is op dit moment erg druk. Probeer het over enkele seconden opnieuw."));
+    }
+    
     // Mapper methods
     private RegisterResponseDTO toRegisterResponseDTO(UserResult result) {
         RegisterResponseDTO dto = new RegisterResponseDTO();
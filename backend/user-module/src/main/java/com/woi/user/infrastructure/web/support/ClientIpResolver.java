@@ -0,0 +1,75 @@
+package com.woi.user.infrastructure.web.support;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Pattern;
+
+/**
+ * Resolves the client IP of a request (used for rate limiting and audit logging)
+ *
+ * The backend runs behind a reverse proxy (Railway), so the peer address is the proxy's for every
+ * request. X-Forwarded-For is only believed when the peer is a trusted proxy
+ * (client-ip.trusted-proxies, a regex on the address; default: private, loopback and
+ * carrier-grade NAT ranges, like Tomcat's internal proxies):
+ * - The header is read from right to left, skipping trusted proxies; the first other address is
+ *   the client. Entries to the left of it were sent by the client and can be anything.
+ * - If every entry is a trusted proxy, the client is on the internal network: the leftmost entry
+ * - A request from a trusted peer without the header was not forwarded (e.g. an internal health check)
+ *
+ * Requests from any other peer are keyed on the peer address; their forwarded headers are ignored.
+ */
+@Component
+public class ClientIpResolver {
+
+    private static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+
+    private static final String DEFAULT_TRUSTED_PROXIES =
+        "10\\.\\d{1,3}\\.\\d{1,3}\\.\\d{1,3}|"
+            + "192\\.168\\.\\d{1,3}\\.\\d{1,3}|"
+            + "169\\.254\\.\\d{1,3}\\.\\d{1,3}|"
+            + "127\\.\\d{1,3}\\.\\d{1,3}\\.\\d{1,3}|"
+            + "100\\.6[4-9]\\.\\d{1,3}\\.\\d{1,3}|"
+            + "100\\.[7-9]\\d\\.\\d{1,3}\\.\\d{1,3}|"
+            + "100\\.1[01]\\d\\.\\d{1,3}\\.\\d{1,3}|"
+            + "100\\.12[0-7]\\.\\d{1,3}\\.\\d{1,3}|"
+            + "172\\.1[6-9]\\.\\d{1,3}\\.\\d{1,3}|"
+            + "172\\.2\\d\\.\\d{1,3}\\.\\d{1,3}|"
+            + "172\\.3[01]\\.\\d{1,3}\\.\\d{1,3}|"
+            + "0:0:0:0:0:0:0:1|::1|"
+            + "fe[89ab]\\p{XDigit}:.*|"
+            + "f[cd]\\p{XDigit}{2}:.*";
+
+    private final Pattern trustedProxies;
+
+    public ClientIpResolver(@Value("${client-ip.trusted-proxies:}") String trustedProxies) {
+        this.trustedProxies = Pattern.compile(trustedProxies.isBlank() ? DEFAULT_TRUSTED_PROXIES : trustedProxies);
+    }
+
+    public String resolve(HttpServletRequest request) {
+        String peer = request.getRemoteAddr();
+        String forwardedFor = request.getHeader(FORWARDED_FOR_HEADER);
+        if (!isTrusted(peer) || forwardedFor == null || forwardedFor.isBlank()) {
+            return peer;
+        }
+
+        String[] hops = forwardedFor.split(",");
+        String client = null;
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (hop.isEmpty()) {
+                continue;
+            }
+            client = hop;
+            if (!isTrusted(hop)) {
+                break;
+            }
+        }
+        return client != null ? client : peer;
+    }
+
+    private boolean isTrusted(String address) {
+        return address != null && trustedProxies.matcher(address).matches();
+    }
+}
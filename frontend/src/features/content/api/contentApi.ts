@@ -16,38 +16,56 @@ import type {
   WheelDTO
 } from '@/shared/api/types'
 
+// ========== Pagination ==========
+
+/**
+ * Page size for keyset-paginated list endpoints (the backend's maximum, KeysetPageRequest.MAX_LIMIT)
+ */
+const PAGE_LIMIT = 200
+
+/**
+ * Get all items of a keyset-paginated list endpoint
+ * Follows the X-Next-Cursor response header until the last page (header absent)
+ */
+async function getAllPages<T>(url: string): Promise<T[]> {
+  const items: T[] = []
+  let after: string | undefined
+  do {
+    const response = await apiClient.get<T[]>(url, { params: { after, limit: PAGE_LIMIT } })
+    items.push(...response.data)
+    after = response.headers['x-next-cursor'] || undefined
+  } while (after)
+  return items
+}
+
 // ========== Version History ==========
 
 /**
  * Get version history for a book
  */
 export async function getBookVersionHistory(bookId: number): Promise<BookVersionDTO[]> {
-  const response = await apiClient.get(`/api/v2/content/books/${bookId}/versions`)
-  return response.data
+  return getAllPages<BookVersionDTO>(`/api/v2/content/books/${bookId}/versions`)
 }
 
 /**
  * Get version history for a chapter
  */
 export async function getChapterVersionHistory(chapterId: number): Promise<ChapterVersionDTO[]> {
-  const response = await apiClient.get(`/api/v2/content/chapters/${chapterId}/versions`)
-  return response.data
+  return getAllPages<ChapterVersionDTO>(`/api/v2/content/chapters/${chapterId}/versions`)
 }
 
 /**
  * Get version history for a paragraph
  */
 export async function getParagraphVersionHistory(paragraphId: number): Promise<ParagraphVersionDTO[]> {
-  const response = await apiClient.get(`/api/v2/content/paragraphs/${paragraphId}/versions`)
-  return response.data
+  return getAllPages<ParagraphVersionDTO>(`/api/v2/content/paragraphs/${paragraphId}/versions`)
 }
 
 /**
  * Get version history for a section
  */
 export async function getSectionVersionHistory(sectionId: number): Promise<SectionVersionDTO[]> {
-  const response = await apiClient.get(`/api/v2/content/sections/${sectionId}/versions`)
-  return response.data
+  return getAllPages<SectionVersionDTO>(`/api/v2/content/sections/${sectionId}/versions`)
 }
 
 // ========== Content Viewer (Public/Read-only) ==========
@@ -72,8 +90,7 @@ export async function getCategoryByNumber(categoryNumber: number): Promise<Categ
  * Get all books in a category
  */
 export async function getBooksByCategory(categoryId: number): Promise<BookDTO[]> {
-  const response = await apiClient.get(`/api/v2/content/categories/${categoryId}/books`)
-  return response.data
+  return getAllPages<BookDTO>(`/api/v2/content/categories/${categoryId}/books`)
 }
 
 /**
@@ -140,8 +157,7 @@ export async function getPublicParagraphsBySection(sectionId: number): Promise<a
  * Get all paragraphs in a section
  */
 export async function getParagraphsBySection(sectionId: number): Promise<any[]> {
-  const response = await apiClient.get(`/api/v2/content/sections/${sectionId}/paragraphs`)
-  return response.data
+  return getAllPages<any>(`/api/v2/content/sections/${sectionId}/paragraphs`)
 }
 
 /**
@@ -255,8 +271,7 @@ export async function getParagraphPublishedVersion(paragraphId: number): Promise
  * Get all categories (for admin - includes all content)
  */
 export async function getAllCategories(): Promise<CategoryDTO[]> {
-  const response = await apiClient.get(`/api/v2/content/categories`)
-  return response.data
+  return getAllPages<CategoryDTO>(`/api/v2/content/categories`)
 }
 
 /**
@@ -143,7 +143,8 @@ export interface KanbanItemDTO {
   itemType: 'GOAL' | 'OBJECTIVE' | 'KEY_RESULT' | 'INITIATIVE'
   itemId: number
   columnName: 'TODO' | 'IN_PROGRESS' | 'IN_REVIEW' | 'DONE'
-  position: number
+  position: number // Informational; the order within a column is given by rank
+  rank: string // Order within the column (compare as plain strings, not locale-aware)
   notes?: string | null
   number?: string | null
   createdAt: string
@@ -229,7 +229,8 @@ function KanbanColumn({ columnId, label, items, itemTitles, itemNumbers, itemLif
   })
 
   const sortedItems = useMemo(() => {
-    return [...items].sort((a, b) => a.position - b.position)
+    // Same order as the server: by rank (plain string comparison), then by ID
+    return [...items].sort((a, b) => (a.rank < b.rank ? -1 : a.rank > b.rank ? 1 : a.id - b.id))
   }, [items])
 
   const itemCount = sortedItems.length